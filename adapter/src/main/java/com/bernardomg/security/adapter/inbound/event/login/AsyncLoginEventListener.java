@@ -0,0 +1,374 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.security.adapter.inbound.event.login;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.bernardomg.event.listener.EventListener;
+import com.bernardomg.security.domain.login.event.LogInEvent;
+import com.bernardomg.security.domain.login.model.LoginRegister;
+import com.bernardomg.security.usecase.login.service.LoginRegisterService;
+import com.bernardomg.security.usecase.login.service.UserLoginAttempsService;
+
+/**
+ * Listens for login events, and handles them outside the login request. Takes care of both registering the attempts
+ * and blocking users, replacing the {@link LoginEventRegisterListener} and the {@link LoginFailureBlockerListener}.
+ * <h2>Batches</h2>
+ * <p>
+ * Events are queued, and taken in batches by a single worker thread. A batch is processed once it reaches the maximum
+ * size, or once the flush interval has passed since its first event. All the login registers in a batch are stored
+ * at once.
+ * <h2>Lockout</h2>
+ * <p>
+ * The worker handles the login attempts one by one, in the order they were received. So the attempts count of a user
+ * is never updated concurrently. Take into account the user is locked shortly after the attempt which reaches the
+ * maximum, instead of during it.
+ * <h2>Backpressure</h2>
+ * <p>
+ * The queue is bounded. When it is full, the login request waits until there is space again. Each time this happens
+ * it is counted, and along the other counters can be read to be exposed as metrics.
+ * <h2>Shutdown</h2>
+ * <p>
+ * Once closed, the pending events are processed before stopping the worker. Any event received afterwards is handled
+ * synchronously.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class AsyncLoginEventListener implements EventListener<LogInEvent>, AutoCloseable {
+
+    /**
+     * Login attempt waiting to be processed.
+     *
+     * @param username
+     *            username which attempted the log in
+     * @param loggedIn
+     *            log in success or not
+     * @param date
+     *            log in attempt date
+     */
+    private record PendingLogIn(String username, boolean loggedIn, Instant date) {}
+
+    /**
+     * Logger for the class.
+     */
+    private static final Logger               log         = LoggerFactory.getLogger(AsyncLoginEventListener.class);
+
+    /**
+     * Number of processed batches.
+     */
+    private final LongAdder                   batches     = new LongAdder();
+
+    /**
+     * Maximum number of events in a batch.
+     */
+    private final int                         batchSize;
+
+    /**
+     * Closed flag. Once closed, no more events are queued.
+     */
+    private volatile boolean                  closed;
+
+    /**
+     * Number of failed operations.
+     */
+    private final LongAdder                   failures    = new LongAdder();
+
+    /**
+     * Maximum time an event waits for its batch to be completed.
+     */
+    private final Duration                    flushInterval;
+
+    /**
+     * Login register service.
+     */
+    private final LoginRegisterService        loginRegisterService;
+
+    /**
+     * Number of processed events.
+     */
+    private final LongAdder                   processed   = new LongAdder();
+
+    /**
+     * Events waiting to be processed.
+     */
+    private final BlockingQueue<PendingLogIn> queue;
+
+    /**
+     * Number of times the queue was full.
+     */
+    private final LongAdder                   saturations = new LongAdder();
+
+    /**
+     * Maximum time to wait for the pending events when closing.
+     */
+    private final Duration                    shutdownTimeout;
+
+    /**
+     * User login attempts service.
+     */
+    private final UserLoginAttempsService     userLoginAttempsService;
+
+    /**
+     * Worker processing the queued events.
+     */
+    private final Thread                      worker;
+
+    public AsyncLoginEventListener(final LoginRegisterService loginRegisterServ,
+            final UserLoginAttempsService userLoginAttempsServ, final int capacity, final int size,
+            final Duration interval, final Duration timeout) {
+        super();
+
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The queue capacity should be positive");
+        }
+        if (size <= 0) {
+            throw new IllegalArgumentException("The batch size should be positive");
+        }
+
+        loginRegisterService = Objects.requireNonNull(loginRegisterServ);
+        userLoginAttempsService = Objects.requireNonNull(userLoginAttempsServ);
+        batchSize = size;
+        flushInterval = Objects.requireNonNull(interval);
+        shutdownTimeout = Objects.requireNonNull(timeout);
+
+        queue = new ArrayBlockingQueue<>(capacity);
+        worker = new Thread(this::run, "login-events");
+        worker.setDaemon(true);
+    }
+
+    /**
+     * Stops receiving events, and waits for the pending ones to be processed.
+     */
+    @Override
+    public final void close() {
+        final Collection<PendingLogIn> remaining;
+
+        log.debug("Closing login events listener with {} pending events", queue.size());
+
+        closed = true;
+        try {
+            worker.join(shutdownTimeout.toMillis());
+        } catch (final InterruptedException e) {
+            Thread.currentThread()
+                .interrupt();
+        }
+
+        if (worker.isAlive()) {
+            log.warn("Login events worker didn't stop after {}, with {} pending events", shutdownTimeout,
+                queue.size());
+        } else {
+            // Events queued while closing
+            remaining = new ArrayList<>();
+            queue.drainTo(remaining);
+            if (!remaining.isEmpty()) {
+                process(remaining);
+            }
+        }
+
+        log.debug("Closed login events listener");
+    }
+
+    /**
+     * Returns the number of processed batches.
+     *
+     * @return the number of processed batches
+     */
+    public final long getBatchCount() {
+        return batches.sum();
+    }
+
+    @Override
+    public final Class<LogInEvent> getEventType() {
+        return LogInEvent.class;
+    }
+
+    /**
+     * Returns the number of failed operations. Each failed batch insert, and each failed lockout check, is counted.
+     *
+     * @return the number of failed operations
+     */
+    public final long getFailureCount() {
+        return failures.sum();
+    }
+
+    /**
+     * Returns the number of events waiting to be processed.
+     *
+     * @return the number of events waiting to be processed
+     */
+    public final int getPendingCount() {
+        return queue.size();
+    }
+
+    /**
+     * Returns the number of processed events.
+     *
+     * @return the number of processed events
+     */
+    public final long getProcessedCount() {
+        return processed.sum();
+    }
+
+    /**
+     * Returns the number of times an event had to wait for the queue to have space.
+     *
+     * @return the number of times the queue was full
+     */
+    public final long getSaturationCount() {
+        return saturations.sum();
+    }
+
+    @Override
+    public final void handle(final LogInEvent event) {
+        final PendingLogIn pending;
+
+        pending = new PendingLogIn(event.getUsername(), event.isLoggedIn(), Instant.now());
+        if (closed) {
+            log.debug("Listener closed, handling login event for {} synchronously", event.getUsername());
+            process(List.of(pending));
+        } else if (!queue.offer(pending)) {
+            log.warn("Login events queue is full, waiting for space");
+            saturations.increment();
+            try {
+                queue.put(pending);
+            } catch (final InterruptedException e) {
+                Thread.currentThread()
+                    .interrupt();
+                log.warn("Interrupted while waiting, handling login event for {} synchronously", event.getUsername());
+                process(List.of(pending));
+            }
+        } else {
+            log.trace("Queued login event for {}", event.getUsername());
+        }
+    }
+
+    /**
+     * Starts the worker. Events received before this are kept in the queue.
+     */
+    public final void start() {
+        log.debug("Starting login events worker");
+        worker.start();
+    }
+
+    /**
+     * Registers the login attempts, and then handles them one by one for the user lockout.
+     *
+     * @param batch
+     *            login attempts to process
+     */
+    private final void process(final Collection<PendingLogIn> batch) {
+        final Collection<LoginRegister> registers;
+
+        log.trace("Processing {} login events", batch.size());
+
+        registers = batch.stream()
+            .map(p -> new LoginRegister(p.username(), p.loggedIn(), p.date()))
+            .toList();
+        try {
+            loginRegisterService.registerAll(registers);
+        } catch (final RuntimeException e) {
+            log.error("Failed registering {} login attempts", registers.size(), e);
+            failures.increment();
+        }
+
+        for (final PendingLogIn pending : batch) {
+            try {
+                if (pending.loggedIn()) {
+                    userLoginAttempsService.clearLoginAttempts(pending.username());
+                } else {
+                    userLoginAttempsService.checkForLocking(pending.username());
+                }
+            } catch (final RuntimeException e) {
+                log.error("Failed handling login attempt for {}", pending.username(), e);
+                failures.increment();
+            }
+        }
+
+        processed.add(batch.size());
+        batches.increment();
+
+        log.trace("Processed {} login events", batch.size());
+    }
+
+    /**
+     * Worker loop. Takes batches from the queue until the listener is closed and there are no more pending events.
+     */
+    private final void run() {
+        final List<PendingLogIn> batch;
+        final long               interval;
+        PendingLogIn             next;
+        long                     deadline;
+        long                     remaining;
+
+        batch = new ArrayList<>(batchSize);
+        interval = flushInterval.toNanos();
+        try {
+            while (!closed || !queue.isEmpty()) {
+                next = queue.poll(interval, TimeUnit.NANOSECONDS);
+                if (next != null) {
+                    batch.add(next);
+                    queue.drainTo(batch, batchSize - batch.size());
+
+                    // Waits for the batch to be completed, unless closing
+                    deadline = System.nanoTime() + interval;
+                    remaining = interval;
+                    while ((batch.size() < batchSize) && !closed && (remaining > 0)) {
+                        next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                        if (next != null) {
+                            batch.add(next);
+                            queue.drainTo(batch, batchSize - batch.size());
+                        }
+                        remaining = deadline - System.nanoTime();
+                    }
+
+                    process(batch);
+                    batch.clear();
+                }
+            }
+        } catch (final InterruptedException e) {
+            log.warn("Login events worker interrupted, with {} pending events", queue.size());
+            Thread.currentThread()
+                .interrupt();
+            if (!batch.isEmpty()) {
+                process(batch);
+            }
+        }
+
+        log.debug("Stopped login events worker");
+    }
+
+}
@@ -24,6 +24,9 @@
 
 package com.bernardomg.security.adapter.inbound.jpa.repository.login;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -62,6 +65,19 @@ public JpaLoginRegisterRepository(final LoginRegisterSpringRepository loginRegis
         loginRegisterSpringRepository = Objects.requireNonNull(loginRegisterSpringRepo);
     }
 
+    @Override
+    public final int deleteBefore(final Instant date, final int limit) {
+        final int deleted;
+
+        log.debug("Deleting up to {} login registers before {}", limit, date);
+
+        deleted = loginRegisterSpringRepository.deleteBefore(date, limit);
+
+        log.debug("Deleted {} login registers before {}", deleted, date);
+
+        return deleted;
+    }
+
     @Override
     public final Page<LoginRegister> findAll(final Pagination pagination, final Sorting sorting) {
         final Pageable                                            pageable;
@@ -107,4 +123,25 @@ public final LoginRegister save(final LoginRegister register) {
         return created;
     }
 
+    @Override
+    public final Collection<LoginRegister> saveAll(final Collection<LoginRegister> registers) {
+        final List<LoginRegisterEntity> entities;
+        final Collection<LoginRegister> created;
+
+        log.debug("Saving {} login registers", registers.size());
+
+        entities = registers.stream()
+            .map(LoginRegisterEntityMapper::toEntity)
+            .toList();
+
+        created = loginRegisterSpringRepository.saveAll(entities)
+            .stream()
+            .map(LoginRegisterEntityMapper::toDomain)
+            .toList();
+
+        log.debug("Saved {} login registers", created.size());
+
+        return created;
+    }
+
 }
@@ -0,0 +1,108 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.security.adapter.inbound.jpa.repository.login;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.bernardomg.security.adapter.inbound.jpa.model.login.TokenRevocationEntity;
+import com.bernardomg.security.domain.login.model.TokenRevocation;
+import com.bernardomg.security.domain.login.repository.TokenRevocationRepository;
+
+/**
+ * Token revocation repository based on JPA entities.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class JpaTokenRevocationRepository implements TokenRevocationRepository {
+
+    /**
+     * Logger for the class.
+     */
+    private static final Logger                   log = LoggerFactory.getLogger(JpaTokenRevocationRepository.class);
+
+    /**
+     * Token revocation Spring repository.
+     */
+    private final TokenRevocationSpringRepository tokenRevocationSpringRepository;
+
+    public JpaTokenRevocationRepository(final TokenRevocationSpringRepository tokenRevocationSpringRepo) {
+        super();
+
+        tokenRevocationSpringRepository = Objects.requireNonNull(tokenRevocationSpringRepo);
+    }
+
+    @Override
+    public final int deleteExpired(final Instant date) {
+        final int deleted;
+
+        log.debug("Deleting token revocations expired at {}", date);
+
+        deleted = tokenRevocationSpringRepository.deleteExpired(date);
+
+        log.debug("Deleted {} token revocations expired at {}", deleted, date);
+
+        return deleted;
+    }
+
+    @Override
+    public final Collection<TokenRevocation> findAllRevokedSince(final Instant since, final Instant now) {
+        final Collection<TokenRevocation> revocations;
+
+        log.debug("Finding token revocations since {}", since);
+
+        revocations = tokenRevocationSpringRepository
+            .findAllByRevocationDateGreaterThanEqualAndExpirationDateAfter(since, now)
+            .stream()
+            .map(TokenRevocationEntityMapper::toDomain)
+            .toList();
+
+        log.debug("Found {} token revocations since {}", revocations.size(), since);
+
+        return revocations;
+    }
+
+    @Override
+    public final TokenRevocation save(final TokenRevocation revocation) {
+        final TokenRevocationEntity entity;
+        final TokenRevocationEntity saved;
+        final TokenRevocation       created;
+
+        log.debug("Saving token revocation {}", revocation);
+
+        entity = TokenRevocationEntityMapper.toEntity(revocation);
+        saved = tokenRevocationSpringRepository.save(entity);
+        created = TokenRevocationEntityMapper.toDomain(saved);
+
+        log.debug("Saved token revocation {}", created);
+
+        return created;
+    }
+
+}
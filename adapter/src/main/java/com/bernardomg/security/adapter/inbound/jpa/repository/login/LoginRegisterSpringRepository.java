@@ -28,6 +28,10 @@
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.bernardomg.security.adapter.inbound.jpa.model.login.LoginRegisterEntity;
 
@@ -39,6 +43,31 @@
  */
 public interface LoginRegisterSpringRepository extends JpaRepository<LoginRegisterEntity, Long> {
 
+    /**
+     * Removes the registers made before the received date, up to the received limit. Each call runs in its own
+     * transaction, so the locks are only held for a single batch.
+     * <p>
+     * This is a native PostgreSQL query, as the limit is applied through a {@code LIMIT} subquery.
+     *
+     * @param date
+     *            date before which the registers are removed
+     * @param limit
+     *            maximum number of registers to remove
+     * @return the number of removed registers
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+               DELETE FROM security.login_registers
+               WHERE id IN (
+                 SELECT r.id
+                 FROM security.login_registers r
+                 WHERE r.date < :date
+                 LIMIT :limit
+               )
+            """, nativeQuery = true)
+    public int deleteBefore(@Param("date") final Instant date, @Param("limit") final int limit);
+
     public Optional<LoginRegisterEntity> findByUsernameAndDate(final String username, final Instant date);
 
 }
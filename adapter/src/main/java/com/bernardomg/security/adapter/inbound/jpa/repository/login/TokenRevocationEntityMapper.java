@@ -0,0 +1,55 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.security.adapter.inbound.jpa.repository.login;
+
+import com.bernardomg.security.adapter.inbound.jpa.model.login.TokenRevocationEntity;
+import com.bernardomg.security.domain.login.model.TokenRevocation;
+
+/**
+ * Token revocation repository mapper.
+ */
+public final class TokenRevocationEntityMapper {
+
+    public static final TokenRevocation toDomain(final TokenRevocationEntity revocation) {
+        return new TokenRevocation(revocation.getRevokedKey(), revocation.getRevocationDate(),
+            revocation.getExpirationDate());
+    }
+
+    public static final TokenRevocationEntity toEntity(final TokenRevocation revocation) {
+        final TokenRevocationEntity entity;
+
+        entity = new TokenRevocationEntity();
+        entity.setRevokedKey(revocation.key());
+        entity.setRevocationDate(revocation.revokedAt());
+        entity.setExpirationDate(revocation.expiration());
+
+        return entity;
+    }
+
+    private TokenRevocationEntityMapper() {
+        super();
+    }
+
+}
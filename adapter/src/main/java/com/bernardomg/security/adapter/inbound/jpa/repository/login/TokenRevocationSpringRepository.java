@@ -0,0 +1,68 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.security.adapter.inbound.jpa.repository.login;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.bernardomg.security.adapter.inbound.jpa.model.login.TokenRevocationEntity;
+
+/**
+ * Token revocation Spring repository.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public interface TokenRevocationSpringRepository extends JpaRepository<TokenRevocationEntity, Long> {
+
+    /**
+     * Removes all the revocations expired at the received date.
+     *
+     * @param date
+     *            date to check the expiration against
+     * @return the number of removed revocations
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM TokenRevocation r WHERE r.expirationDate <= :date")
+    public int deleteExpired(@Param("date") final Instant date);
+
+    /**
+     * Returns all the revocations made since the received date, and expiring after the second date.
+     *
+     * @param since
+     *            earliest revocation date, inclusive
+     * @param date
+     *            date to check the expiration against
+     * @return all the revocations since the date
+     */
+    public List<TokenRevocationEntity> findAllByRevocationDateGreaterThanEqualAndExpirationDateAfter(
+            final Instant since, final Instant date);
+
+}
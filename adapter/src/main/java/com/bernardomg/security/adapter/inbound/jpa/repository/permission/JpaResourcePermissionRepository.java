@@ -27,42 +27,59 @@
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcOperations;
 
 import com.bernardomg.pagination.domain.Page;
 import com.bernardomg.pagination.domain.Pagination;
 import com.bernardomg.pagination.domain.Sorting;
 import com.bernardomg.pagination.springframework.SpringPagination;
-import com.bernardomg.security.adapter.inbound.jpa.model.permission.ResourcePermissionEntity;
 import com.bernardomg.security.domain.permission.model.ResourcePermission;
 import com.bernardomg.security.domain.permission.repository.ResourcePermissionRepository;
 
 /**
  * Resource permissions repository based on JPA entities.
+ * <p>
+ * Permissions are saved through a JDBC batch, which inserts the missing ones and ignores those which already exist.
  *
  * @author Bernardo Mart&iacute;nez Garrido
  */
 public final class JpaResourcePermissionRepository implements ResourcePermissionRepository {
 
+    /**
+     * Inserts a permission, unless it already exists.
+     */
+    private static final String                      INSERT_IF_MISSING = """
+            INSERT INTO security.permissions (resource, action)
+            VALUES (?, ?)
+            ON CONFLICT (resource, action) DO NOTHING
+            """;
+
     /**
      * Logger for the class.
      */
-    private static final Logger                      log = LoggerFactory
+    private static final Logger                      log               = LoggerFactory
         .getLogger(JpaResourcePermissionRepository.class);
 
+    /**
+     * JDBC operations. Used to insert the permissions in batches.
+     */
+    private final JdbcOperations                     jdbcOperations;
+
     /**
      * Resource permissions repository. Used not only to return the permissions, but also to validate they exist.
      */
     private final ResourcePermissionSpringRepository resourcePermissionSpringRepository;
 
-    public JpaResourcePermissionRepository(final ResourcePermissionSpringRepository resourcePermissionSpringRepo) {
+    public JpaResourcePermissionRepository(final ResourcePermissionSpringRepository resourcePermissionSpringRepo,
+            final JdbcOperations jdbcOps) {
         super();
 
         resourcePermissionSpringRepository = Objects.requireNonNull(resourcePermissionSpringRepo);
+        jdbcOperations = Objects.requireNonNull(jdbcOps);
     }
 
     @Override
@@ -113,23 +130,40 @@ public final Page<ResourcePermission> findAll(final Pagination pagination, final
         return read;
     }
 
+    @Override
+    public final Collection<ResourcePermission> findExisting(final Collection<ResourcePermission> permissions) {
+        final Collection<ResourcePermission> read;
+
+        log.debug("Finding existing resource permissions in {}", permissions);
+
+        read = resourcePermissionSpringRepository.findAllIn(permissions)
+            .stream()
+            .map(ResourcePermissionEntityMapper::toDomain)
+            .toList();
+
+        log.debug("Found existing resource permissions in {}: {}", permissions, read);
+
+        return read;
+    }
+
     @Override
     public final Collection<ResourcePermission> saveAll(final Collection<ResourcePermission> permissions) {
-        final List<ResourcePermissionEntity> entities;
-        final List<ResourcePermissionEntity> created;
+        final List<Object[]>                 rows;
         final Collection<ResourcePermission> saved;
 
         log.debug("Saving resource permissions {}", permissions);
 
-        entities = permissions.stream()
-            .map(ResourcePermissionEntityMapper::toEntity)
-            .toList();
-        // TODO: do a single query
-        entities.forEach(this::loadId);
-
-        created = resourcePermissionSpringRepository.saveAll(entities);
+        if (!permissions.isEmpty()) {
+            rows = permissions.stream()
+                .distinct()
+                .map(p -> new Object[] { p.resource(), p.action() })
+                .toList();
+            jdbcOperations.batchUpdate(INSERT_IF_MISSING, rows);
+        }
 
-        saved = created.stream()
+        // Existing permissions are not inserted, so all of them are read back
+        saved = resourcePermissionSpringRepository.findAllIn(permissions)
+            .stream()
             .map(ResourcePermissionEntityMapper::toDomain)
             .toList();
 
@@ -138,14 +172,4 @@ public final Collection<ResourcePermission> saveAll(final Collection<ResourcePer
         return saved;
     }
 
-    private final void loadId(final ResourcePermissionEntity entity) {
-        final Optional<ResourcePermissionEntity> existing;
-
-        existing = resourcePermissionSpringRepository.findByResourceAndAction(entity.getResource(), entity.getAction());
-        if (existing.isPresent()) {
-            entity.setId(existing.get()
-                .getId());
-        }
-    }
-
 }
@@ -24,11 +24,15 @@
 
 package com.bernardomg.security.adapter.inbound.jpa.repository.permission;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.bernardomg.security.adapter.inbound.jpa.model.permission.ResourcePermissionEntity;
+import com.bernardomg.security.domain.permission.model.ResourcePermission;
 
 /**
  * Resource permission repository based on Spring Data repositories.
@@ -40,6 +44,46 @@ public interface ResourcePermissionSpringRepository extends JpaRepository<Resour
 
     public boolean existsByResourceAndAction(final String resource, final String action);
 
+    public List<ResourcePermissionEntity> findAllByResourceInAndActionIn(final Collection<String> resources,
+            final Collection<String> actions);
+
+    /**
+     * Returns the permissions for the received resource and action pairs, with a single query.
+     * <p>
+     * The query reads the permissions for any of the resources and any of the actions, which may include pairs not
+     * received, and these are discarded afterwards. This way the query can use the index on the resource and action
+     * columns.
+     *
+     * @param permissions
+     *            permissions to read
+     * @return the permissions for the received resource and action pairs
+     */
+    public default List<ResourcePermissionEntity> findAllIn(final Collection<ResourcePermission> permissions) {
+        final Collection<ResourcePermission> received;
+        final Collection<String>             resources;
+        final Collection<String>             actions;
+        final List<ResourcePermissionEntity> read;
+
+        if (permissions.isEmpty()) {
+            read = List.of();
+        } else {
+            received = new HashSet<>(permissions);
+            resources = permissions.stream()
+                .map(ResourcePermission::resource)
+                .distinct()
+                .toList();
+            actions = permissions.stream()
+                .map(ResourcePermission::action)
+                .distinct()
+                .toList();
+            read = findAllByResourceInAndActionIn(resources, actions).stream()
+                .filter(p -> received.contains(new ResourcePermission(p.getResource(), p.getAction())))
+                .toList();
+        }
+
+        return read;
+    }
+
     public Optional<ResourcePermissionEntity> findByResourceAndAction(final String resource, final String action);
 
 }
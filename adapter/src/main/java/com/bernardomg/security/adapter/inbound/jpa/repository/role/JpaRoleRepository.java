@@ -26,9 +26,10 @@
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,10 +40,8 @@
 import com.bernardomg.pagination.domain.Pagination;
 import com.bernardomg.pagination.domain.Sorting;
 import com.bernardomg.pagination.springframework.SpringPagination;
-import com.bernardomg.security.adapter.inbound.jpa.model.permission.ResourcePermissionEntity;
 import com.bernardomg.security.adapter.inbound.jpa.model.role.RoleEntity;
 import com.bernardomg.security.adapter.inbound.jpa.repository.permission.ResourcePermissionSpringRepository;
-import com.bernardomg.security.domain.permission.model.ResourcePermission;
 import com.bernardomg.security.domain.role.filter.RoleFilter;
 import com.bernardomg.security.domain.role.model.Role;
 import com.bernardomg.security.domain.role.repository.RoleRepository;
@@ -108,18 +107,29 @@ public final boolean exists(final String name) {
 
     @Override
     public final Page<Role> findAll(final RoleFilter query, final Pagination pagination, final Sorting sorting) {
-        final RoleEntity                                 sample;
-        final Pageable                                   pageable;
-        final org.springframework.data.domain.Page<Role> page;
-        final Page<Role>                                 read;
+        final RoleEntity                                       sample;
+        final Pageable                                         pageable;
+        final org.springframework.data.domain.Page<RoleEntity> entities;
+        final List<Long>                                       ids;
+        final org.springframework.data.domain.Page<Role>       page;
+        final Page<Role>                                       read;
 
         log.debug("Finding all roles for query {} with pagination {} and sorting {}", query, pagination, sorting);
 
         sample = RoleEntityMapper.toEntity(query);
 
         pageable = SpringPagination.toPageable(pagination, sorting);
-        page = roleSpringRepository.findAll(Example.of(sample), pageable)
-            .map(RoleEntityMapper::toDomain);
+        entities = roleSpringRepository.findAll(Example.of(sample), pageable);
+
+        // Loads the permissions and audit users for the whole page at once
+        ids = entities.stream()
+            .map(RoleEntity::getId)
+            .toList();
+        if (!ids.isEmpty()) {
+            roleSpringRepository.findAllWithPermissionsByIdIn(ids);
+        }
+
+        page = entities.map(RoleEntityMapper::toDomain);
 
         read = SpringPagination.toPage(page);
 
@@ -129,6 +139,29 @@ public final Page<Role> findAll(final RoleFilter query, final Pagination paginat
         return read;
     }
 
+    @Override
+    public final Collection<String> findExistingNames(final Collection<String> names) {
+        final Collection<String> existing;
+        final Collection<String> read;
+
+        log.trace("Finding existing roles in {}", names);
+
+        if (names.isEmpty()) {
+            read = List.of();
+        } else {
+            existing = new HashSet<>(roleSpringRepository.findLowerCaseNames(names.stream()
+                .map(String::toLowerCase)
+                .toList()));
+            read = names.stream()
+                .filter(n -> existing.contains(n.toLowerCase()))
+                .toList();
+        }
+
+        log.trace("Found existing roles in {}: {}", names, read);
+
+        return read;
+    }
+
     @Override
     public final Optional<Role> findOne(final String name) {
         final Optional<Role> read;
@@ -175,13 +208,16 @@ public final Role save(final Role role) {
 
         log.trace("Saving role {}", role);
 
-        entity = toEntity(role);
-
         existing = roleSpringRepository.findByName(role.name());
         if (existing.isPresent()) {
-            entity.setId(existing.get()
-                .getId());
+            // The managed entity is updated, to avoid loading it again when merging
+            entity = existing.get();
+        } else {
+            entity = new RoleEntity();
+            entity.setName(role.name());
         }
+        // All the permissions are read with a single query
+        entity.setPermissions(new ArrayList<>(resourcePermissionSpringRepository.findAllIn(role.permissions())));
 
         saved = roleSpringRepository.save(entity);
 
@@ -192,29 +228,4 @@ public final Role save(final Role role) {
         return created;
     }
 
-    private final ResourcePermissionEntity toEntity(final ResourcePermission permission) {
-        // TODO: move to mapper
-
-        return resourcePermissionSpringRepository.findByResourceAndAction(permission.resource(), permission.action())
-            .orElse(null);
-    }
-
-    private final RoleEntity toEntity(final Role role) {
-        final Collection<ResourcePermissionEntity> permissions;
-        final RoleEntity                           entity;
-
-        // TODO: move to mapper
-
-        permissions = role.permissions()
-            .stream()
-            .map(this::toEntity)
-            .filter(Objects::nonNull)
-            .collect(Collectors.toCollection(ArrayList::new));
-        entity = new RoleEntity();
-        entity.setName(role.name());
-        entity.setPermissions(permissions);
-
-        return entity;
-    }
-
 }
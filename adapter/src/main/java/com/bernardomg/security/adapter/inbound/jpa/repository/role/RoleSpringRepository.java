@@ -24,10 +24,13 @@
 
 package com.bernardomg.security.adapter.inbound.jpa.repository.role;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -59,6 +62,16 @@ public interface RoleSpringRepository extends JpaRepository<RoleEntity, Long> {
      */
     public boolean existsByNameIgnoreCase(final String name);
 
+    /**
+     * Returns the roles with the received names, along their permissions and audit users.
+     *
+     * @param names
+     *            names of the roles to read
+     * @return the roles with their permissions and audit users
+     */
+    @EntityGraph(attributePaths = { "permissions", "audit.createdBy", "audit.updatedBy" })
+    public List<RoleEntity> findAllByNameIn(final Collection<String> names);
+
     /**
      * Returns all the roles available to the user, in a paginated form.
      *
@@ -85,6 +98,16 @@ WHERE EXISTS (
             """)
     public Page<RoleEntity> findAllByUser(@Param("username") final String username, final Pageable page);
 
+    /**
+     * Returns the roles with the received ids, along their permissions and audit users.
+     *
+     * @param ids
+     *            ids of the roles to read
+     * @return the roles with their permissions and audit users
+     */
+    @EntityGraph(attributePaths = { "permissions", "audit.createdBy", "audit.updatedBy" })
+    public List<RoleEntity> findAllWithPermissionsByIdIn(final Collection<Long> ids);
+
     /**
      * Returns the role for the received name.
      *
@@ -112,4 +135,14 @@ WHERE EXISTS (
             """)
     public Page<RoleEntity> findByUser(@Param("username") final String username, final Pageable page);
 
+    /**
+     * Returns the names, in lower case, of the roles whose lower case name is in the received ones.
+     *
+     * @param names
+     *            lower case names to search for
+     * @return the lower case names of the existing roles
+     */
+    @Query("SELECT LOWER(r.name) FROM Role r WHERE LOWER(r.name) IN :names")
+    public List<String> findLowerCaseNames(@Param("names") final Collection<String> names);
+
 }
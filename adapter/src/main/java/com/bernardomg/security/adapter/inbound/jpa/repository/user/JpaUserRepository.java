@@ -29,6 +29,7 @@
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -42,10 +43,13 @@
 import com.bernardomg.pagination.springframework.SpringPagination;
 import com.bernardomg.security.adapter.inbound.jpa.model.role.RoleEntity;
 import com.bernardomg.security.adapter.inbound.jpa.model.user.UserEntity;
+import com.bernardomg.security.adapter.inbound.jpa.repository.permission.ResourcePermissionEntityMapper;
 import com.bernardomg.security.adapter.inbound.jpa.repository.role.RoleSpringRepository;
+import com.bernardomg.security.domain.permission.model.ResourcePermission;
 import com.bernardomg.security.domain.role.model.Role;
 import com.bernardomg.security.domain.user.filter.UserFilter;
 import com.bernardomg.security.domain.user.model.User;
+import com.bernardomg.security.domain.user.model.UserAuthenticationDetails;
 import com.bernardomg.security.domain.user.repository.UserRepository;
 
 /**
@@ -58,23 +62,30 @@ public final class JpaUserRepository implements UserRepository {
     /**
      * Logger for the class.
      */
-    private static final Logger        log = LoggerFactory.getLogger(JpaUserRepository.class);
+    private static final Logger                          log = LoggerFactory.getLogger(JpaUserRepository.class);
 
     /**
      * Role repository.
      */
-    private final RoleSpringRepository roleSpringRepository;
+    private final RoleSpringRepository                   roleSpringRepository;
+
+    /**
+     * User permissions repository.
+     */
+    private final UserResourcePermissionSpringRepository userResourcePermissionSpringRepository;
 
     /**
      * User repository.
      */
-    private final UserSpringRepository userSpringRepository;
+    private final UserSpringRepository                   userSpringRepository;
 
-    public JpaUserRepository(final UserSpringRepository userSpringRepo, final RoleSpringRepository roleSpringRepo) {
+    public JpaUserRepository(final UserSpringRepository userSpringRepo, final RoleSpringRepository roleSpringRepo,
+            final UserResourcePermissionSpringRepository userResourcePermissionSpringRepo) {
         super();
 
         userSpringRepository = Objects.requireNonNull(userSpringRepo);
         roleSpringRepository = Objects.requireNonNull(roleSpringRepo);
+        userResourcePermissionSpringRepository = Objects.requireNonNull(userResourcePermissionSpringRepo);
     }
 
     @Override
@@ -176,17 +187,19 @@ public final boolean existsEmailForAnotherUser(final String username, final Stri
 
     @Override
     public final Page<User> findAll(final UserFilter query, final Pagination pagination, final Sorting sorting) {
-        final UserEntity                                 entity;
-        final Pageable                                   pageable;
-        final org.springframework.data.domain.Page<User> page;
-        final Page<User>                                 read;
+        final UserEntity                                       entity;
+        final Pageable                                         pageable;
+        final org.springframework.data.domain.Page<UserEntity> entities;
+        final org.springframework.data.domain.Page<User>       page;
+        final Page<User>                                       read;
 
         log.trace("Finding users for query {} with pagination {} and sorting {}", query, pagination, sorting);
 
         entity = UserEntityMapper.toEntity(query);
         pageable = SpringPagination.toPageable(pagination, sorting);
-        page = userSpringRepository.findAll(Example.of(entity), pageable)
-            .map(UserEntityMapper::toDomain);
+        entities = userSpringRepository.findAll(Example.of(entity), pageable);
+        loadAssociations(entities.getContent());
+        page = entities.map(UserEntityMapper::toDomain);
 
         read = SpringPagination.toPage(page);
 
@@ -195,6 +208,34 @@ public final Page<User> findAll(final UserFilter query, final Pagination paginat
         return read;
     }
 
+    @Override
+    public final Optional<UserAuthenticationDetails> findAuthenticationDetails(final String username) {
+        final Optional<UserAuthenticationDetails> read;
+
+        log.trace("Finding authentication details for user {}", username);
+
+        read = userSpringRepository.findAuthenticationByUsername(username)
+            .map(this::toAuthenticationDetails);
+
+        log.trace("Found authentication details for user {}: {}", username, read.isPresent());
+
+        return read;
+    }
+
+    @Override
+    public final Optional<UserAuthenticationDetails> findAuthenticationDetailsByEmail(final String email) {
+        final Optional<UserAuthenticationDetails> read;
+
+        log.trace("Finding authentication details for user with email {}", email);
+
+        read = userSpringRepository.findAuthenticationByEmail(email)
+            .map(this::toAuthenticationDetails);
+
+        log.trace("Found authentication details for user with email {}: {}", email, read.isPresent());
+
+        return read;
+    }
+
     @Override
     public final Optional<Long> findIdByUsername(final String username) {
         final Optional<Long> id;
@@ -265,22 +306,36 @@ public final Optional<String> findPassword(final String username) {
         return password;
     }
 
+    @Override
+    public final Optional<Long> findTokenEpoch(final String username) {
+        final Optional<Long> epoch;
+
+        log.trace("Finding token epoch for user {}", username);
+
+        epoch = userSpringRepository.findTokenEpochByUsername(username);
+
+        log.trace("Found token epoch for user {}: {}", username, epoch);
+
+        return epoch;
+    }
+
     @Override
     public final int increaseLoginAttempts(final String username) {
-        final Optional<UserEntity> existing;
-        final UserEntity           toSave;
-        final int                  attempts;
+        // Never locks the user
+        return increaseLoginAttempts(username, Integer.MAX_VALUE);
+    }
 
-        log.trace("Increasing login attempts for user {}", username);
+    @Override
+    public final int increaseLoginAttempts(final String username, final int maxAttempts) {
+        final Optional<Integer> increased;
+        final int               attempts;
 
-        // TODO: maybe this should be done by the service
-        existing = userSpringRepository.findByUsername(username);
-        if (existing.isPresent()) {
-            toSave = existing.get();
-            attempts = toSave.getLoginAttempts() + 1;
-            toSave.setLoginAttempts(attempts);
+        log.trace("Increasing login attempts for user {}", username);
 
-            userSpringRepository.save(toSave);
+        // The attempts are increased and read in a single statement
+        increased = userSpringRepository.increaseLoginAttempts(username, maxAttempts);
+        if (increased.isPresent()) {
+            attempts = increased.get();
 
             log.trace("Increased login attempts for user {} to {}", username, attempts);
         } else {
@@ -291,6 +346,19 @@ public final int increaseLoginAttempts(final String username) {
         return attempts;
     }
 
+    @Override
+    public final int increaseTokenEpochByRole(final String role) {
+        final int updated;
+
+        log.trace("Increasing token epoch for users with role {}", role);
+
+        updated = userSpringRepository.increaseTokenEpochByRole(role);
+
+        log.trace("Increased token epoch for {} users with role {}", updated, role);
+
+        return updated;
+    }
+
     @Override
     public final User lock(final String username) {
         final Optional<UserEntity> read;
@@ -305,6 +373,8 @@ public final User lock(final String username) {
         if (read.isPresent()) {
             user = read.get();
             user.setNotLocked(false);
+            // Invalidates the tokens issued to the user
+            user.setTokenEpoch(user.getTokenEpoch() + 1);
             updated = userSpringRepository.save(user);
             result = UserEntityMapper.toDomain(updated);
 
@@ -334,6 +404,8 @@ public final User resetPassword(final String username, final String password) {
             user.setPassword(password);
 
             user.setPasswordNotExpired(true);
+            // Invalidates the tokens issued to the user
+            user.setTokenEpoch(user.getTokenEpoch() + 1);
             updated = userSpringRepository.save(user);
             result = UserEntityMapper.toDomain(updated);
 
@@ -349,24 +421,26 @@ public final User resetPassword(final String username, final String password) {
 
     @Override
     public final User save(final User user) {
-        final Optional<UserEntity> existing;
-        final UserEntity           entity;
-        final UserEntity           saved;
-        final User                 created;
+        final Optional<UserEntity>   existing;
+        final UserEntity             entity;
+        final Collection<RoleEntity> roles;
+        final UserEntity             saved;
+        final User                   created;
 
         log.trace("Saving user");
 
-        entity = toEntity(user);
-
         existing = userSpringRepository.findByUsername(user.username());
         if (existing.isPresent()) {
-            entity.setId(existing.get()
-                .getId());
-            entity.setPassword(existing.get()
-                .getPassword());
-            entity.setLoginAttempts(existing.get()
-                .getLoginAttempts());
+            // The managed entity is updated, so the password, login attempts and token epoch are kept without merging
+            entity = existing.get();
+            roles = findRoles(user);
+            if (isTokenEpochIncreased(entity, user, roles)) {
+                // Invalidates the tokens issued to the user, in the same update
+                entity.setTokenEpoch(entity.getTokenEpoch() + 1);
+            }
+            copy(user, roles, entity);
         } else {
+            entity = toEntity(user);
             entity.setPassword("");
         }
 
@@ -398,29 +472,33 @@ public final User save(final User user, final String password) {
         return created;
     }
 
-    private final RoleEntity toEntity(final Role role) {
-        final Optional<RoleEntity> read;
+    @Override
+    public final boolean updatePasswordHash(final String username, final String password) {
+        final boolean updated;
 
-        // TODO: move to mapper
+        log.trace("Updating password hash for {}", username);
 
-        read = roleSpringRepository.findByName(role.name());
+        updated = userSpringRepository.updatePassword(username, password) > 0;
+        if (updated) {
+            log.trace("Updated password hash for {}", username);
+        } else {
+            log.warn("User {} doesn't exist", username);
+        }
 
-        return read.orElse(null);
+        return updated;
     }
 
-    private final UserEntity toEntity(final User user) {
-        final Collection<RoleEntity> roles;
-        final UserEntity             entity;
-
-        // TODO: move to mapper
-
-        roles = user.roles()
-            .stream()
-            .map(this::toEntity)
-            .filter(Objects::nonNull)
-            .collect(Collectors.toCollection(ArrayList::new));
-
-        entity = new UserEntity();
+    /**
+     * Copies the user data into the entity.
+     *
+     * @param user
+     *            user to copy
+     * @param roles
+     *            roles for the user
+     * @param entity
+     *            entity to update
+     */
+    private final void copy(final User user, final Collection<RoleEntity> roles, final UserEntity entity) {
         entity.setUsername(user.username());
         entity.setName(user.name());
         entity.setEmail(user.email());
@@ -429,7 +507,117 @@ private final UserEntity toEntity(final User user) {
         entity.setNotLocked(user.notLocked());
         entity.setPasswordNotExpired(user.passwordNotExpired());
         entity.setRoles(roles);
+    }
+
+    /**
+     * Returns the existing roles for the user. These are read with a single query.
+     *
+     * @param user
+     *            user to read the roles for
+     * @return the existing roles for the user
+     */
+    private final Collection<RoleEntity> findRoles(final User user) {
+        final Collection<String>     names;
+        final Collection<RoleEntity> roles;
+
+        names = user.roles()
+            .stream()
+            .map(Role::name)
+            .toList();
+        if (names.isEmpty()) {
+            roles = new ArrayList<>();
+        } else {
+            roles = new ArrayList<>(roleSpringRepository.findAllByNameIn(names));
+        }
+
+        return roles;
+    }
+
+    /**
+     * Checks if saving the user increases its token epoch. This happens when the roles change, or the user is disabled
+     * or locked, as the tokens issued before keep the old permissions and status.
+     *
+     * @param entity
+     *            stored user
+     * @param user
+     *            user to save
+     * @param roles
+     *            roles to save for the user
+     * @return {@code true} if the token epoch is increased, {@code false} otherwise
+     */
+    private final boolean isTokenEpochIncreased(final UserEntity entity, final User user,
+            final Collection<RoleEntity> roles) {
+        final Set<Long> stored;
+        final Set<Long> received;
+
+        if (entity.getRoles() == null) {
+            stored = Set.of();
+        } else {
+            stored = entity.getRoles()
+                .stream()
+                .map(RoleEntity::getId)
+                .collect(Collectors.toSet());
+        }
+        received = roles.stream()
+            .map(RoleEntity::getId)
+            .collect(Collectors.toSet());
+
+        return (Boolean.TRUE.equals(entity.getEnabled()) && !user.enabled())
+                || (Boolean.TRUE.equals(entity.getNotLocked()) && !user.notLocked()) || !stored.equals(received);
+    }
+
+    /**
+     * Loads the roles, permissions and audit users for the received users. These are loaded into the persistence
+     * context with a fixed number of queries, so mapping the users doesn't need a query for each association.
+     *
+     * @param users
+     *            users to load the associations for
+     */
+    private final void loadAssociations(final Collection<UserEntity> users) {
+        final List<Long> ids;
+        final List<Long> roleIds;
+
+        ids = users.stream()
+            .map(UserEntity::getId)
+            .toList();
+        if (!ids.isEmpty()) {
+            roleIds = userSpringRepository.findAllWithRolesByIdIn(ids)
+                .stream()
+                .map(UserEntity::getRoles)
+                .filter(Objects::nonNull)
+                .flatMap(Collection::stream)
+                .map(RoleEntity::getId)
+                .distinct()
+                .toList();
+            if (!roleIds.isEmpty()) {
+                roleSpringRepository.findAllWithPermissionsByIdIn(roleIds);
+            }
+        }
+    }
+
+    private final UserAuthenticationDetails toAuthenticationDetails(final UserAuthenticationProjection user) {
+        final Collection<ResourcePermission> permissions;
+
+        permissions = userResourcePermissionSpringRepository.findAllForUser(user.getId())
+            .stream()
+            .map(ResourcePermissionEntityMapper::toDomain)
+            .distinct()
+            .toList();
+
+        return new UserAuthenticationDetails(user.getId(), user.getEmail(), user.getUsername(), user.getName(),
+            user.getPassword(), user.getEnabled(), user.getNotExpired(), user.getNotLocked(),
+            user.getPasswordNotExpired(), permissions);
+    }
+
+    private final UserEntity toEntity(final User user) {
+        final UserEntity entity;
+
+        // TODO: move to mapper
+
+        entity = new UserEntity();
+        copy(user, findRoles(user), entity);
         entity.setLoginAttempts(0);
+        entity.setTokenEpoch(0L);
 
         return entity;
     }
@@ -24,6 +24,7 @@
 
 package com.bernardomg.security.adapter.inbound.jpa.repository.user;
 
+import java.time.Instant;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Objects;
@@ -32,15 +33,19 @@
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Order;
 
 import com.bernardomg.pagination.domain.Page;
 import com.bernardomg.pagination.domain.Pagination;
 import com.bernardomg.pagination.domain.Sorting;
 import com.bernardomg.pagination.springframework.SpringPagination;
-import com.bernardomg.security.adapter.inbound.jpa.model.user.UserDataTokenEntity;
 import com.bernardomg.security.adapter.inbound.jpa.model.user.UserEntity;
 import com.bernardomg.security.adapter.inbound.jpa.model.user.UserTokenEntity;
+import com.bernardomg.security.domain.user.exception.MissingUserTokenException;
+import com.bernardomg.security.domain.user.exception.MissingUsernameException;
 import com.bernardomg.security.domain.user.model.UserToken;
 import com.bernardomg.security.domain.user.repository.UserTokenRepository;
 
@@ -51,13 +56,24 @@
  */
 public final class JpaUserTokenRepository implements UserTokenRepository {
 
+    /**
+     * Token code digest property.
+     */
+    private static final String                 DIGEST_PROPERTY = "tokenHash";
+
     /**
      * Logger for the class.
      */
-    private static final Logger                 log = LoggerFactory.getLogger(JpaUserTokenRepository.class);
+    private static final Logger                 log             = LoggerFactory.getLogger(JpaUserTokenRepository.class);
+
+    /**
+     * Token code property, which is sorted by its digest, as the codes are not stored.
+     */
+    private static final String                 TOKEN_PROPERTY  = "token";
 
     /**
-     * User data token repository. This queries a view joining user tokens with their users.
+     * User data token repository. This queries a view joining user tokens with their users, and is only used for
+     * listing all the tokens.
      */
     private final UserDataTokenSpringRepository userDataTokenSpringRepository;
 
@@ -77,6 +93,33 @@ public JpaUserTokenRepository(final UserTokenSpringRepository userTokenSpringRep
         userSpringRepository = Objects.requireNonNull(userSpringRepo);
     }
 
+    @Override
+    public final Optional<String> consume(final String token, final String scope) {
+        final Optional<String> username;
+
+        log.trace("Consuming token in scope {}", scope);
+
+        // The token is validated and consumed in a single statement
+        username = userTokenSpringRepository.consume(UserTokenDigests.digest(token), scope, Instant.now());
+
+        log.trace("Consumed token in scope {} for: {}", scope, username);
+
+        return username;
+    }
+
+    @Override
+    public final int deleteExpired(final Instant date, final int limit) {
+        final int deleted;
+
+        log.trace("Deleting up to {} tokens expired before {}", limit, date);
+
+        deleted = userTokenSpringRepository.deleteExpired(date, limit);
+
+        log.trace("Deleted {} tokens expired before {}", deleted, date);
+
+        return deleted;
+    }
+
     @Override
     public final Page<UserToken> findAll(final Pagination pagination, final Sorting sorting) {
         final Pageable                                        pageable;
@@ -85,7 +128,7 @@ public final Page<UserToken> findAll(final Pagination pagination, final Sorting
 
         log.trace("Finding all tokens with pagination {} and sorting {}", pagination, sorting);
 
-        pageable = SpringPagination.toPageable(pagination, sorting);
+        pageable = toPageable(pagination, sorting);
         page = userDataTokenSpringRepository.findAll(pageable)
             .map(UserDataTokenEntityMapper::toDomain);
 
@@ -97,31 +140,30 @@ public final Page<UserToken> findAll(final Pagination pagination, final Sorting
     }
 
     @Override
-    public final Collection<UserToken> findAllNotRevoked(final String username, final String scope) {
-        final Collection<UserToken> read;
+    public final Optional<UserToken> findOne(final String token) {
+        final Optional<UserToken> read;
 
-        log.trace("Finding all tokens not revoked for {} in scope {}", username, scope);
+        log.trace("Finding token");
 
-        read = userDataTokenSpringRepository.findAllByRevokedFalseAndUsernameAndScope(username, scope)
-            .stream()
-            .map(UserDataTokenEntityMapper::toDomain)
-            .toList();
+        read = userTokenSpringRepository.findDataByTokenHash(UserTokenDigests.digest(token))
+            .map(t -> UserDataTokenEntityMapper.toDomain(t, token));
 
-        log.trace("Found all tokens not revoked for {} in scope {}: {}", username, scope, read);
+        log.trace("Found token: {}", read);
 
         return read;
     }
 
     @Override
-    public final Optional<UserToken> findOne(final String token) {
+    public final Optional<UserToken> findOneByDigest(final String digest) {
         final Optional<UserToken> read;
 
-        log.trace("Finding token");
+        log.trace("Finding token by digest");
 
-        read = userDataTokenSpringRepository.findByToken(token)
-            .map(UserDataTokenEntityMapper::toDomain);
+        read = UserTokenDigests.decode(digest)
+            .flatMap(userTokenSpringRepository::findDataByTokenHash)
+            .map(t -> UserDataTokenEntityMapper.toDomain(t, digest));
 
-        log.trace("Found token: {}", read);
+        log.trace("Found token by digest: {}", read);
 
         return read;
     }
@@ -132,8 +174,8 @@ public final Optional<UserToken> findOneByScope(final String token, final String
 
         log.trace("Finding token in scope {}", scope);
 
-        read = userDataTokenSpringRepository.findByTokenAndScope(token, scope)
-            .map(UserDataTokenEntityMapper::toDomain);
+        read = userTokenSpringRepository.findDataByTokenHashAndScope(UserTokenDigests.digest(token), scope)
+            .map(t -> UserDataTokenEntityMapper.toDomain(t, token));
 
         log.trace("Found token in scope {}: {}", scope, read);
 
@@ -141,81 +183,121 @@ public final Optional<UserToken> findOneByScope(final String token, final String
     }
 
     @Override
-    public final UserToken save(final UserToken token) {
-        final Optional<UserDataTokenEntity> existing;
-        final Optional<UserEntity>          existingUser;
-        final UserTokenEntity               entity;
-        final UserTokenEntity               saved;
-        final UserToken                     created;
-        final UserDataTokenEntity           data;
+    public final int revokeAll(final String username, final String scope) {
+        final int revoked;
 
-        log.trace("Saving token");
+        log.trace("Revoking all tokens for {} in scope {}", username, scope);
 
-        entity = UserDataTokenEntityMapper.toEntity(token);
+        revoked = userTokenSpringRepository.revokeAll(username, scope);
+
+        log.trace("Revoked {} tokens for {} in scope {}", revoked, username, scope);
 
-        existing = userDataTokenSpringRepository.findByToken(token.token());
-        entity.setId(existing.map(UserDataTokenEntity::getId)
-            .orElse(null));
+        return revoked;
+    }
+
+    @Override
+    public final UserToken save(final UserToken token) {
+        final byte[] tokenHash;
+        final int    saved;
 
-        existingUser = userSpringRepository.findByUsername(token.username());
-        entity.setUserId(existingUser.map(UserEntity::getId)
-            .orElse(null));
+        log.trace("Saving token");
 
-        saved = userTokenSpringRepository.save(entity);
-        data = userDataTokenSpringRepository.findById(saved.getId())
-            .get();
+        // Only the digest is stored, the code is kept by the user
+        tokenHash = UserTokenDigests.digest(token.token());
 
-        // TODO: the view is not updating correctly, remove the view and use queries
-        created = UserDataTokenEntityMapper.toDomain(data, saved);
+        // The user id is read, and the token inserted or updated, in a single statement
+        saved = userTokenSpringRepository.upsert(token.username(), token.scope(), tokenHash, token.creationDate(),
+            token.expirationDate(), token.consumed(), token.revoked());
+        if (saved == 0) {
+            log.error("Missing username {}", token.username());
+            throw new MissingUsernameException(token.username());
+        }
 
-        log.trace("Saved token: {}", created);
+        log.trace("Saved token: {}", token);
 
-        return created;
+        // The stored row is the received token, so it is not read back
+        return token;
     }
 
     @Override
     public final Collection<UserToken> saveAll(final Collection<UserToken> tokens) {
         final Collection<UserTokenEntity> toSave;
-        final Collection<UserTokenEntity> saved;
-        final Collection<Long>            savedIds;
-        final Collection<UserToken>       created;
         final Map<String, Long>           userIdsByUsername;
-        final Map<String, Long>           tokenIdsByToken;
+        final Map<String, Long>           tokenIdsByDigest;
+        final Optional<UserToken>         missing;
 
         log.trace("Saving multiple tokens");
         // TODO: Reject duplicated tokens
 
         userIdsByUsername = loadUserIds(tokens);
-        tokenIdsByToken = loadTokenIds(tokens);
 
+        // The whole batch is rejected if any user is missing
+        missing = tokens.stream()
+            .filter(t -> !userIdsByUsername.containsKey(t.username()))
+            .findFirst();
+        if (missing.isPresent()) {
+            log.error("Missing username {}", missing.get()
+                .username());
+            throw new MissingUsernameException(missing.get()
+                .username());
+        }
+
+        tokenIdsByDigest = loadTokenIds(tokens);
         toSave = tokens.stream()
-            .map(t -> toEntity(t, userIdsByUsername.get(t.username()), tokenIdsByToken.get(t.token())))
+            .map(t -> toEntity(t, userIdsByUsername.get(t.username()),
+                tokenIdsByDigest.get(UserTokenDigests.encode(UserTokenDigests.digest(t.token())))))
             .toList();
 
-        saved = userTokenSpringRepository.saveAll(toSave);
-        savedIds = saved.stream()
-            .map(UserTokenEntity::getId)
-            .toList();
+        userTokenSpringRepository.saveAll(toSave);
 
-        created = userDataTokenSpringRepository.findAllById(savedIds)
-            .stream()
-            .map(UserDataTokenEntityMapper::toDomain)
-            .toList();
+        log.trace("Saving multiple tokens: {}", tokens);
+
+        // The stored rows are the received tokens, so they are not read back
+        return tokens;
+    }
+
+    @Override
+    public final UserToken updateByDigest(final UserToken token) {
+        final Optional<byte[]> tokenHash;
+        final int              updated;
 
-        log.trace("Saving multiple tokens: {}", created);
+        log.trace("Updating token by digest");
 
-        return created;
+        tokenHash = UserTokenDigests.decode(token.token());
+        if (tokenHash.isPresent()) {
+            updated = userTokenSpringRepository.updateByTokenHash(tokenHash.get(), token.expirationDate(),
+                token.consumed(), token.revoked());
+        } else {
+            updated = 0;
+        }
+
+        if (updated == 0) {
+            log.error("Missing user token {}", token.token());
+            throw new MissingUserTokenException(token.token());
+        }
+
+        log.trace("Updated token by digest: {}", token);
+
+        return token;
     }
 
+    /**
+     * Returns the ids of the existing tokens, keyed by their encoded digest, as arrays can't be used as keys.
+     *
+     * @param tokens
+     *            tokens to search for
+     * @return the ids of the existing tokens
+     */
     private final Map<String, Long> loadTokenIds(final Collection<UserToken> tokens) {
-        final Collection<String> tokenCodes = tokens.stream()
+        final Collection<byte[]> tokenHashes = tokens.stream()
             .map(UserToken::token)
             .distinct()
+            .map(UserTokenDigests::digest)
             .toList();
 
-        return userTokenSpringRepository.findAllByTokenIn(tokenCodes)
+        return userTokenSpringRepository.findAllByTokenHashIn(tokenHashes)
             .stream()
-            .collect(Collectors.toMap(UserTokenEntity::getToken, UserTokenEntity::getId));
+            .collect(Collectors.toMap(t -> UserTokenDigests.encode(t.getTokenHash()), UserTokenEntity::getId));
     }
 
     private final Map<String, Long> loadUserIds(final Collection<UserToken> tokens) {
@@ -243,4 +325,45 @@ private final UserTokenEntity toEntity(final UserToken token, final Long userId,
         return entity;
     }
 
+    /**
+     * Returns the pageable for the listing. The token codes are not stored, so sorting by them is done by their
+     * digests, which is what the listing shows.
+     *
+     * @param pagination
+     *            pagination to apply
+     * @param sorting
+     *            sorting to apply
+     * @return the pageable for the listing
+     */
+    private final Pageable toPageable(final Pagination pagination, final Sorting sorting) {
+        final Pageable pageable;
+        final Sort     sort;
+        final Pageable result;
+
+        pageable = SpringPagination.toPageable(pagination, sorting);
+        sort = Sort.by(pageable.getSort()
+            .stream()
+            .map(this::toSortOrder)
+            .toList());
+        if (pageable.isPaged()) {
+            result = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
+        } else {
+            result = Pageable.unpaged(sort);
+        }
+
+        return result;
+    }
+
+    private final Order toSortOrder(final Order order) {
+        final Order result;
+
+        if (TOKEN_PROPERTY.equals(order.getProperty())) {
+            result = order.withProperty(DIGEST_PROPERTY);
+        } else {
+            result = order;
+        }
+
+        return result;
+    }
+
 }
@@ -34,20 +34,22 @@
 public final class UserDataTokenEntityMapper {
 
     public static final UserToken toDomain(final UserDataTokenEntity data) {
-        return new UserToken(data.getUsername(), data.getName(), data.getScope(), data.getToken(),
-            data.getCreationDate(), data.getExpirationDate(), data.isConsumed(), data.isRevoked());
+        // The token code is not stored, its digest is shown instead
+        return new UserToken(data.getUsername(), data.getName(), data.getScope(),
+            UserTokenDigests.encode(data.getTokenHash()), data.getCreationDate(), data.getExpirationDate(),
+            data.isConsumed(), data.isRevoked());
     }
 
-    public static final UserToken toDomain(final UserDataTokenEntity data, final UserTokenEntity created) {
-        return new UserToken(data.getUsername(), data.getName(), data.getScope(), data.getToken(),
-            data.getCreationDate(), created.getExpirationDate(), data.isConsumed(), created.isRevoked());
+    public static final UserToken toDomain(final UserTokenProjection data, final String token) {
+        return new UserToken(data.getUsername(), data.getName(), data.getScope(), token, data.getCreationDate(),
+            data.getExpirationDate(), data.getConsumed(), data.getRevoked());
     }
 
     public static final UserTokenEntity toEntity(final UserToken dataToken) {
         final UserTokenEntity entity;
 
         entity = new UserTokenEntity();
-        entity.setToken(dataToken.token());
+        entity.setTokenHash(UserTokenDigests.digest(dataToken.token()));
         entity.setScope(dataToken.scope());
         entity.setCreationDate(dataToken.creationDate());
         entity.setExpirationDate(dataToken.expirationDate());
@@ -58,7 +60,7 @@ public static final UserTokenEntity toEntity(final UserToken dataToken) {
     }
 
     public static final UserTokenEntity toEntity(final UserTokenEntity entity, final UserToken dataToken) {
-        entity.setToken(dataToken.token());
+        entity.setTokenHash(UserTokenDigests.digest(dataToken.token()));
         entity.setScope(dataToken.scope());
         entity.setCreationDate(dataToken.creationDate());
         entity.setExpirationDate(dataToken.expirationDate());
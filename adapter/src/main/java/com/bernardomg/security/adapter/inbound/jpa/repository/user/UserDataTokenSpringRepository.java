@@ -24,51 +24,17 @@
 
 package com.bernardomg.security.adapter.inbound.jpa.repository.user;
 
-import java.util.Collection;
-import java.util.Optional;
-
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.bernardomg.security.adapter.inbound.jpa.model.user.UserDataTokenEntity;
 
 /**
- * User tokens data repository. This allows querying a view joining user tokens with their users.
+ * User tokens data repository. This allows querying a view joining user tokens with their users, which is used for
+ * listing the tokens.
  *
  * @author Bernardo Mart&iacute;nez Garrido
  *
  */
 public interface UserDataTokenSpringRepository extends JpaRepository<UserDataTokenEntity, Long> {
 
-    /**
-     * Returns all the tokens which are not revoked for a user and scope.
-     *
-     * @param username
-     *            user with the tokens
-     * @param scope
-     *            token scope
-     * @return all the tokens which are not revoked
-     */
-    public Collection<UserDataTokenEntity> findAllByRevokedFalseAndUsernameAndScope(final String username,
-            final String scope);
-
-    /**
-     * Returns the token with the received token code.
-     *
-     * @param token
-     *            token code to search for
-     * @return token with the received code
-     */
-    public Optional<UserDataTokenEntity> findByToken(final String token);
-
-    /**
-     * Returns a single token by its token code and scope. This allows securing access to tokens, by limiting the scope.
-     *
-     * @param token
-     *            token code to search for
-     * @param scope
-     *            scope to filter by
-     * @return the token for the code and scope
-     */
-    public Optional<UserDataTokenEntity> findByTokenAndScope(final String token, final String scope);
-
 }
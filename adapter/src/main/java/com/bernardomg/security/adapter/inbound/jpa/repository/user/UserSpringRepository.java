@@ -25,11 +25,15 @@
 package com.bernardomg.security.adapter.inbound.jpa.repository.user;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.bernardomg.security.adapter.inbound.jpa.model.user.UserEntity;
 
@@ -80,6 +84,50 @@ public interface UserSpringRepository extends JpaRepository<UserEntity, Long> {
 
     public Collection<UserEntity> findAllByUsernameIn(final Collection<String> usernames);
 
+    /**
+     * Returns the users with the received ids, along their roles and audit users. The role permissions are not loaded,
+     * as fetching two collections at once would multiply the rows.
+     *
+     * @param ids
+     *            ids of the users to read
+     * @return the users with their roles and audit users
+     */
+    @EntityGraph(attributePaths = { "roles", "audit.createdBy", "audit.updatedBy" })
+    public List<UserEntity> findAllWithRolesByIdIn(final Collection<Long> ids);
+
+    /**
+     * Returns the authentication columns for the user with the received email.
+     *
+     * @param email
+     *            email to search for
+     * @return the authentication columns for the user
+     */
+    @Query("""
+               SELECT u.id AS id, u.email AS email, u.username AS username, u.name AS name, u.password AS password,
+                 u.enabled AS enabled, u.notExpired AS notExpired, u.notLocked AS notLocked,
+                 u.passwordNotExpired AS passwordNotExpired
+               FROM User u
+               WHERE u.email = :email
+            """)
+    public Optional<UserAuthenticationProjection> findAuthenticationByEmail(@Param("email") final String email);
+
+    /**
+     * Returns the authentication columns for the user with the received username.
+     *
+     * @param username
+     *            username to search for
+     * @return the authentication columns for the user
+     */
+    @Query("""
+               SELECT u.id AS id, u.email AS email, u.username AS username, u.name AS name, u.password AS password,
+                 u.enabled AS enabled, u.notExpired AS notExpired, u.notLocked AS notLocked,
+                 u.passwordNotExpired AS passwordNotExpired
+               FROM User u
+               WHERE u.username = :username
+            """)
+    public Optional<UserAuthenticationProjection> findAuthenticationByUsername(
+            @Param("username") final String username);
+
     /**
      * Returns the user for the received email.
      *
@@ -101,4 +149,70 @@ public interface UserSpringRepository extends JpaRepository<UserEntity, Long> {
     @Query("select u.id from User u where u.username = :username")
     public Optional<Long> findIdByUsername(@Param("username") String username);
 
+    /**
+     * Returns the token epoch for the user with the received username.
+     *
+     * @param username
+     *            username to search for
+     * @return the token epoch for the user
+     */
+    @Query("SELECT u.tokenEpoch FROM User u WHERE u.username = :username")
+    public Optional<Long> findTokenEpochByUsername(@Param("username") final String username);
+
+    /**
+     * Increases the login attempts for the user with the received username, and returns the new number of attempts.
+     * If it reaches the received maximum, the user is locked in the same statement. Locking the user increases its
+     * token epoch.
+     * <p>
+     * This is a native PostgreSQL query, through {@code UPDATE ... RETURNING}, so the attempts are increased and read
+     * in a single statement. All the assignments use the values before the update. As the update returns a row, it is
+     * executed as a query instead of a modifying query.
+     *
+     * @param username
+     *            username of the user to update
+     * @param maxAttempts
+     *            number of attempts which locks the user
+     * @return the new number of login attempts, or an empty optional if the user doesn't exist
+     */
+    @Transactional
+    @Query(value = """
+               UPDATE security.users
+               SET login_attempts = login_attempts + 1,
+                 not_locked = CASE WHEN login_attempts + 1 >= :maxAttempts THEN false ELSE not_locked END,
+                 token_epoch = CASE WHEN not_locked = true AND login_attempts + 1 >= :maxAttempts
+                   THEN token_epoch + 1 ELSE token_epoch END
+               WHERE username = :username
+               RETURNING login_attempts
+            """, nativeQuery = true)
+    public Optional<Integer> increaseLoginAttempts(@Param("username") final String username,
+            @Param("maxAttempts") final int maxAttempts);
+
+    /**
+     * Increases the token epoch for all the users with the received role.
+     *
+     * @param role
+     *            name of the role
+     * @return the number of updated users
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+               UPDATE User u
+               SET u.tokenEpoch = u.tokenEpoch + 1
+               WHERE u.id IN (SELECT ur.userId FROM UserRole ur, Role r WHERE ur.roleId = r.id AND r.name = :role)
+            """)
+    public int increaseTokenEpochByRole(@Param("role") final String role);
+
+    /**
+     * Replaces the password for the user with the received username.
+     *
+     * @param username
+     *            username of the user to update
+     * @param password
+     *            new password
+     * @return the number of updated users
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.password = :password WHERE u.username = :username")
+    public int updatePassword(@Param("username") final String username, @Param("password") final String password);
+
 }
@@ -0,0 +1,118 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.security.adapter.inbound.jpa.repository.user;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Digests for the user token codes. Only the digest is stored, so the codes can't be taken from the database, and
+ * lookups compare fixed-width values.
+ * <p>
+ * The digest is SHA-256 over the UTF-8 bytes of the code. This matches the migration hashing the codes stored before
+ * the digests were introduced, so those tokens are still valid.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class UserTokenDigests {
+
+    /**
+     * Digest algorithm.
+     */
+    private static final String ALGORITHM = "SHA-256";
+
+    /**
+     * Digest length, in bytes.
+     */
+    private static final int    LENGTH    = 32;
+
+    /**
+     * Returns the digest from its printable representation, as returned by {@link #encode(byte[])}. If it isn't a
+     * valid encoded digest, nothing is returned.
+     *
+     * @param encoded
+     *            encoded digest
+     * @return the decoded digest, if valid
+     */
+    public static final Optional<byte[]> decode(final String encoded) {
+        byte[] decoded;
+
+        try {
+            decoded = Base64.getUrlDecoder()
+                .decode(encoded);
+        } catch (final IllegalArgumentException e) {
+            decoded = null;
+        }
+
+        if ((decoded != null) && (decoded.length != LENGTH)) {
+            decoded = null;
+        }
+
+        return Optional.ofNullable(decoded);
+    }
+
+    /**
+     * Returns the digest for the token code.
+     *
+     * @param token
+     *            token code to digest
+     * @return the digest for the token code
+     */
+    public static final byte[] digest(final String token) {
+        final MessageDigest digest;
+
+        try {
+            digest = MessageDigest.getInstance(ALGORITHM);
+        } catch (final NoSuchAlgorithmException e) {
+            // All Java platforms support SHA-256
+            throw new IllegalStateException(e);
+        }
+
+        return digest.digest(token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns a printable representation of the digest, encoded as URL safe base 64 without padding. Used when the
+     * token has to be shown, but its code is not known.
+     *
+     * @param digest
+     *            digest to encode
+     * @return the encoded digest
+     */
+    public static final String encode(final byte[] digest) {
+        return Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString(digest);
+    }
+
+    private UserTokenDigests() {
+        super();
+    }
+
+}
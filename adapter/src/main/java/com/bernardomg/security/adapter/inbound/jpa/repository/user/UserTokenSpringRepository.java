@@ -21,13 +21,18 @@
  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
  * SOFTWARE.
  */
-
 package com.bernardomg.security.adapter.inbound.jpa.repository.user;
 
+import java.time.Instant;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.bernardomg.security.adapter.inbound.jpa.model.user.UserTokenEntity;
 
@@ -40,12 +45,185 @@
 public interface UserTokenSpringRepository extends JpaRepository<UserTokenEntity, Long> {
 
     /**
-     * Returns all the tokens with any of the received codes.
+     * Consumes the token, if it is valid for the scope, and returns the username for it. This is a single conditional
+     * update, so a token can only be consumed once, even with concurrent requests.
+     * <p>
+     * This is a native PostgreSQL query, through {@code UPDATE ... FROM ... RETURNING}. As the update returns a row,
+     * it is executed as a query instead of a modifying query.
+     *
+     * @param tokenHash
+     *            digest of the token code to consume
+     * @param scope
+     *            token scope
+     * @param now
+     *            current instant, to check the expiration date
+     * @return the username for the consumed token, or an empty optional if no valid token was consumed
+     */
+    @Transactional
+    @Query(value = """
+               UPDATE security.user_tokens t
+               SET consumed = true
+               FROM security.users u
+               WHERE u.id = t.user_id
+                 AND t.token_hash = :tokenHash
+                 AND t.scope = :scope
+                 AND t.consumed = false
+                 AND t.revoked = false
+                 AND t.expiration_date > :now
+               RETURNING u.username
+            """, nativeQuery = true)
+    public Optional<String> consume(@Param("tokenHash") final byte[] tokenHash, @Param("scope") final String scope,
+            @Param("now") final Instant now);
+
+    /**
+     * Removes the tokens expired before the received date, up to the received limit. Each call runs in its own
+     * transaction, so the locks are only held for a single batch.
+     * <p>
+     * This is a native PostgreSQL query, as the limit is applied through a {@code LIMIT} subquery.
+     *
+     * @param date
+     *            date before which the tokens expired
+     * @param limit
+     *            maximum number of tokens to remove
+     * @return the number of removed tokens
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+               DELETE FROM security.user_tokens
+               WHERE id IN (
+                 SELECT t.id
+                 FROM security.user_tokens t
+                 WHERE t.expiration_date < :date
+                 LIMIT :limit
+               )
+            """, nativeQuery = true)
+    public int deleteExpired(@Param("date") final Instant date, @Param("limit") final int limit);
+
+    /**
+     * Returns all the tokens with any of the received code digests.
+     *
+     * @param tokenHashes
+     *            digests of the token codes to search for
+     * @return all the tokens with any of the received code digests
+     */
+    public List<UserTokenEntity> findAllByTokenHashIn(final Collection<byte[]> tokenHashes);
+
+    /**
+     * Returns the token with the received token code digest, along its user data.
+     *
+     * @param tokenHash
+     *            digest of the token code to search for
+     * @return token with the received code digest
+     */
+    @Query("""
+               SELECT t.scope AS scope, t.creationDate AS creationDate, t.expirationDate AS expirationDate,
+                 t.consumed AS consumed, t.revoked AS revoked, u.username AS username, u.name AS name
+               FROM UserToken t
+                 JOIN User u ON u.id = t.userId
+               WHERE t.tokenHash = :tokenHash
+            """)
+    public Optional<UserTokenProjection> findDataByTokenHash(@Param("tokenHash") final byte[] tokenHash);
+
+    /**
+     * Returns a single token by its token code digest and scope, along its user data. This allows securing access to
+     * tokens, by limiting the scope.
+     *
+     * @param tokenHash
+     *            digest of the token code to search for
+     * @param scope
+     *            scope to filter by
+     * @return the token for the code digest and scope
+     */
+    @Query("""
+               SELECT t.scope AS scope, t.creationDate AS creationDate, t.expirationDate AS expirationDate,
+                 t.consumed AS consumed, t.revoked AS revoked, u.username AS username, u.name AS name
+               FROM UserToken t
+                 JOIN User u ON u.id = t.userId
+               WHERE t.tokenHash = :tokenHash
+                 AND t.scope = :scope
+            """)
+    public Optional<UserTokenProjection> findDataByTokenHashAndScope(@Param("tokenHash") final byte[] tokenHash,
+            @Param("scope") final String scope);
+
+    /**
+     * Revokes all the tokens which are not revoked for a user and scope.
+     *
+     * @param username
+     *            user with the tokens
+     * @param scope
+     *            token scope
+     * @return the number of revoked tokens
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+               UPDATE UserToken t
+               SET t.revoked = true
+               WHERE t.userId = (SELECT u.id FROM User u WHERE u.username = :username)
+                 AND t.scope = :scope
+                 AND t.revoked = false
+            """)
+    public int revokeAll(@Param("username") final String username, @Param("scope") final String scope);
+
+    /**
+     * Updates the token with the received code digest.
+     *
+     * @param tokenHash
+     *            digest of the token code
+     * @param expirationDate
+     *            token expiration date
+     * @param consumed
+     *            consumed flag
+     * @param revoked
+     *            revoked flag
+     * @return the number of updated tokens
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+               UPDATE UserToken t
+               SET t.expirationDate = :expirationDate, t.consumed = :consumed, t.revoked = :revoked
+               WHERE t.tokenHash = :tokenHash
+            """)
+    public int updateByTokenHash(@Param("tokenHash") final byte[] tokenHash,
+            @Param("expirationDate") final Instant expirationDate, @Param("consumed") final boolean consumed,
+            @Param("revoked") final boolean revoked);
+
+    /**
+     * Saves the token for the user with the received username, in a single statement. If the token code digest
+     * already exists, the token is updated, otherwise it is created.
+     * <p>
+     * This is a native PostgreSQL upsert, through {@code INSERT ... ON CONFLICT}.
      *
-     * @param tokens
-     *            token codes to search for
-     * @return all the tokens with any of the received codes
+     * @param username
+     *            user for the token
+     * @param scope
+     *            token scope
+     * @param tokenHash
+     *            digest of the token code
+     * @param creationDate
+     *            token creation date
+     * @param expirationDate
+     *            token expiration date
+     * @param consumed
+     *            consumed flag
+     * @param revoked
+     *            revoked flag
+     * @return the number of saved tokens, which is zero if the user doesn't exist
      */
-    public Optional<UserTokenEntity> findAllByTokenIn(final Collection<String> tokens);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+               INSERT INTO security.user_tokens (user_id, scope, token_hash, creation_date, expiration_date,
+                 consumed, revoked)
+               SELECT u.id, :scope, :tokenHash, :creationDate, :expirationDate, :consumed, :revoked
+               FROM security.users u
+               WHERE u.username = :username
+               ON CONFLICT (token_hash) DO UPDATE
+               SET user_id = EXCLUDED.user_id, scope = EXCLUDED.scope, creation_date = EXCLUDED.creation_date,
+                 expiration_date = EXCLUDED.expiration_date, consumed = EXCLUDED.consumed, revoked = EXCLUDED.revoked
+            """, nativeQuery = true)
+    public int upsert(@Param("username") final String username, @Param("scope") final String scope,
+            @Param("tokenHash") final byte[] tokenHash, @Param("creationDate") final Instant creationDate,
+            @Param("expirationDate") final Instant expirationDate, @Param("consumed") final boolean consumed,
+            @Param("revoked") final boolean revoked);
 
 }
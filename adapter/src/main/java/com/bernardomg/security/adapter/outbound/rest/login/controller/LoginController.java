@@ -28,14 +28,17 @@
 
 import com.bernardomg.framework.security.access.annotation.Unsecured;
 import com.bernardomg.security.adapter.outbound.rest.login.dto.LoginRequestDto;
+import com.bernardomg.security.adapter.outbound.rest.login.dto.RefreshLoginRequestDto;
 import com.bernardomg.security.adapter.outbound.rest.login.dto.TokenLoginStatusResponseDto;
 import com.bernardomg.security.adapter.outbound.rest.login.model.LoginDtoMapper;
 import com.bernardomg.security.domain.login.model.Credentials;
 import com.bernardomg.security.domain.login.model.TokenLoginStatus;
 import com.bernardomg.security.usecase.login.service.LoginService;
+import com.bernardomg.security.usecase.login.service.TokenRefreshService;
 
 /**
- * Handles login requests. All the logic is delegated to a {@link LoginService}.
+ * Handles login requests. All the logic is delegated to a {@link LoginService}, and a {@link TokenRefreshService} for
+ * refreshing tokens.
  *
  * @author Bernardo Mart&iacute;nez Garrido
  *
@@ -46,12 +49,18 @@ public class LoginController implements LoginApi {
     /**
      * Login service.
      */
-    private final LoginService service;
+    private final LoginService        service;
 
-    public LoginController(final LoginService service) {
+    /**
+     * Token refresh service.
+     */
+    private final TokenRefreshService tokenRefreshService;
+
+    public LoginController(final LoginService service, final TokenRefreshService tokenRefreshService) {
         super();
 
         this.service = service;
+        this.tokenRefreshService = tokenRefreshService;
     }
 
     @Override
@@ -66,4 +75,14 @@ public TokenLoginStatusResponseDto login(final LoginRequestDto loginRequestDto)
         return LoginDtoMapper.toResponseDto(status);
     }
 
+    @Override
+    @Unsecured
+    public TokenLoginStatusResponseDto refreshLogin(final RefreshLoginRequestDto refreshLoginRequestDto) {
+        final TokenLoginStatus status;
+
+        status = tokenRefreshService.refresh(refreshLoginRequestDto.getRefreshToken());
+
+        return LoginDtoMapper.toResponseDto(status);
+    }
+
 }
@@ -17,7 +17,8 @@ public static final TokenLoginStatusResponseDto toResponseDto(final TokenLoginSt
         TokenLoginStatusDto tokenLoginStatusDto;
 
         tokenLoginStatusDto = new TokenLoginStatusDto().logged(tokenLoginStatus.logged())
-            .token(tokenLoginStatus.token());
+            .token(tokenLoginStatus.token())
+            .refreshToken(tokenLoginStatus.refreshToken());
         return new TokenLoginStatusResponseDto().content(tokenLoginStatusDto);
     }
 
@@ -0,0 +1,186 @@
+
+package com.bernardomg.security.adapter.inbound.event.test.login.unit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.Collection;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.bernardomg.security.adapter.inbound.event.login.AsyncLoginEventListener;
+import com.bernardomg.security.adapter.test.config.login.factory.LoginConstants;
+import com.bernardomg.security.domain.login.event.LogInEvent;
+import com.bernardomg.security.domain.login.model.LoginRegister;
+import com.bernardomg.security.usecase.login.service.LoginRegisterService;
+import com.bernardomg.security.usecase.login.service.UserLoginAttempsService;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AsyncLoginEventListener")
+class TestAsyncLoginEventListener {
+
+    private AsyncLoginEventListener                   listener;
+
+    @Mock
+    private LoginRegisterService                      loginRegisterService;
+
+    @Captor
+    private ArgumentCaptor<Collection<LoginRegister>> registersCaptor;
+
+    @Mock
+    private UserLoginAttempsService                   userLoginAttempsService;
+
+    @AfterEach
+    public void closeListener() {
+        if (listener != null) {
+            listener.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Registers the events in batches")
+    void testHandle_Batch() {
+        final Collection<LoginRegister> registers;
+
+        // GIVEN
+        listener = listener(10, 2);
+        listener.start();
+
+        // WHEN
+        listener.handle(new LogInEvent(null, LoginConstants.USERNAME, true));
+        listener.handle(new LogInEvent(null, LoginConstants.USERNAME, false));
+        listener.close();
+
+        // THEN
+        verify(loginRegisterService).registerAll(registersCaptor.capture());
+        registers = registersCaptor.getValue();
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(registers)
+                .as("registers")
+                .extracting(LoginRegister::username, LoginRegister::loggedIn)
+                .containsExactly(Assertions.tuple(LoginConstants.USERNAME, true),
+                    Assertions.tuple(LoginConstants.USERNAME, false));
+            softly.assertThat(listener.getBatchCount())
+                .as("batches")
+                .isEqualTo(1);
+            softly.assertThat(listener.getProcessedCount())
+                .as("processed")
+                .isEqualTo(2);
+            softly.assertThat(listener.getPendingCount())
+                .as("pending")
+                .isZero();
+        });
+    }
+
+    @Test
+    @DisplayName("When closed, the events are handled synchronously")
+    void testHandle_Closed() {
+        // GIVEN
+        listener = listener(10, 10);
+        listener.close();
+
+        // WHEN
+        listener.handle(new LogInEvent(null, LoginConstants.USERNAME, false));
+
+        // THEN
+        verify(userLoginAttempsService).checkForLocking(LoginConstants.USERNAME);
+        verify(loginRegisterService).registerAll(any());
+    }
+
+    @Test
+    @DisplayName("Keeps handling the lockout when the registers can't be persisted")
+    void testHandle_FailedRegister() {
+        // GIVEN
+        listener = listener(10, 10);
+        listener.start();
+
+        doThrow(IllegalStateException.class).when(loginRegisterService)
+            .registerAll(any());
+
+        // WHEN
+        listener.handle(new LogInEvent(null, LoginConstants.USERNAME, false));
+        listener.close();
+
+        // THEN
+        verify(userLoginAttempsService).checkForLocking(LoginConstants.USERNAME);
+
+        Assertions.assertThat(listener.getFailureCount())
+            .as("failures")
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Handles the lockout for the events in the order they were received")
+    void testHandle_Lockout_Order() {
+        final InOrder order;
+
+        // GIVEN
+        listener = listener(10, 10);
+        listener.start();
+
+        // WHEN
+        listener.handle(new LogInEvent(null, LoginConstants.USERNAME, false));
+        listener.handle(new LogInEvent(null, LoginConstants.USERNAME, true));
+        listener.handle(new LogInEvent(null, LoginConstants.USERNAME, false));
+        listener.close();
+
+        // THEN
+        order = inOrder(userLoginAttempsService);
+        order.verify(userLoginAttempsService)
+            .checkForLocking(LoginConstants.USERNAME);
+        order.verify(userLoginAttempsService)
+            .clearLoginAttempts(LoginConstants.USERNAME);
+        order.verify(userLoginAttempsService)
+            .checkForLocking(LoginConstants.USERNAME);
+    }
+
+    @Test
+    @DisplayName("When the queue is full, waits for space and counts it")
+    void testHandle_Saturated() throws InterruptedException {
+        final Thread producer;
+
+        // GIVEN
+        listener = listener(1, 10);
+        listener.handle(new LogInEvent(null, LoginConstants.USERNAME, true));
+
+        // WHEN
+        producer = new Thread(() -> listener.handle(new LogInEvent(null, LoginConstants.USERNAME, false)));
+        producer.start();
+        while (producer.getState() != Thread.State.WAITING) {
+            Thread.onSpinWait();
+        }
+        listener.start();
+        producer.join();
+        listener.close();
+
+        // THEN
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(listener.getSaturationCount())
+                .as("saturations")
+                .isEqualTo(1);
+            softly.assertThat(listener.getProcessedCount())
+                .as("processed")
+                .isEqualTo(2);
+        });
+    }
+
+    private final AsyncLoginEventListener listener(final int capacity, final int batchSize) {
+        return new AsyncLoginEventListener(loginRegisterService, userLoginAttempsService, capacity, batchSize,
+            Duration.ofMillis(50), Duration.ofSeconds(5));
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.bernardomg.security.adapter.inbound.jpa.repository.test.integration.login;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.bernardomg.security.adapter.inbound.jpa.repository.login.LoginRegisterSpringRepository;
+import com.bernardomg.security.adapter.test.config.annotation.IntegrationTest;
+import com.bernardomg.security.adapter.test.config.login.annotation.LoggedInLoginRegister;
+import com.bernardomg.security.adapter.test.config.login.factory.LoginConstants;
+import com.bernardomg.security.domain.login.repository.LoginRegisterRepository;
+
+@IntegrationTest
+@DisplayName("LoginRegisterRepository - delete before")
+class ITLoginRegisterRepositoryDeleteBefore {
+
+    @Autowired
+    private LoginRegisterRepository       repository;
+
+    @Autowired
+    private LoginRegisterSpringRepository springRepository;
+
+    public ITLoginRegisterRepositoryDeleteBefore() {
+        super();
+    }
+
+    @Test
+    @DisplayName("When the register is after the date, it is kept")
+    @LoggedInLoginRegister
+    void testDeleteBefore_After() {
+        final int deleted;
+
+        // WHEN
+        deleted = repository.deleteBefore(LoginConstants.DATE, 10);
+
+        // THEN
+        Assertions.assertThat(deleted)
+            .as("deleted")
+            .isZero();
+        Assertions.assertThat(springRepository.count())
+            .as("registers")
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("When the register is before the date, it is removed")
+    @LoggedInLoginRegister
+    void testDeleteBefore_Before() {
+        final int deleted;
+
+        // WHEN
+        deleted = repository.deleteBefore(LoginConstants.EXPIRATION_DATE, 10);
+
+        // THEN
+        Assertions.assertThat(deleted)
+            .as("deleted")
+            .isEqualTo(1);
+        Assertions.assertThat(springRepository.count())
+            .as("registers")
+            .isZero();
+    }
+
+    @Test
+    @DisplayName("When there are no registers, nothing is removed")
+    void testDeleteBefore_NoData() {
+        final int deleted;
+
+        // WHEN
+        deleted = repository.deleteBefore(LoginConstants.EXPIRATION_DATE, 10);
+
+        // THEN
+        Assertions.assertThat(deleted)
+            .as("deleted")
+            .isZero();
+    }
+
+}
@@ -0,0 +1,81 @@
+
+package com.bernardomg.security.adapter.inbound.jpa.repository.test.integration.login;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.bernardomg.security.adapter.inbound.jpa.model.login.LoginRegisterEntity;
+import com.bernardomg.security.adapter.inbound.jpa.repository.login.LoginRegisterSpringRepository;
+import com.bernardomg.security.adapter.test.config.annotation.IntegrationTest;
+import com.bernardomg.security.adapter.test.config.login.factory.LoginRegisterEntities;
+import com.bernardomg.security.adapter.test.config.login.factory.LoginRegisters;
+import com.bernardomg.security.domain.login.model.LoginRegister;
+import com.bernardomg.security.domain.login.repository.LoginRegisterRepository;
+
+@IntegrationTest
+@DisplayName("LoginRegisterRepository - save all")
+class ITLoginRegisterRepositorySaveAll {
+
+    @Autowired
+    private LoginRegisterRepository       repository;
+
+    @Autowired
+    private LoginRegisterSpringRepository springRepository;
+
+    public ITLoginRegisterRepositorySaveAll() {
+        super();
+    }
+
+    @Test
+    @DisplayName("When saving no events, nothing is persisted")
+    void testSaveAll_Empty_Persisted() {
+        final Collection<LoginRegisterEntity> registers;
+
+        // WHEN
+        repository.saveAll(List.of());
+
+        // THEN
+        registers = springRepository.findAll();
+
+        Assertions.assertThat(registers)
+            .as("login registers")
+            .isEmpty();
+    }
+
+    @Test
+    @DisplayName("When saving multiple events, all of them are persisted")
+    void testSaveAll_Multiple_Persisted() {
+        final Collection<LoginRegisterEntity> registers;
+
+        // WHEN
+        repository.saveAll(List.of(LoginRegisters.loggedIn(), LoginRegisters.notLoggedIn()));
+
+        // THEN
+        registers = springRepository.findAll();
+
+        Assertions.assertThat(registers)
+            .as("login registers")
+            .usingRecursiveFieldByFieldElementComparatorIgnoringFields("id")
+            .containsExactlyInAnyOrder(LoginRegisterEntities.loggedIn(), LoginRegisterEntities.notLoggedIn());
+    }
+
+    @Test
+    @DisplayName("When saving multiple events, all of them are returned")
+    void testSaveAll_Multiple_Returned() {
+        final Collection<LoginRegister> returned;
+
+        // WHEN
+        returned = repository.saveAll(List.of(LoginRegisters.loggedIn(), LoginRegisters.notLoggedIn()));
+
+        // THEN
+        Assertions.assertThat(returned)
+            .as("login registers")
+            .containsExactlyInAnyOrder(LoginRegisters.loggedIn(), LoginRegisters.notLoggedIn());
+    }
+
+}
@@ -0,0 +1,65 @@
+
+package com.bernardomg.security.adapter.inbound.jpa.repository.test.integration.login;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.bernardomg.security.adapter.inbound.jpa.repository.login.TokenRevocationSpringRepository;
+import com.bernardomg.security.adapter.test.config.annotation.IntegrationTest;
+import com.bernardomg.security.adapter.test.config.login.annotation.RevokedToken;
+import com.bernardomg.security.adapter.test.config.login.factory.LoginConstants;
+import com.bernardomg.security.domain.login.repository.TokenRevocationRepository;
+
+@IntegrationTest
+@DisplayName("TokenRevocationRepository - delete expired")
+class ITTokenRevocationRepositoryDeleteExpired {
+
+    @Autowired
+    private TokenRevocationRepository       repository;
+
+    @Autowired
+    private TokenRevocationSpringRepository springRepository;
+
+    public ITTokenRevocationRepositoryDeleteExpired() {
+        super();
+    }
+
+    @Test
+    @DisplayName("When the revocation is expired, it is removed")
+    @RevokedToken
+    void testDeleteExpired_Expired() {
+        final int deleted;
+
+        // WHEN
+        deleted = repository.deleteExpired(LoginConstants.EXPIRATION_DATE);
+
+        // THEN
+        Assertions.assertThat(deleted)
+            .as("deleted")
+            .isEqualTo(1);
+        Assertions.assertThat(springRepository.count())
+            .as("revocations")
+            .isZero();
+    }
+
+    @Test
+    @DisplayName("When the revocation is not expired, it is kept")
+    @RevokedToken
+    void testDeleteExpired_NotExpired() {
+        final int deleted;
+
+        // WHEN
+        deleted = repository.deleteExpired(LoginConstants.DATE);
+
+        // THEN
+        Assertions.assertThat(deleted)
+            .as("deleted")
+            .isZero();
+        Assertions.assertThat(springRepository.count())
+            .as("revocations")
+            .isEqualTo(1);
+    }
+
+}
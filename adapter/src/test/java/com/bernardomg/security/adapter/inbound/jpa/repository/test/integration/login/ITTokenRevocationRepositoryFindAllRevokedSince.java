@@ -0,0 +1,88 @@
+
+package com.bernardomg.security.adapter.inbound.jpa.repository.test.integration.login;
+
+import java.util.Collection;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.bernardomg.security.adapter.test.config.annotation.IntegrationTest;
+import com.bernardomg.security.adapter.test.config.login.annotation.RevokedToken;
+import com.bernardomg.security.adapter.test.config.login.factory.LoginConstants;
+import com.bernardomg.security.adapter.test.config.login.factory.TokenRevocations;
+import com.bernardomg.security.domain.login.model.TokenRevocation;
+import com.bernardomg.security.domain.login.repository.TokenRevocationRepository;
+
+@IntegrationTest
+@DisplayName("TokenRevocationRepository - find all revoked since")
+class ITTokenRevocationRepositoryFindAllRevokedSince {
+
+    @Autowired
+    private TokenRevocationRepository repository;
+
+    public ITTokenRevocationRepositoryFindAllRevokedSince() {
+        super();
+    }
+
+    @Test
+    @DisplayName("When the revocation is expired, nothing is returned")
+    @RevokedToken
+    void testFindAllRevokedSince_Expired() {
+        final Collection<TokenRevocation> revocations;
+
+        // WHEN
+        revocations = repository.findAllRevokedSince(LoginConstants.DATE, LoginConstants.EXPIRATION_DATE);
+
+        // THEN
+        Assertions.assertThat(revocations)
+            .as("revocations")
+            .isEmpty();
+    }
+
+    @Test
+    @DisplayName("When there is no data, nothing is returned")
+    void testFindAllRevokedSince_NoData() {
+        final Collection<TokenRevocation> revocations;
+
+        // WHEN
+        revocations = repository.findAllRevokedSince(LoginConstants.DATE, LoginConstants.DATE);
+
+        // THEN
+        Assertions.assertThat(revocations)
+            .as("revocations")
+            .isEmpty();
+    }
+
+    @Test
+    @DisplayName("When the revocation was made before the date, nothing is returned")
+    @RevokedToken
+    void testFindAllRevokedSince_RevokedBefore() {
+        final Collection<TokenRevocation> revocations;
+
+        // WHEN
+        revocations = repository.findAllRevokedSince(LoginConstants.DATE.plusSeconds(1), LoginConstants.DATE);
+
+        // THEN
+        Assertions.assertThat(revocations)
+            .as("revocations")
+            .isEmpty();
+    }
+
+    @Test
+    @DisplayName("When the revocation was made at the date, it is returned")
+    @RevokedToken
+    void testFindAllRevokedSince_RevokedSince() {
+        final Collection<TokenRevocation> revocations;
+
+        // WHEN
+        revocations = repository.findAllRevokedSince(LoginConstants.DATE, LoginConstants.DATE);
+
+        // THEN
+        Assertions.assertThat(revocations)
+            .as("revocations")
+            .containsExactly(TokenRevocations.revoked());
+    }
+
+}
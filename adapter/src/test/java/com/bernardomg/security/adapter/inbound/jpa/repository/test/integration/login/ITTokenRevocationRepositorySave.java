@@ -0,0 +1,64 @@
+
+package com.bernardomg.security.adapter.inbound.jpa.repository.test.integration.login;
+
+import java.util.Collection;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.bernardomg.security.adapter.inbound.jpa.model.login.TokenRevocationEntity;
+import com.bernardomg.security.adapter.inbound.jpa.repository.login.TokenRevocationSpringRepository;
+import com.bernardomg.security.adapter.test.config.annotation.IntegrationTest;
+import com.bernardomg.security.adapter.test.config.login.factory.TokenRevocationEntities;
+import com.bernardomg.security.adapter.test.config.login.factory.TokenRevocations;
+import com.bernardomg.security.domain.login.model.TokenRevocation;
+import com.bernardomg.security.domain.login.repository.TokenRevocationRepository;
+
+@IntegrationTest
+@DisplayName("TokenRevocationRepository - save")
+class ITTokenRevocationRepositorySave {
+
+    @Autowired
+    private TokenRevocationRepository       repository;
+
+    @Autowired
+    private TokenRevocationSpringRepository springRepository;
+
+    public ITTokenRevocationRepositorySave() {
+        super();
+    }
+
+    @Test
+    @DisplayName("When saving a revocation, it is persisted")
+    void testSave_Persisted() {
+        final Collection<TokenRevocationEntity> revocations;
+
+        // WHEN
+        repository.save(TokenRevocations.revoked());
+
+        // THEN
+        revocations = springRepository.findAll();
+
+        Assertions.assertThat(revocations)
+            .as("revocations")
+            .usingRecursiveFieldByFieldElementComparatorIgnoringFields("id")
+            .containsExactly(TokenRevocationEntities.revoked());
+    }
+
+    @Test
+    @DisplayName("When saving a revocation, it is returned")
+    void testSave_Returned() {
+        final TokenRevocation returned;
+
+        // WHEN
+        returned = repository.save(TokenRevocations.revoked());
+
+        // THEN
+        Assertions.assertThat(returned)
+            .as("revocation")
+            .isEqualTo(TokenRevocations.revoked());
+    }
+
+}
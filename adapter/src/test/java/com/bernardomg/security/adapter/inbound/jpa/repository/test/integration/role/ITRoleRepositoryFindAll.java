@@ -3,14 +3,18 @@
 
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.InstanceOfAssertFactories;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import com.bernardomg.pagination.domain.Page;
 import com.bernardomg.pagination.domain.Pagination;
 import com.bernardomg.pagination.domain.Sorting;
 import com.bernardomg.security.adapter.test.config.annotation.IntegrationTest;
+import com.bernardomg.security.adapter.test.config.statistics.HibernateStatisticsExtension;
+import com.bernardomg.security.adapter.test.config.permission.annotation.AlternativeRoleWithCrudPermissions;
 import com.bernardomg.security.adapter.test.config.role.annotation.RoleWithCrudPermissions;
 import com.bernardomg.security.adapter.test.config.role.annotation.RoleWithPermission;
 import com.bernardomg.security.adapter.test.config.role.annotation.RoleWithoutPermissions;
@@ -21,6 +25,7 @@
 import com.bernardomg.security.domain.role.repository.RoleRepository;
 
 @IntegrationTest
+@ExtendWith(HibernateStatisticsExtension.class)
 @DisplayName("RoleRepository - find all")
 class ITRoleRepositoryFindAll {
 
@@ -81,6 +86,33 @@ void testFindAll_NoData() {
             .isEmpty();
     }
 
+    @Test
+    @DisplayName("Reads a page with a single role with a fixed number of queries")
+    @RoleWithCrudPermissions
+    void testFindAll_QueryCount(final Statistics statistics) {
+        // WHEN
+        repository.findAll(RoleFilters.empty(), new Pagination(1, 10), Sorting.unsorted());
+
+        // THEN
+        Assertions.assertThat(statistics.getPrepareStatementCount())
+            .as("prepared statements")
+            .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Reads a page with multiple roles with the same number of queries as for a single role")
+    @RoleWithCrudPermissions
+    @AlternativeRoleWithCrudPermissions
+    void testFindAll_QueryCount_MultipleRoles(final Statistics statistics) {
+        // WHEN
+        repository.findAll(RoleFilters.empty(), new Pagination(1, 10), Sorting.unsorted());
+
+        // THEN
+        Assertions.assertThat(statistics.getPrepareStatementCount())
+            .as("prepared statements")
+            .isEqualTo(2);
+    }
+
     @Test
     @DisplayName("When there are roles with permissions they are returned")
     @RoleWithCrudPermissions
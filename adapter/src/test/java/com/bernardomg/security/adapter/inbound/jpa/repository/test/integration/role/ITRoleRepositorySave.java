@@ -5,13 +5,16 @@
 
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.InstanceOfAssertFactories;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import com.bernardomg.security.adapter.inbound.jpa.model.role.RoleEntity;
 import com.bernardomg.security.adapter.inbound.jpa.repository.role.RoleSpringRepository;
 import com.bernardomg.security.adapter.test.config.annotation.IntegrationTest;
+import com.bernardomg.security.adapter.test.config.statistics.HibernateStatisticsExtension;
 import com.bernardomg.security.adapter.test.config.permission.annotation.CrudPermissions;
 import com.bernardomg.security.adapter.test.config.role.annotation.RoleWithCrudPermissions;
 import com.bernardomg.security.adapter.test.config.role.annotation.RoleWithoutPermissions;
@@ -21,6 +24,7 @@
 import com.bernardomg.security.domain.role.repository.RoleRepository;
 
 @IntegrationTest
+@ExtendWith(HibernateStatisticsExtension.class)
 @DisplayName("RoleRepository - save")
 class ITRoleRepositorySave {
 
@@ -77,6 +81,21 @@ void testSave_AddPermissions_ReturnedData() {
             .isEqualTo(Roles.withPermissions());
     }
 
+    @Test
+    @DisplayName("When adding permissions to a role, all the permissions are read in a single query")
+    @RoleWithoutPermissions
+    @CrudPermissions
+    void testSave_AddPermissions_QueryCount(final Statistics statistics) {
+        // WHEN
+        repository.save(Roles.withPermissions());
+
+        // THEN
+        // One query for the role and another for the permissions
+        Assertions.assertThat(statistics.getQueryExecutionCount())
+            .as("queries")
+            .isEqualTo(2);
+    }
+
     @Test
     @DisplayName("Updates an existing role adding a not existing permissions")
     @RoleWithoutPermissions
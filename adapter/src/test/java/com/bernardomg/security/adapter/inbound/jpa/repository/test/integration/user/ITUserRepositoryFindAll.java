@@ -3,14 +3,19 @@
 
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.InstanceOfAssertFactories;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import com.bernardomg.pagination.domain.Page;
 import com.bernardomg.pagination.domain.Pagination;
 import com.bernardomg.pagination.domain.Sorting;
 import com.bernardomg.security.adapter.test.config.annotation.IntegrationTest;
+import com.bernardomg.security.adapter.test.config.statistics.HibernateStatisticsExtension;
+import com.bernardomg.security.adapter.test.config.permission.annotation.UserWithTwoRoles;
+import com.bernardomg.security.adapter.test.config.user.annotation.AlternativeUser;
 import com.bernardomg.security.adapter.test.config.user.annotation.EnabledUserWithRole;
 import com.bernardomg.security.adapter.test.config.user.annotation.EnabledUserWithoutPermissions;
 import com.bernardomg.security.adapter.test.config.user.annotation.OnlyUser;
@@ -21,6 +26,7 @@
 import com.bernardomg.security.domain.user.repository.UserRepository;
 
 @IntegrationTest
+@ExtendWith(HibernateStatisticsExtension.class)
 @DisplayName("User repository - find all")
 class ITUserRepositoryFindAll {
 
@@ -82,6 +88,33 @@ void testFindAll_NoData() {
             .isEmpty();
     }
 
+    @Test
+    @DisplayName("Reads a page with a single user and role with a fixed number of queries")
+    @EnabledUserWithRole
+    void testFindAll_QueryCount(final Statistics statistics) {
+        // WHEN
+        repository.findAll(UserFilters.empty(), new Pagination(1, 10), Sorting.unsorted());
+
+        // THEN
+        Assertions.assertThat(statistics.getPrepareStatementCount())
+            .as("prepared statements")
+            .isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Reads a page with multiple users and roles with the same number of queries as for a single user")
+    @UserWithTwoRoles
+    @AlternativeUser
+    void testFindAll_QueryCount_MultipleUsers(final Statistics statistics) {
+        // WHEN
+        repository.findAll(UserFilters.empty(), new Pagination(1, 10), Sorting.unsorted());
+
+        // THEN
+        Assertions.assertThat(statistics.getPrepareStatementCount())
+            .as("prepared statements")
+            .isEqualTo(3);
+    }
+
     @Test
     @DisplayName("When there is a user without permissions, it is returned")
     @EnabledUserWithoutPermissions
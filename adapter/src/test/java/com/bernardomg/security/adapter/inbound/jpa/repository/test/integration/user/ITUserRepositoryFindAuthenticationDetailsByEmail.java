@@ -0,0 +1,106 @@
+
+package com.bernardomg.security.adapter.inbound.jpa.repository.test.integration.user;
+
+import java.util.Optional;
+
+import org.assertj.core.api.Assertions;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.bernardomg.security.adapter.test.config.annotation.IntegrationTest;
+import com.bernardomg.security.adapter.test.config.statistics.HibernateStatisticsExtension;
+import com.bernardomg.security.adapter.test.config.user.annotation.DisabledUserWithRole;
+import com.bernardomg.security.adapter.test.config.user.annotation.EnabledUserWithRole;
+import com.bernardomg.security.adapter.test.config.user.annotation.EnabledUserWithoutPermissions;
+import com.bernardomg.security.adapter.test.config.user.annotation.OnlyUser;
+import com.bernardomg.security.adapter.test.config.user.factory.UserConstants;
+import com.bernardomg.security.adapter.test.config.user.factory.UsersAuthenticationDetails;
+import com.bernardomg.security.domain.user.model.UserAuthenticationDetails;
+import com.bernardomg.security.domain.user.repository.UserRepository;
+
+@IntegrationTest
+@ExtendWith(HibernateStatisticsExtension.class)
+@DisplayName("User repository - find authentication details by email")
+class ITUserRepositoryFindAuthenticationDetailsByEmail {
+
+    @Autowired
+    private UserRepository repository;
+
+    public ITUserRepositoryFindAuthenticationDetailsByEmail() {
+        super();
+    }
+
+    @Test
+    @DisplayName("Returns the correct data when reading a disabled user")
+    @DisabledUserWithRole
+    void testFindAuthenticationDetailsByEmail_Disabled() {
+        final Optional<UserAuthenticationDetails> result;
+
+        result = repository.findAuthenticationDetailsByEmail(UserConstants.EMAIL);
+
+        Assertions.assertThat(result)
+            .contains(UsersAuthenticationDetails.disabled());
+    }
+
+    @Test
+    @DisplayName("Returns the correct data when reading an enabled user")
+    @EnabledUserWithRole
+    void testFindAuthenticationDetailsByEmail_Enabled() {
+        final Optional<UserAuthenticationDetails> result;
+
+        result = repository.findAuthenticationDetailsByEmail(UserConstants.EMAIL);
+
+        Assertions.assertThat(result)
+            .contains(UsersAuthenticationDetails.enabled());
+    }
+
+    @Test
+    @DisplayName("When there is no data nothing is returned")
+    void testFindAuthenticationDetailsByEmail_NoData() {
+        final Optional<UserAuthenticationDetails> result;
+
+        result = repository.findAuthenticationDetailsByEmail(UserConstants.EMAIL);
+
+        Assertions.assertThat(result)
+            .isEmpty();
+    }
+
+    @Test
+    @DisplayName("Reads the user and its permissions with two queries")
+    @EnabledUserWithRole
+    void testFindAuthenticationDetailsByEmail_QueryCount(final Statistics statistics) {
+        repository.findAuthenticationDetailsByEmail(UserConstants.EMAIL);
+
+        Assertions.assertThat(statistics.getPrepareStatementCount())
+            .as("prepared statements")
+            .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Returns the correct data when reading an enabled user without permissions")
+    @EnabledUserWithoutPermissions
+    void testFindAuthenticationDetailsByEmail_WithoutPermissions() {
+        final Optional<UserAuthenticationDetails> result;
+
+        result = repository.findAuthenticationDetailsByEmail(UserConstants.EMAIL);
+
+        Assertions.assertThat(result)
+            .contains(UsersAuthenticationDetails.withoutPermissions());
+    }
+
+    @Test
+    @DisplayName("Returns the correct data when reading a user without roles")
+    @OnlyUser
+    void testFindAuthenticationDetailsByEmail_WithoutRoles() {
+        final Optional<UserAuthenticationDetails> result;
+
+        result = repository.findAuthenticationDetailsByEmail(UserConstants.EMAIL);
+
+        Assertions.assertThat(result)
+            .contains(UsersAuthenticationDetails.withoutPermissions());
+    }
+
+}
@@ -0,0 +1,70 @@
+
+package com.bernardomg.security.adapter.inbound.jpa.repository.test.integration.user;
+
+import java.util.Optional;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.bernardomg.security.adapter.test.config.annotation.IntegrationTest;
+import com.bernardomg.security.adapter.test.config.user.annotation.EnabledUserWithRole;
+import com.bernardomg.security.adapter.test.config.user.factory.UserConstants;
+import com.bernardomg.security.domain.user.repository.UserRepository;
+
+@IntegrationTest
+@DisplayName("User repository - find token epoch")
+class ITUserRepositoryFindTokenEpoch {
+
+    @Autowired
+    private UserRepository repository;
+
+    @Test
+    @DisplayName("Returns the token epoch for an existing user")
+    @EnabledUserWithRole
+    void testFindTokenEpoch() {
+        final Optional<Long> result;
+
+        // WHEN
+        result = repository.findTokenEpoch(UserConstants.USERNAME);
+
+        // THEN
+        Assertions.assertThat(result)
+            .as("token epoch")
+            .contains(0L);
+    }
+
+    @Test
+    @DisplayName("Returns the increased token epoch after locking the user")
+    @EnabledUserWithRole
+    void testFindTokenEpoch_Locked() {
+        final Optional<Long> result;
+
+        // GIVEN
+        repository.lock(UserConstants.USERNAME);
+
+        // WHEN
+        result = repository.findTokenEpoch(UserConstants.USERNAME);
+
+        // THEN
+        Assertions.assertThat(result)
+            .as("token epoch")
+            .contains(1L);
+    }
+
+    @Test
+    @DisplayName("When there is no data nothing is returned")
+    void testFindTokenEpoch_NoData() {
+        final Optional<Long> result;
+
+        // WHEN
+        result = repository.findTokenEpoch(UserConstants.USERNAME);
+
+        // THEN
+        Assertions.assertThat(result)
+            .as("token epoch")
+            .isEmpty();
+    }
+
+}
@@ -0,0 +1,107 @@
+
+package com.bernardomg.security.adapter.inbound.jpa.repository.test.integration.user;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.bernardomg.security.adapter.inbound.jpa.model.user.UserEntity;
+import com.bernardomg.security.adapter.inbound.jpa.repository.user.UserSpringRepository;
+import com.bernardomg.security.adapter.test.config.annotation.IntegrationTest;
+import com.bernardomg.security.adapter.test.config.user.annotation.OnlyUser;
+import com.bernardomg.security.adapter.test.config.user.factory.UserConstants;
+import com.bernardomg.security.domain.user.repository.UserRepository;
+
+@IntegrationTest
+@DisplayName("User repository - increase login attempts concurrently")
+class ITUserRepositoryIncreaseLoginAttemptsConcurrency {
+
+    private static final int           ATTEMPTS = 8;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserRepository             userRepository;
+
+    @Autowired
+    private UserSpringRepository       userSpringRepository;
+
+    public ITUserRepositoryIncreaseLoginAttemptsConcurrency() {
+        super();
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> userSpringRepository.deleteAll());
+    }
+
+    @Test
+    @DisplayName("When failing in parallel, no attempt is lost and the user is locked")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @OnlyUser
+    void testLoginAttempts_Parallel() throws Exception {
+        final TransactionTemplate         transaction;
+        final ExecutorService             executor;
+        final CountDownLatch              start;
+        final Collection<Future<Integer>> futures;
+        final List<Integer>               returned;
+        final UserEntity                  user;
+
+        // GIVEN
+        transaction = new TransactionTemplate(transactionManager);
+        executor = Executors.newFixedThreadPool(ATTEMPTS);
+        start = new CountDownLatch(1);
+
+        // WHEN
+        futures = new ArrayList<>();
+        for (int i = 0; i < ATTEMPTS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return transaction.execute(status -> userRepository.increaseLoginAttempts(UserConstants.USERNAME,
+                    UserConstants.MAX_LOGIN_ATTEMPTS));
+            }));
+        }
+        start.countDown();
+
+        returned = new ArrayList<>();
+        for (final Future<Integer> future : futures) {
+            returned.add(future.get());
+        }
+        executor.shutdown();
+
+        // THEN
+        user = userSpringRepository.findByUsername(UserConstants.USERNAME)
+            .get();
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(returned)
+                .as("returned attempts")
+                .containsExactlyInAnyOrderElementsOf(IntStream.rangeClosed(1, ATTEMPTS)
+                    .boxed()
+                    .toList());
+            softly.assertThat(user.getLoginAttempts())
+                .as("login attempts")
+                .isEqualTo(ATTEMPTS);
+            softly.assertThat(user.getNotLocked())
+                .as("not locked")
+                .isFalse();
+        });
+    }
+
+}
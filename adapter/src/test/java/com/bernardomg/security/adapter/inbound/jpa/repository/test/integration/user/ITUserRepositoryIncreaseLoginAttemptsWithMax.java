@@ -0,0 +1,142 @@
+
+package com.bernardomg.security.adapter.inbound.jpa.repository.test.integration.user;
+
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.bernardomg.security.adapter.inbound.jpa.model.user.UserEntity;
+import com.bernardomg.security.adapter.inbound.jpa.repository.user.UserSpringRepository;
+import com.bernardomg.security.adapter.test.config.annotation.IntegrationTest;
+import com.bernardomg.security.adapter.test.config.user.annotation.EnabledUserWithRole;
+import com.bernardomg.security.adapter.test.config.user.annotation.MaxLoginAttemptsUser;
+import com.bernardomg.security.adapter.test.config.user.factory.UserConstants;
+import com.bernardomg.security.domain.user.repository.UserRepository;
+
+@IntegrationTest
+@DisplayName("User repository - increase login attempts with max attempts")
+class ITUserRepositoryIncreaseLoginAttemptsWithMax {
+
+    @Autowired
+    private UserRepository       userRepository;
+
+    @Autowired
+    private UserSpringRepository userSpringRepository;
+
+    public ITUserRepositoryIncreaseLoginAttemptsWithMax() {
+        super();
+    }
+
+    @Test
+    @DisplayName("When the user reaches the max login attempts, it is locked")
+    @MaxLoginAttemptsUser
+    void testLoginAttempts_MaxAttempts_Locked() {
+        final List<UserEntity> users;
+
+        // WHEN
+        userRepository.increaseLoginAttempts(UserConstants.USERNAME, UserConstants.MAX_LOGIN_ATTEMPTS);
+
+        // THEN
+        users = userSpringRepository.findAll();
+        Assertions.assertThat(users)
+            .as("users")
+            .hasSize(1)
+            .first()
+            .extracting(UserEntity::getNotLocked)
+            .as("not locked")
+            .isEqualTo(false);
+    }
+
+    @Test
+    @DisplayName("When the user reaches the max login attempts, the attempts are returned")
+    @MaxLoginAttemptsUser
+    void testLoginAttempts_MaxAttempts_ReturnedData() {
+        final int attempts;
+
+        // WHEN
+        attempts = userRepository.increaseLoginAttempts(UserConstants.USERNAME, UserConstants.MAX_LOGIN_ATTEMPTS);
+
+        // THEN
+        Assertions.assertThat(attempts)
+            .as("attempts")
+            .isEqualTo(UserConstants.MAX_LOGIN_ATTEMPTS + 1);
+    }
+
+    @Test
+    @DisplayName("When the user reaches the max login attempts, its token epoch is increased")
+    @MaxLoginAttemptsUser
+    void testLoginAttempts_MaxAttempts_TokenEpochIncreased() {
+        final List<UserEntity> users;
+
+        // WHEN
+        userRepository.increaseLoginAttempts(UserConstants.USERNAME, UserConstants.MAX_LOGIN_ATTEMPTS);
+
+        // THEN
+        users = userSpringRepository.findAll();
+        Assertions.assertThat(users)
+            .as("users")
+            .hasSize(1)
+            .first()
+            .extracting(UserEntity::getTokenEpoch)
+            .as("token epoch")
+            .isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("When the user is under the max login attempts, it is not locked")
+    @EnabledUserWithRole
+    void testLoginAttempts_NoAttempts_NotLocked() {
+        final List<UserEntity> users;
+
+        // WHEN
+        userRepository.increaseLoginAttempts(UserConstants.USERNAME, UserConstants.MAX_LOGIN_ATTEMPTS);
+
+        // THEN
+        users = userSpringRepository.findAll();
+        Assertions.assertThat(users)
+            .as("users")
+            .hasSize(1)
+            .first()
+            .extracting(UserEntity::getNotLocked)
+            .as("not locked")
+            .isEqualTo(true);
+    }
+
+    @Test
+    @DisplayName("When the user is under the max login attempts, a single attempt is persisted")
+    @EnabledUserWithRole
+    void testLoginAttempts_NoAttempts_PersistedData() {
+        final List<UserEntity> users;
+
+        // WHEN
+        userRepository.increaseLoginAttempts(UserConstants.USERNAME, UserConstants.MAX_LOGIN_ATTEMPTS);
+
+        // THEN
+        users = userSpringRepository.findAll();
+        Assertions.assertThat(users)
+            .as("users")
+            .hasSize(1)
+            .first()
+            .extracting(UserEntity::getLoginAttempts)
+            .as("login attempts")
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("When there is no data, a negative value is returned")
+    void testLoginAttempts_NoData_ReturnedData() {
+        final int attempts;
+
+        // WHEN
+        attempts = userRepository.increaseLoginAttempts(UserConstants.USERNAME, UserConstants.MAX_LOGIN_ATTEMPTS);
+
+        // THEN
+        Assertions.assertThat(attempts)
+            .as("attempts")
+            .isEqualTo(-1);
+    }
+
+}
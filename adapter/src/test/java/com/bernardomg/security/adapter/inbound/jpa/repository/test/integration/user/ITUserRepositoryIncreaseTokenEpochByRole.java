@@ -0,0 +1,78 @@
+
+package com.bernardomg.security.adapter.inbound.jpa.repository.test.integration.user;
+
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.bernardomg.security.adapter.inbound.jpa.model.user.UserEntity;
+import com.bernardomg.security.adapter.inbound.jpa.repository.user.UserSpringRepository;
+import com.bernardomg.security.adapter.test.config.annotation.IntegrationTest;
+import com.bernardomg.security.adapter.test.config.role.factory.RoleConstants;
+import com.bernardomg.security.adapter.test.config.user.annotation.EnabledUserWithRole;
+import com.bernardomg.security.adapter.test.config.user.annotation.EnabledUserWithoutRole;
+import com.bernardomg.security.domain.user.repository.UserRepository;
+
+@IntegrationTest
+@DisplayName("User repository - increase token epoch by role")
+class ITUserRepositoryIncreaseTokenEpochByRole {
+
+    @Autowired
+    private UserRepository       repository;
+
+    @Autowired
+    private UserSpringRepository userSpringRepository;
+
+    @Test
+    @DisplayName("When the user has the role, its token epoch is increased")
+    @EnabledUserWithRole
+    void testIncreaseTokenEpochByRole_PersistedData() {
+        final List<UserEntity> users;
+
+        // WHEN
+        repository.increaseTokenEpochByRole(RoleConstants.NAME);
+
+        // THEN
+        users = userSpringRepository.findAll();
+        Assertions.assertThat(users)
+            .as("users")
+            .extracting(UserEntity::getTokenEpoch)
+            .containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("When the user has the role, the number of updated users is returned")
+    @EnabledUserWithRole
+    void testIncreaseTokenEpochByRole_ReturnedData() {
+        final int updated;
+
+        // WHEN
+        updated = repository.increaseTokenEpochByRole(RoleConstants.NAME);
+
+        // THEN
+        Assertions.assertThat(updated)
+            .as("updated users")
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("When the user doesn't have the role, its token epoch is not changed")
+    @EnabledUserWithoutRole
+    void testIncreaseTokenEpochByRole_WithoutRole() {
+        final List<UserEntity> users;
+
+        // WHEN
+        repository.increaseTokenEpochByRole(RoleConstants.NAME);
+
+        // THEN
+        users = userSpringRepository.findAll();
+        Assertions.assertThat(users)
+            .as("users")
+            .extracting(UserEntity::getTokenEpoch)
+            .containsExactly(0L);
+    }
+
+}
@@ -83,7 +83,7 @@ void testResetPassword_PersistedData() {
         Assertions.assertThat(entities)
             .as("users")
             .usingRecursiveFieldByFieldElementComparatorIgnoringFields("password", "roles", "audit")
-            .containsExactly(UserEntities.updatedPassword());
+            .containsExactly(UserEntities.resetPassword());
     }
 
     @Test
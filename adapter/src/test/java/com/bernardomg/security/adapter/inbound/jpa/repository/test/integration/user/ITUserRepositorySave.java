@@ -27,13 +27,16 @@
 import java.util.List;
 
 import org.assertj.core.api.Assertions;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import com.bernardomg.security.adapter.inbound.jpa.model.user.UserEntity;
 import com.bernardomg.security.adapter.inbound.jpa.repository.user.UserSpringRepository;
 import com.bernardomg.security.adapter.test.config.annotation.IntegrationTest;
+import com.bernardomg.security.adapter.test.config.statistics.HibernateStatisticsExtension;
 import com.bernardomg.security.adapter.test.config.role.annotation.AlternativeRole;
 import com.bernardomg.security.adapter.test.config.user.annotation.EnabledUserWithRole;
 import com.bernardomg.security.adapter.test.config.user.annotation.OnlyUser;
@@ -43,6 +46,7 @@
 import com.bernardomg.security.domain.user.repository.UserRepository;
 
 @IntegrationTest
+@ExtendWith(HibernateStatisticsExtension.class)
 @DisplayName("User repository - save")
 class ITUserRepositorySave {
 
@@ -99,6 +103,21 @@ void testSave_AddRole_Returned() {
             .isEqualTo(Users.additionalRole());
     }
 
+    @Test
+    @DisplayName("When adding a role to a user, all the roles are read in a single query")
+    @EnabledUserWithRole
+    @AlternativeRole
+    void testSave_AddRole_QueryCount(final Statistics statistics) {
+        // WHEN
+        repository.save(Users.addRole());
+
+        // THEN
+        // One query for the user and another for the roles
+        Assertions.assertThat(statistics.getQueryExecutionCount())
+            .as("queries")
+            .isEqualTo(2);
+    }
+
     @Test
     @DisplayName("When adding a not existing role to a user it is updated")
     @OnlyUser
@@ -197,7 +216,7 @@ void testSave_RemoveRoles_PersistedData() {
         Assertions.assertThat(entities)
             .as("users")
             .usingRecursiveFieldByFieldElementComparatorIgnoringFields("id", "password")
-            .containsExactly(UserEntities.withoutRoles());
+            .containsExactly(UserEntities.removedRoles());
     }
 
     @Test
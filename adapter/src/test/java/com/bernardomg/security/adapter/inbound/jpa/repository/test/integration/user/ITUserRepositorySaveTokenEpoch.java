@@ -0,0 +1,156 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.security.adapter.inbound.jpa.repository.test.integration.user;
+
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.bernardomg.security.adapter.inbound.jpa.model.user.UserEntity;
+import com.bernardomg.security.adapter.inbound.jpa.repository.user.UserSpringRepository;
+import com.bernardomg.security.adapter.test.config.annotation.IntegrationTest;
+import com.bernardomg.security.adapter.test.config.role.annotation.AlternativeRole;
+import com.bernardomg.security.adapter.test.config.user.annotation.EnabledUserWithRole;
+import com.bernardomg.security.adapter.test.config.user.annotation.OnlyUser;
+import com.bernardomg.security.adapter.test.config.user.factory.Users;
+import com.bernardomg.security.domain.user.repository.UserRepository;
+
+@IntegrationTest
+@DisplayName("User repository - save - token epoch")
+class ITUserRepositorySaveTokenEpoch {
+
+    @Autowired
+    private UserRepository       repository;
+
+    @Autowired
+    private UserSpringRepository userSpringRepository;
+
+    @Test
+    @DisplayName("When adding a role, the token epoch is increased")
+    @EnabledUserWithRole
+    @AlternativeRole
+    void testSave_AddRole() {
+        final List<UserEntity> users;
+
+        // WHEN
+        repository.save(Users.addRole());
+
+        // THEN
+        users = userSpringRepository.findAll();
+        Assertions.assertThat(users)
+            .as("users")
+            .extracting(UserEntity::getTokenEpoch)
+            .containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("When adding a role which doesn't exist, the token epoch is not changed")
+    @OnlyUser
+    void testSave_AddRole_NotExisting() {
+        final List<UserEntity> users;
+
+        // WHEN
+        repository.save(Users.addRole());
+
+        // THEN
+        users = userSpringRepository.findAll();
+        Assertions.assertThat(users)
+            .as("users")
+            .extracting(UserEntity::getTokenEpoch)
+            .containsExactly(0L);
+    }
+
+    @Test
+    @DisplayName("When disabling the user, the token epoch is increased")
+    @EnabledUserWithRole
+    void testSave_Disable() {
+        final List<UserEntity> users;
+
+        // WHEN
+        repository.save(Users.disabled());
+
+        // THEN
+        users = userSpringRepository.findAll();
+        Assertions.assertThat(users)
+            .as("users")
+            .extracting(UserEntity::getTokenEpoch)
+            .containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("When locking the user, the token epoch is increased")
+    @EnabledUserWithRole
+    void testSave_Lock() {
+        final List<UserEntity> users;
+
+        // WHEN
+        repository.save(Users.locked());
+
+        // THEN
+        users = userSpringRepository.findAll();
+        Assertions.assertThat(users)
+            .as("users")
+            .extracting(UserEntity::getTokenEpoch)
+            .containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("When changing the name, the token epoch is not changed")
+    @EnabledUserWithRole
+    void testSave_NameChange() {
+        final List<UserEntity> users;
+
+        // WHEN
+        repository.save(Users.nameChange());
+
+        // THEN
+        users = userSpringRepository.findAll();
+        Assertions.assertThat(users)
+            .as("users")
+            .extracting(UserEntity::getTokenEpoch)
+            .containsExactly(0L);
+    }
+
+    @Test
+    @DisplayName("When removing the roles, the token epoch is increased")
+    @EnabledUserWithRole
+    void testSave_RemoveRoles() {
+        final List<UserEntity> users;
+
+        // WHEN
+        repository.save(Users.withoutRoles());
+
+        // THEN
+        users = userSpringRepository.findAll();
+        Assertions.assertThat(users)
+            .as("users")
+            .extracting(UserEntity::getTokenEpoch)
+            .containsExactly(1L);
+    }
+
+}
@@ -0,0 +1,99 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bernardomg.security.adapter.inbound.jpa.repository.test.integration.user;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.bernardomg.security.adapter.inbound.jpa.model.user.UserEntity;
+import com.bernardomg.security.adapter.inbound.jpa.repository.user.UserSpringRepository;
+import com.bernardomg.security.adapter.test.config.annotation.IntegrationTest;
+import com.bernardomg.security.adapter.test.config.user.annotation.EnabledUserWithRole;
+import com.bernardomg.security.adapter.test.config.user.factory.UserConstants;
+import com.bernardomg.security.domain.user.repository.UserRepository;
+
+@IntegrationTest
+@DisplayName("User repository - update password hash")
+class ITUserRepositoryUpdatePasswordHash {
+
+    @Autowired
+    private UserRepository       repository;
+
+    @Autowired
+    private UserSpringRepository userSpringRepository;
+
+    public ITUserRepositoryUpdatePasswordHash() {
+        super();
+    }
+
+    @Test
+    @DisplayName("When there is no data nothing is updated")
+    void testUpdatePasswordHash_NoData() {
+        final boolean updated;
+
+        // WHEN
+        updated = repository.updatePasswordHash(UserConstants.USERNAME, UserConstants.ENCODED_NEW_PASSWORD);
+
+        // THEN
+        Assertions.assertThat(updated)
+            .as("updated")
+            .isFalse();
+    }
+
+    @Test
+    @DisplayName("When updating the password hash only the password is changed")
+    @EnabledUserWithRole
+    void testUpdatePasswordHash_PersistedData() {
+        final UserEntity entity;
+        final boolean    updated;
+
+        // WHEN
+        updated = repository.updatePasswordHash(UserConstants.USERNAME, UserConstants.ENCODED_NEW_PASSWORD);
+
+        // THEN
+        entity = userSpringRepository.findByUsername(UserConstants.USERNAME)
+            .get();
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(updated)
+                .as("updated")
+                .isTrue();
+            softly.assertThat(entity.getPassword())
+                .as("password")
+                .isEqualTo(UserConstants.ENCODED_NEW_PASSWORD);
+            softly.assertThat(entity.getEnabled())
+                .as("enabled")
+                .isTrue();
+            softly.assertThat(entity.getNotLocked())
+                .as("not locked")
+                .isTrue();
+            softly.assertThat(entity.getPasswordNotExpired())
+                .as("password not expired")
+                .isTrue();
+        });
+    }
+
+}
@@ -0,0 +1,184 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.security.adapter.inbound.jpa.repository.test.integration.user;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.bernardomg.pagination.domain.Pagination;
+import com.bernardomg.pagination.domain.Sorting;
+import com.bernardomg.pagination.domain.Sorting.Direction;
+import com.bernardomg.pagination.domain.Sorting.Property;
+import com.bernardomg.security.adapter.inbound.jpa.model.user.UserTokenEntity;
+import com.bernardomg.security.adapter.inbound.jpa.repository.user.UserTokenDigests;
+import com.bernardomg.security.adapter.inbound.jpa.repository.user.UserTokenSpringRepository;
+import com.bernardomg.security.adapter.test.config.annotation.IntegrationTest;
+import com.bernardomg.security.adapter.test.config.token.annotation.ValidUserToken;
+import com.bernardomg.security.adapter.test.config.token.factory.UserTokenConstants;
+import com.bernardomg.security.adapter.test.config.token.factory.UserTokenEntities;
+import com.bernardomg.security.adapter.test.config.user.annotation.OnlyUser;
+import com.bernardomg.security.domain.user.exception.MissingUserTokenException;
+import com.bernardomg.security.domain.user.model.UserToken;
+import com.bernardomg.security.domain.user.repository.UserTokenRepository;
+import com.bernardomg.security.usecase.user.service.SpringUserTokenService;
+import com.bernardomg.security.usecase.user.service.UserTokenService;
+
+@IntegrationTest
+@DisplayName("UserTokenRepository - read and update by the listed digest")
+class ITUserTokenRepositoryByDigest {
+
+    @Autowired
+    private UserTokenRepository       repository;
+
+    @Autowired
+    private UserTokenSpringRepository userTokenSpringRepository;
+
+    public ITUserTokenRepositoryByDigest() {
+        super();
+    }
+
+    @Test
+    @DisplayName("When listing the tokens sorted by token, they are returned")
+    @OnlyUser
+    @ValidUserToken
+    void testFindAll_SortedByToken() {
+        final Sorting sorting;
+        final String  listed;
+
+        // GIVEN
+        sorting = new Sorting(List.of(new Property("token", Direction.ASC)));
+
+        // WHEN
+        listed = readListed(sorting);
+
+        // THEN
+        Assertions.assertThat(repository.findOneByDigest(listed))
+            .as("token")
+            .isPresent();
+    }
+
+    @Test
+    @DisplayName("When reading a listed token, it is returned")
+    @OnlyUser
+    @ValidUserToken
+    void testFindOneByDigest_Listed() {
+        final String              listed;
+        final Optional<UserToken> token;
+
+        // GIVEN
+        listed = readListed(Sorting.unsorted());
+
+        // WHEN
+        token = repository.findOneByDigest(listed);
+
+        // THEN
+        Assertions.assertThat(token)
+            .as("token")
+            .map(UserToken::token)
+            .contains(listed);
+    }
+
+    @Test
+    @DisplayName("When reading with a value which is not a digest, nothing is returned")
+    @OnlyUser
+    @ValidUserToken
+    void testFindOneByDigest_NotDigest() {
+        final Optional<UserToken> token;
+
+        // WHEN
+        token = repository.findOneByDigest("abc");
+
+        // THEN
+        Assertions.assertThat(token)
+            .as("token")
+            .isEmpty();
+    }
+
+    @Test
+    @DisplayName("When patching a listed token, it is persisted")
+    @OnlyUser
+    @ValidUserToken
+    void testPatch_Listed() {
+        final UserTokenService      service;
+        final String                listed;
+        final UserToken             patch;
+        final List<UserTokenEntity> entities;
+
+        // GIVEN
+        service = new SpringUserTokenService(repository);
+        listed = readListed(Sorting.unsorted());
+        patch = new UserToken(null, null, null, listed, null, null, null, true);
+
+        // WHEN
+        service.getOne(listed);
+        service.patch(patch);
+
+        // THEN
+        entities = userTokenSpringRepository.findAll();
+        Assertions.assertThat(entities)
+            .as("tokens")
+            .usingRecursiveFieldByFieldElementComparatorIgnoringFields("id")
+            .containsExactly(UserTokenEntities.revoked());
+    }
+
+    @Test
+    @DisplayName("When updating a token which doesn't exist, an exception is thrown")
+    @OnlyUser
+    void testUpdateByDigest_NotExisting() {
+        final ThrowingCallable          execution;
+        final MissingUserTokenException exception;
+        final String                    digest;
+
+        // GIVEN
+        digest = UserTokenDigests.encode(UserTokenDigests.digest(UserTokenConstants.TOKEN));
+
+        // WHEN
+        execution = () -> repository.updateByDigest(new UserToken(null, null, null, digest, null,
+            UserTokenConstants.EXPIRATION_DATE, false, true));
+
+        // THEN
+        exception = Assertions.catchThrowableOfType(MissingUserTokenException.class, execution);
+
+        Assertions.assertThat(exception.getToken())
+            .as("token")
+            .isEqualTo(digest);
+    }
+
+    private final String readListed(final Sorting sorting) {
+        return repository.findAll(new Pagination(1, 10), sorting)
+            .content()
+            .stream()
+            .map(UserToken::token)
+            .findFirst()
+            .orElseThrow();
+    }
+
+}
@@ -0,0 +1,211 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.security.adapter.inbound.jpa.repository.test.integration.user;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.assertj.core.api.Assertions;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.bernardomg.security.adapter.inbound.jpa.model.user.UserTokenEntity;
+import com.bernardomg.security.adapter.inbound.jpa.repository.user.UserTokenSpringRepository;
+import com.bernardomg.security.adapter.test.config.annotation.IntegrationTest;
+import com.bernardomg.security.adapter.test.config.statistics.HibernateStatisticsExtension;
+import com.bernardomg.security.adapter.test.config.token.annotation.ConsumedUserToken;
+import com.bernardomg.security.adapter.test.config.token.annotation.ExpiredUserToken;
+import com.bernardomg.security.adapter.test.config.token.annotation.RevokedUserToken;
+import com.bernardomg.security.adapter.test.config.token.annotation.ValidUserToken;
+import com.bernardomg.security.adapter.test.config.token.factory.UserTokenConstants;
+import com.bernardomg.security.adapter.test.config.token.factory.UserTokenEntities;
+import com.bernardomg.security.adapter.test.config.user.annotation.OnlyUser;
+import com.bernardomg.security.domain.user.repository.UserTokenRepository;
+
+@IntegrationTest
+@ExtendWith(HibernateStatisticsExtension.class)
+@DisplayName("UserTokenRepository - consume")
+class ITUserTokenRepositoryConsume {
+
+    @Autowired
+    private UserTokenRepository       repository;
+
+    @Autowired
+    private UserTokenSpringRepository userTokenSpringRepository;
+
+    public ITUserTokenRepositoryConsume() {
+        super();
+    }
+
+    @Test
+    @DisplayName("When consuming a consumed token, nothing is returned")
+    @OnlyUser
+    @ConsumedUserToken
+    void testConsume_Consumed() {
+        final Optional<String> username;
+
+        // WHEN
+        username = repository.consume(UserTokenConstants.TOKEN, UserTokenConstants.SCOPE);
+
+        // THEN
+        Assertions.assertThat(username)
+            .as("username")
+            .isEmpty();
+    }
+
+    @Test
+    @DisplayName("When consuming an expired token, nothing is returned")
+    @OnlyUser
+    @ExpiredUserToken
+    void testConsume_Expired() {
+        final Optional<String> username;
+
+        // WHEN
+        username = repository.consume(UserTokenConstants.TOKEN, UserTokenConstants.SCOPE);
+
+        // THEN
+        Assertions.assertThat(username)
+            .as("username")
+            .isEmpty();
+    }
+
+    @Test
+    @DisplayName("When consuming a token which doesn't exist, nothing is returned")
+    @OnlyUser
+    void testConsume_NotExisting() {
+        final Optional<String> username;
+
+        // WHEN
+        username = repository.consume(UserTokenConstants.TOKEN, UserTokenConstants.SCOPE);
+
+        // THEN
+        Assertions.assertThat(username)
+            .as("username")
+            .isEmpty();
+    }
+
+    @Test
+    @DisplayName("When consuming a token in another scope, nothing is returned")
+    @OnlyUser
+    @ValidUserToken
+    void testConsume_OutOfScope() {
+        final Optional<String> username;
+
+        // WHEN
+        username = repository.consume(UserTokenConstants.TOKEN, "abc");
+
+        // THEN
+        Assertions.assertThat(username)
+            .as("username")
+            .isEmpty();
+    }
+
+    @Test
+    @DisplayName("When consuming a valid token, it is persisted as consumed")
+    @OnlyUser
+    @ValidUserToken
+    void testConsume_PersistedData() {
+        final List<UserTokenEntity> entities;
+
+        // WHEN
+        repository.consume(UserTokenConstants.TOKEN, UserTokenConstants.SCOPE);
+
+        // THEN
+        entities = userTokenSpringRepository.findAll();
+        Assertions.assertThat(entities)
+            .as("tokens")
+            .usingRecursiveFieldByFieldElementComparatorIgnoringFields("id")
+            .containsExactly(UserTokenEntities.consumed());
+    }
+
+    @Test
+    @DisplayName("When consuming a valid token, it is done in a single statement")
+    @OnlyUser
+    @ValidUserToken
+    void testConsume_QueryCount(final Statistics statistics) {
+        // WHEN
+        repository.consume(UserTokenConstants.TOKEN, UserTokenConstants.SCOPE);
+
+        // THEN
+        Assertions.assertThat(statistics.getPrepareStatementCount())
+            .as("prepared statements")
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("When consuming a revoked token, nothing is returned")
+    @OnlyUser
+    @RevokedUserToken
+    void testConsume_Revoked() {
+        final Optional<String> username;
+
+        // WHEN
+        username = repository.consume(UserTokenConstants.TOKEN, UserTokenConstants.SCOPE);
+
+        // THEN
+        Assertions.assertThat(username)
+            .as("username")
+            .isEmpty();
+    }
+
+    @Test
+    @DisplayName("When consuming a valid token, the username is returned")
+    @OnlyUser
+    @ValidUserToken
+    void testConsume_ReturnsUsername() {
+        final Optional<String> username;
+
+        // WHEN
+        username = repository.consume(UserTokenConstants.TOKEN, UserTokenConstants.SCOPE);
+
+        // THEN
+        Assertions.assertThat(username)
+            .as("username")
+            .contains(UserTokenConstants.USERNAME);
+    }
+
+    @Test
+    @DisplayName("When consuming a token twice, it is only consumed the first time")
+    @OnlyUser
+    @ValidUserToken
+    void testConsume_Twice() {
+        final Optional<String> username;
+
+        // GIVEN
+        repository.consume(UserTokenConstants.TOKEN, UserTokenConstants.SCOPE);
+
+        // WHEN
+        username = repository.consume(UserTokenConstants.TOKEN, UserTokenConstants.SCOPE);
+
+        // THEN
+        Assertions.assertThat(username)
+            .as("username")
+            .isEmpty();
+    }
+
+}
@@ -0,0 +1,89 @@
+package com.bernardomg.security.adapter.inbound.jpa.repository.test.integration.user;
+
+import java.time.Instant;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.bernardomg.security.adapter.inbound.jpa.repository.user.UserTokenSpringRepository;
+import com.bernardomg.security.adapter.test.config.annotation.IntegrationTest;
+import com.bernardomg.security.adapter.test.config.token.annotation.ExpiredUserToken;
+import com.bernardomg.security.adapter.test.config.token.annotation.MultipleExpiredUserTokens;
+import com.bernardomg.security.adapter.test.config.token.annotation.ValidUserToken;
+import com.bernardomg.security.adapter.test.config.user.annotation.OnlyUser;
+import com.bernardomg.security.domain.user.repository.UserTokenRepository;
+
+@IntegrationTest
+@DisplayName("UserTokenRepository - delete expired")
+class ITUserTokenRepositoryDeleteExpired {
+
+    @Autowired
+    private UserTokenRepository       repository;
+
+    @Autowired
+    private UserTokenSpringRepository springRepository;
+
+    public ITUserTokenRepositoryDeleteExpired() {
+        super();
+    }
+
+    @Test
+    @DisplayName("When the token is expired, it is removed")
+    @OnlyUser
+    @ExpiredUserToken
+    void testDeleteExpired_Expired() {
+        final int deleted;
+
+        // WHEN
+        deleted = repository.deleteExpired(Instant.now(), 10);
+
+        // THEN
+        Assertions.assertThat(deleted)
+            .as("deleted")
+            .isEqualTo(1);
+        Assertions.assertThat(springRepository.count())
+            .as("tokens")
+            .isZero();
+    }
+
+    @Test
+    @DisplayName("When there are more expired tokens than the limit, only the limit is removed")
+    @OnlyUser
+    @MultipleExpiredUserTokens
+    void testDeleteExpired_Limit() {
+        final int deleted;
+
+        // WHEN
+        deleted = repository.deleteExpired(Instant.now(), 1);
+
+        // THEN
+        Assertions.assertThat(deleted)
+            .as("deleted")
+            .isEqualTo(1);
+        Assertions.assertThat(springRepository.count())
+            .as("tokens")
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("When the token is not expired, it is kept")
+    @OnlyUser
+    @ValidUserToken
+    void testDeleteExpired_NotExpired() {
+        final int deleted;
+
+        // WHEN
+        deleted = repository.deleteExpired(Instant.now(), 10);
+
+        // THEN
+        Assertions.assertThat(deleted)
+            .as("deleted")
+            .isZero();
+        Assertions.assertThat(springRepository.count())
+            .as("tokens")
+            .isEqualTo(1);
+    }
+
+}
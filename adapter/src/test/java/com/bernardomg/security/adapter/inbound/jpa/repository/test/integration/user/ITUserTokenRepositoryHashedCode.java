@@ -0,0 +1,132 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bernardomg.security.adapter.inbound.jpa.repository.test.integration.user;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Optional;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.bernardomg.security.adapter.inbound.jpa.model.user.UserTokenEntity;
+import com.bernardomg.security.adapter.inbound.jpa.repository.user.UserTokenSpringRepository;
+import com.bernardomg.security.adapter.test.config.annotation.IntegrationTest;
+import com.bernardomg.security.adapter.test.config.token.annotation.MigratedUserToken;
+import com.bernardomg.security.adapter.test.config.token.annotation.ValidUserToken;
+import com.bernardomg.security.adapter.test.config.token.factory.UserTokenConstants;
+import com.bernardomg.security.adapter.test.config.token.factory.UserTokens;
+import com.bernardomg.security.adapter.test.config.user.annotation.OnlyUser;
+import com.bernardomg.security.domain.user.model.UserToken;
+import com.bernardomg.security.domain.user.repository.UserTokenRepository;
+
+@IntegrationTest
+@DisplayName("UserTokenRepository - hashed token codes")
+class ITUserTokenRepositoryHashedCode {
+
+    @Autowired
+    private UserTokenRepository       repository;
+
+    @Autowired
+    private UserTokenSpringRepository userTokenSpringRepository;
+
+    public ITUserTokenRepositoryHashedCode() {
+        super();
+    }
+
+    @Test
+    @DisplayName("When consuming a token migrated from the stored code, it is consumed")
+    @OnlyUser
+    @MigratedUserToken
+    void testConsume_Migrated() {
+        final Optional<String> username;
+
+        // WHEN
+        username = repository.consume(UserTokenConstants.TOKEN, UserTokenConstants.SCOPE);
+
+        // THEN
+        Assertions.assertThat(username)
+            .as("username")
+            .contains(UserTokenConstants.USERNAME);
+    }
+
+    @Test
+    @DisplayName("When reading a token by its code, it is returned with the code")
+    @OnlyUser
+    @ValidUserToken
+    void testFindOne_Code() {
+        final Optional<UserToken> token;
+
+        // WHEN
+        token = repository.findOne(UserTokenConstants.TOKEN);
+
+        // THEN
+        Assertions.assertThat(token)
+            .as("token")
+            .contains(UserTokens.valid());
+    }
+
+    @Test
+    @DisplayName("When reading a token migrated from the stored code, it is returned")
+    @OnlyUser
+    @MigratedUserToken
+    void testFindOne_Migrated() {
+        final Optional<UserToken> token;
+
+        // WHEN
+        token = repository.findOne(UserTokenConstants.TOKEN);
+
+        // THEN
+        Assertions.assertThat(token)
+            .as("token")
+            .contains(UserTokens.valid());
+    }
+
+    @Test
+    @DisplayName("When saving a token, the SHA-256 digest of its code is stored")
+    @OnlyUser
+    void testSave_StoredDigest() throws NoSuchAlgorithmException {
+        final List<UserTokenEntity> entities;
+        final byte[]                digest;
+
+        // GIVEN
+        digest = MessageDigest.getInstance("SHA-256")
+            .digest(UserTokenConstants.TOKEN.getBytes(StandardCharsets.UTF_8));
+
+        // WHEN
+        repository.save(UserTokens.valid());
+
+        // THEN
+        entities = userTokenSpringRepository.findAll();
+        Assertions.assertThat(entities)
+            .as("tokens")
+            .extracting(UserTokenEntity::getTokenHash)
+            .containsExactly(digest);
+    }
+
+}
@@ -0,0 +1,159 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bernardomg.security.adapter.inbound.jpa.repository.test.integration.user;
+package com.bernardomg.security.adapter.inbound.jpa.repository.test.integration.user;
+
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.bernardomg.security.adapter.inbound.jpa.model.user.UserTokenEntity;
+import com.bernardomg.security.adapter.inbound.jpa.repository.user.UserTokenSpringRepository;
+import com.bernardomg.security.adapter.test.config.annotation.IntegrationTest;
+import com.bernardomg.security.adapter.test.config.statistics.HibernateStatisticsExtension;
+import com.bernardomg.security.adapter.test.config.token.annotation.RevokedUserToken;
+import com.bernardomg.security.adapter.test.config.token.annotation.ValidUserToken;
+import com.bernardomg.security.adapter.test.config.token.factory.UserTokenConstants;
+import com.bernardomg.security.adapter.test.config.token.factory.UserTokenEntities;
+import com.bernardomg.security.adapter.test.config.user.annotation.OnlyUser;
+import com.bernardomg.security.domain.user.repository.UserTokenRepository;
+
+@IntegrationTest
+@ExtendWith(HibernateStatisticsExtension.class)
+@DisplayName("UserTokenRepository - revoke all")
+class ITUserTokenRepositoryRevokeAll {
+
+    @Autowired
+    private UserTokenRepository       repository;
+
+    @Autowired
+    private UserTokenSpringRepository userTokenSpringRepository;
+
+    public ITUserTokenRepositoryRevokeAll() {
+        super();
+    }
+
+    @Test
+    @DisplayName("When revoking the tokens for another scope, nothing is revoked")
+    @OnlyUser
+    @ValidUserToken
+    void testRevokeAll_AnotherScope() {
+        final List<UserTokenEntity> entities;
+
+        // WHEN
+        repository.revokeAll(UserTokenConstants.USERNAME, "abc");
+
+        // THEN
+        entities = userTokenSpringRepository.findAll();
+        Assertions.assertThat(entities)
+            .as("tokens")
+            .usingRecursiveFieldByFieldElementComparatorIgnoringFields("id")
+            .containsExactly(UserTokenEntities.valid());
+    }
+
+    @Test
+    @DisplayName("When revoking the tokens for a user without tokens, nothing is revoked")
+    @OnlyUser
+    void testRevokeAll_NoTokens_Count() {
+        final int revoked;
+
+        // WHEN
+        revoked = repository.revokeAll(UserTokenConstants.USERNAME, UserTokenConstants.SCOPE);
+
+        // THEN
+        Assertions.assertThat(revoked)
+            .as("revoked")
+            .isZero();
+    }
+
+    @Test
+    @DisplayName("When revoking the tokens, the valid ones are persisted as revoked")
+    @OnlyUser
+    @ValidUserToken
+    void testRevokeAll_PersistedData() {
+        final List<UserTokenEntity> entities;
+
+        // WHEN
+        repository.revokeAll(UserTokenConstants.USERNAME, UserTokenConstants.SCOPE);
+
+        // THEN
+        entities = userTokenSpringRepository.findAll();
+        Assertions.assertThat(entities)
+            .as("tokens")
+            .usingRecursiveFieldByFieldElementComparatorIgnoringFields("id")
+            .containsExactly(UserTokenEntities.revoked());
+    }
+
+    @Test
+    @DisplayName("When revoking the tokens, it is done in a single statement")
+    @OnlyUser
+    @ValidUserToken
+    void testRevokeAll_QueryCount(final Statistics statistics) {
+        // WHEN
+        repository.revokeAll(UserTokenConstants.USERNAME, UserTokenConstants.SCOPE);
+
+        // THEN
+        Assertions.assertThat(statistics.getPrepareStatementCount())
+            .as("prepared statements")
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("When revoking the tokens, and they are already revoked, nothing is counted")
+    @OnlyUser
+    @RevokedUserToken
+    void testRevokeAll_Revoked_Count() {
+        final int revoked;
+
+        // WHEN
+        revoked = repository.revokeAll(UserTokenConstants.USERNAME, UserTokenConstants.SCOPE);
+
+        // THEN
+        Assertions.assertThat(revoked)
+            .as("revoked")
+            .isZero();
+    }
+
+    @Test
+    @DisplayName("When revoking the tokens, the number of revoked tokens is returned")
+    @OnlyUser
+    @ValidUserToken
+    void testRevokeAll_Valid_Count() {
+        final int revoked;
+
+        // WHEN
+        revoked = repository.revokeAll(UserTokenConstants.USERNAME, UserTokenConstants.SCOPE);
+
+        // THEN
+        Assertions.assertThat(revoked)
+            .as("revoked")
+            .isEqualTo(1);
+    }
+
+}
@@ -0,0 +1,212 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bernardomg.security.adapter.inbound.jpa.repository.test.integration.user;
+
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.bernardomg.security.adapter.inbound.jpa.model.user.UserTokenEntity;
+import com.bernardomg.security.adapter.inbound.jpa.repository.user.UserTokenSpringRepository;
+import com.bernardomg.security.adapter.test.config.annotation.IntegrationTest;
+import com.bernardomg.security.adapter.test.config.statistics.HibernateStatisticsExtension;
+import com.bernardomg.security.adapter.test.config.token.annotation.ValidUserToken;
+import com.bernardomg.security.adapter.test.config.token.factory.UserTokenConstants;
+import com.bernardomg.security.adapter.test.config.token.factory.UserTokenEntities;
+import com.bernardomg.security.adapter.test.config.token.factory.UserTokens;
+import com.bernardomg.security.adapter.test.config.user.annotation.OnlyUser;
+import com.bernardomg.security.adapter.test.config.user.factory.UserConstants;
+import com.bernardomg.security.domain.user.exception.MissingUsernameException;
+import com.bernardomg.security.domain.user.model.UserToken;
+import com.bernardomg.security.domain.user.repository.UserTokenRepository;
+
+@IntegrationTest
+@ExtendWith(HibernateStatisticsExtension.class)
+@DisplayName("UserTokenRepository - save")
+class ITUserTokenRepositorySave {
+
+    @Autowired
+    private UserTokenRepository       repository;
+
+    @Autowired
+    private UserTokenSpringRepository userTokenSpringRepository;
+
+    public ITUserTokenRepositorySave() {
+        super();
+    }
+
+    @Test
+    @DisplayName("When saving tokens and the user of one doesn't exist, an exception is thrown")
+    @OnlyUser
+    void testSaveAll_NoUser_Exception() {
+        final ThrowingCallable         execution;
+        final MissingUsernameException exception;
+
+        // WHEN
+        execution = () -> repository.saveAll(List.of(UserTokens.valid(), UserTokens.alternativeUser()));
+
+        // THEN
+        exception = Assertions.catchThrowableOfType(MissingUsernameException.class, execution);
+
+        Assertions.assertThat(exception.getUsername())
+            .as("username")
+            .isEqualTo(UserConstants.ALTERNATIVE_USERNAME);
+    }
+
+    @Test
+    @DisplayName("When saving tokens and the user of one doesn't exist, nothing is persisted")
+    @OnlyUser
+    void testSaveAll_NoUser_NotPersisted() {
+        final List<UserTokenEntity> entities;
+
+        // WHEN
+        Assertions.catchThrowable(() -> repository.saveAll(List.of(UserTokens.valid(), UserTokens.alternativeUser())));
+
+        // THEN
+        entities = userTokenSpringRepository.findAll();
+        Assertions.assertThat(entities)
+            .as("tokens")
+            .isEmpty();
+    }
+
+    @Test
+    @DisplayName("When saving tokens, they are persisted")
+    @OnlyUser
+    void testSaveAll_PersistedData() {
+        final List<UserTokenEntity> entities;
+
+        // WHEN
+        repository.saveAll(List.of(UserTokens.valid()));
+
+        // THEN
+        entities = userTokenSpringRepository.findAll();
+        Assertions.assertThat(entities)
+            .as("tokens")
+            .usingRecursiveFieldByFieldElementComparatorIgnoringFields("id")
+            .containsExactly(UserTokenEntities.valid());
+    }
+
+    @Test
+    @DisplayName("When saving an existing token, it is updated")
+    @OnlyUser
+    @ValidUserToken
+    void testSave_Existing_PersistedData() {
+        final List<UserTokenEntity> entities;
+
+        // WHEN
+        repository.save(UserTokens.consumed());
+
+        // THEN
+        entities = userTokenSpringRepository.findAll();
+        Assertions.assertThat(entities)
+            .as("tokens")
+            .usingRecursiveFieldByFieldElementComparatorIgnoringFields("id")
+            .containsExactly(UserTokenEntities.consumed());
+    }
+
+    @Test
+    @DisplayName("When saving a token for a user which doesn't exist, an exception is thrown")
+    void testSave_NoUser_Exception() {
+        final ThrowingCallable         execution;
+        final MissingUsernameException exception;
+
+        // WHEN
+        execution = () -> repository.save(UserTokens.valid());
+
+        // THEN
+        exception = Assertions.catchThrowableOfType(MissingUsernameException.class, execution);
+
+        Assertions.assertThat(exception.getUsername())
+            .as("username")
+            .isEqualTo(UserTokenConstants.USERNAME);
+    }
+
+    @Test
+    @DisplayName("When saving a token for a user which doesn't exist, nothing is persisted")
+    void testSave_NoUser_NotPersisted() {
+        final List<UserTokenEntity> entities;
+
+        // WHEN
+        Assertions.catchThrowable(() -> repository.save(UserTokens.valid()));
+
+        // THEN
+        entities = userTokenSpringRepository.findAll();
+        Assertions.assertThat(entities)
+            .as("tokens")
+            .isEmpty();
+    }
+
+    @Test
+    @DisplayName("When saving a new token, it is persisted")
+    @OnlyUser
+    void testSave_PersistedData() {
+        final List<UserTokenEntity> entities;
+
+        // WHEN
+        repository.save(UserTokens.valid());
+
+        // THEN
+        entities = userTokenSpringRepository.findAll();
+        Assertions.assertThat(entities)
+            .as("tokens")
+            .usingRecursiveFieldByFieldElementComparatorIgnoringFields("id")
+            .containsExactly(UserTokenEntities.valid());
+    }
+
+    @Test
+    @DisplayName("When saving an existing token, it is done in a single statement")
+    @OnlyUser
+    @ValidUserToken
+    void testSave_QueryCount(final Statistics statistics) {
+        // WHEN
+        repository.save(UserTokens.consumed());
+
+        // THEN
+        Assertions.assertThat(statistics.getPrepareStatementCount())
+            .as("prepared statements")
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("When saving a new token, it is returned")
+    @OnlyUser
+    void testSave_Returned() {
+        final UserToken saved;
+
+        // WHEN
+        saved = repository.save(UserTokens.valid());
+
+        // THEN
+        Assertions.assertThat(saved)
+            .as("token")
+            .isEqualTo(UserTokens.valid());
+    }
+
+}
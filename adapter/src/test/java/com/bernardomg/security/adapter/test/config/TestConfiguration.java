@@ -29,10 +29,13 @@
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcOperations;
 
 import com.bernardomg.security.adapter.inbound.jpa.repository.account.JpaUserAccountRepository;
 import com.bernardomg.security.adapter.inbound.jpa.repository.login.JpaLoginRegisterRepository;
+import com.bernardomg.security.adapter.inbound.jpa.repository.login.JpaTokenRevocationRepository;
 import com.bernardomg.security.adapter.inbound.jpa.repository.login.LoginRegisterSpringRepository;
+import com.bernardomg.security.adapter.inbound.jpa.repository.login.TokenRevocationSpringRepository;
 import com.bernardomg.security.adapter.inbound.jpa.repository.permission.ActionSpringRepository;
 import com.bernardomg.security.adapter.inbound.jpa.repository.permission.JpaActionRepository;
 import com.bernardomg.security.adapter.inbound.jpa.repository.permission.JpaResourcePermissionRepository;
@@ -45,10 +48,12 @@
 import com.bernardomg.security.adapter.inbound.jpa.repository.user.JpaUserRepository;
 import com.bernardomg.security.adapter.inbound.jpa.repository.user.JpaUserTokenRepository;
 import com.bernardomg.security.adapter.inbound.jpa.repository.user.UserDataTokenSpringRepository;
+import com.bernardomg.security.adapter.inbound.jpa.repository.user.UserResourcePermissionSpringRepository;
 import com.bernardomg.security.adapter.inbound.jpa.repository.user.UserSpringRepository;
 import com.bernardomg.security.adapter.inbound.jpa.repository.user.UserTokenSpringRepository;
 import com.bernardomg.security.domain.account.repository.AccountRepository;
 import com.bernardomg.security.domain.login.repository.LoginRegisterRepository;
+import com.bernardomg.security.domain.login.repository.TokenRevocationRepository;
 import com.bernardomg.security.domain.permission.repository.ResourcePermissionRepository;
 import com.bernardomg.security.domain.permission.repository.ResourceRepository;
 import com.bernardomg.security.domain.role.repository.RoleRepository;
@@ -79,8 +84,9 @@ public JpaActionRepository getActionRepository(final ActionSpringRepository acti
 
     @Bean("resourcePermissionRepository")
     public ResourcePermissionRepository getResourcePermissionRepository(
-            final ResourcePermissionSpringRepository resourcePermissionSpringRepository) {
-        return new JpaResourcePermissionRepository(resourcePermissionSpringRepository);
+            final ResourcePermissionSpringRepository resourcePermissionSpringRepository,
+            final JdbcOperations jdbcOperations) {
+        return new JpaResourcePermissionRepository(resourcePermissionSpringRepository, jdbcOperations);
     }
 
     @Bean("resourceRepository")
@@ -96,10 +102,18 @@ public RoleRepository getRoleRepository(final RoleSpringRepository roleSpringRep
             userRoleSpringRepository);
     }
 
+    @Bean("tokenRevocationRepository")
+    public TokenRevocationRepository
+            getTokenRevocationRepository(final TokenRevocationSpringRepository tokenRevocationSpringRepository) {
+        return new JpaTokenRevocationRepository(tokenRevocationSpringRepository);
+    }
+
     @Bean("userRepository")
     public UserRepository getUserRepository(final UserSpringRepository userSpringRepository,
-            final RoleSpringRepository roleSpringRepository) {
-        return new JpaUserRepository(userSpringRepository, roleSpringRepository);
+            final RoleSpringRepository roleSpringRepository,
+            final UserResourcePermissionSpringRepository userResourcePermissionSpringRepository) {
+        return new JpaUserRepository(userSpringRepository, roleSpringRepository,
+            userResourcePermissionSpringRepository);
     }
 
     @Bean("userTokenRepository")
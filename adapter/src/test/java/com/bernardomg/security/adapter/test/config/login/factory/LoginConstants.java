@@ -8,11 +8,17 @@
 
 public final class LoginConstants {
 
-    public static final Instant DATE     = LocalDate.of(2020, Month.JANUARY, 1)
+    public static final Instant DATE            = LocalDate.of(2020, Month.JANUARY, 1)
         .atStartOfDay(ZoneOffset.UTC)
         .toInstant();
 
-    public static final String  USERNAME = "username";
+    public static final Instant EXPIRATION_DATE = LocalDate.of(2020, Month.JANUARY, 2)
+        .atStartOfDay(ZoneOffset.UTC)
+        .toInstant();
+
+    public static final String  REVOKED_KEY     = "jti:bd656aaf-0c18-4178-bcdf-71ccb7f320fa";
+
+    public static final String  USERNAME        = "username";
 
     private LoginConstants() {
         super();
@@ -0,0 +1,24 @@
+
+package com.bernardomg.security.adapter.test.config.login.factory;
+
+import com.bernardomg.security.adapter.inbound.jpa.model.login.TokenRevocationEntity;
+
+public final class TokenRevocationEntities {
+
+    public static final TokenRevocationEntity revoked() {
+        final TokenRevocationEntity entity;
+
+        entity = new TokenRevocationEntity();
+        entity.setId(1L);
+        entity.setRevokedKey(LoginConstants.REVOKED_KEY);
+        entity.setRevocationDate(LoginConstants.DATE);
+        entity.setExpirationDate(LoginConstants.EXPIRATION_DATE);
+
+        return entity;
+    }
+
+    private TokenRevocationEntities() {
+        super();
+    }
+
+}
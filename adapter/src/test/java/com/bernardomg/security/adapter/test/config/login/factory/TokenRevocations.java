@@ -0,0 +1,16 @@
+
+package com.bernardomg.security.adapter.test.config.login.factory;
+
+import com.bernardomg.security.domain.login.model.TokenRevocation;
+
+public final class TokenRevocations {
+
+    public static final TokenRevocation revoked() {
+        return new TokenRevocation(LoginConstants.REVOKED_KEY, LoginConstants.DATE, LoginConstants.EXPIRATION_DATE);
+    }
+
+    private TokenRevocations() {
+        super();
+    }
+
+}
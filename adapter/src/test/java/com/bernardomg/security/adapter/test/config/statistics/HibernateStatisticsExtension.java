@@ -0,0 +1,82 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.security.adapter.test.config.statistics;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Enables the Hibernate statistics for each test, and disables them afterwards, as the session factory is shared by
+ * all the tests. The statistics are cleared before each test, and can be received as a test method parameter.
+ */
+public final class HibernateStatisticsExtension implements BeforeEachCallback, AfterEachCallback, ParameterResolver {
+
+    @Override
+    public final void afterEach(final ExtensionContext context) {
+        final Statistics statistics;
+
+        statistics = getStatistics(context);
+        statistics.setStatisticsEnabled(false);
+        statistics.clear();
+    }
+
+    @Override
+    public final void beforeEach(final ExtensionContext context) {
+        final Statistics statistics;
+
+        statistics = getStatistics(context);
+        statistics.clear();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Override
+    public final Object resolveParameter(final ParameterContext parameterContext,
+            final ExtensionContext extensionContext) {
+        return getStatistics(extensionContext);
+    }
+
+    @Override
+    public final boolean supportsParameter(final ParameterContext parameterContext,
+            final ExtensionContext extensionContext) {
+        return Statistics.class.equals(parameterContext.getParameter()
+            .getType());
+    }
+
+    private final Statistics getStatistics(final ExtensionContext context) {
+        return SpringExtension.getApplicationContext(context)
+            .getBean(EntityManagerFactory.class)
+            .unwrap(SessionFactory.class)
+            .getStatistics();
+    }
+
+}
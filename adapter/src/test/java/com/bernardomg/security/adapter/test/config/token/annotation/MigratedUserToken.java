@@ -0,0 +1,23 @@
+package com.bernardomg.security.adapter.test.config.token.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.test.context.jdbc.Sql;
+
+/**
+ * Valid user token stored with its code, as before the hashed_user_tokens changeset, and then migrated with the same
+ * statement.
+ */
+@Sql({ "/db/queries/security/token/migrated.sql" })
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+public @interface MigratedUserToken {
+
+}
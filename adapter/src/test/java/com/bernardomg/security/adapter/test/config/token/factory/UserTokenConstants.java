@@ -0,0 +1,32 @@
+package com.bernardomg.security.adapter.test.config.token.factory;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.ZoneOffset;
+
+public final class UserTokenConstants {
+
+    public static final String  ALTERNATIVE_TOKEN = "8a8ad9dd-8ef4-4ea6-bc2c-1c7a1cbb79c3";
+
+    public static final Instant CREATION_DATE     = LocalDate.of(2020, Month.FEBRUARY, 1)
+        .atStartOfDay(ZoneOffset.UTC)
+        .toInstant();
+
+    public static final Instant EXPIRATION_DATE   = LocalDate.of(2030, Month.FEBRUARY, 1)
+        .atStartOfDay(ZoneOffset.UTC)
+        .toInstant();
+
+    public static final String  NAME              = "name";
+
+    public static final String  SCOPE             = "scope";
+
+    public static final String  TOKEN             = "bd656aaf-0c18-4178-bcdf-71ccb7f320fa";
+
+    public static final String  USERNAME          = "username";
+
+    private UserTokenConstants() {
+        super();
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.bernardomg.security.adapter.test.config.token.factory;
+
+import com.bernardomg.security.adapter.inbound.jpa.model.user.UserTokenEntity;
+import com.bernardomg.security.adapter.inbound.jpa.repository.user.UserTokenDigests;
+
+public final class UserTokenEntities {
+
+    public static final UserTokenEntity consumed() {
+        final UserTokenEntity entity;
+
+        entity = valid();
+        entity.setConsumed(true);
+
+        return entity;
+    }
+
+    public static final UserTokenEntity revoked() {
+        final UserTokenEntity entity;
+
+        entity = valid();
+        entity.setRevoked(true);
+
+        return entity;
+    }
+
+    public static final UserTokenEntity valid() {
+        final UserTokenEntity entity;
+
+        entity = new UserTokenEntity();
+        entity.setId(1L);
+        entity.setUserId(1L);
+        entity.setScope(UserTokenConstants.SCOPE);
+        entity.setTokenHash(UserTokenDigests.digest(UserTokenConstants.TOKEN));
+        entity.setCreationDate(UserTokenConstants.CREATION_DATE);
+        entity.setExpirationDate(UserTokenConstants.EXPIRATION_DATE);
+        entity.setConsumed(false);
+        entity.setRevoked(false);
+
+        return entity;
+    }
+
+    private UserTokenEntities() {
+        super();
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.bernardomg.security.adapter.test.config.token.factory;
+
+import com.bernardomg.security.adapter.test.config.user.factory.UserConstants;
+import com.bernardomg.security.domain.user.model.UserToken;
+
+public final class UserTokens {
+
+    public static final UserToken alternativeUser() {
+        return new UserToken(UserConstants.ALTERNATIVE_USERNAME, UserConstants.ALTERNATIVE_NAME,
+            UserTokenConstants.SCOPE, UserTokenConstants.ALTERNATIVE_TOKEN, UserTokenConstants.CREATION_DATE,
+            UserTokenConstants.EXPIRATION_DATE, false, false);
+    }
+
+    public static final UserToken consumed() {
+        return new UserToken(UserTokenConstants.USERNAME, UserTokenConstants.NAME, UserTokenConstants.SCOPE,
+            UserTokenConstants.TOKEN, UserTokenConstants.CREATION_DATE, UserTokenConstants.EXPIRATION_DATE, true,
+            false);
+    }
+
+    public static final UserToken valid() {
+        return new UserToken(UserTokenConstants.USERNAME, UserTokenConstants.NAME, UserTokenConstants.SCOPE,
+            UserTokenConstants.TOKEN, UserTokenConstants.CREATION_DATE, UserTokenConstants.EXPIRATION_DATE, false,
+            false);
+    }
+
+    private UserTokens() {
+        super();
+    }
+
+}
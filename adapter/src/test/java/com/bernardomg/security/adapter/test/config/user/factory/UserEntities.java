@@ -22,6 +22,7 @@ public static final UserEntity additionalRole() {
         entity.setNotLocked(true);
         entity.setRoles(List.of(RoleEntities.withPermission(), RoleEntities.alternative()));
         entity.setLoginAttempts(0);
+        entity.setTokenEpoch(1L);
 
         return entity;
     }
@@ -40,6 +41,7 @@ public static final UserEntity disabled() {
         entity.setPasswordNotExpired(true);
         entity.setNotLocked(true);
         entity.setLoginAttempts(0);
+        entity.setTokenEpoch(0L);
 
         return entity;
     }
@@ -58,6 +60,7 @@ public static final UserEntity emailChange() {
         entity.setPasswordNotExpired(true);
         entity.setNotLocked(true);
         entity.setLoginAttempts(0);
+        entity.setTokenEpoch(0L);
 
         return entity;
     }
@@ -77,6 +80,7 @@ public static final UserEntity enabled() {
         entity.setNotLocked(true);
         entity.setRoles(List.of(RoleEntities.withPermission()));
         entity.setLoginAttempts(0);
+        entity.setTokenEpoch(0L);
 
         return entity;
     }
@@ -95,6 +99,7 @@ public static final UserEntity expired() {
         entity.setPasswordNotExpired(true);
         entity.setNotLocked(true);
         entity.setLoginAttempts(0);
+        entity.setTokenEpoch(0L);
 
         return entity;
     }
@@ -114,6 +119,7 @@ public static final UserEntity locked() {
         entity.setNotLocked(false);
         entity.setRoles(List.of(RoleEntities.withPermission()));
         entity.setLoginAttempts(0);
+        entity.setTokenEpoch(1L);
 
         return entity;
     }
@@ -133,6 +139,7 @@ public static final UserEntity nameChange() {
         entity.setNotLocked(true);
         entity.setRoles(List.of());
         entity.setLoginAttempts(0);
+        entity.setTokenEpoch(0L);
 
         return entity;
     }
@@ -151,6 +158,7 @@ public static final UserEntity newlyCreated() {
         entity.setPasswordNotExpired(false);
         entity.setNotLocked(true);
         entity.setLoginAttempts(0);
+        entity.setTokenEpoch(0L);
 
         return entity;
     }
@@ -169,6 +177,25 @@ public static final UserEntity passwordExpired() {
         entity.setPasswordNotExpired(false);
         entity.setNotLocked(true);
         entity.setLoginAttempts(0);
+        entity.setTokenEpoch(0L);
+
+        return entity;
+    }
+
+    public static final UserEntity removedRoles() {
+        final UserEntity entity;
+
+        entity = withoutRoles();
+        entity.setTokenEpoch(1L);
+
+        return entity;
+    }
+
+    public static final UserEntity resetPassword() {
+        final UserEntity entity;
+
+        entity = updatedPassword();
+        entity.setTokenEpoch(1L);
 
         return entity;
     }
@@ -189,6 +216,7 @@ public static final UserEntity updatedPassword() {
         entity.setNotLocked(true);
         entity.setRoles(List.of(RoleEntities.withPermission()));
         entity.setLoginAttempts(0);
+        entity.setTokenEpoch(0L);
 
         return entity;
     }
@@ -208,6 +236,7 @@ public static final UserEntity withoutRoles() {
         entity.setNotLocked(true);
         entity.setRoles(List.of());
         entity.setLoginAttempts(0);
+        entity.setTokenEpoch(0L);
 
         return entity;
     }
@@ -0,0 +1,31 @@
+
+package com.bernardomg.security.adapter.test.config.user.factory;
+
+import java.util.List;
+
+import com.bernardomg.security.domain.user.model.UserAuthenticationDetails;
+
+public final class UsersAuthenticationDetails {
+
+    public static final UserAuthenticationDetails disabled() {
+        return new UserAuthenticationDetails(UserConstants.ID, UserConstants.EMAIL, UserConstants.USERNAME,
+            UserConstants.NAME, UserConstants.ENCODED_PASSWORD, false, true, true, true,
+            List.of(ResourcePermissions.create()));
+    }
+
+    public static final UserAuthenticationDetails enabled() {
+        return new UserAuthenticationDetails(UserConstants.ID, UserConstants.EMAIL, UserConstants.USERNAME,
+            UserConstants.NAME, UserConstants.ENCODED_PASSWORD, true, true, true, true,
+            List.of(ResourcePermissions.create()));
+    }
+
+    public static final UserAuthenticationDetails withoutPermissions() {
+        return new UserAuthenticationDetails(UserConstants.ID, UserConstants.EMAIL, UserConstants.USERNAME,
+            UserConstants.NAME, UserConstants.ENCODED_PASSWORD, true, true, true, true, List.of());
+    }
+
+    private UsersAuthenticationDetails() {
+        super();
+    }
+
+}
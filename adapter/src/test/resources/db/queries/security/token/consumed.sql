@@ -1,2 +1,2 @@
-INSERT INTO security.user_tokens(id, user_id, scope, token, creation_date, expiration_date, consumed, revoked) VALUES
-   (1, 1, 'scope', 'bd656aaf-0c18-4178-bcdf-71ccb7f320fa', '2020-02-01', '2030-02-01', true, false);
\ No newline at end of file
+INSERT INTO security.user_tokens(id, user_id, scope, token_hash, creation_date, expiration_date, consumed, revoked) VALUES
+   (1, 1, 'scope', sha256(convert_to('bd656aaf-0c18-4178-bcdf-71ccb7f320fa', 'UTF8')), '2020-02-01', '2030-02-01', true, false);
\ No newline at end of file
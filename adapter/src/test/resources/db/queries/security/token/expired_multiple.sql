@@ -0,0 +1,3 @@
+INSERT INTO security.user_tokens(id, user_id, scope, token_hash, creation_date, expiration_date, consumed, revoked) VALUES
+   (1, 1, 'scope', sha256(convert_to('bd656aaf-0c18-4178-bcdf-71ccb7f320fa', 'UTF8')), '2020-02-01', '2000-02-01', false, false),
+   (2, 1, 'scope', sha256(convert_to('5d4b1d3e-2a7c-4b8e-9f3a-6c2e1b0a9d87', 'UTF8')), '2020-02-01', '2000-02-01', false, false);
\ No newline at end of file
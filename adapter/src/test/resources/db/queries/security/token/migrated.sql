@@ -0,0 +1,5 @@
+ALTER TABLE security.user_tokens ADD COLUMN token VARCHAR(255);
+INSERT INTO security.user_tokens(id, user_id, scope, token, token_hash, creation_date, expiration_date, consumed, revoked) VALUES
+   (1, 1, 'scope', 'bd656aaf-0c18-4178-bcdf-71ccb7f320fa', decode(repeat('00', 32), 'hex'), '2020-02-01', '2030-02-01', false, false);
+UPDATE security.user_tokens SET token_hash = sha256(convert_to(token, 'UTF8'));
+ALTER TABLE security.user_tokens DROP COLUMN token;
\ No newline at end of file
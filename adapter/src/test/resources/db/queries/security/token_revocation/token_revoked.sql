@@ -0,0 +1,2 @@
+INSERT INTO security.token_revocations (revoked_key, revocation_date, expiration_date) VALUES
+   ('jti:bd656aaf-0c18-4178-bcdf-71ccb7f320fa', '2020-01-01', '2020-01-02');
\ No newline at end of file
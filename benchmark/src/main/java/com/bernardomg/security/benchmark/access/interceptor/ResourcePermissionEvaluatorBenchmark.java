@@ -0,0 +1,151 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.security.benchmark.access.interceptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import com.bernardomg.security.domain.permission.model.ResourcePermission;
+import com.bernardomg.security.springframework.access.interceptor.AuthorityResourcePermissionEvaluator;
+import com.bernardomg.security.springframework.access.interceptor.IndexedResourcePermissionEvaluator;
+import com.bernardomg.security.springframework.access.interceptor.ResourcePermissionAuthenticationToken;
+import com.bernardomg.security.springframework.access.interceptor.ResourcePermissionEvaluator;
+import com.bernardomg.security.springframework.access.interceptor.ResourcePermissionIndex;
+import com.bernardomg.security.springframework.model.ResourceActionGrantedAuthority;
+
+/**
+ * Resource permission evaluation benchmark. Compares the authorities based evaluator with the indexed one.
+ * <p>
+ * The authentication is granted all the known permissions but one. The granted check looks for the last authority,
+ * while the denied check looks for the permission which is not granted.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResourcePermissionEvaluatorBenchmark {
+
+    /**
+     * Actions for each resource.
+     */
+    private static final List<String>   ACTIONS = List.of("CREATE", "READ", "UPDATE", "DELETE");
+
+    /**
+     * Number of authorities in the authentication.
+     */
+    @Param({ "10", "100", "1000" })
+    private int                         authorities;
+
+    private Authentication              authentication;
+
+    private ResourcePermissionEvaluator authorityEvaluator;
+
+    private String                      deniedResource;
+
+    private String                      grantedAction;
+
+    private String                      grantedResource;
+
+    private Authentication              indexedAuthentication;
+
+    private ResourcePermissionEvaluator indexedEvaluator;
+
+    @Benchmark
+    public boolean authorityDenied() {
+        return authorityEvaluator.isAuthorized(authentication, deniedResource, "READ");
+    }
+
+    @Benchmark
+    public boolean authorityGranted() {
+        return authorityEvaluator.isAuthorized(authentication, grantedResource, grantedAction);
+    }
+
+    @Benchmark
+    public boolean indexedDenied() {
+        return indexedEvaluator.isAuthorized(indexedAuthentication, deniedResource, "READ");
+    }
+
+    @Benchmark
+    public boolean indexedGranted() {
+        return indexedEvaluator.isAuthorized(indexedAuthentication, grantedResource, grantedAction);
+    }
+
+    @Setup
+    public void setup() {
+        final List<ResourcePermission> permissions;
+        final List<GrantedAuthority>   granted;
+        final ResourcePermissionIndex  index;
+        String                         resource;
+        String                         action;
+
+        permissions = new ArrayList<>();
+        granted = new ArrayList<>();
+        resource = "";
+        action = "";
+        for (int i = 0; i < authorities; i++) {
+            resource = "RESOURCE_" + (i / ACTIONS.size());
+            action = ACTIONS.get(i % ACTIONS.size());
+            permissions.add(new ResourcePermission(resource, action));
+            granted.add(new ResourceActionGrantedAuthority(resource, action));
+        }
+        // The last authority, so the authorities evaluator iterates all of them
+        grantedResource = resource;
+        grantedAction = action;
+
+        // Known permission, but not granted
+        deniedResource = "RESOURCE_DENIED";
+        permissions.add(new ResourcePermission(deniedResource, "READ"));
+
+        index = new ResourcePermissionIndex(() -> permissions);
+
+        authentication = new UsernamePasswordAuthenticationToken("user", null, granted);
+        indexedAuthentication = new ResourcePermissionAuthenticationToken("user", null, granted, index);
+
+        authorityEvaluator = new AuthorityResourcePermissionEvaluator();
+        indexedEvaluator = new IndexedResourcePermissionEvaluator(index);
+    }
+
+}
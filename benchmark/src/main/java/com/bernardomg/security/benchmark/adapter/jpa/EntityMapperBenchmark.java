@@ -0,0 +1,151 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.security.benchmark.adapter.jpa;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.bernardomg.security.adapter.inbound.jpa.model.permission.ResourcePermissionEntity;
+import com.bernardomg.security.adapter.inbound.jpa.model.role.RoleEntity;
+import com.bernardomg.security.adapter.inbound.jpa.model.user.UserEntity;
+import com.bernardomg.security.adapter.inbound.jpa.repository.role.RoleEntityMapper;
+import com.bernardomg.security.adapter.inbound.jpa.repository.user.UserEntityMapper;
+import com.bernardomg.security.domain.role.model.Role;
+import com.bernardomg.security.domain.user.model.User;
+
+/**
+ * Entity mapping benchmark. Maps users and roles with large role graphs into the domain model.
+ * <p>
+ * Consecutive roles share most of their permissions, so the user permissions have many duplicates to remove.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityMapperBenchmark {
+
+    /**
+     * Actions for each resource.
+     */
+    private static final List<String> ACTIONS = List.of("CREATE", "READ", "UPDATE", "DELETE");
+
+    /**
+     * Number of permissions in each role.
+     */
+    @Param({ "10", "50" })
+    private int                       permissions;
+
+    private RoleEntity                role;
+
+    /**
+     * Number of roles in the user.
+     */
+    @Param({ "10", "100" })
+    private int                       roles;
+
+    private UserEntity                user;
+
+    @Benchmark
+    public Role roleToDomain() {
+        return RoleEntityMapper.toDomain(role);
+    }
+
+    @Setup
+    public void setup() {
+        final List<RoleEntity> userRoles;
+
+        userRoles = new ArrayList<>();
+        for (int i = 0; i < roles; i++) {
+            userRoles.add(role(i));
+        }
+
+        user = new UserEntity();
+        user.setId(1L);
+        user.setEmail("admin@somewhere.com");
+        user.setUsername("admin");
+        user.setName("Admin");
+        user.setEnabled(true);
+        user.setNotExpired(true);
+        user.setNotLocked(true);
+        user.setPasswordNotExpired(true);
+        user.setRoles(userRoles);
+
+        role = userRoles.get(userRoles.size() - 1);
+    }
+
+    @Benchmark
+    public User userToDomain() {
+        return UserEntityMapper.toDomain(user);
+    }
+
+    /**
+     * Returns a role with the configured number of permissions. Each role takes its permissions from a window of
+     * resources, which is moved one resource for each role.
+     *
+     * @param index
+     *            role index
+     * @return role with permissions
+     */
+    private final RoleEntity role(final int index) {
+        final RoleEntity                     entity;
+        final List<ResourcePermissionEntity> rolePermissions;
+        ResourcePermissionEntity             permission;
+
+        rolePermissions = new ArrayList<>();
+        for (int i = 0; i < permissions; i++) {
+            permission = new ResourcePermissionEntity();
+            permission.setId((long) ((index * ACTIONS.size()) + i));
+            permission.setResource("RESOURCE_" + (index + (i / ACTIONS.size())));
+            permission.setAction(ACTIONS.get(i % ACTIONS.size()));
+            rolePermissions.add(permission);
+        }
+
+        entity = new RoleEntity();
+        entity.setId((long) index);
+        entity.setName("ROLE_" + index);
+        entity.setPermissions(rolePermissions);
+
+        return entity;
+    }
+
+}
@@ -0,0 +1,225 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.security.benchmark.initializer;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.bernardomg.pagination.domain.Page;
+import com.bernardomg.pagination.domain.Pagination;
+import com.bernardomg.pagination.domain.Sorting;
+import com.bernardomg.security.domain.permission.model.Action;
+import com.bernardomg.security.domain.permission.model.Resource;
+import com.bernardomg.security.domain.permission.model.ResourcePermission;
+import com.bernardomg.security.domain.permission.repository.ActionRepository;
+import com.bernardomg.security.domain.permission.repository.ResourcePermissionRepository;
+import com.bernardomg.security.domain.permission.repository.ResourceRepository;
+import com.bernardomg.security.usecase.initializer.loader.PermissionsLoader;
+
+/**
+ * Permissions loader benchmark. Loads the permissions configuration into in-memory repositories, so only the loader
+ * work is measured.
+ * <p>
+ * The loader is run against an empty database, as on the first start, and against a database which already contains
+ * all the permissions, as on any other start.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PermissionsLoaderBenchmark {
+
+    /**
+     * In-memory actions repository.
+     */
+    private static final class InMemoryActionRepository implements ActionRepository {
+
+        private final Set<String> names = new LinkedHashSet<>();
+
+        @Override
+        public final Collection<String> findAllNames() {
+            return new ArrayList<>(names);
+        }
+
+        @Override
+        public final Collection<Action> saveAll(final Collection<Action> actions) {
+            actions.forEach(a -> names.add(a.name()));
+            return actions;
+        }
+
+    }
+
+    /**
+     * In-memory resource permissions repository.
+     */
+    private static final class InMemoryResourcePermissionRepository implements ResourcePermissionRepository {
+
+        private final Set<ResourcePermission> permissions = new LinkedHashSet<>();
+
+        @Override
+        public final boolean exists(final String resource, final String action) {
+            return permissions.contains(new ResourcePermission(resource, action));
+        }
+
+        @Override
+        public final Collection<ResourcePermission> findAll() {
+            return new ArrayList<>(permissions);
+        }
+
+        @Override
+        public final Page<ResourcePermission> findAll(final Pagination pagination, final Sorting sorting) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public final Collection<ResourcePermission> findExisting(final Collection<ResourcePermission> received) {
+            return received.stream()
+                .filter(permissions::contains)
+                .toList();
+        }
+
+        @Override
+        public final Collection<ResourcePermission> saveAll(final Collection<ResourcePermission> saved) {
+            permissions.addAll(saved);
+            return saved;
+        }
+
+    }
+
+    /**
+     * In-memory resources repository.
+     */
+    private static final class InMemoryResourceRepository implements ResourceRepository {
+
+        private final Set<String> names = new LinkedHashSet<>();
+
+        @Override
+        public final Collection<String> findAllNames() {
+            return new ArrayList<>(names);
+        }
+
+        @Override
+        public final Collection<Resource> saveAll(final Collection<Resource> resources) {
+            resources.forEach(r -> names.add(r.name()));
+            return resources;
+        }
+
+    }
+
+    /**
+     * Actions for each resource.
+     */
+    private static final List<String> ACTIONS = List.of("create", "read", "update", "delete", "view");
+
+    /**
+     * Database state when loading the permissions.
+     */
+    @Param({ "empty", "loaded" })
+    private String                    database;
+
+    private PermissionsLoader         loader;
+
+    /**
+     * Number of resources in the configuration. Each one has all the actions.
+     */
+    @Param({ "10", "100", "1000" })
+    private int                       resources;
+
+    private String                    yaml;
+
+    @Benchmark
+    public void load() {
+        loader.load();
+    }
+
+    /**
+     * Prepares the loader. For the empty database the repositories are created again for each invocation, as the
+     * previous one filled them.
+     */
+    @Setup(Level.Invocation)
+    public void prepare() {
+        if ((loader == null) || "empty".equals(database)) {
+            loader = new PermissionsLoader(new InMemoryActionRepository(), new InMemoryResourceRepository(),
+                new InMemoryResourcePermissionRepository(), List.of(toStream(yaml)));
+            if ("loaded".equals(database)) {
+                loader.load();
+            }
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final StringBuilder builder;
+
+        builder = new StringBuilder();
+        builder.append("actions:\n");
+        ACTIONS.forEach(a -> builder.append("  - ")
+            .append(a)
+            .append('\n'));
+        builder.append("permissions:\n");
+        for (int i = 0; i < resources; i++) {
+            builder.append("  - resource: resource_")
+                .append(i)
+                .append('\n')
+                .append("    actions:\n");
+            ACTIONS.forEach(a -> builder.append("      - ")
+                .append(a)
+                .append('\n'));
+        }
+
+        yaml = builder.toString();
+        loader = null;
+    }
+
+    private final InputStream toStream(final String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
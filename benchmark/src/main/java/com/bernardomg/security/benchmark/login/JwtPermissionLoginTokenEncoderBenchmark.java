@@ -0,0 +1,117 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.security.benchmark.login;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.bernardomg.jwt.encoding.jjwt.JjwtTokenEncoder;
+import com.bernardomg.security.domain.permission.model.ResourcePermission;
+import com.bernardomg.security.usecase.login.domain.LoginUser;
+import com.bernardomg.security.usecase.login.encoder.JwtPermissionLoginTokenEncoder;
+import com.bernardomg.security.usecase.login.encoder.LoginTokenEncoder;
+
+/**
+ * Login token encoding benchmark. Encodes the login token for a user, which includes grouping the permissions and
+ * signing the token.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtPermissionLoginTokenEncoderBenchmark {
+
+    /**
+     * Actions for each resource.
+     */
+    private static final List<String> ACTIONS = List.of("CREATE", "READ", "UPDATE", "DELETE");
+
+    /**
+     * Secret for signing the tokens.
+     */
+    private static final String       SECRET  = "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef";
+
+    /**
+     * Use the compact permissions claim.
+     */
+    @Param({ "false", "true" })
+    private boolean                   compact;
+
+    private LoginTokenEncoder         encoder;
+
+    /**
+     * Number of resources in the token. Each one has all the actions.
+     */
+    @Param({ "5", "25", "100" })
+    private int                       resources;
+
+    private LoginUser                 user;
+
+    @Benchmark
+    public String encode() {
+        return encoder.encode(user);
+    }
+
+    @Setup
+    public void setup() {
+        final SecretKey                key;
+        final List<ResourcePermission> permissions;
+
+        key = new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+        encoder = new JwtPermissionLoginTokenEncoder(new JjwtTokenEncoder(key), Duration.ofHours(1), compact);
+
+        permissions = new ArrayList<>();
+        for (int i = 0; i < resources; i++) {
+            for (final String action : ACTIONS) {
+                permissions.add(new ResourcePermission("RESOURCE_" + i, action));
+            }
+        }
+        user = new LoginUser(1L, "admin@somewhere.com", "admin", "Admin", permissions);
+    }
+
+}
@@ -0,0 +1,122 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.security.benchmark.web.jwt;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import com.bernardomg.security.springframework.web.jwt.BearerHeaderTokenResolver;
+
+/**
+ * Bearer header resolution benchmark. Compares the resolver with the regular expression it used originally.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BearerHeaderTokenResolverBenchmark {
+
+    /**
+     * Regular expression used originally to read the header.
+     */
+    private static final Pattern      AUTHORIZATION_PATTERN = Pattern
+        .compile("^Bearer (?<token>[a-zA-Z0-9-._~+/]+=*)$", Pattern.CASE_INSENSITIVE);
+
+    /**
+     * Signed token, with a size similar to the ones generated on login.
+     */
+    private static final String       TOKEN                 = "eyJhbGciOiJIUzUxMiJ9."
+            + "eyJzdWIiOiJhZG1pbiIsImlhdCI6MTcwMDAwMDAwMCwiZXhwIjoxNzAwMDAzNjAwLCJwZXJtaXNzaW9ucyI6eyJ1c2VyIjpbIlJF"
+            + "QUQiLCJDUkVBVEUiLCJVUERBVEUiLCJERUxFVEUiXSwicm9sZSI6WyJSRUFEIiwiQ1JFQVRFIiwiVVBEQVRFIiwiREVMRVRFIl19fQ."
+            + "MC9oB7dYxYp6yrzZwKazSZ484NUwTQrs_sgAMeBdVPMpF0aU83GRF3fLD8FhiamG5f0yWH6LxsWUUARVqdA6pA";
+
+    /**
+     * Header to resolve.
+     */
+    @Param({ "valid", "malformed", "basic" })
+    private String                    header;
+
+    private MockHttpServletRequest    request;
+
+    private BearerHeaderTokenResolver resolver;
+
+    @Benchmark
+    public Optional<String> regex() {
+        final String  value;
+        final Matcher matcher;
+
+        value = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if ((value != null) && value.startsWith("Bearer")) {
+            matcher = AUTHORIZATION_PATTERN.matcher(value);
+            if (matcher.matches()) {
+                return Optional.ofNullable(matcher.group("token"));
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    @Benchmark
+    public Optional<String> scanner() {
+        return resolver.resolve(request);
+    }
+
+    @Setup
+    public void setup() {
+        final String value;
+
+        value = switch (header) {
+            case "malformed" -> "Bearer " + TOKEN + "!";
+            case "basic" -> "Basic dXNlcjpwYXNzd29yZA==";
+            default -> "Bearer " + TOKEN;
+        };
+
+        request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.AUTHORIZATION, value);
+        resolver = new BearerHeaderTokenResolver();
+    }
+
+}
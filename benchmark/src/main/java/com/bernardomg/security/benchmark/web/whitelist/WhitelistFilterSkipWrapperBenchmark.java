@@ -0,0 +1,123 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.security.benchmark.web.whitelist;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.bernardomg.security.springframework.web.whitelist.WhitelistFilterSkipWrapper;
+import com.bernardomg.security.springframework.web.whitelist.WhitelistRoute;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+
+/**
+ * Whitelist filter wrapper benchmark. Sends requests through the wrapper, which decides if the wrapped filter should
+ * be skipped. Both the wrapped filter and the chain do nothing, so this measures the skip decision.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WhitelistFilterSkipWrapperBenchmark {
+
+    /**
+     * Filter chain after the wrapper. Does nothing.
+     */
+    private FilterChain                chain;
+
+    private MockHttpServletRequest     filteredRequest;
+
+    private MockHttpServletResponse    response;
+
+    /**
+     * Number of whitelisted routes.
+     */
+    @Param({ "5", "50", "500" })
+    private int                        routes;
+
+    private MockHttpServletRequest     skippedRequest;
+
+    private WhitelistFilterSkipWrapper wrapper;
+
+    @Benchmark
+    public void filtered() throws ServletException, IOException {
+        wrapper.doFilter(filteredRequest, response, chain);
+    }
+
+    @Setup
+    public void setup() {
+        final List<WhitelistRoute> whitelist;
+        final Filter               filter;
+
+        whitelist = new ArrayList<>();
+        for (int i = 0; i < routes; i++) {
+            if (i % 2 == 0) {
+                whitelist.add(WhitelistRoute.of("/whitelisted/route/" + i + "/**", HttpMethod.GET, HttpMethod.POST));
+            } else {
+                whitelist.add(WhitelistRoute.of("/whitelisted/route/" + i + "/{id}"));
+            }
+        }
+
+        filter = (req, resp, chn) -> chn.doFilter(req, resp);
+        chain = (req, resp) -> {};
+        wrapper = new WhitelistFilterSkipWrapper(filter, whitelist);
+
+        // Matches the last whitelisted route
+        skippedRequest = new MockHttpServletRequest(HttpMethod.GET.name(),
+            "/whitelisted/route/" + (routes - 1) + "/resource");
+        filteredRequest = new MockHttpServletRequest(HttpMethod.GET.name(), "/secured/users/1");
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public void skipped() throws ServletException, IOException {
+        wrapper.doFilter(skippedRequest, response, chain);
+    }
+
+}
@@ -0,0 +1,151 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.security.benchmark.web.whitelist;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import com.bernardomg.security.springframework.web.whitelist.WhitelistRoute;
+import com.bernardomg.security.springframework.web.whitelist.WhitelistRouteMatcher;
+
+/**
+ * Whitelist matching benchmark. Compares the indexed matcher with parsing each route on every request, which was the
+ * original implementation.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WhitelistRouteMatcherBenchmark {
+
+    /**
+     * Path which matches the last whitelisted route.
+     */
+    private static final String        MATCHING_PATH     = "/whitelisted/route/%d/resource";
+
+    /**
+     * Path which matches no whitelisted route.
+     */
+    private static final String        NOT_MATCHING_PATH = "/secured/users/1";
+
+    private WhitelistRouteMatcher      matcher;
+
+    private String                     matchingPath;
+
+    private PathPatternParser          pathPatternParser;
+
+    /**
+     * Number of whitelisted routes.
+     */
+    @Param({ "5", "50", "500" })
+    private int                        routes;
+
+    private Collection<WhitelistRoute> whitelist;
+
+    @Benchmark
+    public boolean indexedMatch() {
+        return matcher.matches(HttpMethod.GET.name(), matchingPath);
+    }
+
+    @Benchmark
+    public boolean indexedNoMatch() {
+        return matcher.matches(HttpMethod.GET.name(), NOT_MATCHING_PATH);
+    }
+
+    @Benchmark
+    public boolean parsingMatch() {
+        return parsingMatches(HttpMethod.GET.name(), matchingPath);
+    }
+
+    @Benchmark
+    public boolean parsingNoMatch() {
+        return parsingMatches(HttpMethod.GET.name(), NOT_MATCHING_PATH);
+    }
+
+    @Setup
+    public void setup() {
+        final List<WhitelistRoute> generated;
+
+        generated = new ArrayList<>();
+        for (int i = 0; i < routes; i++) {
+            if (i % 2 == 0) {
+                generated.add(WhitelistRoute.of("/whitelisted/route/" + i + "/**", HttpMethod.GET, HttpMethod.POST));
+            } else {
+                generated.add(WhitelistRoute.of("/whitelisted/route/" + i + "/{id}"));
+            }
+        }
+
+        whitelist = generated;
+        matcher = new WhitelistRouteMatcher(whitelist);
+        pathPatternParser = new PathPatternParser();
+        matchingPath = String.format(MATCHING_PATH, routes - 1);
+    }
+
+    /**
+     * Matches the request the same way it was done before indexing the routes. Each pattern, and the path, is parsed
+     * for every route.
+     *
+     * @param method
+     *            request method
+     * @param uri
+     *            request path
+     * @return {@code true} if the request is whitelisted, {@code false} otherwise
+     */
+    private final boolean parsingMatches(final String method, final String uri) {
+        final HttpMethod httpMethod;
+
+        httpMethod = HttpMethod.valueOf(method);
+        return whitelist.stream()
+            .anyMatch(route -> pathPatternParser.parse(route.route())
+                .matches(PathContainer.parsePath(uri))
+                    && (route.methods()
+                        .isEmpty()
+                            || route.methods()
+                                .contains(httpMethod)));
+    }
+
+}
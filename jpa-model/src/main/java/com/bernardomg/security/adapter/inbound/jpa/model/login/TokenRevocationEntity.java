@@ -0,0 +1,136 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.security.adapter.inbound.jpa.model.login;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+
+/**
+ * Token revocation entity.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@Entity(name = "TokenRevocation")
+@Table(schema = "security", name = "token_revocations")
+public class TokenRevocationEntity implements Serializable {
+
+    /**
+     * Serialization id.
+     */
+    @Transient
+    private static final long serialVersionUID = -3410285312784927716L;
+
+    /**
+     * Expiration date.
+     */
+    @Column(name = "expiration_date", nullable = false)
+    private Instant           expirationDate;
+
+    /**
+     * Entity id.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false, unique = true)
+    private Long              id;
+
+    /**
+     * Revoked key.
+     */
+    @Column(name = "revoked_key", nullable = false, length = 128)
+    private String            revokedKey;
+
+    /**
+     * Revocation date.
+     */
+    @Column(name = "revocation_date", nullable = false)
+    private Instant           revocationDate;
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if ((obj == null) || (getClass() != obj.getClass())) {
+            return false;
+        }
+        final TokenRevocationEntity other = (TokenRevocationEntity) obj;
+        return Objects.equals(id, other.id);
+    }
+
+    public Instant getExpirationDate() {
+        return expirationDate;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Instant getRevocationDate() {
+        return revocationDate;
+    }
+
+    public String getRevokedKey() {
+        return revokedKey;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    public void setExpirationDate(final Instant expirationDate) {
+        this.expirationDate = expirationDate;
+    }
+
+    public void setId(final Long id) {
+        this.id = id;
+    }
+
+    public void setRevocationDate(final Instant revocationDate) {
+        this.revocationDate = revocationDate;
+    }
+
+    public void setRevokedKey(final String revokedKey) {
+        this.revokedKey = revokedKey;
+    }
+
+    @Override
+    public String toString() {
+        return "TokenRevocationEntity [id=" + id + ", revokedKey=" + revokedKey + ", revocationDate=" + revocationDate
+                + ", expirationDate=" + expirationDate + "]";
+    }
+
+}
@@ -76,8 +76,11 @@ public class UserDataTokenEntity implements Serializable {
     @Column(name = "scope", nullable = false, unique = true, length = 20)
     private String            scope;
 
-    @Column(name = "token", nullable = false, unique = true, length = 300)
-    private String            token;
+    /**
+     * SHA-256 digest of the token code. The code itself is never stored.
+     */
+    @Column(name = "token_hash", nullable = false, unique = true, length = 32)
+    private byte[]            tokenHash;
 
     @Column(name = "user_id", nullable = false)
     private Long              userId;
@@ -117,8 +120,8 @@ public String getScope() {
         return scope;
     }
 
-    public String getToken() {
-        return token;
+    public byte[] getTokenHash() {
+        return tokenHash;
     }
 
     public Long getUserId() {
@@ -170,8 +173,8 @@ public void setScope(final String scope) {
         this.scope = scope;
     }
 
-    public void setToken(final String token) {
-        this.token = token;
+    public void setTokenHash(final byte[] tokenHash) {
+        this.tokenHash = tokenHash;
     }
 
     public void setUserId(final Long userId) {
@@ -185,8 +188,8 @@ public void setUsername(final String username) {
     @Override
     public String toString() {
         return "UserDataTokenEntity [id=" + id + ", userId=" + userId + ", name=" + name + ", username=" + username
-                + ", token=" + token + ", scope=" + scope + ", consumed=" + consumed + ", creationDate=" + creationDate
-                + ", expirationDate=" + expirationDate + ", revoked=" + revoked + "]";
+                + ", scope=" + scope + ", consumed=" + consumed + ", creationDate=" + creationDate + ", expirationDate="
+                + expirationDate + ", revoked=" + revoked + "]";
     }
 
 }
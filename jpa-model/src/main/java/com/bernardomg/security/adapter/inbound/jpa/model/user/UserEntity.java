@@ -130,6 +130,12 @@ public class UserEntity implements Serializable {
             inverseJoinColumns = @JoinColumn(name = "role_id"))
     private Collection<RoleEntity> roles;
 
+    /**
+     * Token epoch. Increased on security changes, the tokens issued before that are no longer valid.
+     */
+    @Column(name = "token_epoch", nullable = false)
+    private Long                   tokenEpoch;
+
     /**
      * User name.
      */
@@ -192,6 +198,10 @@ public Collection<RoleEntity> getRoles() {
         return roles;
     }
 
+    public Long getTokenEpoch() {
+        return tokenEpoch;
+    }
+
     public String getUsername() {
         return username;
     }
@@ -245,6 +255,10 @@ public void setRoles(final Collection<RoleEntity> roles) {
         this.roles = roles;
     }
 
+    public void setTokenEpoch(final Long tokenEpoch) {
+        this.tokenEpoch = tokenEpoch;
+    }
+
     public void setUsername(final String username) {
         this.username = username;
     }
@@ -254,7 +268,7 @@ public String toString() {
         return "UserEntity [id=" + id + ", username=" + username + ", name=" + name + ", roles=" + roles + ", email="
                 + email + ", enabled=" + enabled + ", loginAttempts=" + loginAttempts + ", notExpired=" + notExpired
                 + ", notLocked=" + notLocked + ", password=" + password + ", passwordNotExpired=" + passwordNotExpired
-                + ", audit=" + audit + "]";
+                + ", tokenEpoch=" + tokenEpoch + ", audit=" + audit + "]";
     }
 
 }
@@ -72,8 +72,11 @@ public class UserTokenEntity implements Serializable {
     @Column(name = "scope", nullable = false, unique = true, length = 20)
     private String            scope;
 
-    @Column(name = "token", nullable = false, unique = true, length = 300)
-    private String            token;
+    /**
+     * SHA-256 digest of the token code. The code itself is never stored.
+     */
+    @Column(name = "token_hash", nullable = false, unique = true, length = 32)
+    private byte[]            tokenHash;
 
     @Column(name = "user_id", nullable = false)
     private Long              userId;
@@ -106,8 +109,8 @@ public String getScope() {
         return scope;
     }
 
-    public String getToken() {
-        return token;
+    public byte[] getTokenHash() {
+        return tokenHash;
     }
 
     public Long getUserId() {
@@ -151,8 +154,8 @@ public void setScope(final String scope) {
         this.scope = scope;
     }
 
-    public void setToken(final String token) {
-        this.token = token;
+    public void setTokenHash(final byte[] tokenHash) {
+        this.tokenHash = tokenHash;
     }
 
     public void setUserId(final Long userId) {
@@ -161,9 +164,9 @@ public void setUserId(final Long userId) {
 
     @Override
     public String toString() {
-        return "UserTokenEntity [id=" + id + ", userId=" + userId + ", token=" + token + ", consumed=" + consumed
-                + ", creationDate=" + creationDate + ", expirationDate=" + expirationDate + ", revoked=" + revoked
-                + ", scope=" + scope + "]";
+        return "UserTokenEntity [id=" + id + ", userId=" + userId + ", consumed=" + consumed + ", creationDate="
+                + creationDate + ", expirationDate=" + expirationDate + ", revoked=" + revoked + ", scope=" + scope
+                + "]";
     }
 
 }
@@ -30,18 +30,26 @@
 
 /**
  * Token login status.
+ * <p>
+ * The refresh token is optional, and it is empty if refresh tokens are not in use, or the login failed.
  *
  * @author Bernardo Mart&iacute;nez Garrido
  *
  */
-public record TokenLoginStatus(Boolean logged, String token) {
+public record TokenLoginStatus(Boolean logged, String token, String refreshToken) {
 
     public TokenLoginStatus(final Boolean logged, final String token) {
+        this(logged, token, "");
+    }
+
+    public TokenLoginStatus(final Boolean logged, final String token, final String refreshToken) {
         Objects.requireNonNull(logged, "Logged flag can't be null");
         Objects.requireNonNull(token, "Token can't be null");
+        Objects.requireNonNull(refreshToken, "Refresh token can't be null");
 
         this.logged = logged;
         this.token = StringUtils.trim(token);
+        this.refreshToken = StringUtils.trim(refreshToken);
     }
 
 }
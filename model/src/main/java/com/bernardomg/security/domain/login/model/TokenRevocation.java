@@ -0,0 +1,87 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.security.domain.login.model;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Revocation for login tokens. It can point to a single token, through its id, or to all the tokens of a subject issued
+ * up to the revocation date.
+ * <p>
+ * The revocation is no longer needed after the expiration date, as by then all the tokens it affects expired.
+ *
+ * @param key
+ *            revoked key, built with {@link #tokenKey(String)} or {@link #subjectKey(String)}
+ * @param revokedAt
+ *            revocation date
+ * @param expiration
+ *            moment after which the revocation can be discarded
+ */
+public record TokenRevocation(String key, Instant revokedAt, Instant expiration) {
+
+    /**
+     * Prefix for subject keys.
+     */
+    private static final String SUBJECT_PREFIX = "sub:";
+
+    /**
+     * Prefix for token id keys.
+     */
+    private static final String TOKEN_PREFIX   = "jti:";
+
+    /**
+     * Returns the key for all the tokens of a subject.
+     *
+     * @param subject
+     *            token subject
+     * @return the key for the subject
+     */
+    public static final String subjectKey(final String subject) {
+        return SUBJECT_PREFIX + subject;
+    }
+
+    /**
+     * Returns the key for a single token.
+     *
+     * @param id
+     *            token id
+     * @return the key for the token
+     */
+    public static final String tokenKey(final String id) {
+        return TOKEN_PREFIX + id;
+    }
+
+    public TokenRevocation(final String key, final Instant revokedAt, final Instant expiration) {
+        Objects.requireNonNull(key, "Key can't be null");
+        Objects.requireNonNull(revokedAt, "Revocation date can't be null");
+        Objects.requireNonNull(expiration, "Expiration date can't be null");
+
+        this.key = key;
+        this.revokedAt = revokedAt;
+        this.expiration = expiration;
+    }
+
+}
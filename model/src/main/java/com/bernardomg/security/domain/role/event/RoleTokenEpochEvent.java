@@ -0,0 +1,77 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.security.domain.role.event;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import com.bernardomg.event.domain.AbstractEvent;
+
+/**
+ * Role token epoch increased event. The token epoch of all the users with the role was increased, so the tokens issued
+ * to them before it are no longer valid.
+ */
+public final class RoleTokenEpochEvent extends AbstractEvent {
+
+    private static final long serialVersionUID = -6290427312887460134L;
+
+    /**
+     * Role whose users had their token epoch increased.
+     */
+    private final String      role;
+
+    public RoleTokenEpochEvent(final Serializable source, final String role) {
+        super(source);
+
+        this.role = Objects.requireNonNull(role);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if ((obj == null) || (getClass() != obj.getClass())) {
+            return false;
+        }
+        final RoleTokenEpochEvent other = (RoleTokenEpochEvent) obj;
+        return Objects.equals(role, other.role);
+    }
+
+    public final String getRole() {
+        return role;
+    }
+
+    @Override
+    public final int hashCode() {
+        return Objects.hash(role);
+    }
+
+    @Override
+    public final String toString() {
+        return "RoleTokenEpochEvent [role=" + role + "]";
+    }
+
+}
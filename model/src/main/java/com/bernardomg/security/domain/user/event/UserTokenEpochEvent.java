@@ -0,0 +1,76 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.security.domain.user.event;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import com.bernardomg.event.domain.AbstractEvent;
+
+/**
+ * User token epoch increased event. The tokens issued to the user before it are no longer valid.
+ */
+public final class UserTokenEpochEvent extends AbstractEvent {
+
+    private static final long serialVersionUID = 2183746283416935327L;
+
+    /**
+     * User whose token epoch was increased.
+     */
+    private final String      username;
+
+    public UserTokenEpochEvent(final Serializable source, final String user) {
+        super(source);
+
+        username = Objects.requireNonNull(user);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if ((obj == null) || (getClass() != obj.getClass())) {
+            return false;
+        }
+        final UserTokenEpochEvent other = (UserTokenEpochEvent) obj;
+        return Objects.equals(username, other.username);
+    }
+
+    public final String getUsername() {
+        return username;
+    }
+
+    @Override
+    public final int hashCode() {
+        return Objects.hash(username);
+    }
+
+    @Override
+    public final String toString() {
+        return "UserTokenEpochEvent [username=" + username + "]";
+    }
+
+}
@@ -25,7 +25,8 @@
 package com.bernardomg.security.domain.user.exception;
 
 /**
- * Exception caused by a user token being already consumed.
+ * Exception caused by a user token being already consumed. It keeps the user the token belongs to, as a consumed token
+ * being used again may mean it was stolen.
  *
  * @author Bernardo Mart&iacute;nez Garrido
  *
@@ -34,8 +35,24 @@ public final class ConsumedTokenException extends InvalidTokenException {
 
     private static final long serialVersionUID = -3466160863479056525L;
 
-    public ConsumedTokenException(final String token) {
+    /**
+     * The user the token belongs to.
+     */
+    private final String      username;
+
+    public ConsumedTokenException(final String token, final String user) {
         super(String.format("Consumed token %s", token), token);
+
+        username = user;
+    }
+
+    /**
+     * Returns the user the token belongs to.
+     *
+     * @return the user the token belongs to
+     */
+    public final String getUsername() {
+        return username;
     }
 
 }
@@ -0,0 +1,71 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.security.domain.user.model;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import com.bernardomg.security.domain.permission.model.ResourcePermission;
+
+/**
+ * Immutable user data required for authenticating it. Includes the credentials, the status flags and the effective
+ * permissions.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public record UserAuthenticationDetails(long id, String email, String username, String name, String password,
+        boolean enabled, boolean notExpired, boolean notLocked, boolean passwordNotExpired,
+        Collection<ResourcePermission> permissions) {
+
+    public UserAuthenticationDetails(final long id, final String email, final String username, final String name,
+            final String password, final boolean enabled, final boolean notExpired, final boolean notLocked,
+            final boolean passwordNotExpired, final Collection<ResourcePermission> permissions) {
+        Objects.requireNonNull(username, "Username can't be null");
+        Objects.requireNonNull(password, "Password can't be null");
+        Objects.requireNonNull(permissions, "Permissions can't be null");
+
+        this.id = id;
+        this.email = email;
+        this.username = username;
+        this.name = name;
+        this.password = password;
+        this.enabled = enabled;
+        this.notExpired = notExpired;
+        this.notLocked = notLocked;
+        this.passwordNotExpired = passwordNotExpired;
+        this.permissions = List.copyOf(permissions);
+    }
+
+    @Override
+    public final String toString() {
+        // The password is never printed
+        return "UserAuthenticationDetails[id=" + id + ", email=" + email + ", username=" + username + ", name=" + name
+                + ", enabled=" + enabled + ", notExpired=" + notExpired + ", notLocked=" + notLocked
+                + ", passwordNotExpired=" + passwordNotExpired + ", permissions=" + permissions + "]";
+    }
+
+}
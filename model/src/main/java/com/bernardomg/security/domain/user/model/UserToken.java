@@ -24,10 +24,11 @@
 
 package com.bernardomg.security.domain.user.model;
 
+import java.security.SecureRandom;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Base64;
 import java.util.Objects;
-import java.util.UUID;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -71,7 +72,17 @@ public UserToken(final String username, final String name, final String scope, f
     /**
      * Logger for the class.
      */
-    private static final Logger log = LoggerFactory.getLogger(UserToken.class);
+    private static final Logger       log         = LoggerFactory.getLogger(UserToken.class);
+
+    /**
+     * Random generator for the token codes.
+     */
+    private static final SecureRandom RANDOM      = new SecureRandom();
+
+    /**
+     * Number of random bytes in each token code. This gives 256 bits of entropy.
+     */
+    private static final int          TOKEN_BYTES = 32;
 
     /**
      * Creates a copy of the token with the consumed flag active.
@@ -90,8 +101,7 @@ public static final UserToken create(final String usrname, final String scpe, fi
         creation = Instant.now();
         expiration = creation.plus(validity);
 
-        tokenCode = UUID.randomUUID()
-            .toString();
+        tokenCode = generateCode();
         return new UserToken(usrname, "", scpe, tokenCode, creation, expiration, false, false);
     }
 
@@ -114,7 +124,7 @@ public final void checkStatus(final String tokenScope) {
             // Consumed
             // It isn't a valid token
             log.warn("Consumed token: {}", token);
-            throw new ConsumedTokenException(token);
+            throw new ConsumedTokenException(token, username);
         }
         if (revoked) {
             // Revoked
@@ -131,4 +141,20 @@ public final void checkStatus(final String tokenScope) {
         }
     }
 
+    /**
+     * Generates a random token code, encoded as URL safe base 64 without padding.
+     *
+     * @return a random token code
+     */
+    private static final String generateCode() {
+        final byte[] bytes;
+
+        bytes = new byte[TOKEN_BYTES];
+        RANDOM.nextBytes(bytes);
+
+        return Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString(bytes);
+    }
+
 }
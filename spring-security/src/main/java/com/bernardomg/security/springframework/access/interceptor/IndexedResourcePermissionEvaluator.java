@@ -0,0 +1,61 @@
+
+package com.bernardomg.security.springframework.access.interceptor;
+
+import java.util.Objects;
+
+import org.springframework.security.core.Authentication;
+
+/**
+ * Resource permission evaluator based on a {@link ResourcePermissionIndex}. When the authentication is a
+ * {@link ResourcePermissionAuthenticationToken}, built with the same index, the permission is checked with a single
+ * bit test.
+ * <p>
+ * Otherwise, or when the permission is not indexed, the check is delegated to an
+ * {@link AuthorityResourcePermissionEvaluator}.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class IndexedResourcePermissionEvaluator implements ResourcePermissionEvaluator {
+
+    /**
+     * Evaluator for authentications which can't be checked with the index.
+     */
+    private final ResourcePermissionEvaluator fallback = new AuthorityResourcePermissionEvaluator();
+
+    /**
+     * Permissions index.
+     */
+    private final ResourcePermissionIndex     index;
+
+    public IndexedResourcePermissionEvaluator(final ResourcePermissionIndex idx) {
+        super();
+
+        index = Objects.requireNonNull(idx);
+    }
+
+    @Override
+    public final boolean isAuthorized(final Authentication authentication, final String resource,
+            final String action) {
+        final ResourcePermissionAuthenticationToken token;
+        final int                                   permission;
+        final boolean                               authorized;
+
+        if ((authentication instanceof ResourcePermissionAuthenticationToken)
+                && ((ResourcePermissionAuthenticationToken) authentication).isIndexedBy(index)) {
+            token = (ResourcePermissionAuthenticationToken) authentication;
+            permission = index.indexOf(resource, action);
+            if (permission >= 0) {
+                authorized = token.hasPermission(permission);
+            } else {
+                // Not indexed
+                authorized = fallback.isAuthorized(authentication, resource, action);
+            }
+        } else {
+            authorized = fallback.isAuthorized(authentication, resource, action);
+        }
+
+        return authorized;
+    }
+
+}
@@ -0,0 +1,65 @@
+
+package com.bernardomg.security.springframework.access.interceptor;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Objects;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * Authenticated token which, along the authorities, keeps the resource permissions as a bitset built from a
+ * {@link ResourcePermissionIndex}. This allows checking a permission with a single bit test.
+ * <p>
+ * The authorities are kept unchanged, so this token can be used anywhere a {@link UsernamePasswordAuthenticationToken}
+ * is expected.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class ResourcePermissionAuthenticationToken extends UsernamePasswordAuthenticationToken {
+
+    private static final long                       serialVersionUID = 3212405391957452153L;
+
+    /**
+     * Index used to build the permissions bitset. Not serialized, a deserialized token falls back to the authorities.
+     */
+    private final transient ResourcePermissionIndex index;
+
+    /**
+     * Permissions bitset.
+     */
+    private final BitSet                            permissions;
+
+    public ResourcePermissionAuthenticationToken(final Object principal, final Object credentials,
+            final Collection<? extends GrantedAuthority> authorities, final ResourcePermissionIndex idx) {
+        super(principal, credentials, authorities);
+
+        index = Objects.requireNonNull(idx);
+        permissions = index.toBitSet(authorities);
+    }
+
+    /**
+     * Checks if the permission with the received index is granted.
+     *
+     * @param permission
+     *            index of the permission to check
+     * @return {@code true} if the permission is granted, {@code false} otherwise
+     */
+    public final boolean hasPermission(final int permission) {
+        return permissions.get(permission);
+    }
+
+    /**
+     * Checks if the permissions were indexed with the received index.
+     *
+     * @param idx
+     *            index to check
+     * @return {@code true} if the permissions were indexed with the index, {@code false} otherwise
+     */
+    public final boolean isIndexedBy(final ResourcePermissionIndex idx) {
+        return index == idx;
+    }
+
+}
@@ -0,0 +1,179 @@
+
+package com.bernardomg.security.springframework.access.interceptor;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.core.GrantedAuthority;
+
+import com.bernardomg.security.domain.permission.model.ResourcePermission;
+import com.bernardomg.security.springframework.model.ResourceActionGrantedAuthority;
+
+/**
+ * Dictionary of the known resource permissions. Each resource and action pair is mapped to a dense int, which allows
+ * representing a set of permissions as a {@link BitSet}.
+ * <h2>Loading</h2>
+ * <p>
+ * The known permissions are read from the received supplier the first time the index is used. This way the
+ * permissions configuration files are already persisted when the index is built. Afterwards the index is never
+ * modified, so it can be shared between threads.
+ * <h2>Unknown permissions</h2>
+ * <p>
+ * Permissions created after building the index are not indexed. These are ignored when building a bitset, and
+ * {@link #indexOf(String, String)} returns {@code -1} for them.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class ResourcePermissionIndex {
+
+    /**
+     * Built dictionary.
+     *
+     * @param indexes
+     *            index for each permission, grouped by resource and then by action
+     * @param size
+     *            number of indexed permissions
+     */
+    private record Dictionary(Map<String, Map<String, Integer>> indexes, int size) {}
+
+    /**
+     * Logger for the class.
+     */
+    private static final Logger                            log = LoggerFactory.getLogger(ResourcePermissionIndex.class);
+
+    /**
+     * Dictionary for the known permissions. Built on first use.
+     */
+    private volatile Dictionary                            dictionary;
+
+    /**
+     * Supplier for the known permissions.
+     */
+    private final Supplier<Collection<ResourcePermission>> permissionsSupplier;
+
+    public ResourcePermissionIndex(final Supplier<Collection<ResourcePermission>> permissionsSupp) {
+        super();
+
+        permissionsSupplier = Objects.requireNonNull(permissionsSupp);
+    }
+
+    /**
+     * Returns the index for the resource and action. If the permission is unknown, then {@code -1} is returned.
+     *
+     * @param resource
+     *            permission resource
+     * @param action
+     *            permission action
+     * @return the index for the permission, or {@code -1} if it is unknown
+     */
+    public final int indexOf(final String resource, final String action) {
+        final Map<String, Integer> actions;
+        final Integer              index;
+        final int                  result;
+
+        actions = getDictionary().indexes()
+            .get(resource);
+        if (actions == null) {
+            result = -1;
+        } else {
+            index = actions.get(action);
+            if (index == null) {
+                result = -1;
+            } else {
+                result = index;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the number of indexed permissions.
+     *
+     * @return the number of indexed permissions
+     */
+    public final int size() {
+        return getDictionary().size();
+    }
+
+    /**
+     * Returns a bitset with the received authorities. Only {@link ResourceActionGrantedAuthority} for known permissions
+     * are included.
+     *
+     * @param authorities
+     *            authorities to transform
+     * @return bitset for the authorities
+     */
+    public final BitSet toBitSet(final Collection<? extends GrantedAuthority> authorities) {
+        final BitSet                   bits;
+        ResourceActionGrantedAuthority permission;
+        int                            index;
+
+        bits = new BitSet(size());
+        for (final GrantedAuthority authority : authorities) {
+            if (authority instanceof ResourceActionGrantedAuthority) {
+                permission = (ResourceActionGrantedAuthority) authority;
+                index = indexOf(permission.resource(), permission.action());
+                if (index >= 0) {
+                    bits.set(index);
+                }
+            }
+        }
+
+        return bits;
+    }
+
+    private final Dictionary buildDictionary() {
+        final Map<String, Map<String, Integer>> built;
+        final Collection<ResourcePermission>    permissions;
+        Map<String, Integer>                    actions;
+        int                                     next;
+
+        log.debug("Building resource permission index");
+
+        permissions = permissionsSupplier.get();
+        built = new HashMap<>();
+        next = 0;
+        for (final ResourcePermission permission : permissions) {
+            actions = built.computeIfAbsent(permission.resource(), k -> new HashMap<>());
+            if (!actions.containsKey(permission.action())) {
+                actions.put(permission.action(), next);
+                next++;
+            }
+        }
+
+        log.debug("Built resource permission index with {} permissions", next);
+
+        return new Dictionary(Map.copyOf(built), next);
+    }
+
+    /**
+     * Returns the dictionary, building it if needed.
+     *
+     * @return the dictionary
+     */
+    private final Dictionary getDictionary() {
+        Dictionary result;
+
+        result = dictionary;
+        if (result == null) {
+            synchronized (this) {
+                result = dictionary;
+                if (result == null) {
+                    result = buildDictionary();
+                    dictionary = result;
+                }
+            }
+        }
+
+        return result;
+    }
+
+}
@@ -0,0 +1,222 @@
+package com.bernardomg.security.springframework.login.authentication;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Counts events by key over a sliding window, and tells if a key went over the limit.
+ * <h2>Window</h2>
+ * <p>
+ * Each key keeps the count for the current fixed window and the previous one. The count over the sliding window is
+ * estimated by weighting the previous window by how much of it still overlaps the sliding window. This takes constant
+ * memory per key, no matter how many events are recorded.
+ * <h2>Concurrency</h2>
+ * <p>
+ * Each key is locked on its own, so there is no contention between different keys. Events are counted, and idle keys
+ * removed, inside the map operations for the key, so an event is never counted on a window which was just removed.
+ * <h2>Idle keys</h2>
+ * <p>
+ * Keys without events in the last two windows are removed, at most once per window.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class SlidingWindowLimiter {
+
+    /**
+     * Counts for a single key.
+     */
+    private static final class Window {
+
+        /**
+         * Events in the current window.
+         */
+        private long current;
+
+        /**
+         * Events in the previous window.
+         */
+        private long previous;
+
+        /**
+         * Start of the current window, in milliseconds.
+         */
+        private long start;
+
+        private Window(final long now) {
+            super();
+
+            start = now;
+        }
+
+        private final synchronized double estimate(final long now, final long size) {
+            final double overlap;
+
+            roll(now, size);
+            overlap = 1 - ((double) (now - start) / size);
+
+            return (previous * overlap) + current;
+        }
+
+        private final synchronized void increment(final long now, final long size) {
+            roll(now, size);
+            current++;
+        }
+
+        private final synchronized boolean isIdle(final long now, final long size) {
+            roll(now, size);
+
+            return (current == 0) && (previous == 0);
+        }
+
+        private final void roll(final long now, final long size) {
+            final long elapsed;
+
+            elapsed = (now - start) / size;
+            if (elapsed == 1) {
+                previous = current;
+                current = 0;
+                start += size;
+            } else if (elapsed > 1) {
+                previous = 0;
+                current = 0;
+                start += elapsed * size;
+            }
+        }
+
+    }
+
+    /**
+     * Logger for the class.
+     */
+    private static final Logger       log     = LoggerFactory.getLogger(SlidingWindowLimiter.class);
+
+    /**
+     * Clock used to place the events in the windows.
+     */
+    private final Clock               clock;
+
+    /**
+     * Maximum number of events allowed in the sliding window.
+     */
+    private final int                 limit;
+
+    /**
+     * Next moment idle keys can be removed, in milliseconds.
+     */
+    private volatile long             nextPurge;
+
+    /**
+     * Window size, in milliseconds.
+     */
+    private final long                size;
+
+    /**
+     * Windows for each key.
+     */
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    public SlidingWindowLimiter(final int lmt, final Duration window) {
+        this(lmt, window, Clock.systemUTC());
+    }
+
+    public SlidingWindowLimiter(final int lmt, final Duration window, final Clock clck) {
+        super();
+
+        if (lmt <= 0) {
+            throw new IllegalArgumentException("The limit should be positive");
+        }
+        if (window.toMillis() <= 0) {
+            throw new IllegalArgumentException("The window should be at least a millisecond");
+        }
+
+        limit = lmt;
+        size = window.toMillis();
+        clock = Objects.requireNonNull(clck);
+        nextPurge = clock.millis() + size;
+    }
+
+    /**
+     * Checks if the key reached the limit of events in the sliding window.
+     *
+     * @param key
+     *            key to check
+     * @return {@code true} if the key reached the limit, {@code false} otherwise
+     */
+    public final boolean isExceeded(final String key) {
+        final Window  window;
+        final boolean exceeded;
+
+        window = windows.get(key);
+        if (window == null) {
+            exceeded = false;
+        } else {
+            exceeded = window.estimate(clock.millis(), size) >= limit;
+        }
+
+        return exceeded;
+    }
+
+    /**
+     * Records an event for the key.
+     *
+     * @param key
+     *            key to record the event for
+     */
+    public final void record(final String key) {
+        final long now;
+
+        now = clock.millis();
+        windows.compute(key, (k, w) -> {
+            final Window window;
+
+            if (w == null) {
+                window = new Window(now);
+            } else {
+                window = w;
+            }
+            window.increment(now, size);
+
+            return window;
+        });
+
+        if (now >= nextPurge) {
+            purge(now);
+        }
+    }
+
+    /**
+     * Returns the number of tracked keys.
+     *
+     * @return the number of tracked keys
+     */
+    public final int size() {
+        return windows.size();
+    }
+
+    /**
+     * Removes the keys without events in the last two windows.
+     *
+     * @param now
+     *            current moment, in milliseconds
+     */
+    private final void purge(final long now) {
+        final int before;
+
+        nextPurge = now + size;
+        before = windows.size();
+        // Each key is removed inside the map, so it can't be removed while an event is counted
+        for (final String key : windows.keySet()) {
+            windows.computeIfPresent(key, (k, w) -> w.isIdle(now, size) ? null : w);
+        }
+
+        log.trace("Removed {} idle keys", before - windows.size());
+    }
+
+}
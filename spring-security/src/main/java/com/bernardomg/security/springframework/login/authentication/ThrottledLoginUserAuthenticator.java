@@ -0,0 +1,143 @@
+package com.bernardomg.security.springframework.login.authentication;
+
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.bernardomg.security.domain.login.exception.InvalidCredentialsException;
+import com.bernardomg.security.domain.login.model.Credentials;
+import com.bernardomg.security.usecase.login.authentication.LoginUserAuthenticator;
+import com.bernardomg.security.usecase.login.domain.LoginUser;
+
+/**
+ * Login authenticator which rejects attempts after too many failures, before checking the password. Wraps another
+ * authenticator, which is only called for accepted attempts.
+ * <h2>Limits</h2>
+ * <p>
+ * Failures are counted by username, and by client address. When any of them reaches its limit in the sliding window,
+ * the attempt is rejected with the same exception as invalid credentials. So rejected attempts don't cost a password
+ * hash, and can't be told apart from failed attempts.
+ * <h2>Client address</h2>
+ * <p>
+ * The client address is read from the current request. If the application is behind a proxy, the forwarded headers
+ * should be applied to the request. Without a request, only the username is checked.
+ * <h2>Statistics</h2>
+ * <p>
+ * Accepted and rejected attempts are counted, and can be read to be exposed as metrics.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class ThrottledLoginUserAuthenticator implements LoginUserAuthenticator {
+
+    /**
+     * Logger for the class.
+     */
+    private static final Logger          log      = LoggerFactory.getLogger(ThrottledLoginUserAuthenticator.class);
+
+    /**
+     * Number of accepted attempts.
+     */
+    private final LongAdder              accepted = new LongAdder();
+
+    /**
+     * Failures by client address.
+     */
+    private final SlidingWindowLimiter   addressLimiter;
+
+    /**
+     * Authenticator for the accepted attempts.
+     */
+    private final LoginUserAuthenticator delegate;
+
+    /**
+     * Number of rejected attempts.
+     */
+    private final LongAdder              rejected = new LongAdder();
+
+    /**
+     * Failures by username.
+     */
+    private final SlidingWindowLimiter   usernameLimiter;
+
+    public ThrottledLoginUserAuthenticator(final LoginUserAuthenticator dlg, final SlidingWindowLimiter usernameLmt,
+            final SlidingWindowLimiter addressLmt) {
+        super();
+
+        delegate = Objects.requireNonNull(dlg);
+        usernameLimiter = Objects.requireNonNull(usernameLmt);
+        addressLimiter = Objects.requireNonNull(addressLmt);
+    }
+
+    @Override
+    public final LoginUser authenticate(final Credentials credentials) {
+        final String           username;
+        final Optional<String> address;
+        final LoginUser        user;
+
+        username = credentials.username()
+            .toLowerCase(Locale.ROOT);
+        address = getClientAddress();
+
+        if (usernameLimiter.isExceeded(username) || address.map(addressLimiter::isExceeded)
+            .orElse(false)) {
+            log.debug("Too many failed login attempts for {} from {}, rejecting", username, address.orElse(""));
+            rejected.increment();
+            throw new InvalidCredentialsException();
+        }
+
+        accepted.increment();
+        try {
+            user = delegate.authenticate(credentials);
+        } catch (final InvalidCredentialsException exception) {
+            usernameLimiter.record(username);
+            address.ifPresent(addressLimiter::record);
+            throw exception;
+        }
+
+        return user;
+    }
+
+    /**
+     * Returns the number of accepted attempts.
+     *
+     * @return the number of accepted attempts
+     */
+    public final long getAcceptedCount() {
+        return accepted.sum();
+    }
+
+    /**
+     * Returns the number of rejected attempts.
+     *
+     * @return the number of rejected attempts
+     */
+    public final long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * Returns the address of the client making the current request, if there is a request.
+     *
+     * @return the client address
+     */
+    private final Optional<String> getClientAddress() {
+        final Optional<String> address;
+
+        if (RequestContextHolder.getRequestAttributes() instanceof final ServletRequestAttributes attributes) {
+            address = Optional.ofNullable(attributes.getRequest()
+                .getRemoteAddr());
+        } else {
+            address = Optional.empty();
+        }
+
+        return address;
+    }
+
+}
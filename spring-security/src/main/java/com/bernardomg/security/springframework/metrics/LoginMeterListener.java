@@ -0,0 +1,56 @@
+
+package com.bernardomg.security.springframework.metrics;
+
+import com.bernardomg.event.listener.EventListener;
+import com.bernardomg.security.domain.login.event.LogInEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Counts the login attempts. Successful and failed attempts share the counter name, and are told apart by the
+ * {@code result} tag.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class LoginMeterListener implements EventListener<LogInEvent> {
+
+    /**
+     * Counter for the failed login attempts.
+     */
+    private final Counter failure;
+
+    /**
+     * Counter for the successful login attempts.
+     */
+    private final Counter success;
+
+    public LoginMeterListener(final MeterRegistry registry) {
+        super();
+
+        success = Counter.builder("security.login")
+            .description("Login attempts")
+            .tag("result", "success")
+            .register(registry);
+        failure = Counter.builder("security.login")
+            .description("Login attempts")
+            .tag("result", "failure")
+            .register(registry);
+    }
+
+    @Override
+    public final Class<LogInEvent> getEventType() {
+        return LogInEvent.class;
+    }
+
+    @Override
+    public final void handle(final LogInEvent event) {
+        if (event.isLoggedIn()) {
+            success.increment();
+        } else {
+            failure.increment();
+        }
+    }
+
+}
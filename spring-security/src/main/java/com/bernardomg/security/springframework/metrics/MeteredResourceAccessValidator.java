@@ -0,0 +1,55 @@
+
+package com.bernardomg.security.springframework.metrics;
+
+import java.util.Objects;
+
+import com.bernardomg.framework.security.access.interceptor.ResourceAccessValidator;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Resource access validator which counts the denied accesses. The counters are tagged with the resource and action
+ * denied, which are bounded by the permissions known to the application.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class MeteredResourceAccessValidator implements ResourceAccessValidator {
+
+    /**
+     * Wrapped validator.
+     */
+    private final ResourceAccessValidator delegate;
+
+    /**
+     * Registry for the denial counters.
+     */
+    private final MeterRegistry           registry;
+
+    public MeteredResourceAccessValidator(final ResourceAccessValidator dlg, final MeterRegistry reg) {
+        super();
+
+        delegate = Objects.requireNonNull(dlg);
+        registry = Objects.requireNonNull(reg);
+    }
+
+    @Override
+    public final boolean isAuthorized(final String resource, final String action) {
+        final boolean authorized;
+
+        authorized = delegate.isAuthorized(resource, action);
+        if (!authorized) {
+            // The registry returns the already registered counter
+            Counter.builder("security.authorization.denied")
+                .description("Accesses denied to resources")
+                .tag("resource", resource)
+                .tag("action", action)
+                .register(registry)
+                .increment();
+        }
+
+        return authorized;
+    }
+
+}
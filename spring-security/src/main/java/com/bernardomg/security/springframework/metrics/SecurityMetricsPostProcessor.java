@@ -0,0 +1,237 @@
+
+package com.bernardomg.security.springframework.metrics;
+
+import java.util.Objects;
+import java.util.function.ToDoubleFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.bernardomg.framework.security.access.interceptor.ResourceAccessValidator;
+import com.bernardomg.jwt.encoding.TokenDecoder;
+import com.bernardomg.security.adapter.inbound.event.login.AsyncLoginEventListener;
+import com.bernardomg.security.springframework.login.authentication.ThrottledLoginUserAuthenticator;
+import com.bernardomg.security.springframework.password.BoundedPasswordEncoder;
+import com.bernardomg.security.springframework.retention.RetentionPurger;
+import com.bernardomg.security.springframework.web.jwt.JwtTokenDataCache;
+import com.bernardomg.security.springframework.web.jwt.JwtTokenDenylist;
+import com.bernardomg.security.springframework.web.jwt.TokenEpochCache;
+import com.bernardomg.security.springframework.web.jwt.TokenResolver;
+import com.bernardomg.security.springframework.web.whitelist.RouteMatcher;
+import com.bernardomg.security.usecase.login.authentication.LoginUserAuthenticator;
+import com.bernardomg.security.usecase.login.service.DefaultUserLoginAttempsService;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Instruments the security beans as they are created.
+ * <h2>Timers</h2>
+ * <p>
+ * The token resolver, token decoder, whitelist matcher, login authenticator and password encoder beans are wrapped
+ * with timed decorators. The resource access validator is wrapped to count the denied accesses.
+ * <h2>Statistics</h2>
+ * <p>
+ * Components which already keep their own statistics, such as the caches or the retention purger, are bound as
+ * function counters and gauges. These read the statistics when the metrics are published, so they add nothing to the
+ * request path.
+ * <h2>Registry</h2>
+ * <p>
+ * The meter registry is only looked up for the beans to instrument. If there is no registry, the beans are kept as
+ * they are.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class SecurityMetricsPostProcessor implements BeanPostProcessor {
+
+    /**
+     * Logger for the class.
+     */
+    private static final Logger                 log = LoggerFactory.getLogger(SecurityMetricsPostProcessor.class);
+
+    /**
+     * Meter registry provider. Resolved lazily, as post processors are created before most beans.
+     */
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public SecurityMetricsPostProcessor(final ObjectProvider<MeterRegistry> registry) {
+        super();
+
+        meterRegistry = Objects.requireNonNull(registry);
+    }
+
+    @Override
+    public final Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        final Object        target;
+        final MeterRegistry registry;
+        final Object        result;
+
+        // Proxied beans keep the statistics in the target
+        target = Objects.requireNonNullElse(AopProxyUtils.getSingletonTarget(bean), bean);
+        if (isInstrumented(target)) {
+            registry = meterRegistry.getIfAvailable();
+        } else {
+            registry = null;
+        }
+
+        if (registry == null) {
+            result = bean;
+        } else {
+            log.debug("Instrumenting bean {}", beanName);
+            bindStatistics(target, registry);
+            result = wrap(bean, registry);
+        }
+
+        return result;
+    }
+
+    /**
+     * Binds the statistics kept by the bean, if it keeps any.
+     *
+     * @param target
+     *            bean to bind
+     * @param registry
+     *            registry for the meters
+     */
+    private final void bindStatistics(final Object target, final MeterRegistry registry) {
+        if (target instanceof final JwtTokenDataCache cache) {
+            counter(registry, "security.token.cache.hits", cache, JwtTokenDataCache::getHitCount);
+            counter(registry, "security.token.cache.misses", cache, JwtTokenDataCache::getMissCount);
+            counter(registry, "security.token.cache.evictions", cache, JwtTokenDataCache::getEvictionCount);
+            gauge(registry, "security.token.cache.size", cache, JwtTokenDataCache::size);
+        } else if (target instanceof final JwtTokenDenylist denylist) {
+            counter(registry, "security.token.denylist.checks", denylist, JwtTokenDenylist::getCheckCount);
+            counter(registry, "security.token.denylist.false.positives", denylist,
+                JwtTokenDenylist::getFalsePositiveCount);
+            counter(registry, "security.token.denylist.revoked", denylist, JwtTokenDenylist::getRevokedCount);
+            gauge(registry, "security.token.denylist.size", denylist, JwtTokenDenylist::size);
+        } else if (target instanceof final TokenEpochCache epochs) {
+            counter(registry, "security.token.epoch.hits", epochs, TokenEpochCache::getHitCount);
+            counter(registry, "security.token.epoch.loads", epochs, TokenEpochCache::getLoadCount);
+            counter(registry, "security.token.epoch.stale", epochs, TokenEpochCache::getStaleCount);
+            gauge(registry, "security.token.epoch.size", epochs, TokenEpochCache::size);
+        } else if (target instanceof final ThrottledLoginUserAuthenticator throttled) {
+            counter(registry, "security.login.throttle.accepted", throttled,
+                ThrottledLoginUserAuthenticator::getAcceptedCount);
+            counter(registry, "security.login.throttle.rejected", throttled,
+                ThrottledLoginUserAuthenticator::getRejectedCount);
+        } else if (target instanceof final BoundedPasswordEncoder bounded) {
+            counter(registry, "security.password.pool.hashes", bounded, BoundedPasswordEncoder::getHashCount);
+            counter(registry, "security.password.pool.rejected", bounded, BoundedPasswordEncoder::getRejectedCount);
+            gauge(registry, "security.password.pool.active", bounded, BoundedPasswordEncoder::getActiveCount);
+            gauge(registry, "security.password.pool.queued", bounded, BoundedPasswordEncoder::getQueueSize);
+        } else if (target instanceof final AsyncLoginEventListener listener) {
+            counter(registry, "security.login.events.processed", listener,
+                AsyncLoginEventListener::getProcessedCount);
+            counter(registry, "security.login.events.batches", listener, AsyncLoginEventListener::getBatchCount);
+            counter(registry, "security.login.events.failures", listener, AsyncLoginEventListener::getFailureCount);
+            counter(registry, "security.login.events.saturations", listener,
+                AsyncLoginEventListener::getSaturationCount);
+            gauge(registry, "security.login.events.pending", listener, AsyncLoginEventListener::getPendingCount);
+        } else if (target instanceof final DefaultUserLoginAttempsService attempts) {
+            counter(registry, "security.login.lockouts", attempts, DefaultUserLoginAttempsService::getLockoutCount);
+        } else if (target instanceof final RetentionPurger purger) {
+            counter(registry, "security.retention.tokens.deleted", purger,
+                RetentionPurger::getUserTokensDeletedCount);
+            counter(registry, "security.retention.logins.deleted", purger,
+                RetentionPurger::getLoginRegistersDeletedCount);
+            counter(registry, "security.retention.runs", purger, RetentionPurger::getRunCount);
+            counter(registry, "security.retention.run.time", purger, p -> p.getRunMillis() / 1000d);
+            gauge(registry, "security.retention.last.run.time", purger, p -> p.getLastRunMillis() / 1000d);
+        }
+    }
+
+    /**
+     * Registers a function counter reading the statistic from the object.
+     *
+     * @param <T>
+     *            type of the object keeping the statistic
+     * @param registry
+     *            registry for the counter
+     * @param name
+     *            counter name
+     * @param obj
+     *            object keeping the statistic
+     * @param function
+     *            function reading the statistic
+     */
+    private final <T> void counter(final MeterRegistry registry, final String name, final T obj,
+            final ToDoubleFunction<T> function) {
+        FunctionCounter.builder(name, obj, function)
+            .register(registry);
+    }
+
+    /**
+     * Registers a gauge reading the value from the object.
+     *
+     * @param <T>
+     *            type of the object keeping the value
+     * @param registry
+     *            registry for the gauge
+     * @param name
+     *            gauge name
+     * @param obj
+     *            object keeping the value
+     * @param function
+     *            function reading the value
+     */
+    private final <T> void gauge(final MeterRegistry registry, final String name, final T obj,
+            final ToDoubleFunction<T> function) {
+        Gauge.builder(name, obj, function)
+            .register(registry);
+    }
+
+    /**
+     * Checks if the bean is wrapped or has statistics to bind.
+     *
+     * @param target
+     *            bean to check
+     * @return {@code true} if the bean is instrumented, {@code false} otherwise
+     */
+    private final boolean isInstrumented(final Object target) {
+        return (target instanceof TokenResolver) || (target instanceof TokenDecoder)
+                || (target instanceof RouteMatcher) || (target instanceof LoginUserAuthenticator)
+                || (target instanceof PasswordEncoder) || (target instanceof ResourceAccessValidator)
+                || (target instanceof JwtTokenDataCache) || (target instanceof JwtTokenDenylist)
+                || (target instanceof TokenEpochCache) || (target instanceof AsyncLoginEventListener)
+                || (target instanceof DefaultUserLoginAttempsService) || (target instanceof RetentionPurger);
+    }
+
+    /**
+     * Wraps the bean with its timed decorator. Beans without a decorator are returned as they are.
+     *
+     * @param bean
+     *            bean to wrap
+     * @param registry
+     *            registry for the meters
+     * @return the wrapped bean
+     */
+    private final Object wrap(final Object bean, final MeterRegistry registry) {
+        final Object result;
+
+        if (bean instanceof final TokenResolver resolver) {
+            result = new TimedTokenResolver(resolver, registry);
+        } else if (bean instanceof final TokenDecoder decoder) {
+            result = new TimedTokenDecoder(decoder, registry);
+        } else if (bean instanceof final RouteMatcher matcher) {
+            result = new TimedRouteMatcher(matcher, registry);
+        } else if (bean instanceof final LoginUserAuthenticator authenticator) {
+            result = new TimedLoginUserAuthenticator(authenticator, registry);
+        } else if (bean instanceof final PasswordEncoder encoder) {
+            result = new TimedPasswordEncoder(encoder, registry);
+        } else if (bean instanceof final ResourceAccessValidator validator) {
+            result = new MeteredResourceAccessValidator(validator, registry);
+        } else {
+            result = bean;
+        }
+
+        return result;
+    }
+
+}
@@ -0,0 +1,45 @@
+
+package com.bernardomg.security.springframework.metrics;
+
+import java.util.Objects;
+
+import com.bernardomg.security.domain.login.model.Credentials;
+import com.bernardomg.security.usecase.login.authentication.LoginUserAuthenticator;
+import com.bernardomg.security.usecase.login.domain.LoginUser;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Login user authenticator which records the time taken by each authentication. Failed authentications are timed too.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class TimedLoginUserAuthenticator implements LoginUserAuthenticator {
+
+    /**
+     * Wrapped authenticator.
+     */
+    private final LoginUserAuthenticator delegate;
+
+    /**
+     * Timer for the authentications.
+     */
+    private final Timer                  timer;
+
+    public TimedLoginUserAuthenticator(final LoginUserAuthenticator dlg, final MeterRegistry registry) {
+        super();
+
+        delegate = Objects.requireNonNull(dlg);
+        timer = Timer.builder("security.login.authenticate")
+            .description("Time taken to authenticate the login credentials")
+            .register(registry);
+    }
+
+    @Override
+    public final LoginUser authenticate(final Credentials credentials) {
+        return timer.record(() -> delegate.authenticate(credentials));
+    }
+
+}
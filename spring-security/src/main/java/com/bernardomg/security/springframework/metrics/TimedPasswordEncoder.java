@@ -0,0 +1,73 @@
+
+package com.bernardomg.security.springframework.metrics;
+
+import java.util.Objects;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Password encoder which records the time taken to hash and verify passwords. Both operations share the timer name,
+ * and are told apart by the {@code operation} tag.
+ * <p>
+ * If the wrapped encoder has to be closed, closing this encoder closes it.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class TimedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    /**
+     * Wrapped encoder.
+     */
+    private final PasswordEncoder delegate;
+
+    /**
+     * Timer for the password hashing.
+     */
+    private final Timer           encodeTimer;
+
+    /**
+     * Timer for the password verification.
+     */
+    private final Timer           matchesTimer;
+
+    public TimedPasswordEncoder(final PasswordEncoder dlg, final MeterRegistry registry) {
+        super();
+
+        delegate = Objects.requireNonNull(dlg);
+        encodeTimer = Timer.builder("security.password.hashing")
+            .description("Time taken to hash or verify a password")
+            .tag("operation", "encode")
+            .register(registry);
+        matchesTimer = Timer.builder("security.password.hashing")
+            .description("Time taken to hash or verify a password")
+            .tag("operation", "matches")
+            .register(registry);
+    }
+
+    @Override
+    public final void close() throws Exception {
+        if (delegate instanceof final AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    @Override
+    public final String encode(final CharSequence rawPassword) {
+        return encodeTimer.record(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public final boolean matches(final CharSequence rawPassword, final String encodedPassword) {
+        return matchesTimer.record(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public final boolean upgradeEncoding(final String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+}
@@ -0,0 +1,44 @@
+
+package com.bernardomg.security.springframework.metrics;
+
+import java.util.Objects;
+
+import com.bernardomg.security.springframework.web.whitelist.RouteMatcher;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Route matcher which records the time taken to check each request. It is used for the whitelist, which is checked
+ * before applying the security filters.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class TimedRouteMatcher implements RouteMatcher {
+
+    /**
+     * Wrapped matcher.
+     */
+    private final RouteMatcher delegate;
+
+    /**
+     * Timer for the checks.
+     */
+    private final Timer        timer;
+
+    public TimedRouteMatcher(final RouteMatcher dlg, final MeterRegistry registry) {
+        super();
+
+        delegate = Objects.requireNonNull(dlg);
+        timer = Timer.builder("security.whitelist.match")
+            .description("Time taken to check the request against the whitelist")
+            .register(registry);
+    }
+
+    @Override
+    public final boolean matches(final String method, final String uri) {
+        return timer.record(() -> delegate.matches(method, uri));
+    }
+
+}
@@ -0,0 +1,118 @@
+
+package com.bernardomg.security.springframework.metrics;
+
+import java.util.Objects;
+
+import com.bernardomg.jwt.encoding.JwtTokenData;
+import com.bernardomg.jwt.encoding.TokenDecoder;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.PrematureJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Token decoder which records the time taken to decode each token, and counts the rejected tokens.
+ * <h2>Rejections</h2>
+ * <p>
+ * Tokens are rejected by the decoder by throwing an exception. These are counted by reason, with the {@code reason}
+ * tag:
+ * <ul>
+ * <li>{@code expired}: the token expiration date has passed</li>
+ * <li>{@code before_start}: the token is not valid yet</li>
+ * <li>{@code bad_signature}: the token signature can't be verified</li>
+ * <li>{@code invalid}: any other error, such as malformed tokens</li>
+ * </ul>
+ * The exception is always rethrown.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class TimedTokenDecoder implements TokenDecoder {
+
+    /**
+     * Name for the rejected tokens counters.
+     */
+    private static final String REJECTED_NAME = "security.token.rejected";
+
+    /**
+     * Counter for signatures which can't be verified.
+     */
+    private final Counter       badSignature;
+
+    /**
+     * Counter for tokens not valid yet.
+     */
+    private final Counter       beforeStart;
+
+    /**
+     * Wrapped decoder.
+     */
+    private final TokenDecoder  delegate;
+
+    /**
+     * Counter for expired tokens.
+     */
+    private final Counter       expired;
+
+    /**
+     * Counter for any other rejection.
+     */
+    private final Counter       invalid;
+
+    /**
+     * Timer for the decoding.
+     */
+    private final Timer         timer;
+
+    public TimedTokenDecoder(final TokenDecoder dlg, final MeterRegistry registry) {
+        super();
+
+        delegate = Objects.requireNonNull(dlg);
+        timer = Timer.builder("security.token.decode")
+            .description("Time taken to decode and verify the token")
+            .register(registry);
+        expired = rejectedCounter("expired", registry);
+        beforeStart = rejectedCounter("before_start", registry);
+        badSignature = rejectedCounter("bad_signature", registry);
+        invalid = rejectedCounter("invalid", registry);
+    }
+
+    @Override
+    public final JwtTokenData decode(final String token) {
+        try {
+            return timer.record(() -> delegate.decode(token));
+        } catch (final ExpiredJwtException e) {
+            expired.increment();
+            throw e;
+        } catch (final PrematureJwtException e) {
+            beforeStart.increment();
+            throw e;
+        } catch (final SignatureException e) {
+            badSignature.increment();
+            throw e;
+        } catch (final RuntimeException e) {
+            invalid.increment();
+            throw e;
+        }
+    }
+
+    /**
+     * Registers the rejected tokens counter for the reason.
+     *
+     * @param reason
+     *            rejection reason
+     * @param registry
+     *            registry for the counter
+     * @return the rejected tokens counter
+     */
+    private final Counter rejectedCounter(final String reason, final MeterRegistry registry) {
+        return Counter.builder(REJECTED_NAME)
+            .description("Tokens rejected while decoding")
+            .tag("reason", reason)
+            .register(registry);
+    }
+
+}
@@ -0,0 +1,46 @@
+
+package com.bernardomg.security.springframework.metrics;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import com.bernardomg.security.springframework.web.jwt.TokenResolver;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Token resolver which records the time taken to resolve each token.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class TimedTokenResolver implements TokenResolver {
+
+    /**
+     * Wrapped resolver.
+     */
+    private final TokenResolver delegate;
+
+    /**
+     * Timer for the resolutions.
+     */
+    private final Timer         timer;
+
+    public TimedTokenResolver(final TokenResolver dlg, final MeterRegistry registry) {
+        super();
+
+        delegate = Objects.requireNonNull(dlg);
+        timer = Timer.builder("security.token.resolve")
+            .description("Time taken to resolve the token from the request")
+            .register(registry);
+    }
+
+    @Override
+    public final Optional<String> resolve(final HttpServletRequest request) {
+        return timer.record(() -> delegate.resolve(request));
+    }
+
+}
@@ -0,0 +1,128 @@
+package com.bernardomg.security.springframework.password;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+/**
+ * Finds the bcrypt strength which takes as close as possible to a target time to hash a password on this host, without
+ * going over it.
+ * <h2>Measure</h2>
+ * <p>
+ * Each strength is measured by hashing a few times, and taking the median. Each strength doubles the time of the
+ * previous one, so strengths are tried from the minimum upwards, and the first one over the target stops the search.
+ * <h2>Bounds</h2>
+ * <p>
+ * The result is never below the minimum strength, even if it goes over the target. This keeps a slow host from
+ * weakening the hashes. Nor it is above the maximum strength.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class BcryptStrengthCalibrator {
+
+    /**
+     * Logger for the class.
+     */
+    private static final Logger log      = LoggerFactory.getLogger(BcryptStrengthCalibrator.class);
+
+    /**
+     * Password hashed during the measures.
+     */
+    private static final String PASSWORD = "calibration-password";
+
+    /**
+     * Highest strength to return.
+     */
+    private final int           maxStrength;
+
+    /**
+     * Lowest strength to return.
+     */
+    private final int           minStrength;
+
+    /**
+     * Number of hashes per strength.
+     */
+    private final int           samples;
+
+    public BcryptStrengthCalibrator(final int minStrgth, final int maxStrgth, final int smpls) {
+        super();
+
+        if ((minStrgth < 4) || (maxStrgth > 31)) {
+            throw new IllegalArgumentException("The strengths should be between 4 and 31");
+        }
+        if (minStrgth > maxStrgth) {
+            throw new IllegalArgumentException("The minimum strength should not be above the maximum");
+        }
+        if (smpls <= 0) {
+            throw new IllegalArgumentException("The samples should be positive");
+        }
+
+        minStrength = minStrgth;
+        maxStrength = maxStrgth;
+        samples = smpls;
+    }
+
+    /**
+     * Returns the highest strength which hashes a password in the target time.
+     *
+     * @param target
+     *            target hash time
+     * @return the strength closest to the target time
+     */
+    public final int calibrate(final Duration target) {
+        final String salt;
+        int          strength;
+        Duration     measured;
+        boolean      fits;
+
+        log.debug("Calibrating bcrypt strength for a target of {}", target);
+
+        // Warms up the hashing code, so the first measure isn't penalized
+        salt = BCrypt.gensalt(minStrength);
+        BCrypt.hashpw(PASSWORD, salt);
+
+        strength = minStrength;
+        fits = true;
+        while (fits && (strength < maxStrength)) {
+            measured = measure(strength + 1);
+            log.trace("Bcrypt strength {} takes {}", strength + 1, measured);
+            fits = measured.compareTo(target) <= 0;
+            if (fits) {
+                strength++;
+            }
+        }
+
+        log.debug("Calibrated bcrypt strength to {}", strength);
+
+        return strength;
+    }
+
+    /**
+     * Returns the median time to hash a password with the strength.
+     *
+     * @param strength
+     *            strength to measure
+     * @return the median hash time
+     */
+    private final Duration measure(final int strength) {
+        final String salt;
+        final long[] times;
+        long         start;
+
+        salt = BCrypt.gensalt(strength);
+        times = new long[samples];
+        for (int i = 0; i < samples; i++) {
+            start = System.nanoTime();
+            BCrypt.hashpw(PASSWORD, salt);
+            times[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(times);
+
+        return Duration.ofNanos(times[samples / 2]);
+    }
+
+}
@@ -0,0 +1,264 @@
+package com.bernardomg.security.springframework.password;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Password encoder which runs the wrapped encoder on a dedicated, bounded, pool. This keeps a burst of password hashes,
+ * such as a login spike, from taking all the processors.
+ * <h2>Backpressure</h2>
+ * <p>
+ * At most the configured number of hashes run at once, and a limited number wait in the queue. If the queue is full,
+ * or the hash doesn't start before the queue timeout, a {@link PasswordHashingUnavailableException} is thrown. A hash
+ * which already started is always completed.
+ * <h2>Statistics</h2>
+ * <p>
+ * The queue depth, rejections, and the number and total time of completed hashes can be read to be exposed as metrics.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    /**
+     * Logger for the class.
+     */
+    private static final Logger      log          = LoggerFactory.getLogger(BoundedPasswordEncoder.class);
+
+    /**
+     * Wrapped encoder.
+     */
+    private final PasswordEncoder    delegate;
+
+    /**
+     * Pool running the hashes.
+     */
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Number of completed hashes.
+     */
+    private final LongAdder          hashes       = new LongAdder();
+
+    /**
+     * Total time spent on completed hashes, in nanoseconds.
+     */
+    private final LongAdder          hashTime     = new LongAdder();
+
+    /**
+     * Maximum time a hash waits for a thread, in nanoseconds.
+     */
+    private final long               queueTimeout;
+
+    /**
+     * Number of rejected hashes.
+     */
+    private final LongAdder          rejections   = new LongAdder();
+
+    /**
+     * Counter for the thread names.
+     */
+    private final AtomicInteger      threadNumber = new AtomicInteger();
+
+    public BoundedPasswordEncoder(final PasswordEncoder dlg, final int concurrency, final int queueCapacity,
+            final Duration timeout) {
+        super();
+
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("The concurrency should be positive");
+        }
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("The queue capacity should be positive");
+        }
+
+        delegate = Objects.requireNonNull(dlg);
+        queueTimeout = timeout.toNanos();
+        executor = new ThreadPoolExecutor(concurrency, concurrency, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), r -> {
+                final Thread thread;
+
+                thread = new Thread(r, "password-hashing-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+
+                return thread;
+            });
+    }
+
+    /**
+     * Stops the pool. Hashes already queued are still completed.
+     */
+    @Override
+    public final void close() {
+        executor.shutdown();
+    }
+
+    @Override
+    public final String encode(final CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword));
+    }
+
+    /**
+     * Returns the number of hashes being run.
+     *
+     * @return the number of hashes being run
+     */
+    public final int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    /**
+     * Returns the number of completed hashes.
+     *
+     * @return the number of completed hashes
+     */
+    public final long getHashCount() {
+        return hashes.sum();
+    }
+
+    /**
+     * Returns the total time spent on completed hashes. Along the number of hashes, gives the mean latency.
+     *
+     * @return the total time spent on completed hashes
+     */
+    public final Duration getHashTime() {
+        return Duration.ofNanos(hashTime.sum());
+    }
+
+    /**
+     * Returns the number of hashes waiting for a thread.
+     *
+     * @return the number of hashes waiting for a thread
+     */
+    public final int getQueueSize() {
+        return executor.getQueue()
+            .size();
+    }
+
+    /**
+     * Returns the number of rejected hashes. Includes both hashes rejected by a full queue, and those which timed out
+     * in the queue.
+     *
+     * @return the number of rejected hashes
+     */
+    public final long getRejectedCount() {
+        return rejections.sum();
+    }
+
+    @Override
+    public final boolean matches(final CharSequence rawPassword, final String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public final boolean upgradeEncoding(final String encodedPassword) {
+        // Doesn't hash, there is no need to use the pool
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Runs the hash in the pool, and waits for the result.
+     *
+     * @param <T>
+     *            type of the result
+     * @param hash
+     *            hash to run
+     * @return the hash result
+     */
+    private final <T> T run(final Callable<T> hash) {
+        final AtomicBoolean claimed;
+        final Future<T>     future;
+        T                   result;
+
+        // Claimed by the first one between the pool thread starting the hash, and the caller giving up on it
+        claimed = new AtomicBoolean();
+        try {
+            future = executor.submit(() -> {
+                final T value;
+
+                if (claimed.compareAndSet(false, true)) {
+                    value = timed(hash);
+                } else {
+                    // The caller already gave up
+                    value = null;
+                }
+
+                return value;
+            });
+        } catch (final RejectedExecutionException e) {
+            log.warn("Password hashing queue is full, rejecting hash");
+            rejections.increment();
+            throw new PasswordHashingUnavailableException(e);
+        }
+
+        try {
+            try {
+                result = future.get(queueTimeout, TimeUnit.NANOSECONDS);
+            } catch (final TimeoutException e) {
+                if (claimed.compareAndSet(false, true)) {
+                    // Still waiting in the queue
+                    log.warn("Password hashing queue timed out, rejecting hash");
+                    future.cancel(false);
+                    executor.purge();
+                    rejections.increment();
+                    throw new PasswordHashingUnavailableException(e);
+                }
+                // Already running, it is completed
+                result = future.get();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread()
+                .interrupt();
+            claimed.set(true);
+            future.cancel(false);
+            throw new PasswordHashingUnavailableException(e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof final RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+
+        return result;
+    }
+
+    /**
+     * Runs the hash, and adds its time to the statistics.
+     *
+     * @param <T>
+     *            type of the result
+     * @param hash
+     *            hash to run
+     * @return the hash result
+     * @throws Exception
+     *             if the hash fails
+     */
+    private final <T> T timed(final Callable<T> hash) throws Exception {
+        final long start;
+        final T    result;
+
+        start = System.nanoTime();
+        try {
+            result = hash.call();
+        } finally {
+            hashTime.add(System.nanoTime() - start);
+            hashes.increment();
+        }
+
+        return result;
+    }
+
+}
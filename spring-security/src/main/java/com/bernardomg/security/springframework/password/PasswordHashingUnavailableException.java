@@ -0,0 +1,23 @@
+package com.bernardomg.security.springframework.password;
+
+/**
+ * Thrown when a password can't be hashed, or checked, because the hashing pool is saturated.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class PasswordHashingUnavailableException extends RuntimeException {
+
+    /**
+     * Serialization id.
+     */
+    private static final long serialVersionUID = 6061962441593342385L;
+
+    public PasswordHashingUnavailableException() {
+        super("Password hashing is currently unavailable");
+    }
+
+    public PasswordHashingUnavailableException(final Throwable cause) {
+        super("Password hashing is currently unavailable", cause);
+    }
+
+}
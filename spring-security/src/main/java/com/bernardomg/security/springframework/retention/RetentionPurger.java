@@ -0,0 +1,296 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.security.springframework.retention;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToIntBiFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.bernardomg.security.domain.login.repository.LoginRegisterRepository;
+import com.bernardomg.security.domain.user.repository.UserTokenRepository;
+
+/**
+ * Removes old user tokens and login registers, which otherwise would be kept forever.
+ * <h2>Retention</h2>
+ * <p>
+ * Each table has its own retention. User tokens are removed once they have been expired for longer than it, and login
+ * registers once they are older than it.
+ * <h2>Batches</h2>
+ * <p>
+ * Rows are removed in small batches, each in its own transaction, so locks are never held for long. Each table is
+ * purged until there is nothing left to remove, or the time budget runs out. The budget is shared by all the tables,
+ * but each of them gets at least one batch, so none is left behind when another one has too much to remove. Anything
+ * left is removed on the next run.
+ * <h2>Statistics</h2>
+ * <p>
+ * Removed rows, runs and the time spent on them are counted, and can be read to be exposed as metrics.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class RetentionPurger implements AutoCloseable {
+
+    /**
+     * Logger for the class.
+     */
+    private static final Logger            log                   = LoggerFactory.getLogger(RetentionPurger.class);
+
+    /**
+     * Maximum number of rows removed on each batch.
+     */
+    private final int                      batchSize;
+
+    /**
+     * Clock used to find out the rows to remove, and to check the time budget.
+     */
+    private final Clock                    clock;
+
+    /**
+     * Time between runs.
+     */
+    private final Duration                 interval;
+
+    /**
+     * Duration of the last run, in milliseconds.
+     */
+    private volatile long                  lastRunMillis;
+
+    /**
+     * Number of removed login registers.
+     */
+    private final LongAdder                loginRegistersDeleted = new LongAdder();
+
+    /**
+     * Login register repository.
+     */
+    private final LoginRegisterRepository  loginRegisterRepository;
+
+    /**
+     * How long login registers are kept.
+     */
+    private final Duration                 loginRegisterRetention;
+
+    /**
+     * Total time spent on the runs, in milliseconds.
+     */
+    private final LongAdder                runMillis             = new LongAdder();
+
+    /**
+     * Number of runs.
+     */
+    private final LongAdder                runs                  = new LongAdder();
+
+    /**
+     * Scheduler for the runs.
+     */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Maximum time spent purging on a single run.
+     */
+    private final Duration                 timeBudget;
+
+    /**
+     * Number of removed user tokens.
+     */
+    private final LongAdder                userTokensDeleted     = new LongAdder();
+
+    /**
+     * User token repository.
+     */
+    private final UserTokenRepository      userTokenRepository;
+
+    /**
+     * How long user tokens are kept after expiring.
+     */
+    private final Duration                 userTokenRetention;
+
+    public RetentionPurger(final UserTokenRepository userTokenRepo, final Duration userTokenRet,
+            final LoginRegisterRepository loginRegisterRepo, final Duration loginRegisterRet, final int batch,
+            final Duration budget, final Duration runInterval) {
+        this(userTokenRepo, userTokenRet, loginRegisterRepo, loginRegisterRet, batch, budget, runInterval,
+            Clock.systemUTC());
+    }
+
+    public RetentionPurger(final UserTokenRepository userTokenRepo, final Duration userTokenRet,
+            final LoginRegisterRepository loginRegisterRepo, final Duration loginRegisterRet, final int batch,
+            final Duration budget, final Duration runInterval, final Clock clck) {
+        super();
+
+        userTokenRepository = Objects.requireNonNull(userTokenRepo);
+        userTokenRetention = Objects.requireNonNull(userTokenRet);
+        loginRegisterRepository = Objects.requireNonNull(loginRegisterRepo);
+        loginRegisterRetention = Objects.requireNonNull(loginRegisterRet);
+        batchSize = batch;
+        timeBudget = Objects.requireNonNull(budget);
+        interval = Objects.requireNonNull(runInterval);
+        clock = Objects.requireNonNull(clck);
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            final Thread thread;
+
+            thread = new Thread(r, "security-retention");
+            thread.setDaemon(true);
+
+            return thread;
+        });
+    }
+
+    /**
+     * Stops the runs.
+     */
+    @Override
+    public final void close() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Returns the duration of the last run, in milliseconds.
+     *
+     * @return the duration of the last run
+     */
+    public final long getLastRunMillis() {
+        return lastRunMillis;
+    }
+
+    /**
+     * Returns the number of removed login registers.
+     *
+     * @return the number of removed login registers
+     */
+    public final long getLoginRegistersDeletedCount() {
+        return loginRegistersDeleted.sum();
+    }
+
+    /**
+     * Returns the number of runs.
+     *
+     * @return the number of runs
+     */
+    public final long getRunCount() {
+        return runs.sum();
+    }
+
+    /**
+     * Returns the total time spent on the runs, in milliseconds.
+     *
+     * @return the total time spent on the runs
+     */
+    public final long getRunMillis() {
+        return runMillis.sum();
+    }
+
+    /**
+     * Returns the number of removed user tokens.
+     *
+     * @return the number of removed user tokens
+     */
+    public final long getUserTokensDeletedCount() {
+        return userTokensDeleted.sum();
+    }
+
+    /**
+     * Removes the user tokens and login registers past their retention.
+     */
+    public final synchronized void purge() {
+        final Instant start;
+        final Instant deadline;
+        final int     tokens;
+        final int     registers;
+        final long    elapsed;
+
+        start = clock.instant();
+        deadline = start.plus(timeBudget);
+
+        tokens = purge(userTokenRepository::deleteExpired, start.minus(userTokenRetention), deadline);
+        userTokensDeleted.add(tokens);
+
+        registers = purge(loginRegisterRepository::deleteBefore, start.minus(loginRegisterRetention), deadline);
+        loginRegistersDeleted.add(registers);
+
+        elapsed = Duration.between(start, clock.instant())
+            .toMillis();
+        lastRunMillis = elapsed;
+        runMillis.add(elapsed);
+        runs.increment();
+
+        log.debug("Removed {} user tokens and {} login registers in {} ms", tokens, registers, elapsed);
+    }
+
+    /**
+     * Starts the runs. The first one is after the interval, so it doesn't slow down the application start.
+     */
+    public final void start() {
+        scheduler.scheduleWithFixedDelay(this::run, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Removes the rows before the date in batches, until there is nothing left to remove or the deadline is reached.
+     * The first batch is always removed.
+     *
+     * @param delete
+     *            function removing a batch, receiving the date and the batch size
+     * @param date
+     *            date before which the rows are removed
+     * @param deadline
+     *            end of the time budget for the run
+     * @return the number of removed rows
+     */
+    private final int purge(final ToIntBiFunction<Instant, Integer> delete, final Instant date,
+            final Instant deadline) {
+        int total;
+        int deleted;
+
+        total = 0;
+        do {
+            deleted = delete.applyAsInt(date, batchSize);
+            total += deleted;
+        } while ((deleted >= batchSize) && clock.instant()
+            .isBefore(deadline));
+
+        return total;
+    }
+
+    /**
+     * Purges, without stopping the runs on errors.
+     */
+    private final void run() {
+        try {
+            purge();
+        } catch (final RuntimeException e) {
+            log.warn("Failed removing old user tokens and login registers", e);
+        }
+    }
+
+}
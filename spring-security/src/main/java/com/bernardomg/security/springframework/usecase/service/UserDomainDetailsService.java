@@ -34,11 +34,12 @@
 import org.slf4j.LoggerFactory;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
 import com.bernardomg.security.domain.permission.model.ResourcePermission;
-import com.bernardomg.security.domain.user.model.User;
+import com.bernardomg.security.domain.user.model.UserAuthenticationDetails;
 import com.bernardomg.security.domain.user.repository.UserRepository;
 import com.bernardomg.security.springframework.model.ResourceActionGrantedAuthority;
 import com.bernardomg.security.springframework.userdetails.SecurityUserDetails;
@@ -47,12 +48,15 @@
 
 /**
  * User details service which takes the user data from the domain layer.
+ * <p>
+ * It also stores upgraded password hashes. After a successful login with an outdated hash, the authentication provider
+ * sends the password encoded with the current settings, which replaces the old hash.
  *
  * @author Bernardo Mart&iacute;nez Garrido
  *
  */
 @Transactional
-public final class UserDomainDetailsService implements UserDetailsService {
+public final class UserDomainDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     /**
      * Logger for the class.
@@ -80,27 +84,26 @@ public UserDomainDetailsService(final UserRepository userRepo) {
 
     @Override
     public final UserDetails loadUserByUsername(final String username) throws UsernameNotFoundException {
-        final User                                   user;
+        final UserAuthenticationDetails              user;
         final Collection<? extends GrantedAuthority> authorities;
         final UserDetails                            details;
-        final String                                 password;
         final String                                 cleanedUsername;
         final Matcher                                emailMatcher;
-        final Long                                   id;
 
         cleanedUsername = username.toLowerCase(Locale.ROOT);
 
         log.trace("Loading user {}", cleanedUsername);
 
+        // The credentials, flags and permissions are read at once
         emailMatcher = emailPattern.matcher(username);
         if (emailMatcher.find()) {
-            user = userRepository.findOneByEmail(cleanedUsername)
+            user = userRepository.findAuthenticationDetailsByEmail(cleanedUsername)
                 .orElseThrow(() -> {
                     log.debug("Username {} not found in database", cleanedUsername);
                     throw new UsernameNotFoundException("Invalid username or credentials");
                 });
         } else {
-            user = userRepository.findOne(cleanedUsername)
+            user = userRepository.findAuthenticationDetails(cleanedUsername)
                 .orElseThrow(() -> {
                     log.debug("Username {} not found in database", cleanedUsername);
                     throw new UsernameNotFoundException("Invalid username or credentials");
@@ -117,20 +120,8 @@ public final UserDetails loadUserByUsername(final String username) throws Userna
             throw new UsernameNotFoundException("Invalid username or credentials");
         }
 
-        password = userRepository.findPassword(user.username())
-            .orElseThrow(() -> {
-                log.debug("Username {} not found in database", cleanedUsername);
-                throw new UsernameNotFoundException("Invalid username or credentials");
-            });
-
-        id = userRepository.findIdByUsername(user.username())
-            .orElseThrow(() -> {
-                log.debug("Username {} not found in database", cleanedUsername);
-                throw new UsernameNotFoundException("Invalid username or credentials");
-            });
-
-        details = new SecurityUserDetails(id, user.email(), user.username(), user.name(), password, user.enabled(),
-            user.notExpired(), user.passwordNotExpired(), user.notLocked(), authorities);
+        details = new SecurityUserDetails(user.id(), user.email(), user.username(), user.name(), user.password(),
+            user.enabled(), user.notExpired(), user.passwordNotExpired(), user.notLocked(), authorities);
 
         log.debug("User {} exists. Enabled: {}. Non expired: {}. Non locked: {}. Credentials non expired: {}",
             cleanedUsername, details.isEnabled(), details.isAccountNonExpired(), details.isAccountNonLocked(),
@@ -142,6 +133,26 @@ public final UserDetails loadUserByUsername(final String username) throws Userna
         return details;
     }
 
+    @Override
+    public final UserDetails updatePassword(final UserDetails user, final String newPassword) {
+        final UserDetails details;
+
+        // Called after a successful login, when the password hash is outdated
+        log.debug("Upgrading password hash for {}", user.getUsername());
+
+        userRepository.updatePasswordHash(user.getUsername(), newPassword);
+
+        if (user instanceof final SecurityUserDetails securityUser) {
+            details = new SecurityUserDetails(securityUser.getId(), securityUser.getEmail(), securityUser.getUsername(),
+                securityUser.getName(), newPassword, securityUser.isEnabled(), securityUser.isNotExpired(),
+                securityUser.isPasswordNotExpired(), securityUser.isNotLocked(), securityUser.getAuthorities());
+        } else {
+            details = user;
+        }
+
+        return details;
+    }
+
     private final GrantedAuthority toAuthority(final ResourcePermission permission) {
         return new ResourceActionGrantedAuthority(permission.resource(), permission.action());
     }
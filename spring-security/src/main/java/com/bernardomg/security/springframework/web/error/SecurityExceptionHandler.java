@@ -34,6 +34,7 @@
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import com.bernardomg.framework.ws.response.ErrorResponse;
+import com.bernardomg.security.springframework.password.PasswordHashingUnavailableException;
 
 /**
  * Captures and handles security exceptions.
@@ -55,6 +56,14 @@ public SecurityExceptionHandler() {
         super();
     }
 
+    @ExceptionHandler({ PasswordHashingUnavailableException.class })
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public final ErrorResponse handlePasswordHashingUnavailableException(final Exception ex) {
+        log.warn(ex.getMessage());
+
+        return new ErrorResponse(String.valueOf(HttpStatus.SERVICE_UNAVAILABLE.value()), "Service unavailable");
+    }
+
     @ExceptionHandler({ AuthenticationException.class, AccessDeniedException.class })
     @ResponseStatus(HttpStatus.UNAUTHORIZED)
     public final ErrorResponse handleUnauthorizedException(final Exception ex) {
@@ -0,0 +1,68 @@
+package com.bernardomg.security.springframework.web.jwt;
+
+/**
+ * Validation for b64token values, as defined by RFC 6750. These are made of, at least, one character from
+ * {@code [A-Za-z0-9-._~+/]}, followed by any number of {@code =} characters.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class B64Tokens {
+
+    /**
+     * Checks if the value contains a valid b64token, starting at the received position and until the end of the value.
+     *
+     * @param value
+     *            value to check
+     * @param start
+     *            position where the token starts
+     * @return {@code true} if the value is a valid b64token, {@code false} otherwise
+     */
+    public static final boolean isValid(final CharSequence value, final int start) {
+        final int length;
+        int       position;
+        char      current;
+
+        length = value.length();
+        position = start;
+
+        // Token characters
+        while ((position < length) && isTokenCharacter(value.charAt(position))) {
+            position++;
+        }
+
+        if (position == start) {
+            // There should be at least one token character
+            return false;
+        }
+
+        // Padding
+        while (position < length) {
+            current = value.charAt(position);
+            if (current != '=') {
+                return false;
+            }
+            position++;
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks if the character is a valid b64token character, ignoring the padding.
+     *
+     * @param character
+     *            character to check
+     * @return {@code true} if the character is valid, {@code false} otherwise
+     */
+    private static final boolean isTokenCharacter(final char character) {
+        return ((character >= 'a') && (character <= 'z')) || ((character >= 'A') && (character <= 'Z'))
+                || ((character >= '0') && (character <= '9')) || (character == '-') || (character == '.')
+                || (character == '_') || (character == '~') || (character == '+') || (character == '/');
+    }
+
+    private B64Tokens() {
+        super();
+    }
+
+}
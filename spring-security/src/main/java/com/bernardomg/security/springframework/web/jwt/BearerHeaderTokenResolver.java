@@ -1,9 +1,7 @@
-
 package com.bernardomg.security.springframework.web.jwt;
 
+import java.util.Objects;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -11,41 +9,73 @@
 
 import jakarta.servlet.http.HttpServletRequest;
 
+/**
+ * Resolves the token from the authorization header. Which should follow a structure like this:
+ * <p>
+ * {@code Authorization: Bearer [token]}
+ * <p>
+ * The scheme is case insensitive, and the token should be a valid b64token, as defined by RFC 6750. The header is
+ * scanned once, without regular expressions, and nothing is allocated besides the token returned.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
 public final class BearerHeaderTokenResolver implements TokenResolver {
 
-    private static final Pattern authorizationPattern    = Pattern.compile("^Bearer (?<token>[a-zA-Z0-9-._~+/]+=*)$",
-        Pattern.CASE_INSENSITIVE);
-
     /**
      * Logger for the class.
      */
-    private static final Logger  log                     = LoggerFactory.getLogger(JwtTokenFilter.class);
+    private static final Logger log                     = LoggerFactory.getLogger(BearerHeaderTokenResolver.class);
 
-    private static final String  TOKEN_HEADER_IDENTIFIER = "Bearer";
+    /**
+     * Authorization scheme.
+     */
+    private static final String TOKEN_HEADER_IDENTIFIER = "Bearer";
+
+    /**
+     * Authorization header to read.
+     */
+    private final String        headerName;
 
+    /**
+     * Constructs a resolver which reads the authorization header.
+     */
     public BearerHeaderTokenResolver() {
+        this(HttpHeaders.AUTHORIZATION);
+    }
+
+    /**
+     * Constructs a resolver which reads the received header. This header must follow the same structure as the
+     * authorization one.
+     *
+     * @param header
+     *            header to read
+     */
+    public BearerHeaderTokenResolver(final String header) {
         super();
+
+        headerName = Objects.requireNonNull(header);
     }
 
     @Override
     public final Optional<String> resolve(final HttpServletRequest request) {
         final String           header;
         final Optional<String> token;
-        final Matcher          matcher;
+        final int              tokenStart;
 
-        header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        header = request.getHeader(headerName);
 
         if (header == null) {
             // No token received
             token = Optional.empty();
             log.trace("Missing authorization header, can't return token");
-        } else if (header.startsWith(TOKEN_HEADER_IDENTIFIER)) {
+        } else if (header.regionMatches(true, 0, TOKEN_HEADER_IDENTIFIER, 0, TOKEN_HEADER_IDENTIFIER.length())) {
             // Token received
-            // Take it by removing the identifier
-            // TODO: Should be case insensitive
-            matcher = authorizationPattern.matcher(header);
-            if (matcher.matches()) {
-                token = Optional.ofNullable(matcher.group("token"));
+            // Take it by removing the identifier and the separator
+            tokenStart = TOKEN_HEADER_IDENTIFIER.length() + 1;
+            if ((header.length() > tokenStart) && (header.charAt(tokenStart - 1) == ' ')
+                    && B64Tokens.isValid(header, tokenStart)) {
+                token = Optional.of(header.substring(tokenStart));
             } else {
                 log.debug("Malformed token");
                 token = Optional.empty();
@@ -0,0 +1,148 @@
+package com.bernardomg.security.springframework.web.jwt;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Probabilistic set of strings. It may tell a value is contained when it isn't, but never the other way around. So a
+ * negative answer is always exact, and only positive answers have to be confirmed.
+ * <h2>Size</h2>
+ * <p>
+ * The number of bits and hashes is taken from the expected number of values and the accepted false positive rate.
+ * Adding more values than expected is allowed, but the false positive rate grows.
+ * <h2>Concurrency</h2>
+ * <p>
+ * Values can be added and checked at the same time from different threads.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class BloomFilter {
+
+    /**
+     * Filter bits.
+     */
+    private final AtomicLongArray bits;
+
+    /**
+     * Number of hashes for each value.
+     */
+    private final int             hashes;
+
+    /**
+     * Number of bits.
+     */
+    private final long            size;
+
+    public BloomFilter(final int expectedEntries, final double falsePositiveRate) {
+        super();
+
+        final long bitCount;
+
+        if (expectedEntries <= 0) {
+            throw new IllegalArgumentException("The expected entries should be positive");
+        }
+        if ((falsePositiveRate <= 0) || (falsePositiveRate >= 1)) {
+            throw new IllegalArgumentException("The false positive rate should be between 0 and 1");
+        }
+
+        // Optimal sizes for the expected entries and rate
+        bitCount = Math.max(64,
+            (long) Math.ceil((-expectedEntries * Math.log(falsePositiveRate)) / (Math.log(2) * Math.log(2))));
+        hashes = Math.max(1, (int) Math.round(((double) bitCount / expectedEntries) * Math.log(2)));
+
+        bits = new AtomicLongArray((int) ((bitCount + 63) / 64));
+        size = bits.length() * 64L;
+    }
+
+    /**
+     * Checks if the value may be contained. A negative answer is always right, a positive answer may be wrong.
+     *
+     * @param value
+     *            value to check
+     * @return {@code false} if the value is not contained, {@code true} if it may be contained
+     */
+    public final boolean mightContain(final String value) {
+        final long hash;
+        final long first;
+        final long second;
+        boolean    contained;
+        int        i;
+        long       bit;
+
+        hash = hash(value);
+        first = mix(hash);
+        second = mix(~hash) | 1;
+
+        contained = true;
+        i = 0;
+        while (contained && (i < hashes)) {
+            bit = Math.floorMod(first + (i * second), size);
+            contained = (bits.get((int) (bit >>> 6)) & (1L << bit)) != 0;
+            i++;
+        }
+
+        return contained;
+    }
+
+    /**
+     * Adds a value.
+     *
+     * @param value
+     *            value to add
+     */
+    public final void put(final String value) {
+        final long hash;
+        final long first;
+        final long second;
+        long       bit;
+        long       mask;
+
+        hash = hash(value);
+        first = mix(hash);
+        second = mix(~hash) | 1;
+
+        // Double hashing, each position is taken from the same two hashes
+        for (int i = 0; i < hashes; i++) {
+            bit = Math.floorMod(first + (i * second), size);
+            mask = 1L << bit;
+            bits.getAndAccumulate((int) (bit >>> 6), mask, (current, m) -> current | m);
+        }
+    }
+
+    /**
+     * Returns the FNV-1a hash for the value.
+     *
+     * @param value
+     *            value to hash
+     * @return the value hash
+     */
+    private final long hash(final String value) {
+        long hash;
+
+        hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+
+        return hash;
+    }
+
+    /**
+     * Spreads the bits of the hash, so close hashes end in distant positions.
+     *
+     * @param hash
+     *            hash to mix
+     * @return the mixed hash
+     */
+    private final long mix(final long hash) {
+        long mixed;
+
+        mixed = hash;
+        mixed = (mixed ^ (mixed >>> 30)) * 0xbf58476d1ce4e5b9L;
+        mixed = (mixed ^ (mixed >>> 27)) * 0x94d049bb133111ebL;
+
+        return mixed ^ (mixed >>> 31);
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.bernardomg.security.springframework.web.jwt;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Resolves the token from the first of the wrapped resolvers which returns a token. This allows reading the token from
+ * several sources, such as the authorization header and a cookie.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class CompositeTokenResolver implements TokenResolver {
+
+    /**
+     * Wrapped resolvers, in the order they are used.
+     */
+    private final List<TokenResolver> resolvers;
+
+    public CompositeTokenResolver(final List<TokenResolver> resolvs) {
+        super();
+
+        resolvers = List.copyOf(Objects.requireNonNull(resolvs));
+    }
+
+    @Override
+    public final Optional<String> resolve(final HttpServletRequest request) {
+        Optional<String> token;
+
+        token = Optional.empty();
+        for (final TokenResolver resolver : resolvers) {
+            token = resolver.resolve(request);
+            if (token.isPresent()) {
+                break;
+            }
+        }
+
+        return token;
+    }
+
+}
@@ -0,0 +1,77 @@
+package com.bernardomg.security.springframework.web.jwt;
+
+import java.util.Objects;
+import java.util.Set;
+
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Matches the requests which need CSRF protection when the token can be read from a cookie.
+ * <p>
+ * Browsers send cookies on their own, also on requests made by other sites, so any state changing request carrying
+ * the token cookie has to be protected. Requests carrying the token header are not matched, as other sites can't set
+ * it, and the header is read before the cookie. Safe methods are never matched.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class CookieTokenCsrfRequestMatcher implements RequestMatcher {
+
+    /**
+     * Methods which don't change the state, and so are not protected.
+     */
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "TRACE", "OPTIONS");
+
+    /**
+     * Cookie containing the token.
+     */
+    private final String             cookieName;
+
+    /**
+     * Header containing the token.
+     */
+    private final String             headerName;
+
+    public CookieTokenCsrfRequestMatcher(final String cookie, final String header) {
+        super();
+
+        cookieName = Objects.requireNonNull(cookie);
+        headerName = Objects.requireNonNull(header);
+    }
+
+    @Override
+    public final boolean matches(final HttpServletRequest request) {
+        return !SAFE_METHODS.contains(request.getMethod()) && (request.getHeader(headerName) == null)
+                && hasCookie(request);
+    }
+
+    /**
+     * Checks if the request contains the token cookie.
+     *
+     * @param request
+     *            request to check
+     * @return {@code true} if the request contains the token cookie, {@code false} otherwise
+     */
+    private final boolean hasCookie(final HttpServletRequest request) {
+        final Cookie[] cookies;
+        boolean        found;
+
+        cookies = request.getCookies();
+
+        found = false;
+        if (cookies != null) {
+            for (final Cookie cookie : cookies) {
+                if (cookieName.equals(cookie.getName())) {
+                    found = true;
+                    break;
+                }
+            }
+        }
+
+        return found;
+    }
+
+}
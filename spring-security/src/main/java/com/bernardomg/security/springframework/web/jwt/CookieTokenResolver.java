@@ -0,0 +1,67 @@
+package com.bernardomg.security.springframework.web.jwt;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Resolves the token from a cookie. The cookie value should be a valid b64token, without any scheme.
+ * <p>
+ * Browsers send cookies automatically, so this should only be used with cookies which are {@code HttpOnly},
+ * {@code Secure} and {@code SameSite}, and along CSRF protection, such as the one applied through
+ * {@link CookieTokenCsrfRequestMatcher}.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class CookieTokenResolver implements TokenResolver {
+
+    /**
+     * Logger for the class.
+     */
+    private static final Logger log = LoggerFactory.getLogger(CookieTokenResolver.class);
+
+    /**
+     * Cookie to read.
+     */
+    private final String        cookieName;
+
+    public CookieTokenResolver(final String cookie) {
+        super();
+
+        cookieName = Objects.requireNonNull(cookie);
+    }
+
+    @Override
+    public final Optional<String> resolve(final HttpServletRequest request) {
+        final Cookie[] cookies;
+        String         value;
+
+        cookies = request.getCookies();
+
+        value = null;
+        if (cookies != null) {
+            for (final Cookie cookie : cookies) {
+                if (cookieName.equals(cookie.getName())) {
+                    value = cookie.getValue();
+                    break;
+                }
+            }
+        }
+
+        if (value == null) {
+            log.trace("Missing token cookie {}, can't return token", cookieName);
+        } else if (!B64Tokens.isValid(value, 0)) {
+            log.debug("Malformed token in cookie {}", cookieName);
+            value = null;
+        }
+
+        return Optional.ofNullable(value);
+    }
+
+}
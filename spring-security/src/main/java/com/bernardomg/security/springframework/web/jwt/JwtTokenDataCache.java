@@ -0,0 +1,310 @@
+package com.bernardomg.security.springframework.web.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.bernardomg.jwt.encoding.JwtTokenData;
+
+/**
+ * Bounded cache for already verified tokens. Avoids decoding, and verifying the signature, of the same token on each
+ * request.
+ * <h2>Keys</h2>
+ * <p>
+ * The raw token is never stored. Entries are keyed by the SHA-256 digest of the token.
+ * <h2>Expiration</h2>
+ * <p>
+ * Each entry is kept, at most, for the configured time to live. If the token expires before that, the entry expires
+ * along the token. Once the maximum size is reached the least recently used entry is evicted.
+ * <h2>Concurrency</h2>
+ * <p>
+ * The entries are split into stripes by the key hash, each of them with its own lock and its own part of the maximum
+ * size. Requests for different stripes don't block each other, at the cost of evicting the least recently used entry
+ * of the stripe, instead of the whole cache.
+ * <h2>Statistics</h2>
+ * <p>
+ * Hits, misses and evictions are counted, and can be read to be exposed as metrics.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class JwtTokenDataCache {
+
+    /**
+     * Cached token data, along the moment it should be discarded.
+     *
+     * @param data
+     *            decoded token data
+     * @param expiration
+     *            moment after which the entry is no longer valid
+     */
+    private record CachedTokenData(JwtTokenData data, Instant expiration) {}
+
+    /**
+     * Part of the entries, in access order, with its own lock.
+     */
+    private final class Stripe extends LinkedHashMap<String, CachedTokenData> {
+
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Maximum number of entries in the stripe.
+         */
+        private final int         capacity;
+
+        private Stripe(final int cap) {
+            super(16, 0.75f, true);
+
+            capacity = cap;
+        }
+
+        @Override
+        protected final boolean removeEldestEntry(final Map.Entry<String, CachedTokenData> eldest) {
+            final boolean remove;
+
+            remove = size() > capacity;
+            if (remove) {
+                evictions.increment();
+            }
+
+            return remove;
+        }
+
+    }
+
+    /**
+     * Logger for the class.
+     */
+    private static final Logger log         = LoggerFactory.getLogger(JwtTokenDataCache.class);
+
+    /**
+     * Maximum number of stripes. Small caches use fewer stripes, so each stripe can keep at least one entry.
+     */
+    private static final int    MAX_STRIPES = 16;
+
+    /**
+     * Clock used to check the entries expiration.
+     */
+    private final Clock         clock;
+
+    /**
+     * Number of evicted entries. Includes both expired and least recently used entries.
+     */
+    private final LongAdder     evictions   = new LongAdder();
+
+    /**
+     * Number of cache hits.
+     */
+    private final LongAdder     hits        = new LongAdder();
+
+    /**
+     * Number of cache misses.
+     */
+    private final LongAdder     misses      = new LongAdder();
+
+    /**
+     * Cached entries, split by the key hash.
+     */
+    private final Stripe[]      stripes;
+
+    /**
+     * Maximum time an entry is kept.
+     */
+    private final Duration      timeToLive;
+
+    public JwtTokenDataCache(final int size, final Duration ttl) {
+        this(size, ttl, Clock.systemUTC());
+    }
+
+    public JwtTokenDataCache(final int size, final Duration ttl, final Clock clck) {
+        super();
+
+        if (size <= 0) {
+            throw new IllegalArgumentException("The cache size should be positive");
+        }
+
+        timeToLive = Objects.requireNonNull(ttl);
+        clock = Objects.requireNonNull(clck);
+
+        // The maximum size is shared between the stripes
+        stripes = new Stripe[Math.min(MAX_STRIPES, size)];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe((size / stripes.length) + ((i < (size % stripes.length)) ? 1 : 0));
+        }
+    }
+
+    /**
+     * Removes all the entries.
+     */
+    public final void clear() {
+        for (final Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.clear();
+            }
+        }
+    }
+
+    /**
+     * Returns the token data cached for the token. If it is not cached, or the entry expired, then an empty optional is
+     * returned.
+     *
+     * @param token
+     *            token to search for
+     * @return the cached token data, or an empty optional if there is no valid entry
+     */
+    public final Optional<JwtTokenData> get(final String token) {
+        final String          key;
+        final Stripe          stripe;
+        final CachedTokenData cached;
+        final Instant         now;
+        final boolean         valid;
+
+        key = digest(token);
+        stripe = getStripe(key);
+        now = clock.instant();
+        synchronized (stripe) {
+            cached = stripe.get(key);
+            if (cached == null) {
+                valid = false;
+            } else if (now.isBefore(cached.expiration())) {
+                valid = true;
+            } else {
+                log.trace("Cached token data expired");
+                stripe.remove(key);
+                evictions.increment();
+                valid = false;
+            }
+        }
+
+        if (valid) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+
+        return valid ? Optional.of(cached.data()) : Optional.empty();
+    }
+
+    /**
+     * Returns the number of evicted entries.
+     *
+     * @return the number of evicted entries
+     */
+    public final long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Returns the number of cache hits.
+     *
+     * @return the number of cache hits
+     */
+    public final long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of cache misses.
+     *
+     * @return the number of cache misses
+     */
+    public final long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Stores the token data for the token. The entry won't outlive the token expiration date.
+     *
+     * @param token
+     *            token to cache
+     * @param data
+     *            decoded token data
+     */
+    public final void put(final String token, final JwtTokenData data) {
+        final String  key;
+        final Stripe  stripe;
+        final Instant now;
+        final Instant expiration;
+
+        now = clock.instant();
+        if ((data.expiration() != null) && data.expiration()
+            .isBefore(now.plus(timeToLive))) {
+            expiration = data.expiration();
+        } else {
+            expiration = now.plus(timeToLive);
+        }
+
+        if (expiration.isAfter(now)) {
+            key = digest(token);
+            stripe = getStripe(key);
+            synchronized (stripe) {
+                stripe.put(key, new CachedTokenData(data, expiration));
+            }
+        } else {
+            log.trace("Token already expired, it won't be cached");
+        }
+    }
+
+    /**
+     * Returns the number of entries in the cache. This may include expired entries which weren't evicted yet.
+     *
+     * @return the number of entries in the cache
+     */
+    public final int size() {
+        int size;
+
+        size = 0;
+        for (final Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+
+        return size;
+    }
+
+    /**
+     * Returns the stripe for the key.
+     *
+     * @param key
+     *            key to search for
+     * @return the stripe for the key
+     */
+    private final Stripe getStripe(final String key) {
+        return stripes[Math.floorMod(key.hashCode(), stripes.length)];
+    }
+
+    /**
+     * Returns the SHA-256 digest of the token, encoded in base 64.
+     *
+     * @param token
+     *            token to digest
+     * @return the token digest
+     */
+    private final String digest(final String token) {
+        final MessageDigest digest;
+
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            // SHA-256 is required on all Java platforms
+            throw new IllegalStateException(e);
+        }
+
+        return Base64.getEncoder()
+            .encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+    }
+
+}
@@ -0,0 +1,322 @@
+package com.bernardomg.security.springframework.web.jwt;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.bernardomg.jwt.encoding.JwtTokenData;
+import com.bernardomg.security.domain.login.model.TokenRevocation;
+import com.bernardomg.security.usecase.login.service.TokenRevocationService;
+
+/**
+ * Revoked tokens, kept in memory so they can be checked on each request without reading the database.
+ * <h2>Revocations</h2>
+ * <p>
+ * A token is revoked if its id is revoked, or if its subject is revoked and the token was issued up to the revocation
+ * date. As the token issue date is kept in seconds, tokens issued in the same second as the revocation are revoked too.
+ * <h2>Lookup</h2>
+ * <p>
+ * Keys are first checked against a {@link BloomFilter}, which discards nearly all the tokens without a revocation. Only
+ * the positives are checked against the exact revocations.
+ * <h2>Polling</h2>
+ * <p>
+ * Once started, the revocations are read periodically, taking only those made since the last read. Each read goes back
+ * a bit further than the last revocation seen, so revocations from nodes with a slightly late clock, or committed a bit
+ * late, are not missed.
+ * <h2>Expiration</h2>
+ * <p>
+ * Revocations are removed once all the tokens they affect expired, both from memory and from the database.
+ * <h2>Statistics</h2>
+ * <p>
+ * Checks, revoked tokens and filter false positives are counted, and can be read to be exposed as metrics.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class JwtTokenDenylist implements AutoCloseable {
+
+    /**
+     * Revocation kept in memory.
+     *
+     * @param revokedAt
+     *            revocation date
+     * @param expiration
+     *            moment after which the revocation can be discarded
+     */
+    private record Revocation(Instant revokedAt, Instant expiration) {}
+
+    /**
+     * Logger for the class.
+     */
+    private static final Logger            log             = LoggerFactory.getLogger(JwtTokenDenylist.class);
+
+    /**
+     * How far before the last revocation seen the polling starts.
+     */
+    private static final Duration          POLLING_OVERLAP = Duration.ofMinutes(1);
+
+    /**
+     * Filter for the revoked keys. Replaced when expired revocations are removed.
+     */
+    private volatile BloomFilter           bloomFilter;
+
+    /**
+     * Number of checked tokens.
+     */
+    private final LongAdder                checks          = new LongAdder();
+
+    /**
+     * Clock used to check the revocations expiration.
+     */
+    private final Clock                    clock;
+
+    /**
+     * Expected number of revocations, used to size the filter.
+     */
+    private final int                      expectedEntries;
+
+    /**
+     * Accepted filter false positive rate.
+     */
+    private final double                   falsePositiveRate;
+
+    /**
+     * Number of filter positives without a revocation.
+     */
+    private final LongAdder                falsePositives  = new LongAdder();
+
+    /**
+     * Latest revocation date read.
+     */
+    private Instant                        lastRevocation  = Instant.EPOCH;
+
+    /**
+     * Time between reads.
+     */
+    private final Duration                 pollInterval;
+
+    /**
+     * Revocations by key.
+     */
+    private final Map<String, Revocation>  revocations     = new ConcurrentHashMap<>();
+
+    /**
+     * Revocation service, to read and purge the revocations.
+     */
+    private final TokenRevocationService   revocationService;
+
+    /**
+     * Number of revoked tokens found.
+     */
+    private final LongAdder                revoked         = new LongAdder();
+
+    /**
+     * Scheduler for the reads.
+     */
+    private final ScheduledExecutorService scheduler;
+
+    public JwtTokenDenylist(final TokenRevocationService revocationSrvc, final Duration interval, final int expected,
+            final double fpp) {
+        this(revocationSrvc, interval, expected, fpp, Clock.systemUTC());
+    }
+
+    public JwtTokenDenylist(final TokenRevocationService revocationSrvc, final Duration interval, final int expected,
+            final double fpp, final Clock clck) {
+        super();
+
+        revocationService = Objects.requireNonNull(revocationSrvc);
+        pollInterval = Objects.requireNonNull(interval);
+        clock = Objects.requireNonNull(clck);
+        expectedEntries = expected;
+        falsePositiveRate = fpp;
+        bloomFilter = new BloomFilter(expectedEntries, falsePositiveRate);
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            final Thread thread;
+
+            thread = new Thread(r, "jwt-denylist");
+            thread.setDaemon(true);
+
+            return thread;
+        });
+    }
+
+    /**
+     * Stops polling.
+     */
+    @Override
+    public final void close() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Returns the number of checked tokens.
+     *
+     * @return the number of checked tokens
+     */
+    public final long getCheckCount() {
+        return checks.sum();
+    }
+
+    /**
+     * Returns the number of filter positives which had no revocation. Along the number of checks, gives the real false
+     * positive rate.
+     *
+     * @return the number of filter false positives
+     */
+    public final long getFalsePositiveCount() {
+        return falsePositives.sum();
+    }
+
+    /**
+     * Returns the number of revoked tokens found.
+     *
+     * @return the number of revoked tokens found
+     */
+    public final long getRevokedCount() {
+        return revoked.sum();
+    }
+
+    /**
+     * Checks if the token is revoked.
+     *
+     * @param tokenData
+     *            token to check
+     * @return {@code true} if the token is revoked, {@code false} otherwise
+     */
+    public final boolean isRevoked(final JwtTokenData tokenData) {
+        final boolean tokenRevoked;
+
+        checks.increment();
+        if ((tokenData.id() != null) && !tokenData.id()
+            .isBlank() && isRevoked(TokenRevocation.tokenKey(tokenData.id()), tokenData)) {
+            tokenRevoked = true;
+        } else {
+            tokenRevoked = isRevoked(TokenRevocation.subjectKey(tokenData.subject()), tokenData);
+        }
+
+        if (tokenRevoked) {
+            log.debug("Token for {} is revoked", tokenData.subject());
+            revoked.increment();
+        }
+
+        return tokenRevoked;
+    }
+
+    /**
+     * Reads the revocations made since the last read, and removes the expired ones.
+     */
+    public final synchronized void refresh() {
+        final Collection<TokenRevocation> read;
+        final Instant                     now;
+        final boolean                     expired;
+
+        read = revocationService.getRevokedSince(lastRevocation.minus(POLLING_OVERLAP));
+        for (final TokenRevocation revocation : read) {
+            // For repeated keys, the latest revocation covers the previous ones
+            revocations.merge(revocation.key(), new Revocation(revocation.revokedAt(), revocation.expiration()),
+                (a, b) -> a.revokedAt()
+                    .isAfter(b.revokedAt()) ? a : b);
+            bloomFilter.put(revocation.key());
+            if (revocation.revokedAt()
+                .isAfter(lastRevocation)) {
+                lastRevocation = revocation.revokedAt();
+            }
+        }
+
+        now = clock.instant();
+        expired = revocations.values()
+            .removeIf(r -> !r.expiration()
+                .isAfter(now));
+        if (expired) {
+            // Removed keys can't be taken out of the filter, it is built again
+            rebuildFilter();
+            revocationService.purgeExpired();
+        }
+
+        log.trace("Read {} token revocations, keeping {}", read.size(), revocations.size());
+    }
+
+    /**
+     * Returns the number of revocations kept.
+     *
+     * @return the number of revocations kept
+     */
+    public final int size() {
+        return revocations.size();
+    }
+
+    /**
+     * Reads all the revocations, and starts polling for new ones.
+     */
+    public final void start() {
+        refresh();
+        scheduler.scheduleWithFixedDelay(this::poll, pollInterval.toMillis(), pollInterval.toMillis(),
+            TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Checks if the key is revoked for the token.
+     *
+     * @param key
+     *            revocation key
+     * @param tokenData
+     *            token to check
+     * @return {@code true} if the key is revoked for the token, {@code false} otherwise
+     */
+    private final boolean isRevoked(final String key, final JwtTokenData tokenData) {
+        final Revocation revocation;
+        final boolean    keyRevoked;
+
+        if (bloomFilter.mightContain(key)) {
+            revocation = revocations.get(key);
+            if (revocation == null) {
+                falsePositives.increment();
+                keyRevoked = false;
+            } else {
+                keyRevoked = (tokenData.issuedAt() == null) || !tokenData.issuedAt()
+                    .isAfter(revocation.revokedAt());
+            }
+        } else {
+            keyRevoked = false;
+        }
+
+        return keyRevoked;
+    }
+
+    /**
+     * Refreshes the revocations, without stopping the polling on errors.
+     */
+    private final void poll() {
+        try {
+            refresh();
+        } catch (final RuntimeException e) {
+            log.warn("Failed reading token revocations, keeping the current ones", e);
+        }
+    }
+
+    /**
+     * Builds the filter again from the current revocations.
+     */
+    private final void rebuildFilter() {
+        final BloomFilter filter;
+
+        // Sized for growth, so the false positive rate holds
+        filter = new BloomFilter(Math.max(expectedEntries, revocations.size() * 2), falsePositiveRate);
+        revocations.keySet()
+            .forEach(filter::put);
+        bloomFilter = filter;
+    }
+
+}
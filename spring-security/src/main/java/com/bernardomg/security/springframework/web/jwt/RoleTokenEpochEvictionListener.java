@@ -0,0 +1,47 @@
+package com.bernardomg.security.springframework.web.jwt;
+
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.bernardomg.event.listener.EventListener;
+import com.bernardomg.security.domain.role.event.RoleTokenEpochEvent;
+
+/**
+ * Listens for role token epoch increases, and clears the token epoch cache. The cache doesn't know which users have the
+ * role, and role updates are rare, so all the entries are removed.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class RoleTokenEpochEvictionListener implements EventListener<RoleTokenEpochEvent> {
+
+    /**
+     * Logger for the class.
+     */
+    private static final Logger   log = LoggerFactory.getLogger(RoleTokenEpochEvictionListener.class);
+
+    /**
+     * Token epoch cache.
+     */
+    private final TokenEpochCache tokenEpochCache;
+
+    public RoleTokenEpochEvictionListener(final TokenEpochCache cache) {
+        super();
+
+        tokenEpochCache = Objects.requireNonNull(cache);
+    }
+
+    @Override
+    public final Class<RoleTokenEpochEvent> getEventType() {
+        return RoleTokenEpochEvent.class;
+    }
+
+    @Override
+    public final void handle(final RoleTokenEpochEvent event) {
+        log.debug("Clearing token epochs for users with role {}", event.getRole());
+        TokenEpochEviction.afterCompletion(tokenEpochCache::clear);
+    }
+
+}
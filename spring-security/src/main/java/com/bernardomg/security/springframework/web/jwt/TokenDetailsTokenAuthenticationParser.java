@@ -19,8 +19,11 @@
 
 import com.bernardomg.jwt.encoding.JwtTokenData;
 import com.bernardomg.jwt.encoding.TokenDecoder;
+import com.bernardomg.security.springframework.access.interceptor.ResourcePermissionAuthenticationToken;
+import com.bernardomg.security.springframework.access.interceptor.ResourcePermissionIndex;
 import com.bernardomg.security.springframework.model.ResourceActionGrantedAuthority;
 import com.bernardomg.security.springframework.userdetails.SecurityUserDetails;
+import com.bernardomg.security.usecase.login.encoder.CompactPermissions;
 
 import jakarta.servlet.http.HttpServletRequest;
 
@@ -29,34 +32,94 @@ public final class TokenDetailsTokenAuthenticationParser implements TokenAuthent
     /**
      * Logger for the class.
      */
-    private static final Logger log = LoggerFactory.getLogger(TokenDetailsTokenAuthenticationParser.class);
+    private static final Logger                     log = LoggerFactory
+        .getLogger(TokenDetailsTokenAuthenticationParser.class);
+
+    /**
+     * Index for the resource permissions. If present, the authentication will keep the permissions as a bitset.
+     */
+    private final Optional<ResourcePermissionIndex> resourcePermissionIndex;
+
+    /**
+     * Cache for already verified tokens. If missing, all the tokens are decoded.
+     */
+    private final Optional<JwtTokenDataCache>       tokenDataCache;
 
     /**
      * Token decoder. Required to acquire the subject.
      */
-    private final TokenDecoder  tokenDecoder;
+    private final TokenDecoder                      tokenDecoder;
+
+    /**
+     * Revoked tokens. If missing, no token is considered revoked.
+     */
+    private final Optional<JwtTokenDenylist>        tokenDenylist;
+
+    /**
+     * User token epochs. If missing, no token is considered stale.
+     */
+    private final Optional<TokenEpochCache>         tokenEpochCache;
 
     public TokenDetailsTokenAuthenticationParser(final TokenDecoder tokenDecoder) {
+        this(tokenDecoder, Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty());
+    }
+
+    public TokenDetailsTokenAuthenticationParser(final TokenDecoder tokenDecoder, final JwtTokenDataCache cache) {
+        this(tokenDecoder, Optional.of(cache), Optional.empty(), Optional.empty(), Optional.empty());
+    }
+
+    public TokenDetailsTokenAuthenticationParser(final TokenDecoder tokenDecoder, final JwtTokenDataCache cache,
+            final ResourcePermissionIndex index) {
+        this(tokenDecoder, Optional.of(cache), Optional.of(index), Optional.empty(), Optional.empty());
+    }
+
+    public TokenDetailsTokenAuthenticationParser(final TokenDecoder tokenDecoder,
+            final ResourcePermissionIndex index) {
+        this(tokenDecoder, Optional.empty(), Optional.of(index), Optional.empty(), Optional.empty());
+    }
+
+    public TokenDetailsTokenAuthenticationParser(final TokenDecoder tokenDecoder,
+            final Optional<JwtTokenDataCache> cache, final Optional<ResourcePermissionIndex> index,
+            final Optional<JwtTokenDenylist> denylist, final Optional<TokenEpochCache> epochCache) {
         super();
 
         this.tokenDecoder = Objects.requireNonNull(tokenDecoder);
+        tokenDataCache = Objects.requireNonNull(cache);
+        resourcePermissionIndex = Objects.requireNonNull(index);
+        tokenDenylist = Objects.requireNonNull(denylist);
+        tokenEpochCache = Objects.requireNonNull(epochCache);
     }
 
     @Override
     public final Optional<Authentication> parse(final String token, final HttpServletRequest request) {
         final Optional<Authentication> authentication;
+        final Optional<JwtTokenData>   cached;
         final JwtTokenData             tokenData;
 
-        tokenData = tokenDecoder.decode(token);
-        if ((tokenData.subject() == null) || tokenData.subject()
-            .isBlank()) {
-            throw new BadCredentialsException("JWT subject is missing");
+        cached = tokenDataCache.flatMap(cache -> cache.get(token));
+        if (cached.isPresent()) {
+            log.trace("Using cached token data");
+            tokenData = cached.get();
+        } else {
+            tokenData = tokenDecoder.decode(token);
+            if ((tokenData.subject() == null) || tokenData.subject()
+                .isBlank()) {
+                throw new BadCredentialsException("JWT subject is missing");
+            }
         }
 
-        if ((!tokenData.isExpired()) && (!tokenData.isBeforeStart())) {
+        // The dates are checked even for cached tokens, as the token may have expired since it was cached
+        // Same for revocations and epoch changes, which may have happened since it was cached
+        if ((!tokenData.isExpired()) && (!tokenData.isBeforeStart()) && (!isRevoked(tokenData))
+                && (!isStale(tokenData))) {
             // Token not expired or for the future
             // Will load a new authentication from the token
 
+            if (cached.isEmpty()) {
+                // Only valid tokens are cached
+                tokenDataCache.ifPresent(cache -> cache.put(token, tokenData));
+            }
+
             // Create and register authentication
             authentication = Optional.of(getAuthentication(request, tokenData));
         } else {
@@ -68,7 +131,8 @@ public final Optional<Authentication> parse(final String token, final HttpServle
     }
 
     /**
-     * Returns an {@link UsernamePasswordAuthenticationToken} created from the user and request.
+     * Returns an {@link UsernamePasswordAuthenticationToken} created from the user and request. If the permissions
+     * index is available, then a {@link ResourcePermissionAuthenticationToken} is returned.
      *
      * @param request
      *            request details for the authentication
@@ -82,7 +146,7 @@ private final Authentication getAuthentication(final HttpServletRequest request,
         final UserDetails                            userDetails;
         final Long                                   id;
 
-        authorities = mapPermissions(tokenData.permissions());
+        authorities = mapPermissions(getPermissions(tokenData));
         if (tokenData.values()
             .containsKey("id")) {
             id = Long.valueOf(tokenData.values()
@@ -93,12 +157,69 @@ private final Authentication getAuthentication(final HttpServletRequest request,
         // TODO: load all values
         userDetails = new SecurityUserDetails(id, "", tokenData.subject(), "", "", true, true, true, true, authorities);
 
-        authenticationToken = new UsernamePasswordAuthenticationToken(userDetails, null, authorities);
+        if (resourcePermissionIndex.isPresent()) {
+            authenticationToken = new ResourcePermissionAuthenticationToken(userDetails, null, authorities,
+                resourcePermissionIndex.get());
+        } else {
+            authenticationToken = new UsernamePasswordAuthenticationToken(userDetails, null, authorities);
+        }
         authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
         return authenticationToken;
     }
 
+    /**
+     * Returns the permissions in the token. If the token contains compact permissions, these are decoded, otherwise the
+     * permissions claim is used.
+     *
+     * @param tokenData
+     *            parsed security token
+     * @return the permissions in the token
+     */
+    private final Map<String, List<String>> getPermissions(final JwtTokenData tokenData) {
+        final String                    compact;
+        final Map<String, List<String>> permissions;
+
+        compact = tokenData.values()
+            .get(CompactPermissions.CLAIM);
+        if (compact == null) {
+            permissions = tokenData.permissions();
+        } else {
+            log.trace("Decoding compact permissions");
+            try {
+                permissions = CompactPermissions.decode(compact);
+            } catch (final IllegalArgumentException e) {
+                throw new BadCredentialsException("JWT compact permissions are invalid", e);
+            }
+        }
+
+        return permissions;
+    }
+
+    /**
+     * Checks if the token is revoked. Without a denylist no token is revoked.
+     *
+     * @param tokenData
+     *            parsed security token
+     * @return {@code true} if the token is revoked, {@code false} otherwise
+     */
+    private final boolean isRevoked(final JwtTokenData tokenData) {
+        return tokenDenylist.map(denylist -> denylist.isRevoked(tokenData))
+            .orElse(false);
+    }
+
+    /**
+     * Checks if the token was issued for an outdated epoch. Without an epoch cache no token is stale.
+     *
+     * @param tokenData
+     *            parsed security token
+     * @return {@code true} if the token is stale, {@code false} otherwise
+     */
+    private final boolean isStale(final JwtTokenData tokenData) {
+        return tokenEpochCache.map(cache -> cache.isStale(tokenData))
+            .orElse(false);
+    }
+
     private Collection<? extends GrantedAuthority> mapPermissions(final Map<String, List<String>> permissions) {
         return permissions.entrySet()
             .stream()
@@ -0,0 +1,275 @@
+
+package com.bernardomg.security.springframework.web.jwt;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import com.bernardomg.jwt.encoding.JwtTokenData;
+import com.bernardomg.security.domain.user.repository.UserRepository;
+import com.bernardomg.security.usecase.login.encoder.JwtPermissionLoginTokenEncoder;
+
+/**
+ * Bounded cache for the user token epochs. Tokens issued with an epoch lower than the current one for the user are
+ * stale, and should be rejected.
+ * <h2>Claim</h2>
+ * <p>
+ * The token epoch is read from the {@link JwtPermissionLoginTokenEncoder#EPOCH_CLAIM} claim. Tokens without it are
+ * considered as issued for the first epoch.
+ * <h2>Refresh</h2>
+ * <p>
+ * Each epoch is kept, at most, for the configured time to live. It is also reloaded as soon as a token with a newer
+ * epoch is received, as this means the cached epoch is outdated. Once the maximum size is reached the least recently
+ * used entry is evicted.
+ * <p>
+ * Users which don't exist get the maximum epoch, so all their tokens are stale.
+ * <h2>Statistics</h2>
+ * <p>
+ * Hits, loads and stale tokens are counted, and can be read to be exposed as metrics.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class TokenEpochCache {
+
+    /**
+     * Cached epoch, along the moment it should be reloaded.
+     *
+     * @param epoch
+     *            user token epoch
+     * @param expiration
+     *            moment after which the entry is no longer valid
+     */
+    private record CachedEpoch(long epoch, Instant expiration) {}
+
+    /**
+     * Logger for the class.
+     */
+    private static final Logger                      log   = LoggerFactory.getLogger(TokenEpochCache.class);
+
+    /**
+     * Clock used to check the entries expiration.
+     */
+    private final Clock                              clock;
+
+    /**
+     * Cached entries, in access order.
+     */
+    private final LinkedHashMap<String, CachedEpoch> entries;
+
+    /**
+     * Number of cache hits.
+     */
+    private final LongAdder                          hits  = new LongAdder();
+
+    /**
+     * Number of epochs loaded from the repository.
+     */
+    private final LongAdder                          loads = new LongAdder();
+
+    /**
+     * Maximum number of entries.
+     */
+    private final int                                maxSize;
+
+    /**
+     * Number of stale tokens found.
+     */
+    private final LongAdder                          stale = new LongAdder();
+
+    /**
+     * Maximum time an entry is kept.
+     */
+    private final Duration                           timeToLive;
+
+    /**
+     * User repository, to read the token epochs.
+     */
+    private final UserRepository                     userRepository;
+
+    public TokenEpochCache(final UserRepository userRepo, final int size, final Duration ttl) {
+        this(userRepo, size, ttl, Clock.systemUTC());
+    }
+
+    public TokenEpochCache(final UserRepository userRepo, final int size, final Duration ttl, final Clock clck) {
+        super();
+
+        if (size <= 0) {
+            throw new IllegalArgumentException("The cache size should be positive");
+        }
+
+        userRepository = Objects.requireNonNull(userRepo);
+        maxSize = size;
+        timeToLive = Objects.requireNonNull(ttl);
+        clock = Objects.requireNonNull(clck);
+
+        entries = new LinkedHashMap<>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected final boolean removeEldestEntry(final Map.Entry<String, CachedEpoch> eldest) {
+                return size() > maxSize;
+            }
+
+        };
+    }
+
+    /**
+     * Removes all the entries.
+     */
+    public final void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Removes the entry for the user, so its epoch is reloaded the next time it is needed.
+     *
+     * @param username
+     *            user to remove
+     */
+    public final void evict(final String username) {
+        synchronized (entries) {
+            entries.remove(username);
+        }
+    }
+
+    /**
+     * Returns the number of cache hits.
+     *
+     * @return the number of cache hits
+     */
+    public final long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of epochs loaded from the repository.
+     *
+     * @return the number of epochs loaded
+     */
+    public final long getLoadCount() {
+        return loads.sum();
+    }
+
+    /**
+     * Returns the number of stale tokens found.
+     *
+     * @return the number of stale tokens
+     */
+    public final long getStaleCount() {
+        return stale.sum();
+    }
+
+    /**
+     * Checks if the token was issued for an epoch older than the current one for its subject.
+     *
+     * @param tokenData
+     *            token to check
+     * @return {@code true} if the token is stale, {@code false} otherwise
+     * @throws BadCredentialsException
+     *             if the epoch claim is not a valid number
+     */
+    public final boolean isStale(final JwtTokenData tokenData) {
+        final long    tokenEpoch;
+        final long    currentEpoch;
+        final boolean outdated;
+
+        tokenEpoch = getTokenEpoch(tokenData);
+        currentEpoch = getCurrentEpoch(tokenData.subject(), tokenEpoch);
+
+        outdated = tokenEpoch < currentEpoch;
+        if (outdated) {
+            log.debug("Token for {} has epoch {}, but the current one is {}", tokenData.subject(), tokenEpoch,
+                currentEpoch);
+            stale.increment();
+        }
+
+        return outdated;
+    }
+
+    /**
+     * Returns the number of entries in the cache. This may include expired entries which weren't evicted yet.
+     *
+     * @return the number of entries in the cache
+     */
+    public final int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Returns the current epoch for the user. It is reloaded if it is not cached, expired, or older than the token
+     * epoch.
+     *
+     * @param username
+     *            user to search for
+     * @param tokenEpoch
+     *            epoch in the token
+     * @return the current epoch for the user
+     */
+    private final long getCurrentEpoch(final String username, final long tokenEpoch) {
+        final CachedEpoch cached;
+        final Instant     now;
+        final long        epoch;
+
+        now = clock.instant();
+        synchronized (entries) {
+            cached = entries.get(username);
+        }
+
+        if ((cached != null) && now.isBefore(cached.expiration()) && (tokenEpoch <= cached.epoch())) {
+            hits.increment();
+            epoch = cached.epoch();
+        } else {
+            // The repository is queried outside the lock
+            log.trace("Loading token epoch for {}", username);
+            epoch = userRepository.findTokenEpoch(username)
+                .orElse(Long.MAX_VALUE);
+            loads.increment();
+            synchronized (entries) {
+                entries.put(username, new CachedEpoch(epoch, now.plus(timeToLive)));
+            }
+        }
+
+        return epoch;
+    }
+
+    /**
+     * Returns the epoch stored in the token. If there is no epoch claim, then the first epoch is returned.
+     *
+     * @param tokenData
+     *            token to read
+     * @return the token epoch
+     */
+    private final long getTokenEpoch(final JwtTokenData tokenData) {
+        final String claim;
+        final long   epoch;
+
+        claim = tokenData.values()
+            .get(JwtPermissionLoginTokenEncoder.EPOCH_CLAIM);
+        if (claim == null) {
+            epoch = 0;
+        } else {
+            try {
+                epoch = Long.parseLong(claim);
+            } catch (final NumberFormatException e) {
+                throw new BadCredentialsException("JWT epoch is invalid", e);
+            }
+        }
+
+        return epoch;
+    }
+
+}
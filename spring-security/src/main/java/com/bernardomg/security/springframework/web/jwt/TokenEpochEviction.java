@@ -0,0 +1,37 @@
+package com.bernardomg.security.springframework.web.jwt;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Runs the token epoch cache evictions once the current transaction completes. Evicting before the new epoch is
+ * committed would let a concurrent request cache the old one again until the entry expires.
+ */
+final class TokenEpochEviction {
+
+    /**
+     * Runs the eviction after the current transaction completes, or right away if there is no transaction.
+     *
+     * @param eviction
+     *            eviction to run
+     */
+    static final void afterCompletion(final Runnable eviction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public final void afterCompletion(final int status) {
+                    eviction.run();
+                }
+
+            });
+        } else {
+            eviction.run();
+        }
+    }
+
+    private TokenEpochEviction() {
+        super();
+    }
+
+}
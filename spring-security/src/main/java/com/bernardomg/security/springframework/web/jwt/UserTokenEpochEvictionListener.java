@@ -0,0 +1,47 @@
+package com.bernardomg.security.springframework.web.jwt;
+
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.bernardomg.event.listener.EventListener;
+import com.bernardomg.security.domain.user.event.UserTokenEpochEvent;
+
+/**
+ * Listens for user token epoch increases, and removes the user from the token epoch cache. This way the tokens issued
+ * before stop working at once in this process, instead of after the cached entry expires.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class UserTokenEpochEvictionListener implements EventListener<UserTokenEpochEvent> {
+
+    /**
+     * Logger for the class.
+     */
+    private static final Logger   log = LoggerFactory.getLogger(UserTokenEpochEvictionListener.class);
+
+    /**
+     * Token epoch cache.
+     */
+    private final TokenEpochCache tokenEpochCache;
+
+    public UserTokenEpochEvictionListener(final TokenEpochCache cache) {
+        super();
+
+        tokenEpochCache = Objects.requireNonNull(cache);
+    }
+
+    @Override
+    public final Class<UserTokenEpochEvent> getEventType() {
+        return UserTokenEpochEvent.class;
+    }
+
+    @Override
+    public final void handle(final UserTokenEpochEvent event) {
+        log.debug("Evicting token epoch for {}", event.getUsername());
+        TokenEpochEviction.afterCompletion(() -> tokenEpochCache.evict(event.getUsername()));
+    }
+
+}
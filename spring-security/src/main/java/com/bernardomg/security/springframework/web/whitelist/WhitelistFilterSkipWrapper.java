@@ -30,11 +30,7 @@
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.server.PathContainer;
 import org.springframework.web.filter.OncePerRequestFilter;
-import org.springframework.web.util.pattern.PathPattern;
-import org.springframework.web.util.pattern.PathPatternParser;
 
 import jakarta.servlet.Filter;
 import jakarta.servlet.FilterChain;
@@ -53,23 +49,17 @@ public final class WhitelistFilterSkipWrapper extends OncePerRequestFilter {
     /**
      * Logger for the class.
      */
-    private static final Logger              log               = LoggerFactory
-        .getLogger(WhitelistFilterSkipWrapper.class);
+    private static final Logger log = LoggerFactory.getLogger(WhitelistFilterSkipWrapper.class);
 
     /**
      * Wrapped filter.
      */
-    private final Filter                     filter;
+    private final Filter        filter;
 
     /**
-     * Path pattern parser to check the routes against the white list.
+     * Whitelisted routes matcher, the matching routes should be ignored.
      */
-    private final PathPatternParser          pathPatternParser = new PathPatternParser();
-
-    /**
-     * Whitelisted routes, these should be ignored.
-     */
-    private final Collection<WhitelistRoute> whitelist;
+    private final RouteMatcher  whitelistMatcher;
 
     /**
      * Constructs a whitelist filter filter wrapper.
@@ -83,31 +73,22 @@ public WhitelistFilterSkipWrapper(final Filter fltr, final Collection<WhitelistR
         super();
 
         filter = Objects.requireNonNull(fltr);
-        whitelist = Objects.requireNonNull(whitel);
+        whitelistMatcher = new WhitelistRouteMatcher(whitel);
     }
 
-    private final boolean match(final String uri, final HttpMethod method, final WhitelistRoute whitelistRoute) {
-        final PathPattern   pathPattern;
-        final PathContainer pathContainer;
-        final boolean       matches;
-
-        pathPattern = pathPatternParser.parse(whitelistRoute.route());
-        pathContainer = PathContainer.parsePath(uri);
-        if (pathPattern.matches(pathContainer)) {
-            // The request URI matches the pattern
-            // Check if the method is allowed
-            if (whitelistRoute.methods()
-                .isEmpty()) {
-                matches = true;
-            } else {
-                matches = whitelistRoute.methods()
-                    .contains(method);
-            }
-        } else {
-            matches = false;
-        }
+    /**
+     * Constructs a whitelist filter wrapper, using the received matcher for the whitelisted routes.
+     *
+     * @param fltr
+     *            wrapped filter
+     * @param matcher
+     *            whitelisted routes matcher
+     */
+    public WhitelistFilterSkipWrapper(final Filter fltr, final RouteMatcher matcher) {
+        super();
 
-        return matches;
+        filter = Objects.requireNonNull(fltr);
+        whitelistMatcher = Objects.requireNonNull(matcher);
     }
 
     @Override
@@ -119,12 +100,9 @@ protected final void doFilterInternal(final HttpServletRequest request, final Ht
 
     @Override
     protected final boolean shouldNotFilter(final HttpServletRequest request) throws ServletException {
-        final HttpMethod method;
-        final boolean    matches;
+        final boolean matches;
 
-        method = HttpMethod.valueOf(request.getMethod());
-        matches = whitelist.stream()
-            .anyMatch(w -> match(request.getRequestURI(), method, w));
+        matches = whitelistMatcher.matches(request.getMethod(), request.getRequestURI());
 
         log.debug("Is the route {} in the whitelist? {}", request.getRequestURI(), matches);
 
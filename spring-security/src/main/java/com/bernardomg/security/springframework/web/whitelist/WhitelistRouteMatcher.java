@@ -0,0 +1,264 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.security.springframework.web.whitelist;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * Matches requests against a collection of whitelisted routes. The routes are compiled once, when the matcher is
+ * created.
+ * <h2>Index</h2>
+ * <p>
+ * The route patterns are indexed by HTTP method, and then by their literal prefix. This is the part of the pattern
+ * before the first segment with wildcards or variables. For example, {@code /login/**} is stored under
+ * {@code /login}.
+ * <p>
+ * When matching a path, only the patterns stored under a prefix of that path are checked. So, {@code /users/1} will
+ * only check the patterns stored under the empty prefix, {@code /users} and {@code /users/1}.
+ * <h2>Fallback</h2>
+ * <p>
+ * Paths with encoded characters, path parameters or empty segments can't be compared directly with the literal
+ * prefixes. For these all the patterns for the method are checked.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class WhitelistRouteMatcher implements RouteMatcher {
+
+    /**
+     * Routes which apply to all the HTTP methods, indexed by literal prefix.
+     */
+    private final Map<String, List<PathPattern>>              anyMethodRoutes = new HashMap<>();
+
+    /**
+     * Routes which apply to concrete HTTP methods, indexed by method name and literal prefix.
+     */
+    private final Map<String, Map<String, List<PathPattern>>> methodRoutes    = new HashMap<>();
+
+    /**
+     * Constructs a matcher for the received routes.
+     *
+     * @param whitelist
+     *            whitelisted routes
+     */
+    public WhitelistRouteMatcher(final Collection<WhitelistRoute> whitelist) {
+        super();
+
+        final PathPatternParser pathPatternParser;
+        PathPattern             pattern;
+        String                  prefix;
+
+        Objects.requireNonNull(whitelist);
+
+        pathPatternParser = new PathPatternParser();
+        for (final WhitelistRoute route : whitelist) {
+            pattern = pathPatternParser.parse(route.route());
+            prefix = getLiteralPrefix(route.route());
+            if (route.methods()
+                .isEmpty()) {
+                // Applies to all methods
+                anyMethodRoutes.computeIfAbsent(prefix, k -> new ArrayList<>())
+                    .add(pattern);
+            } else {
+                for (final HttpMethod method : route.methods()) {
+                    methodRoutes.computeIfAbsent(method.name(), k -> new HashMap<>())
+                        .computeIfAbsent(prefix, k -> new ArrayList<>())
+                        .add(pattern);
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks if the request method and path match any of the whitelisted routes.
+     *
+     * @param method
+     *            request HTTP method
+     * @param uri
+     *            request path
+     * @return {@code true} if the request is whitelisted, {@code false} otherwise
+     */
+    @Override
+    public final boolean matches(final String method, final String uri) {
+        final Map<String, List<PathPattern>> routes;
+        final boolean                        matches;
+
+        routes = methodRoutes.getOrDefault(method, Map.of());
+        if (routes.isEmpty() && anyMethodRoutes.isEmpty()) {
+            matches = false;
+        } else if (isComparable(uri)) {
+            matches = matchesPrefixes(routes, uri);
+        } else {
+            matches = matchesAll(routes, PathContainer.parsePath(uri));
+        }
+
+        return matches;
+    }
+
+    /**
+     * Returns the literal prefix for the pattern. This is the part before the first segment with wildcards or
+     * variables, without the trailing separator.
+     *
+     * @param pattern
+     *            pattern to get the prefix for
+     * @return the literal prefix for the pattern
+     */
+    private final String getLiteralPrefix(final String pattern) {
+        final String prefix;
+        int          end;
+        char         current;
+
+        if (!pattern.startsWith("/") || !isComparable(pattern)) {
+            // Can't be compared directly with paths
+            prefix = "";
+        } else {
+            end = pattern.length();
+            for (int i = 0; i < pattern.length(); i++) {
+                current = pattern.charAt(i);
+                if ((current == '*') || (current == '?') || (current == '{')) {
+                    // Cut before the segment containing the wildcard
+                    end = pattern.lastIndexOf('/', i);
+                    break;
+                }
+            }
+
+            // Remove trailing separators
+            while ((end > 0) && (pattern.charAt(end - 1) == '/')) {
+                end--;
+            }
+
+            prefix = pattern.substring(0, end);
+        }
+
+        return prefix;
+    }
+
+    /**
+     * Checks if the path can be compared directly with the literal prefixes. This requires not having encoded
+     * characters, path parameters or empty segments.
+     *
+     * @param value
+     *            path to check
+     * @return {@code true} if the path can be compared directly, {@code false} otherwise
+     */
+    private final boolean isComparable(final String value) {
+        return (value.indexOf('%') < 0) && (value.indexOf(';') < 0) && !value.contains("//");
+    }
+
+    /**
+     * Checks if the path matches any of the patterns.
+     *
+     * @param patterns
+     *            patterns to check
+     * @param path
+     *            parsed path
+     * @return {@code true} if any of the patterns matches, {@code false} otherwise
+     */
+    private final boolean matchesAny(final List<PathPattern> patterns, final PathContainer path) {
+        if (patterns != null) {
+            for (final PathPattern pattern : patterns) {
+                if (pattern.matches(path)) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Checks if the path matches any of the patterns, ignoring the prefixes. Both the patterns for the method, and the
+     * patterns for any method, are checked.
+     *
+     * @param routes
+     *            indexed patterns for the method
+     * @param path
+     *            parsed path
+     * @return {@code true} if any of the patterns matches, {@code false} otherwise
+     */
+    private final boolean matchesAll(final Map<String, List<PathPattern>> routes, final PathContainer path) {
+        return Stream.concat(routes.values()
+            .stream(),
+            anyMethodRoutes.values()
+                .stream())
+            .anyMatch(patterns -> matchesAny(patterns, path));
+    }
+
+    /**
+     * Checks if the path matches any of the patterns stored under a prefix of the path. Both the patterns for the
+     * method, and the patterns for any method, are checked.
+     * <p>
+     * The path is only parsed if there are patterns to check, which is the most expensive part.
+     *
+     * @param routes
+     *            indexed patterns for the method
+     * @param uri
+     *            path to match
+     * @return {@code true} if any of the patterns matches, {@code false} otherwise
+     */
+    private final boolean matchesPrefixes(final Map<String, List<PathPattern>> routes, final String uri) {
+        PathContainer path;
+        String        prefix;
+        boolean       matches;
+        int           end;
+
+        path = null;
+        matches = false;
+        // Starts with the empty prefix, then goes through each segment until reaching the full path
+        end = 0;
+        while ((!matches) && (end >= 0)) {
+            prefix = uri.substring(0, end);
+            if (routes.containsKey(prefix) || anyMethodRoutes.containsKey(prefix)) {
+                if (path == null) {
+                    path = PathContainer.parsePath(uri);
+                }
+                matches = matchesAny(routes.get(prefix), path) || matchesAny(anyMethodRoutes.get(prefix), path);
+            }
+
+            if (end == uri.length()) {
+                end = -1;
+            } else {
+                end = uri.indexOf('/', end + 1);
+                if (end < 0) {
+                    end = uri.length();
+                }
+            }
+        }
+
+        return matches;
+    }
+
+}
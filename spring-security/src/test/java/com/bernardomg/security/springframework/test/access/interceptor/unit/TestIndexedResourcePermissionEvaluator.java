@@ -0,0 +1,145 @@
+
+package com.bernardomg.security.springframework.test.access.interceptor.unit;
+
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import com.bernardomg.security.springframework.access.interceptor.IndexedResourcePermissionEvaluator;
+import com.bernardomg.security.springframework.access.interceptor.ResourcePermissionAuthenticationToken;
+import com.bernardomg.security.springframework.access.interceptor.ResourcePermissionIndex;
+import com.bernardomg.security.springframework.test.auth.config.factory.Authentications;
+import com.bernardomg.security.springframework.test.auth.config.factory.GrantedAuthorities;
+import com.bernardomg.security.springframework.test.auth.config.factory.SecurityUsers;
+import com.bernardomg.security.springframework.test.permission.config.factory.PermissionConstants;
+import com.bernardomg.security.springframework.test.permission.config.factory.ResourcePermissions;
+
+@DisplayName("IndexedResourcePermissionEvaluator")
+class TestIndexedResourcePermissionEvaluator {
+
+    private IndexedResourcePermissionEvaluator evaluator;
+
+    private ResourcePermissionIndex            index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ResourcePermissionIndex(() -> List.of(ResourcePermissions.create(), ResourcePermissions.read()));
+        evaluator = new IndexedResourcePermissionEvaluator(index);
+    }
+
+    @Test
+    @DisplayName("When the indexed authentication has the permission, it is authorized")
+    void testIsAuthorized_Indexed() {
+        final Authentication authentication;
+        final boolean        authorized;
+
+        // GIVEN
+        authentication = indexed(List.of(GrantedAuthorities.resourceCreate()));
+
+        // WHEN
+        authorized = evaluator.isAuthorized(authentication, PermissionConstants.DATA, PermissionConstants.CREATE);
+
+        // THEN
+        Assertions.assertThat(authorized)
+            .isTrue();
+    }
+
+    @Test
+    @DisplayName("When the indexed authentication doesn't have the permission, it is not authorized")
+    void testIsAuthorized_Indexed_Missing() {
+        final Authentication authentication;
+        final boolean        authorized;
+
+        // GIVEN
+        authentication = indexed(List.of(GrantedAuthorities.resourceCreate()));
+
+        // WHEN
+        authorized = evaluator.isAuthorized(authentication, PermissionConstants.DATA, PermissionConstants.READ);
+
+        // THEN
+        Assertions.assertThat(authorized)
+            .isFalse();
+    }
+
+    @Test
+    @DisplayName("When the indexed authentication has a permission unknown to the index, it is authorized")
+    void testIsAuthorized_Indexed_Unknown() {
+        final Authentication authentication;
+        final boolean        authorized;
+
+        // GIVEN
+        authentication = indexed(List.of(GrantedAuthorities.alternativeResourceCreate()));
+
+        // WHEN
+        authorized = evaluator.isAuthorized(authentication, PermissionConstants.ALTERNATIVE_RESOURCE,
+            PermissionConstants.CREATE);
+
+        // THEN
+        Assertions.assertThat(authorized)
+            .isTrue();
+    }
+
+    @Test
+    @DisplayName("When the authentication is not indexed and has the permission, it is authorized")
+    void testIsAuthorized_NotIndexed() {
+        final Authentication authentication;
+        final boolean        authorized;
+
+        // GIVEN
+        authentication = Authentications.authenticatedWithCreateAuthorities();
+
+        // WHEN
+        authorized = evaluator.isAuthorized(authentication, PermissionConstants.DATA, PermissionConstants.CREATE);
+
+        // THEN
+        Assertions.assertThat(authorized)
+            .isTrue();
+    }
+
+    @Test
+    @DisplayName("When the authentication is not indexed and doesn't have the permission, it is not authorized")
+    void testIsAuthorized_NotIndexed_Missing() {
+        final Authentication authentication;
+        final boolean        authorized;
+
+        // GIVEN
+        authentication = Authentications.authenticatedWithReadAuthorities();
+
+        // WHEN
+        authorized = evaluator.isAuthorized(authentication, PermissionConstants.DATA, PermissionConstants.CREATE);
+
+        // THEN
+        Assertions.assertThat(authorized)
+            .isFalse();
+    }
+
+    @Test
+    @DisplayName("When the authentication was indexed by another index, the authorities are checked")
+    void testIsAuthorized_OtherIndex() {
+        final ResourcePermissionIndex other;
+        final Authentication          authentication;
+        final boolean                 authorized;
+
+        // GIVEN
+        other = new ResourcePermissionIndex(() -> List.of(ResourcePermissions.read(), ResourcePermissions.create()));
+        authentication = new ResourcePermissionAuthenticationToken(SecurityUsers.enabled(), null,
+            List.of(GrantedAuthorities.resourceCreate()), other);
+
+        // WHEN
+        authorized = evaluator.isAuthorized(authentication, PermissionConstants.DATA, PermissionConstants.CREATE);
+
+        // THEN
+        Assertions.assertThat(authorized)
+            .isTrue();
+    }
+
+    private final Authentication indexed(final List<? extends GrantedAuthority> authorities) {
+        return new ResourcePermissionAuthenticationToken(SecurityUsers.enabled(), null, authorities, index);
+    }
+
+}
@@ -0,0 +1,115 @@
+
+package com.bernardomg.security.springframework.test.access.interceptor.unit;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.bernardomg.security.springframework.access.interceptor.ResourcePermissionIndex;
+import com.bernardomg.security.springframework.test.auth.config.factory.GrantedAuthorities;
+import com.bernardomg.security.springframework.test.permission.config.factory.PermissionConstants;
+import com.bernardomg.security.springframework.test.permission.config.factory.ResourcePermissions;
+
+@DisplayName("ResourcePermissionIndex")
+class TestResourcePermissionIndex {
+
+    @Test
+    @DisplayName("The permissions are loaded only once")
+    void testIndexOf_LoadedOnce() {
+        final ResourcePermissionIndex index;
+        final AtomicInteger           loads;
+
+        // GIVEN
+        loads = new AtomicInteger();
+        index = new ResourcePermissionIndex(() -> {
+            loads.incrementAndGet();
+            return List.of(ResourcePermissions.create());
+        });
+
+        // WHEN
+        index.indexOf(PermissionConstants.DATA, PermissionConstants.CREATE);
+        index.indexOf(PermissionConstants.DATA, PermissionConstants.READ);
+
+        // THEN
+        Assertions.assertThat(loads.get())
+            .as("loads")
+            .isOne();
+    }
+
+    @Test
+    @DisplayName("Each known permission receives a distinct dense index")
+    void testIndexOf_Known() {
+        final ResourcePermissionIndex index;
+
+        // GIVEN
+        index = new ResourcePermissionIndex(() -> List.of(ResourcePermissions.create(), ResourcePermissions.read(),
+            ResourcePermissions.createAlternative()));
+
+        // WHEN + THEN
+        Assertions.assertThat(List.of(index.indexOf(PermissionConstants.DATA, PermissionConstants.CREATE),
+            index.indexOf(PermissionConstants.DATA, PermissionConstants.READ),
+            index.indexOf(PermissionConstants.DATA_2, PermissionConstants.CREATE)))
+            .as("indexes")
+            .containsExactlyInAnyOrder(0, 1, 2);
+    }
+
+    @Test
+    @DisplayName("An unknown permission has no index")
+    void testIndexOf_Unknown() {
+        final ResourcePermissionIndex index;
+        final int                     result;
+
+        // GIVEN
+        index = new ResourcePermissionIndex(() -> List.of(ResourcePermissions.create()));
+
+        // WHEN
+        result = index.indexOf(PermissionConstants.DATA, PermissionConstants.DELETE);
+
+        // THEN
+        Assertions.assertThat(result)
+            .as("index")
+            .isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("Repeated permissions are indexed once")
+    void testSize_Repeated() {
+        final ResourcePermissionIndex index;
+
+        // GIVEN
+        index = new ResourcePermissionIndex(
+            () -> List.of(ResourcePermissions.create(), ResourcePermissions.create(), ResourcePermissions.read()));
+
+        // WHEN + THEN
+        Assertions.assertThat(index.size())
+            .as("size")
+            .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("The bitset contains only the known resource permissions")
+    void testToBitSet() {
+        final ResourcePermissionIndex index;
+        final BitSet                  bits;
+
+        // GIVEN
+        index = new ResourcePermissionIndex(() -> List.of(ResourcePermissions.create(), ResourcePermissions.read()));
+
+        // WHEN
+        bits = index.toBitSet(List.of(GrantedAuthorities.resourceCreate(), GrantedAuthorities.simpleCreate(),
+            GrantedAuthorities.alternativeResourceCreate()));
+
+        // THEN
+        Assertions.assertThat(bits.cardinality())
+            .as("cardinality")
+            .isOne();
+        Assertions.assertThat(bits.get(index.indexOf(PermissionConstants.DATA, PermissionConstants.CREATE)))
+            .as("create permission")
+            .isTrue();
+    }
+
+}
@@ -0,0 +1,216 @@
+
+package com.bernardomg.security.springframework.test.login.usecase.unit;
+
+import static org.mockito.BDDMockito.given;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.bernardomg.security.springframework.login.authentication.SlidingWindowLimiter;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SlidingWindowLimiter")
+class TestSlidingWindowLimiter {
+
+    private static final String  KEY       = "key";
+
+    private static final String  OTHER_KEY = "other";
+
+    @Mock
+    private Clock                clock;
+
+    private SlidingWindowLimiter limiter;
+
+    private final AtomicLong     now       = new AtomicLong();
+
+    @BeforeEach
+    public void setUp() {
+        given(clock.millis()).willAnswer(invocation -> now.get());
+
+        limiter = new SlidingWindowLimiter(3, Duration.ofSeconds(1), clock);
+    }
+
+    @Test
+    @DisplayName("When the limit is reached, it is exceeded")
+    void testIsExceeded_AtLimit() {
+        final boolean exceeded;
+
+        // GIVEN
+        limiter.record(KEY);
+        limiter.record(KEY);
+        limiter.record(KEY);
+
+        // WHEN
+        exceeded = limiter.isExceeded(KEY);
+
+        // THEN
+        Assertions.assertThat(exceeded)
+            .as("exceeded")
+            .isTrue();
+    }
+
+    @Test
+    @DisplayName("When the events are older than two windows, it is not exceeded")
+    void testIsExceeded_Expired() {
+        final boolean exceeded;
+
+        // GIVEN
+        limiter.record(KEY);
+        limiter.record(KEY);
+        limiter.record(KEY);
+        now.set(2_000);
+
+        // WHEN
+        exceeded = limiter.isExceeded(KEY);
+
+        // THEN
+        Assertions.assertThat(exceeded)
+            .as("exceeded")
+            .isFalse();
+    }
+
+    @Test
+    @DisplayName("When there are no events, it is not exceeded")
+    void testIsExceeded_NoEvents() {
+        final boolean exceeded;
+
+        // WHEN
+        exceeded = limiter.isExceeded(KEY);
+
+        // THEN
+        Assertions.assertThat(exceeded)
+            .as("exceeded")
+            .isFalse();
+    }
+
+    @Test
+    @DisplayName("When another key reached the limit, it is not exceeded")
+    void testIsExceeded_OtherKey() {
+        final boolean exceeded;
+
+        // GIVEN
+        limiter.record(OTHER_KEY);
+        limiter.record(OTHER_KEY);
+        limiter.record(OTHER_KEY);
+
+        // WHEN
+        exceeded = limiter.isExceeded(KEY);
+
+        // THEN
+        Assertions.assertThat(exceeded)
+            .as("exceeded")
+            .isFalse();
+    }
+
+    @Test
+    @DisplayName("The events in the previous window are weighted by how much they overlap the sliding window")
+    void testIsExceeded_PreviousWindow() {
+        final boolean exceededBefore;
+        final boolean exceededAfter;
+
+        // GIVEN
+        limiter.record(KEY);
+        limiter.record(KEY);
+        limiter.record(KEY);
+        now.set(1_100);
+
+        // WHEN
+        exceededBefore = limiter.isExceeded(KEY);
+        limiter.record(KEY);
+        exceededAfter = limiter.isExceeded(KEY);
+
+        // THEN
+        Assertions.assertThat(exceededBefore)
+            .as("exceeded before the new event")
+            .isFalse();
+        Assertions.assertThat(exceededAfter)
+            .as("exceeded after the new event")
+            .isTrue();
+    }
+
+    @Test
+    @DisplayName("When under the limit, it is not exceeded")
+    void testIsExceeded_UnderLimit() {
+        final boolean exceeded;
+
+        // GIVEN
+        limiter.record(KEY);
+        limiter.record(KEY);
+
+        // WHEN
+        exceeded = limiter.isExceeded(KEY);
+
+        // THEN
+        Assertions.assertThat(exceeded)
+            .as("exceeded")
+            .isFalse();
+    }
+
+    @Test
+    @DisplayName("Events recorded while idle keys are removed are not lost")
+    void testRecord_PurgeConcurrent() throws InterruptedException {
+        for (int i = 0; i < 1_000; i++) {
+            final Thread         recorder;
+            final Thread         purger;
+            final CountDownLatch start;
+
+            // GIVEN
+            now.set(0);
+            limiter = new SlidingWindowLimiter(1, Duration.ofSeconds(1), clock);
+            limiter.record(KEY);
+            now.set(2_000);
+            start = new CountDownLatch(1);
+
+            // WHEN
+            recorder = new Thread(() -> awaitAndRun(start, () -> limiter.record(KEY)));
+            purger = new Thread(() -> awaitAndRun(start, () -> limiter.record(OTHER_KEY)));
+            recorder.start();
+            purger.start();
+            start.countDown();
+            recorder.join();
+            purger.join();
+
+            // THEN
+            Assertions.assertThat(limiter.isExceeded(KEY))
+                .as("exceeded")
+                .isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("Idle keys are removed")
+    void testRecord_PurgesIdle() {
+        // GIVEN
+        limiter.record(OTHER_KEY);
+        now.set(3_000);
+
+        // WHEN
+        limiter.record(KEY);
+
+        // THEN
+        Assertions.assertThat(limiter.size())
+            .as("size")
+            .isOne();
+    }
+
+    private final void awaitAndRun(final CountDownLatch start, final Runnable action) {
+        try {
+            start.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread()
+                .interrupt();
+        }
+        action.run();
+    }
+
+}
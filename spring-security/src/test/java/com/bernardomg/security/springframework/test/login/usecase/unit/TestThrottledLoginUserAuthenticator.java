@@ -0,0 +1,172 @@
+
+package com.bernardomg.security.springframework.test.login.usecase.unit;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Locale;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.bernardomg.security.domain.login.exception.InvalidCredentialsException;
+import com.bernardomg.security.domain.login.model.Credentials;
+import com.bernardomg.security.springframework.login.authentication.SlidingWindowLimiter;
+import com.bernardomg.security.springframework.login.authentication.ThrottledLoginUserAuthenticator;
+import com.bernardomg.security.springframework.test.login.config.factory.Credentialses;
+import com.bernardomg.security.springframework.test.login.usecase.config.factory.LoginUsers;
+import com.bernardomg.security.springframework.test.user.config.factory.UserConstants;
+import com.bernardomg.security.usecase.login.authentication.LoginUserAuthenticator;
+import com.bernardomg.security.usecase.login.domain.LoginUser;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ThrottledLoginUserAuthenticator")
+class TestThrottledLoginUserAuthenticator {
+
+    private static final String             ADDRESS = "192.0.2.10";
+
+    private static final Clock              CLOCK   = Clock.fixed(Instant.parse("2020-01-01T00:00:00Z"),
+        ZoneOffset.UTC);
+
+    private ThrottledLoginUserAuthenticator authenticator;
+
+    @Mock
+    private LoginUserAuthenticator          delegate;
+
+    @AfterEach
+    public void clearRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        authenticator = new ThrottledLoginUserAuthenticator(delegate,
+            new SlidingWindowLimiter(1, Duration.ofMinutes(1), CLOCK),
+            new SlidingWindowLimiter(2, Duration.ofMinutes(1), CLOCK));
+    }
+
+    @Test
+    @DisplayName("When there are no failures, the attempt is accepted")
+    void testAuthenticate_Accepted() {
+        final LoginUser user;
+
+        // GIVEN
+        given(delegate.authenticate(Credentialses.valid())).willReturn(LoginUsers.valid());
+
+        // WHEN
+        user = authenticator.authenticate(Credentialses.valid());
+
+        // THEN
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(user)
+                .as("user")
+                .isEqualTo(LoginUsers.valid());
+            softly.assertThat(authenticator.getAcceptedCount())
+                .as("accepted")
+                .isOne();
+            softly.assertThat(authenticator.getRejectedCount())
+                .as("rejected")
+                .isZero();
+        });
+    }
+
+    @Test
+    @DisplayName("When the client address reached the failures limit, attempts for other users are rejected")
+    void testAuthenticate_AddressLimit() {
+        final ThrowingCallable executable;
+        final Credentials      other;
+
+        // GIVEN
+        setAddress(ADDRESS);
+        given(delegate.authenticate(Credentialses.valid())).willThrow(InvalidCredentialsException.class);
+        other = new Credentials("other", UserConstants.PASSWORD);
+        given(delegate.authenticate(other)).willThrow(InvalidCredentialsException.class);
+        failLogin(Credentialses.valid());
+        failLogin(other);
+
+        // WHEN
+        executable = () -> authenticator.authenticate(new Credentials("another", UserConstants.PASSWORD));
+
+        // THEN
+        Assertions.assertThatThrownBy(executable)
+            .isInstanceOf(InvalidCredentialsException.class);
+        Assertions.assertThat(authenticator.getRejectedCount())
+            .as("rejected")
+            .isOne();
+    }
+
+    @Test
+    @DisplayName("When the username reached the failures limit, the attempt is rejected without authenticating")
+    void testAuthenticate_UsernameLimit() {
+        final ThrowingCallable executable;
+
+        // GIVEN
+        given(delegate.authenticate(Credentialses.valid())).willThrow(InvalidCredentialsException.class);
+        failLogin(Credentialses.valid());
+
+        // WHEN
+        executable = () -> authenticator.authenticate(Credentialses.valid());
+
+        // THEN
+        Assertions.assertThatThrownBy(executable)
+            .isInstanceOf(InvalidCredentialsException.class);
+        verify(delegate, times(1)).authenticate(Credentialses.valid());
+        Assertions.assertThat(authenticator.getRejectedCount())
+            .as("rejected")
+            .isOne();
+    }
+
+    @Test
+    @DisplayName("The username failures ignore the case")
+    void testAuthenticate_UsernameLimit_Case() {
+        final ThrowingCallable executable;
+
+        // GIVEN
+        given(delegate.authenticate(Credentialses.valid())).willThrow(InvalidCredentialsException.class);
+        failLogin(Credentialses.valid());
+
+        // WHEN
+        executable = () -> authenticator
+            .authenticate(new Credentials(UserConstants.USERNAME.toUpperCase(Locale.ROOT), UserConstants.PASSWORD));
+
+        // THEN
+        Assertions.assertThatThrownBy(executable)
+            .isInstanceOf(InvalidCredentialsException.class);
+        Assertions.assertThat(authenticator.getRejectedCount())
+            .as("rejected")
+            .isOne();
+    }
+
+    private final void failLogin(final Credentials credentials) {
+        try {
+            authenticator.authenticate(credentials);
+        } catch (final InvalidCredentialsException e) {
+            // Expected failure
+        }
+    }
+
+    private final void setAddress(final String address) {
+        final MockHttpServletRequest request;
+
+        request = new MockHttpServletRequest();
+        request.setRemoteAddr(address);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+}
@@ -0,0 +1,66 @@
+
+package com.bernardomg.security.springframework.test.metrics.unit;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.bernardomg.security.domain.login.event.LogInEvent;
+import com.bernardomg.security.springframework.metrics.LoginMeterListener;
+import com.bernardomg.security.springframework.test.user.config.factory.UserConstants;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("LoginMeterListener")
+class TestLoginMeterListener {
+
+    private LoginMeterListener listener;
+
+    private MeterRegistry      registry;
+
+    @BeforeEach
+    public void initializeListener() {
+        registry = new SimpleMeterRegistry();
+        listener = new LoginMeterListener(registry);
+    }
+
+    @Test
+    @DisplayName("When a login fails, it is counted as a failure")
+    void testHandle_Failure() {
+        // WHEN
+        listener.handle(new LogInEvent(null, UserConstants.USERNAME, false));
+
+        // THEN
+        Assertions.assertThat(logins("failure"))
+            .as("failures")
+            .isEqualTo(1);
+        Assertions.assertThat(logins("success"))
+            .as("successes")
+            .isZero();
+    }
+
+    @Test
+    @DisplayName("When a login succeeds, it is counted as a success")
+    void testHandle_Success() {
+        // WHEN
+        listener.handle(new LogInEvent(null, UserConstants.USERNAME, true));
+
+        // THEN
+        Assertions.assertThat(logins("success"))
+            .as("successes")
+            .isEqualTo(1);
+        Assertions.assertThat(logins("failure"))
+            .as("failures")
+            .isZero();
+    }
+
+    private final double logins(final String result) {
+        return registry.get("security.login")
+            .tag("result", result)
+            .counter()
+            .count();
+    }
+
+}
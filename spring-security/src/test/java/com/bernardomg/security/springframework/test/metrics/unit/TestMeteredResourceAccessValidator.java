@@ -0,0 +1,84 @@
+
+package com.bernardomg.security.springframework.test.metrics.unit;
+
+import static org.mockito.BDDMockito.given;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.bernardomg.framework.security.access.interceptor.ResourceAccessValidator;
+import com.bernardomg.security.springframework.metrics.MeteredResourceAccessValidator;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MeteredResourceAccessValidator")
+class TestMeteredResourceAccessValidator {
+
+    private MeterRegistry                  registry;
+
+    private MeteredResourceAccessValidator validator;
+
+    @Mock
+    private ResourceAccessValidator        wrapped;
+
+    @BeforeEach
+    public void initializeValidator() {
+        registry = new SimpleMeterRegistry();
+        validator = new MeteredResourceAccessValidator(wrapped, registry);
+    }
+
+    @Test
+    @DisplayName("When the access is authorized, no denial is counted")
+    void testIsAuthorized_Authorized() {
+        final boolean authorized;
+
+        // GIVEN
+        given(wrapped.isAuthorized("USER", "READ")).willReturn(true);
+
+        // WHEN
+        authorized = validator.isAuthorized("USER", "READ");
+
+        // THEN
+        Assertions.assertThat(authorized)
+            .as("authorized")
+            .isTrue();
+        Assertions.assertThat(registry.find("security.authorization.denied")
+            .tag("resource", "USER")
+            .tag("action", "READ")
+            .counter())
+            .as("denials")
+            .isNull();
+    }
+
+    @Test
+    @DisplayName("When the access is denied, the denial is counted by resource and action")
+    void testIsAuthorized_Denied() {
+        final boolean authorized;
+
+        // GIVEN
+        given(wrapped.isAuthorized("USER", "READ")).willReturn(false);
+
+        // WHEN
+        authorized = validator.isAuthorized("USER", "READ");
+
+        // THEN
+        Assertions.assertThat(authorized)
+            .as("authorized")
+            .isFalse();
+        Assertions.assertThat(registry.get("security.authorization.denied")
+            .tag("resource", "USER")
+            .tag("action", "READ")
+            .counter()
+            .count())
+            .as("denials")
+            .isEqualTo(1);
+    }
+
+}
@@ -0,0 +1,117 @@
+
+package com.bernardomg.security.springframework.test.metrics.unit;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import com.bernardomg.jwt.encoding.TokenDecoder;
+import com.bernardomg.security.springframework.metrics.SecurityMetricsPostProcessor;
+import com.bernardomg.security.springframework.metrics.TimedTokenDecoder;
+import com.bernardomg.security.springframework.web.jwt.JwtTokenDataCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SecurityMetricsPostProcessor")
+public class TestSecurityMetricsPostProcessor {
+
+    @Mock
+    private ObjectProvider<MeterRegistry> registryProvider;
+
+    @Mock
+    private TokenDecoder                  tokenDecoder;
+
+    @Test
+    @DisplayName("When there is no registry, the bean is kept as it is")
+    void testPostProcess_NoRegistry_NotWrapped() {
+        final SecurityMetricsPostProcessor processor;
+        final Object                       result;
+
+        // GIVEN
+        when(registryProvider.getIfAvailable()).thenReturn(null);
+        processor = new SecurityMetricsPostProcessor(registryProvider);
+
+        // WHEN
+        result = processor.postProcessAfterInitialization(tokenDecoder, "tokenDecoder");
+
+        // THEN
+        Assertions.assertThat(result)
+            .as("bean")
+            .isSameAs(tokenDecoder);
+        verify(registryProvider).getIfAvailable();
+    }
+
+    @Test
+    @DisplayName("When processing a bean with statistics, they are bound to the registry")
+    void testPostProcess_Statistics_Bound() {
+        final SecurityMetricsPostProcessor processor;
+        final MeterRegistry                registry;
+
+        // GIVEN
+        registry = new SimpleMeterRegistry();
+        when(registryProvider.getIfAvailable()).thenReturn(registry);
+        processor = new SecurityMetricsPostProcessor(registryProvider);
+
+        // WHEN
+        processor.postProcessAfterInitialization(new JwtTokenDataCache(10, Duration.ofMinutes(5)), "cache");
+
+        // THEN
+        Assertions.assertThat(registry.find("security.token.cache.hits")
+            .functionCounter())
+            .as("hits counter")
+            .isNotNull();
+    }
+
+    @Test
+    @DisplayName("When processing an instrumented bean, it is wrapped with its timed decorator")
+    void testPostProcess_TokenDecoder_Wrapped() {
+        final SecurityMetricsPostProcessor processor;
+        final Object                       result;
+
+        // GIVEN
+        when(registryProvider.getIfAvailable()).thenReturn(new SimpleMeterRegistry());
+        processor = new SecurityMetricsPostProcessor(registryProvider);
+
+        // WHEN
+        result = processor.postProcessAfterInitialization(tokenDecoder, "tokenDecoder");
+
+        // THEN
+        Assertions.assertThat(result)
+            .as("bean")
+            .isInstanceOf(TimedTokenDecoder.class);
+    }
+
+    @Test
+    @DisplayName("When processing an unrelated bean, the registry is not looked up")
+    void testPostProcess_Unrelated_NoLookup() {
+        final SecurityMetricsPostProcessor processor;
+        final Object                       bean;
+        final Object                       result;
+
+        // GIVEN
+        processor = new SecurityMetricsPostProcessor(registryProvider);
+        bean = "bean";
+
+        // WHEN
+        result = processor.postProcessAfterInitialization(bean, "bean");
+
+        // THEN
+        Assertions.assertThat(result)
+            .as("bean")
+            .isSameAs(bean);
+        verifyNoInteractions(registryProvider);
+    }
+
+}
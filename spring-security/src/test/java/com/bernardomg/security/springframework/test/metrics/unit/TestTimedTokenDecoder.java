@@ -0,0 +1,155 @@
+
+package com.bernardomg.security.springframework.test.metrics.unit;
+
+import static org.mockito.BDDMockito.given;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.bernardomg.jwt.encoding.JwtTokenData;
+import com.bernardomg.jwt.encoding.TokenDecoder;
+import com.bernardomg.security.springframework.metrics.TimedTokenDecoder;
+import com.bernardomg.security.springframework.test.jwt.config.Tokens;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.PrematureJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TimedTokenDecoder")
+class TestTimedTokenDecoder {
+
+    private TimedTokenDecoder decoder;
+
+    private MeterRegistry     registry;
+
+    @Mock
+    private TokenDecoder      tokenDecoder;
+
+    @Mock
+    private JwtTokenData      tokenData;
+
+    @BeforeEach
+    public void initializeDecoder() {
+        registry = new SimpleMeterRegistry();
+        decoder = new TimedTokenDecoder(tokenDecoder, registry);
+    }
+
+    @Test
+    @DisplayName("When the signature can't be verified, the rejection is counted and the exception rethrown")
+    void testDecode_BadSignature() {
+        final ThrowingCallable execution;
+
+        // GIVEN
+        given(tokenDecoder.decode(Tokens.TOKEN)).willThrow(new SignatureException("signature"));
+
+        // WHEN
+        execution = () -> decoder.decode(Tokens.TOKEN);
+
+        // THEN
+        Assertions.assertThatThrownBy(execution)
+            .isInstanceOf(SignatureException.class);
+        Assertions.assertThat(rejected("bad_signature"))
+            .as("rejected")
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("When the token is not valid yet, the rejection is counted and the exception rethrown")
+    void testDecode_BeforeStart() {
+        final ThrowingCallable execution;
+
+        // GIVEN
+        given(tokenDecoder.decode(Tokens.TOKEN)).willThrow(new PrematureJwtException(null, null, "premature"));
+
+        // WHEN
+        execution = () -> decoder.decode(Tokens.TOKEN);
+
+        // THEN
+        Assertions.assertThatThrownBy(execution)
+            .isInstanceOf(PrematureJwtException.class);
+        Assertions.assertThat(rejected("before_start"))
+            .as("rejected")
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("When the token is expired, the rejection is counted and the exception rethrown")
+    void testDecode_Expired() {
+        final ThrowingCallable execution;
+
+        // GIVEN
+        given(tokenDecoder.decode(Tokens.TOKEN)).willThrow(new ExpiredJwtException(null, null, "expired"));
+
+        // WHEN
+        execution = () -> decoder.decode(Tokens.TOKEN);
+
+        // THEN
+        Assertions.assertThatThrownBy(execution)
+            .isInstanceOf(ExpiredJwtException.class);
+        Assertions.assertThat(rejected("expired"))
+            .as("rejected")
+            .isEqualTo(1);
+        Assertions.assertThat(rejected("invalid"))
+            .as("invalid")
+            .isZero();
+    }
+
+    @Test
+    @DisplayName("When the token is malformed, the rejection is counted as invalid")
+    void testDecode_Malformed() {
+        final ThrowingCallable execution;
+
+        // GIVEN
+        given(tokenDecoder.decode(Tokens.TOKEN)).willThrow(new MalformedJwtException("malformed"));
+
+        // WHEN
+        execution = () -> decoder.decode(Tokens.TOKEN);
+
+        // THEN
+        Assertions.assertThatThrownBy(execution)
+            .isInstanceOf(MalformedJwtException.class);
+        Assertions.assertThat(rejected("invalid"))
+            .as("rejected")
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("When decoding a valid token, the decoding is timed and the data returned")
+    void testDecode_Valid() {
+        final JwtTokenData result;
+
+        // GIVEN
+        given(tokenDecoder.decode(Tokens.TOKEN)).willReturn(tokenData);
+
+        // WHEN
+        result = decoder.decode(Tokens.TOKEN);
+
+        // THEN
+        Assertions.assertThat(result)
+            .as("token data")
+            .isSameAs(tokenData);
+        Assertions.assertThat(registry.get("security.token.decode")
+            .timer()
+            .count())
+            .as("timed decodings")
+            .isEqualTo(1);
+    }
+
+    private final double rejected(final String reason) {
+        return registry.get("security.token.rejected")
+            .tag("reason", reason)
+            .counter()
+            .count();
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.bernardomg.security.springframework.test.password.unit;
+
+import java.time.Duration;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.bernardomg.security.springframework.password.BcryptStrengthCalibrator;
+
+@DisplayName("BcryptStrengthCalibrator")
+class TestBcryptStrengthCalibrator {
+
+    @Test
+    @DisplayName("When the minimum strength is above the maximum, an exception is thrown")
+    void testCalibrate_InvalidBounds() {
+        final ThrowingCallable execution;
+
+        // WHEN
+        execution = () -> new BcryptStrengthCalibrator(6, 5, 3);
+
+        // THEN
+        Assertions.assertThatThrownBy(execution)
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("When every strength fits the target, the maximum strength is returned")
+    void testCalibrate_LongTarget() {
+        final BcryptStrengthCalibrator calibrator;
+        final int                      strength;
+
+        // GIVEN
+        calibrator = new BcryptStrengthCalibrator(4, 6, 3);
+
+        // WHEN
+        strength = calibrator.calibrate(Duration.ofMinutes(1));
+
+        // THEN
+        Assertions.assertThat(strength)
+            .as("strength")
+            .isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("When no strength fits the target, the minimum strength is returned")
+    void testCalibrate_ShortTarget() {
+        final BcryptStrengthCalibrator calibrator;
+        final int                      strength;
+
+        // GIVEN
+        calibrator = new BcryptStrengthCalibrator(5, 8, 3);
+
+        // WHEN
+        strength = calibrator.calibrate(Duration.ZERO);
+
+        // THEN
+        Assertions.assertThat(strength)
+            .as("strength")
+            .isEqualTo(5);
+    }
+
+}
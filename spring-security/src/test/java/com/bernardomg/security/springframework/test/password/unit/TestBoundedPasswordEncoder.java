@@ -0,0 +1,203 @@
+package com.bernardomg.security.springframework.test.password.unit;
+
+import static org.mockito.BDDMockito.given;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.bernardomg.security.springframework.password.BoundedPasswordEncoder;
+import com.bernardomg.security.springframework.password.PasswordHashingUnavailableException;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BoundedPasswordEncoder")
+class TestBoundedPasswordEncoder {
+
+    private static final String    ENCODED  = "encoded";
+
+    private static final String    PASSWORD = "1234";
+
+    private final ExecutorService  callers  = Executors.newCachedThreadPool();
+
+    @Mock
+    private PasswordEncoder        delegate;
+
+    private BoundedPasswordEncoder encoder;
+
+    private final CountDownLatch   release  = new CountDownLatch(1);
+
+    private final CountDownLatch   started  = new CountDownLatch(1);
+
+    @AfterEach
+    public void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+        if (encoder != null) {
+            encoder.close();
+        }
+    }
+
+    @Test
+    @DisplayName("When encoding, the password is encoded by the wrapped encoder")
+    void testEncode() {
+        final String encoded;
+
+        // GIVEN
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, Duration.ofSeconds(1));
+        given(delegate.encode(PASSWORD)).willReturn(ENCODED);
+
+        // WHEN
+        encoded = encoder.encode(PASSWORD);
+
+        // THEN
+        Assertions.assertThat(encoded)
+            .as("encoded password")
+            .isEqualTo(ENCODED);
+    }
+
+    @Test
+    @DisplayName("When the wrapped encoder fails, the same exception is thrown")
+    void testMatches_Error() {
+        final ThrowingCallable execution;
+
+        // GIVEN
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, Duration.ofSeconds(1));
+        given(delegate.matches(PASSWORD, ENCODED)).willThrow(new IllegalArgumentException("Invalid hash"));
+
+        // WHEN
+        execution = () -> encoder.matches(PASSWORD, ENCODED);
+
+        // THEN
+        Assertions.assertThatThrownBy(execution)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Invalid hash");
+    }
+
+    @Test
+    @DisplayName("When checking a password, the wrapped encoder checks it")
+    void testMatches_Matches() {
+        final boolean matches;
+
+        // GIVEN
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, Duration.ofSeconds(1));
+        given(delegate.matches(PASSWORD, ENCODED)).willReturn(true);
+
+        // WHEN
+        matches = encoder.matches(PASSWORD, ENCODED);
+
+        // THEN
+        Assertions.assertThat(matches)
+            .as("matches")
+            .isTrue();
+    }
+
+    @Test
+    @DisplayName("When the queue is full, the hash is rejected")
+    void testMatches_QueueFull() throws InterruptedException {
+        final ThrowingCallable execution;
+
+        // GIVEN
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, Duration.ofSeconds(10));
+        blockDelegate();
+        callers.submit(() -> encoder.matches(PASSWORD, ENCODED));
+        started.await(5, TimeUnit.SECONDS);
+        callers.submit(() -> encoder.matches(PASSWORD, ENCODED));
+        awaitQueued(1);
+
+        // WHEN
+        execution = () -> encoder.matches(PASSWORD, ENCODED);
+
+        // THEN
+        Assertions.assertThatThrownBy(execution)
+            .isInstanceOf(PasswordHashingUnavailableException.class);
+        Assertions.assertThat(encoder.getRejectedCount())
+            .as("rejected count")
+            .isOne();
+    }
+
+    @Test
+    @DisplayName("When the hash waits in the queue longer than the timeout, it is rejected and removed from the queue")
+    void testMatches_QueueTimeout() throws InterruptedException {
+        final ThrowingCallable execution;
+
+        // GIVEN
+        encoder = new BoundedPasswordEncoder(delegate, 1, 10, Duration.ofMillis(50));
+        blockDelegate();
+        callers.submit(() -> encoder.matches(PASSWORD, ENCODED));
+        started.await(5, TimeUnit.SECONDS);
+
+        // WHEN
+        execution = () -> encoder.matches(PASSWORD, ENCODED);
+
+        // THEN
+        Assertions.assertThatThrownBy(execution)
+            .isInstanceOf(PasswordHashingUnavailableException.class);
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(encoder.getRejectedCount())
+                .as("rejected count")
+                .isOne();
+            softly.assertThat(encoder.getQueueSize())
+                .as("queue size")
+                .isZero();
+            softly.assertThat(encoder.getActiveCount())
+                .as("active count")
+                .isOne();
+        });
+    }
+
+    @Test
+    @DisplayName("When hashing, the statistics are updated")
+    void testMatches_Statistics() {
+        // GIVEN
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, Duration.ofSeconds(1));
+        given(delegate.matches(PASSWORD, ENCODED)).willReturn(true);
+
+        // WHEN
+        encoder.matches(PASSWORD, ENCODED);
+        encoder.matches(PASSWORD, ENCODED);
+
+        // THEN
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(encoder.getHashCount())
+                .as("hash count")
+                .isEqualTo(2);
+            softly.assertThat(encoder.getHashTime())
+                .as("hash time")
+                .isPositive();
+            softly.assertThat(encoder.getRejectedCount())
+                .as("rejected count")
+                .isZero();
+        });
+    }
+
+    private final void awaitQueued(final int size) throws InterruptedException {
+        final long deadline;
+
+        deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while ((encoder.getQueueSize() < size) && (System.nanoTime() < deadline)) {
+            Thread.sleep(5);
+        }
+    }
+
+    private final void blockDelegate() {
+        given(delegate.matches(PASSWORD, ENCODED)).willAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return true;
+        });
+    }
+
+}
@@ -0,0 +1,169 @@
+
+package com.bernardomg.security.springframework.test.retention.unit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.bernardomg.security.domain.login.repository.LoginRegisterRepository;
+import com.bernardomg.security.domain.user.repository.UserTokenRepository;
+import com.bernardomg.security.springframework.retention.RetentionPurger;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RetentionPurger")
+public class TestRetentionPurger {
+
+    private static final Duration LOGIN_RETENTION = Duration.ofDays(90);
+
+    private static final Instant  NOW             = Instant.parse("2020-02-01T00:00:00Z");
+
+    private static final Duration TOKEN_RETENTION = Duration.ofDays(30);
+
+    @Mock
+    private Clock                   clock;
+
+    @Mock
+    private LoginRegisterRepository loginRegisterRepository;
+
+    @Mock
+    private UserTokenRepository     userTokenRepository;
+
+    @Test
+    @DisplayName("When a batch is full, another one is removed")
+    void testPurge_FullBatch_Continues() {
+        final RetentionPurger purger;
+
+        // GIVEN
+        purger = purger(Clock.fixed(NOW, ZoneOffset.UTC));
+        when(userTokenRepository.deleteExpired(NOW.minus(TOKEN_RETENTION), 2)).thenReturn(2, 2, 1);
+
+        // WHEN
+        purger.purge();
+
+        // THEN
+        verify(userTokenRepository, times(3)).deleteExpired(NOW.minus(TOKEN_RETENTION), 2);
+        Assertions.assertThat(purger.getUserTokensDeletedCount())
+            .as("deleted user tokens")
+            .isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("When purging, the login registers past their retention are removed and counted")
+    void testPurge_LoginRegisters() {
+        final RetentionPurger purger;
+
+        // GIVEN
+        purger = purger(Clock.fixed(NOW, ZoneOffset.UTC));
+        when(loginRegisterRepository.deleteBefore(NOW.minus(LOGIN_RETENTION), 2)).thenReturn(1);
+
+        // WHEN
+        purger.purge();
+
+        // THEN
+        verify(loginRegisterRepository).deleteBefore(NOW.minus(LOGIN_RETENTION), 2);
+        Assertions.assertThat(purger.getLoginRegistersDeletedCount())
+            .as("deleted login registers")
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("When purging, the run is counted")
+    void testPurge_Run_Counted() {
+        final RetentionPurger purger;
+
+        // GIVEN
+        purger = purger(Clock.fixed(NOW, ZoneOffset.UTC));
+
+        // WHEN
+        purger.purge();
+
+        // THEN
+        Assertions.assertThat(purger.getRunCount())
+            .as("runs")
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("When the time budget runs out on a table, the next one gets a single batch")
+    void testPurge_TimeBudget_Shared() {
+        final RetentionPurger purger;
+
+        // GIVEN
+        purger = purger(clock);
+        // Start, after each token batch, after the first login batch, end
+        when(clock.instant()).thenReturn(NOW, NOW.plusSeconds(5), NOW.plusSeconds(11), NOW.plusSeconds(12),
+            NOW.plusSeconds(12));
+        when(userTokenRepository.deleteExpired(any(), anyInt())).thenReturn(2);
+        when(loginRegisterRepository.deleteBefore(any(), anyInt())).thenReturn(2);
+
+        // WHEN
+        purger.purge();
+
+        // THEN
+        verify(userTokenRepository, times(2)).deleteExpired(any(), anyInt());
+        verify(loginRegisterRepository, times(1)).deleteBefore(any(), anyInt());
+        Assertions.assertThat(purger.getLastRunMillis())
+            .as("last run time")
+            .isEqualTo(12_000);
+    }
+
+    @Test
+    @DisplayName("When the time budget runs out, no more batches are removed")
+    void testPurge_TimeBudget_Stops() {
+        final RetentionPurger purger;
+
+        // GIVEN
+        purger = purger(clock);
+        // Start, after the first token batch, after the first login batch, end
+        when(clock.instant()).thenReturn(NOW, NOW.plusSeconds(20), NOW.plusSeconds(20), NOW.plusSeconds(20));
+        when(userTokenRepository.deleteExpired(any(), anyInt())).thenReturn(2);
+
+        // WHEN
+        purger.purge();
+
+        // THEN
+        verify(userTokenRepository, times(1)).deleteExpired(any(), anyInt());
+        Assertions.assertThat(purger.getLastRunMillis())
+            .as("last run time")
+            .isEqualTo(20_000);
+    }
+
+    @Test
+    @DisplayName("When purging, the user tokens expired past their retention are removed and counted")
+    void testPurge_UserTokens() {
+        final RetentionPurger purger;
+
+        // GIVEN
+        purger = purger(Clock.fixed(NOW, ZoneOffset.UTC));
+        when(userTokenRepository.deleteExpired(NOW.minus(TOKEN_RETENTION), 2)).thenReturn(1);
+
+        // WHEN
+        purger.purge();
+
+        // THEN
+        verify(userTokenRepository).deleteExpired(NOW.minus(TOKEN_RETENTION), 2);
+        Assertions.assertThat(purger.getUserTokensDeletedCount())
+            .as("deleted user tokens")
+            .isEqualTo(1);
+    }
+
+    private final RetentionPurger purger(final Clock clck) {
+        return new RetentionPurger(userTokenRepository, TOKEN_RETENTION, loginRegisterRepository, LOGIN_RETENTION, 2,
+            Duration.ofSeconds(10), Duration.ofHours(1), clck);
+    }
+
+}
@@ -2,6 +2,7 @@
 package com.bernardomg.security.springframework.test.usecase.service.unit;
 
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 
 import java.util.Optional;
 
@@ -20,7 +21,7 @@
 import com.bernardomg.security.domain.user.repository.UserRepository;
 import com.bernardomg.security.springframework.test.permission.config.factory.PermissionConstants;
 import com.bernardomg.security.springframework.test.user.config.factory.UserConstants;
-import com.bernardomg.security.springframework.test.user.config.factory.Users;
+import com.bernardomg.security.springframework.test.user.config.factory.UsersAuthenticationDetails;
 import com.bernardomg.security.springframework.usecase.service.UserDomainDetailsService;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,9 +44,8 @@ void testLoadByUsername_Disabled() {
         final UserDetails userDetails;
 
         // GIVEN
-        given(userRepository.findOne(UserConstants.USERNAME)).willReturn(Optional.of(Users.disabled()));
-        given(userRepository.findIdByUsername(UserConstants.USERNAME)).willReturn(Optional.of(UserConstants.ID));
-        given(userRepository.findPassword(UserConstants.USERNAME)).willReturn(Optional.of(UserConstants.PASSWORD));
+        given(userRepository.findAuthenticationDetails(UserConstants.USERNAME))
+            .willReturn(Optional.of(UsersAuthenticationDetails.disabled()));
 
         // WHEN
         userDetails = service.loadUserByUsername(UserConstants.USERNAME);
@@ -93,9 +93,8 @@ void testLoadByUsername_Email() {
         final UserDetails userDetails;
 
         // GIVEN
-        given(userRepository.findOneByEmail(UserConstants.EMAIL)).willReturn(Optional.of(Users.enabled()));
-        given(userRepository.findIdByUsername(UserConstants.USERNAME)).willReturn(Optional.of(UserConstants.ID));
-        given(userRepository.findPassword(UserConstants.USERNAME)).willReturn(Optional.of(UserConstants.PASSWORD));
+        given(userRepository.findAuthenticationDetailsByEmail(UserConstants.EMAIL))
+            .willReturn(Optional.of(UsersAuthenticationDetails.enabled()));
 
         // WHEN
         userDetails = service.loadUserByUsername(UserConstants.EMAIL);
@@ -123,9 +122,8 @@ void testLoadByUsername_Enabled() {
         final UserDetails userDetails;
 
         // GIVEN
-        given(userRepository.findOne(UserConstants.USERNAME)).willReturn(Optional.of(Users.enabled()));
-        given(userRepository.findIdByUsername(UserConstants.USERNAME)).willReturn(Optional.of(UserConstants.ID));
-        given(userRepository.findPassword(UserConstants.USERNAME)).willReturn(Optional.of(UserConstants.PASSWORD));
+        given(userRepository.findAuthenticationDetails(UserConstants.USERNAME))
+            .willReturn(Optional.of(UsersAuthenticationDetails.enabled()));
 
         // WHEN
         userDetails = service.loadUserByUsername(UserConstants.USERNAME);
@@ -173,9 +171,8 @@ void testLoadByUsername_Expired() {
         final UserDetails userDetails;
 
         // GIVEN
-        given(userRepository.findOne(UserConstants.USERNAME)).willReturn(Optional.of(Users.expired()));
-        given(userRepository.findIdByUsername(UserConstants.USERNAME)).willReturn(Optional.of(UserConstants.ID));
-        given(userRepository.findPassword(UserConstants.USERNAME)).willReturn(Optional.of(UserConstants.PASSWORD));
+        given(userRepository.findAuthenticationDetails(UserConstants.USERNAME))
+            .willReturn(Optional.of(UsersAuthenticationDetails.expired()));
 
         // WHEN
         userDetails = service.loadUserByUsername(UserConstants.USERNAME);
@@ -223,9 +220,8 @@ void testLoadByUsername_Locked() {
         final UserDetails userDetails;
 
         // GIVEN
-        given(userRepository.findOne(UserConstants.USERNAME)).willReturn(Optional.of(Users.locked()));
-        given(userRepository.findIdByUsername(UserConstants.USERNAME)).willReturn(Optional.of(UserConstants.ID));
-        given(userRepository.findPassword(UserConstants.USERNAME)).willReturn(Optional.of(UserConstants.PASSWORD));
+        given(userRepository.findAuthenticationDetails(UserConstants.USERNAME))
+            .willReturn(Optional.of(UsersAuthenticationDetails.locked()));
 
         // WHEN
         userDetails = service.loadUserByUsername(UserConstants.USERNAME);
@@ -274,7 +270,8 @@ void testLoadByUsername_NoAuthorities() {
         final Exception        exception;
 
         // GIVEN
-        given(userRepository.findOne(UserConstants.USERNAME)).willReturn(Optional.of(Users.enabled()));
+        given(userRepository.findAuthenticationDetails(UserConstants.USERNAME))
+            .willReturn(Optional.of(UsersAuthenticationDetails.withoutPermissions()));
 
         // WHEN
         executable = () -> service.loadUserByUsername(UserConstants.USERNAME);
@@ -292,9 +289,8 @@ void testLoadByUsername_PasswordExpired() {
         final UserDetails userDetails;
 
         // GIVEN
-        given(userRepository.findOne(UserConstants.USERNAME)).willReturn(Optional.of(Users.passwordExpired()));
-        given(userRepository.findIdByUsername(UserConstants.USERNAME)).willReturn(Optional.of(UserConstants.ID));
-        given(userRepository.findPassword(UserConstants.USERNAME)).willReturn(Optional.of(UserConstants.PASSWORD));
+        given(userRepository.findAuthenticationDetails(UserConstants.USERNAME))
+            .willReturn(Optional.of(UsersAuthenticationDetails.passwordExpired()));
 
         // WHEN
         userDetails = service.loadUserByUsername(UserConstants.USERNAME);
@@ -342,9 +338,8 @@ void testLoadByUsername_UpperCase() {
         final UserDetails userDetails;
 
         // GIVEN
-        given(userRepository.findOne(UserConstants.USERNAME)).willReturn(Optional.of(Users.enabled()));
-        given(userRepository.findIdByUsername(UserConstants.USERNAME)).willReturn(Optional.of(UserConstants.ID));
-        given(userRepository.findPassword(UserConstants.USERNAME)).willReturn(Optional.of(UserConstants.PASSWORD));
+        given(userRepository.findAuthenticationDetails(UserConstants.USERNAME))
+            .willReturn(Optional.of(UsersAuthenticationDetails.enabled()));
 
         // WHEN
         userDetails = service.loadUserByUsername(UserConstants.USERNAME.toUpperCase());
@@ -393,7 +388,7 @@ void testLoadByUsername_UserNotExisting() {
         final Exception        exception;
 
         // GIVEN
-        given(userRepository.findOne(UserConstants.USERNAME)).willReturn(Optional.empty());
+        given(userRepository.findAuthenticationDetails(UserConstants.USERNAME)).willReturn(Optional.empty());
 
         // WHEN
         executable = () -> service.loadUserByUsername(UserConstants.USERNAME);
@@ -405,4 +400,52 @@ void testLoadByUsername_UserNotExisting() {
             .isEqualTo("Invalid username or credentials");
     }
 
+    @Test
+    @DisplayName("When upgrading the password, the new hash is stored")
+    void testUpdatePassword_Stored() {
+        final UserDetails user;
+
+        // GIVEN
+        given(userRepository.findAuthenticationDetails(UserConstants.USERNAME))
+            .willReturn(Optional.of(UsersAuthenticationDetails.enabled()));
+        user = service.loadUserByUsername(UserConstants.USERNAME);
+
+        // WHEN
+        service.updatePassword(user, UserConstants.ENCODED_NEW_PASSWORD);
+
+        // THEN
+        verify(userRepository).updatePasswordHash(UserConstants.USERNAME, UserConstants.ENCODED_NEW_PASSWORD);
+    }
+
+    @Test
+    @DisplayName("When upgrading the password, the user details are returned with the new hash")
+    void testUpdatePassword_Updated() {
+        final UserDetails user;
+        final UserDetails updated;
+
+        // GIVEN
+        given(userRepository.findAuthenticationDetails(UserConstants.USERNAME))
+            .willReturn(Optional.of(UsersAuthenticationDetails.enabled()));
+        user = service.loadUserByUsername(UserConstants.USERNAME);
+
+        // WHEN
+        updated = service.updatePassword(user, UserConstants.ENCODED_NEW_PASSWORD);
+
+        // THEN
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(updated.getUsername())
+                .as("username")
+                .isEqualTo(UserConstants.USERNAME);
+            softly.assertThat(updated.getPassword())
+                .as("password")
+                .isEqualTo(UserConstants.ENCODED_NEW_PASSWORD);
+            softly.assertThat(updated.isEnabled())
+                .as("enabled")
+                .isTrue();
+            softly.assertThat(updated.getAuthorities())
+                .as("authorities")
+                .isEqualTo(user.getAuthorities());
+        });
+    }
+
 }
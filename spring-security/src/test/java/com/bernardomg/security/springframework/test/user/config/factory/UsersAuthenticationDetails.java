@@ -0,0 +1,45 @@
+
+package com.bernardomg.security.springframework.test.user.config.factory;
+
+import java.util.List;
+
+import com.bernardomg.security.domain.user.model.UserAuthenticationDetails;
+import com.bernardomg.security.springframework.test.permission.config.factory.ResourcePermissions;
+
+public final class UsersAuthenticationDetails {
+
+    public static final UserAuthenticationDetails disabled() {
+        return new UserAuthenticationDetails(UserConstants.ID, UserConstants.EMAIL, UserConstants.USERNAME,
+            UserConstants.NAME, UserConstants.PASSWORD, false, true, true, true, List.of(ResourcePermissions.create()));
+    }
+
+    public static final UserAuthenticationDetails enabled() {
+        return new UserAuthenticationDetails(UserConstants.ID, UserConstants.EMAIL, UserConstants.USERNAME,
+            UserConstants.NAME, UserConstants.PASSWORD, true, true, true, true, List.of(ResourcePermissions.create()));
+    }
+
+    public static final UserAuthenticationDetails expired() {
+        return new UserAuthenticationDetails(UserConstants.ID, UserConstants.EMAIL, UserConstants.USERNAME,
+            UserConstants.NAME, UserConstants.PASSWORD, true, false, true, true, List.of(ResourcePermissions.create()));
+    }
+
+    public static final UserAuthenticationDetails locked() {
+        return new UserAuthenticationDetails(UserConstants.ID, UserConstants.EMAIL, UserConstants.USERNAME,
+            UserConstants.NAME, UserConstants.PASSWORD, true, true, false, true, List.of(ResourcePermissions.create()));
+    }
+
+    public static final UserAuthenticationDetails passwordExpired() {
+        return new UserAuthenticationDetails(UserConstants.ID, UserConstants.EMAIL, UserConstants.USERNAME,
+            UserConstants.NAME, UserConstants.PASSWORD, true, true, true, false, List.of(ResourcePermissions.create()));
+    }
+
+    public static final UserAuthenticationDetails withoutPermissions() {
+        return new UserAuthenticationDetails(UserConstants.ID, UserConstants.EMAIL, UserConstants.USERNAME,
+            UserConstants.NAME, UserConstants.PASSWORD, true, true, true, true, List.of());
+    }
+
+    private UsersAuthenticationDetails() {
+        super();
+    }
+
+}
@@ -13,7 +13,6 @@
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpHeaders;
@@ -29,7 +28,7 @@ class TestBearerHeaderTokenResolver {
 
     private static Stream<String> malformedBearerHeaders() {
         return Stream.of("Bearer", "Bearer ", "Bearer  token", "Bearer token with spaces", "Bearer token!",
-            "Bearer token,", "Bearer\ttoken");
+            "Bearer token,", "Bearer\ttoken", "Bearer =", "Bearer abc=def", "Bearerabc123", "Bearer abc123 ");
     }
 
     private static Stream<String> unsupportedAuthorizationHeaders() {
@@ -40,14 +39,14 @@ private static Stream<Arguments> validAuthorizationHeaders() {
         return Stream.of(Arguments.of("Bearer abc123", "abc123"), Arguments.of("Bearer abc.def.ghi", "abc.def.ghi"),
             Arguments.of("Bearer abc-def_ghi", "abc-def_ghi"), Arguments.of("Bearer abc~def", "abc~def"),
             Arguments.of("Bearer abc+def/ghi=", "abc+def/ghi="), Arguments.of("Bearer abc==", "abc=="),
-            Arguments.of("Bearer " + Tokens.TOKEN, Tokens.TOKEN));
+            Arguments.of("Bearer " + Tokens.TOKEN, Tokens.TOKEN), Arguments.of("bearer abc123", "abc123"),
+            Arguments.of("BEARER abc123", "abc123"));
     }
 
     @Mock
-    private HttpServletRequest        request;
+    private HttpServletRequest              request;
 
-    @InjectMocks
-    private BearerHeaderTokenResolver resolver;
+    private final BearerHeaderTokenResolver resolver = new BearerHeaderTokenResolver();
 
     @Test
     @DisplayName("When the authorization header is missing, then nothing is returned")
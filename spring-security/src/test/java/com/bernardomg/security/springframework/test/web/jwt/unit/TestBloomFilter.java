@@ -0,0 +1,95 @@
+package com.bernardomg.security.springframework.test.web.jwt.unit;
+
+import java.util.stream.IntStream;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.bernardomg.security.springframework.test.jwt.config.Tokens;
+import com.bernardomg.security.springframework.web.jwt.BloomFilter;
+
+@DisplayName("BloomFilter")
+public class TestBloomFilter {
+
+    @Test
+    @DisplayName("When checking an added value, it is contained")
+    void testMightContain_Added() {
+        final BloomFilter filter;
+        final boolean     contained;
+
+        // GIVEN
+        filter = new BloomFilter(100, 0.01);
+        filter.put(Tokens.TOKEN);
+
+        // WHEN
+        contained = filter.mightContain(Tokens.TOKEN);
+
+        // THEN
+        Assertions.assertThat(contained)
+            .as("contained")
+            .isTrue();
+    }
+
+    @Test
+    @DisplayName("When checking values on an empty filter, none is contained")
+    void testMightContain_Empty() {
+        final BloomFilter filter;
+        final boolean     contained;
+
+        // GIVEN
+        filter = new BloomFilter(100, 0.01);
+
+        // WHEN
+        contained = filter.mightContain(Tokens.TOKEN);
+
+        // THEN
+        Assertions.assertThat(contained)
+            .as("contained")
+            .isFalse();
+    }
+
+    @Test
+    @DisplayName("When checking values never added, the false positive rate is kept close to the configured one")
+    void testMightContain_FalsePositiveRate() {
+        final BloomFilter filter;
+        final long        positives;
+
+        // GIVEN
+        filter = new BloomFilter(1000, 0.01);
+        IntStream.range(0, 1000)
+            .forEach(i -> filter.put("added-" + i));
+
+        // WHEN
+        positives = IntStream.range(0, 10000)
+            .filter(i -> filter.mightContain("missing-" + i))
+            .count();
+
+        // THEN
+        Assertions.assertThat(positives)
+            .as("false positives")
+            .isLessThan(300);
+    }
+
+    @Test
+    @DisplayName("When checking many added values, all of them are contained")
+    void testMightContain_ManyAdded() {
+        final BloomFilter filter;
+        final boolean     contained;
+
+        // GIVEN
+        filter = new BloomFilter(1000, 0.01);
+        IntStream.range(0, 2000)
+            .forEach(i -> filter.put("added-" + i));
+
+        // WHEN
+        contained = IntStream.range(0, 2000)
+            .allMatch(i -> filter.mightContain("added-" + i));
+
+        // THEN
+        Assertions.assertThat(contained)
+            .as("all contained")
+            .isTrue();
+    }
+
+}
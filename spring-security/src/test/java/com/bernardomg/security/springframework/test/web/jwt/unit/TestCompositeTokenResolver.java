@@ -0,0 +1,83 @@
+package com.bernardomg.security.springframework.test.web.jwt.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.bernardomg.security.springframework.test.web.jwt.config.Tokens;
+import com.bernardomg.security.springframework.web.jwt.CompositeTokenResolver;
+import com.bernardomg.security.springframework.web.jwt.TokenResolver;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CompositeTokenResolver")
+class TestCompositeTokenResolver {
+
+    @Mock
+    private TokenResolver      first;
+
+    @Mock
+    private HttpServletRequest request;
+
+    @Mock
+    private TokenResolver      second;
+
+    @Test
+    @DisplayName("When the first resolver returns a token, the other resolvers are not used")
+    void testResolve_FirstResolves() {
+        final Optional<String> result;
+
+        // GIVEN
+        when(first.resolve(request)).thenReturn(Optional.of(Tokens.TOKEN));
+
+        // WHEN
+        result = new CompositeTokenResolver(List.of(first, second)).resolve(request);
+
+        // THEN
+        assertThat(result).contains(Tokens.TOKEN);
+        verifyNoInteractions(second);
+    }
+
+    @Test
+    @DisplayName("When no resolver returns a token, then nothing is returned")
+    void testResolve_NoneResolves() {
+        final Optional<String> result;
+
+        // GIVEN
+        when(first.resolve(request)).thenReturn(Optional.empty());
+        when(second.resolve(request)).thenReturn(Optional.empty());
+
+        // WHEN
+        result = new CompositeTokenResolver(List.of(first, second)).resolve(request);
+
+        // THEN
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("When only the second resolver returns a token, then it is returned")
+    void testResolve_SecondResolves() {
+        final Optional<String> result;
+
+        // GIVEN
+        when(first.resolve(request)).thenReturn(Optional.empty());
+        when(second.resolve(request)).thenReturn(Optional.of(Tokens.TOKEN));
+
+        // WHEN
+        result = new CompositeTokenResolver(List.of(first, second)).resolve(request);
+
+        // THEN
+        assertThat(result).contains(Tokens.TOKEN);
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.bernardomg.security.springframework.test.web.jwt.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+
+import com.bernardomg.security.springframework.test.web.jwt.config.Tokens;
+import com.bernardomg.security.springframework.web.jwt.CookieTokenCsrfRequestMatcher;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CookieTokenCsrfRequestMatcher")
+class TestCookieTokenCsrfRequestMatcher {
+
+    private static final String                 COOKIE  = "access_token";
+
+    private final CookieTokenCsrfRequestMatcher matcher = new CookieTokenCsrfRequestMatcher(COOKIE,
+        HttpHeaders.AUTHORIZATION);
+
+    @Mock
+    private HttpServletRequest                  request;
+
+    @Test
+    @DisplayName("When a state changing request contains the token cookie, it is matched")
+    void testMatches_Cookie() {
+        final boolean result;
+
+        // GIVEN
+        when(request.getMethod()).thenReturn("POST");
+        when(request.getCookies()).thenReturn(new Cookie[] { new Cookie(COOKIE, Tokens.TOKEN) });
+
+        // WHEN
+        result = matcher.matches(request);
+
+        // THEN
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    @DisplayName("When a state changing request contains the token header and cookie, it is not matched")
+    void testMatches_CookieAndHeader() {
+        final boolean result;
+
+        // GIVEN
+        when(request.getMethod()).thenReturn("POST");
+        when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + Tokens.TOKEN);
+
+        // WHEN
+        result = matcher.matches(request);
+
+        // THEN
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    @DisplayName("When a safe request contains the token cookie, it is not matched")
+    void testMatches_Get() {
+        final boolean result;
+
+        // GIVEN
+        when(request.getMethod()).thenReturn("GET");
+
+        // WHEN
+        result = matcher.matches(request);
+
+        // THEN
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    @DisplayName("When a state changing request doesn't contain the token cookie, it is not matched")
+    void testMatches_OtherCookie() {
+        final boolean result;
+
+        // GIVEN
+        when(request.getMethod()).thenReturn("DELETE");
+        when(request.getCookies()).thenReturn(new Cookie[] { new Cookie("other", Tokens.TOKEN) });
+
+        // WHEN
+        result = matcher.matches(request);
+
+        // THEN
+        assertThat(result).isFalse();
+    }
+
+}
@@ -0,0 +1,92 @@
+package com.bernardomg.security.springframework.test.web.jwt.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.bernardomg.security.springframework.test.web.jwt.config.Tokens;
+import com.bernardomg.security.springframework.web.jwt.CookieTokenResolver;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CookieTokenResolver")
+class TestCookieTokenResolver {
+
+    private static final String       COOKIE   = "access_token";
+
+    @Mock
+    private HttpServletRequest        request;
+
+    private final CookieTokenResolver resolver = new CookieTokenResolver(COOKIE);
+
+    @Test
+    @DisplayName("When the cookie contains an invalid token, then nothing is returned")
+    void testResolve_InvalidToken() {
+        final Optional<String> result;
+
+        // GIVEN
+        when(request.getCookies()).thenReturn(new Cookie[] { new Cookie(COOKIE, "token!") });
+
+        // WHEN
+        result = resolver.resolve(request);
+
+        // THEN
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("When the cookie is missing, then nothing is returned")
+    void testResolve_MissingCookie() {
+        final Optional<String> result;
+
+        // GIVEN
+        when(request.getCookies()).thenReturn(new Cookie[] { new Cookie("other", Tokens.TOKEN) });
+
+        // WHEN
+        result = resolver.resolve(request);
+
+        // THEN
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("When there are no cookies, then nothing is returned")
+    void testResolve_NoCookies() {
+        final Optional<String> result;
+
+        // GIVEN
+        when(request.getCookies()).thenReturn(null);
+
+        // WHEN
+        result = resolver.resolve(request);
+
+        // THEN
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("When the cookie contains a valid token, then the token is returned")
+    void testResolve_ValidToken() {
+        final Optional<String> result;
+
+        // GIVEN
+        when(request.getCookies())
+            .thenReturn(new Cookie[] { new Cookie("other", "value"), new Cookie(COOKIE, Tokens.TOKEN) });
+
+        // WHEN
+        result = resolver.resolve(request);
+
+        // THEN
+        assertThat(result).contains(Tokens.TOKEN);
+    }
+
+}
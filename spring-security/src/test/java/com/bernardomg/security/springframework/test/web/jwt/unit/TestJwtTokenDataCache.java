@@ -0,0 +1,192 @@
+package com.bernardomg.security.springframework.test.web.jwt.unit;
+
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.bernardomg.jwt.encoding.JwtTokenData;
+import com.bernardomg.security.springframework.test.jwt.config.Tokens;
+import com.bernardomg.security.springframework.web.jwt.JwtTokenDataCache;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JwtTokenDataCache")
+public class TestJwtTokenDataCache {
+
+    private static final Instant NOW = Instant.parse("2020-02-01T00:00:00Z");
+
+    @Mock
+    private Clock                clock;
+
+    @Mock
+    private JwtTokenData         tokenData;
+
+    @Test
+    @DisplayName("When reading a cached token, it is returned and counted as a hit")
+    void testGet_Hit() {
+        final JwtTokenDataCache      cache;
+        final Optional<JwtTokenData> result;
+
+        // GIVEN
+        cache = new JwtTokenDataCache(10, Duration.ofMinutes(5), Clock.fixed(NOW, ZoneOffset.UTC));
+        cache.put(Tokens.TOKEN, tokenData);
+
+        // WHEN
+        result = cache.get(Tokens.TOKEN);
+
+        // THEN
+        Assertions.assertThat(result)
+            .as("cached data")
+            .contains(tokenData);
+        Assertions.assertThat(cache.getHitCount())
+            .as("hits")
+            .isEqualTo(1);
+        Assertions.assertThat(cache.getMissCount())
+            .as("misses")
+            .isZero();
+    }
+
+    @Test
+    @DisplayName("When reading a token which is not cached, nothing is returned and it is counted as a miss")
+    void testGet_Miss() {
+        final JwtTokenDataCache      cache;
+        final Optional<JwtTokenData> result;
+
+        // GIVEN
+        cache = new JwtTokenDataCache(10, Duration.ofMinutes(5), Clock.fixed(NOW, ZoneOffset.UTC));
+
+        // WHEN
+        result = cache.get(Tokens.TOKEN);
+
+        // THEN
+        Assertions.assertThat(result)
+            .as("cached data")
+            .isEmpty();
+        Assertions.assertThat(cache.getMissCount())
+            .as("misses")
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("When the token expires before the time to live, the entry expires along the token")
+    void testGet_TokenExpired() {
+        final JwtTokenDataCache      cache;
+        final Optional<JwtTokenData> result;
+
+        // GIVEN
+        when(tokenData.expiration()).thenReturn(NOW.plusSeconds(10));
+        when(clock.instant()).thenReturn(NOW, NOW.plusSeconds(10));
+
+        cache = new JwtTokenDataCache(10, Duration.ofMinutes(5), clock);
+        cache.put(Tokens.TOKEN, tokenData);
+
+        // WHEN
+        result = cache.get(Tokens.TOKEN);
+
+        // THEN
+        Assertions.assertThat(result)
+            .as("cached data")
+            .isEmpty();
+        Assertions.assertThat(cache.getEvictionCount())
+            .as("evictions")
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("When the time to live passes, the entry expires")
+    void testGet_TtlExpired() {
+        final JwtTokenDataCache      cache;
+        final Optional<JwtTokenData> result;
+
+        // GIVEN
+        when(tokenData.expiration()).thenReturn(NOW.plusSeconds(3600));
+        when(clock.instant()).thenReturn(NOW, NOW.plusSeconds(300));
+
+        cache = new JwtTokenDataCache(10, Duration.ofMinutes(5), clock);
+        cache.put(Tokens.TOKEN, tokenData);
+
+        // WHEN
+        result = cache.get(Tokens.TOKEN);
+
+        // THEN
+        Assertions.assertThat(result)
+            .as("cached data")
+            .isEmpty();
+    }
+
+    @Test
+    @DisplayName("When storing an already expired token, it is not cached")
+    void testPut_Expired() {
+        final JwtTokenDataCache cache;
+
+        // GIVEN
+        when(tokenData.expiration()).thenReturn(NOW.minusSeconds(10));
+
+        cache = new JwtTokenDataCache(10, Duration.ofMinutes(5), Clock.fixed(NOW, ZoneOffset.UTC));
+
+        // WHEN
+        cache.put(Tokens.TOKEN, tokenData);
+
+        // THEN
+        Assertions.assertThat(cache.size())
+            .as("size")
+            .isZero();
+    }
+
+    @Test
+    @DisplayName("When the cache is full, the least recently used entry is evicted")
+    void testPut_Full() {
+        final JwtTokenDataCache cache;
+
+        // GIVEN
+        cache = new JwtTokenDataCache(1, Duration.ofMinutes(5), Clock.fixed(NOW, ZoneOffset.UTC));
+        cache.put(Tokens.TOKEN, tokenData);
+
+        // WHEN
+        cache.put(Tokens.ALTERNATIVE_TOKEN, tokenData);
+
+        // THEN
+        Assertions.assertThat(cache.get(Tokens.TOKEN))
+            .as("evicted token")
+            .isEmpty();
+        Assertions.assertThat(cache.get(Tokens.ALTERNATIVE_TOKEN))
+            .as("kept token")
+            .contains(tokenData);
+        Assertions.assertThat(cache.getEvictionCount())
+            .as("evictions")
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("When many tokens are stored, the cache never goes over its size")
+    void testPut_Many() {
+        final JwtTokenDataCache cache;
+
+        // GIVEN
+        cache = new JwtTokenDataCache(32, Duration.ofMinutes(5), Clock.fixed(NOW, ZoneOffset.UTC));
+
+        // WHEN
+        for (int i = 0; i < 100; i++) {
+            cache.put(Tokens.TOKEN + i, tokenData);
+        }
+
+        // THEN
+        Assertions.assertThat(cache.size())
+            .as("size")
+            .isLessThanOrEqualTo(32);
+        Assertions.assertThat(cache.getEvictionCount())
+            .as("evictions")
+            .isEqualTo(100 - cache.size());
+    }
+
+}
@@ -0,0 +1,230 @@
+package com.bernardomg.security.springframework.test.web.jwt.unit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.bernardomg.jwt.encoding.JwtTokenData;
+import com.bernardomg.security.domain.login.model.TokenRevocation;
+import com.bernardomg.security.springframework.test.jwt.config.Tokens;
+import com.bernardomg.security.springframework.web.jwt.JwtTokenDenylist;
+import com.bernardomg.security.usecase.login.service.TokenRevocationService;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JwtTokenDenylist")
+public class TestJwtTokenDenylist {
+
+    private static final Instant   NOW        = Instant.parse("2020-02-01T00:00:00Z");
+
+    private static final Instant   REVOKED_AT = NOW.minusSeconds(60);
+
+    @Mock
+    private Clock                  clock;
+
+    @Mock
+    private TokenRevocationService revocationService;
+
+    @Test
+    @DisplayName("When a token is checked without revocations, it is not revoked")
+    void testIsRevoked_NoRevocations() {
+        final JwtTokenDenylist denylist;
+        final boolean          revoked;
+
+        // GIVEN
+        given(clock.instant()).willReturn(NOW);
+        given(revocationService.getRevokedSince(any())).willReturn(List.of());
+        denylist = new JwtTokenDenylist(revocationService, Duration.ofSeconds(30), 100, 0.01, clock);
+        denylist.refresh();
+
+        // WHEN
+        revoked = denylist.isRevoked(token(Tokens.TOKEN, REVOKED_AT));
+
+        // THEN
+        Assertions.assertThat(revoked)
+            .as("revoked")
+            .isFalse();
+        Assertions.assertThat(denylist.getCheckCount())
+            .as("checks")
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("When a token issued after its subject was revoked is checked, it is not revoked")
+    void testIsRevoked_SubjectRevoked_IssuedAfter() {
+        final JwtTokenDenylist denylist;
+        final boolean          revoked;
+
+        // GIVEN
+        given(clock.instant()).willReturn(NOW);
+        given(revocationService.getRevokedSince(any())).willReturn(List.of(
+            new TokenRevocation(TokenRevocation.subjectKey(Tokens.SUBJECT), REVOKED_AT, NOW.plusSeconds(3600))));
+        denylist = new JwtTokenDenylist(revocationService, Duration.ofSeconds(30), 100, 0.01, clock);
+        denylist.refresh();
+
+        // WHEN
+        revoked = denylist.isRevoked(token(Tokens.TOKEN, REVOKED_AT.plusSeconds(1)));
+
+        // THEN
+        Assertions.assertThat(revoked)
+            .as("revoked")
+            .isFalse();
+    }
+
+    @Test
+    @DisplayName("When a token issued before its subject was revoked is checked, it is revoked")
+    void testIsRevoked_SubjectRevoked_IssuedBefore() {
+        final JwtTokenDenylist denylist;
+        final boolean          revoked;
+
+        // GIVEN
+        given(clock.instant()).willReturn(NOW);
+        given(revocationService.getRevokedSince(any())).willReturn(List.of(
+            new TokenRevocation(TokenRevocation.subjectKey(Tokens.SUBJECT), REVOKED_AT, NOW.plusSeconds(3600))));
+        denylist = new JwtTokenDenylist(revocationService, Duration.ofSeconds(30), 100, 0.01, clock);
+        denylist.refresh();
+
+        // WHEN
+        revoked = denylist.isRevoked(token(Tokens.TOKEN, REVOKED_AT.minusSeconds(1)));
+
+        // THEN
+        Assertions.assertThat(revoked)
+            .as("revoked")
+            .isTrue();
+        Assertions.assertThat(denylist.getRevokedCount())
+            .as("revoked count")
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("When a token with a revoked id is checked, it is revoked")
+    void testIsRevoked_TokenRevoked() {
+        final JwtTokenDenylist denylist;
+        final boolean          revoked;
+
+        // GIVEN
+        given(clock.instant()).willReturn(NOW);
+        given(revocationService.getRevokedSince(any())).willReturn(List
+            .of(new TokenRevocation(TokenRevocation.tokenKey(Tokens.TOKEN), REVOKED_AT, NOW.plusSeconds(3600))));
+        denylist = new JwtTokenDenylist(revocationService, Duration.ofSeconds(30), 100, 0.01, clock);
+        denylist.refresh();
+
+        // WHEN
+        revoked = denylist.isRevoked(token(Tokens.TOKEN, REVOKED_AT.minusSeconds(1)));
+
+        // THEN
+        Assertions.assertThat(revoked)
+            .as("revoked")
+            .isTrue();
+    }
+
+    @Test
+    @DisplayName("When another token is revoked, the checked token is not revoked")
+    void testIsRevoked_TokenRevoked_Other() {
+        final JwtTokenDenylist denylist;
+        final boolean          revoked;
+
+        // GIVEN
+        given(clock.instant()).willReturn(NOW);
+        given(revocationService.getRevokedSince(any())).willReturn(List.of(new TokenRevocation(
+            TokenRevocation.tokenKey(Tokens.ALTERNATIVE_TOKEN), REVOKED_AT, NOW.plusSeconds(3600))));
+        denylist = new JwtTokenDenylist(revocationService, Duration.ofSeconds(30), 100, 0.01, clock);
+        denylist.refresh();
+
+        // WHEN
+        revoked = denylist.isRevoked(token(Tokens.TOKEN, REVOKED_AT.minusSeconds(1)));
+
+        // THEN
+        Assertions.assertThat(revoked)
+            .as("revoked")
+            .isFalse();
+    }
+
+    @Test
+    @DisplayName("When refreshing, only the revocations since the last one read are requested, with some overlap")
+    void testRefresh_Incremental() {
+        final JwtTokenDenylist denylist;
+
+        // GIVEN
+        given(clock.instant()).willReturn(NOW);
+        given(revocationService.getRevokedSince(any())).willReturn(List
+            .of(new TokenRevocation(TokenRevocation.tokenKey(Tokens.TOKEN), REVOKED_AT, NOW.plusSeconds(3600))));
+        denylist = new JwtTokenDenylist(revocationService, Duration.ofSeconds(30), 100, 0.01, clock);
+        denylist.refresh();
+
+        // WHEN
+        denylist.refresh();
+
+        // THEN
+        verify(revocationService).getRevokedSince(REVOKED_AT.minus(Duration.ofMinutes(1)));
+    }
+
+    @Test
+    @DisplayName("When refreshing after a revocation expired, it is removed and the stored revocations are purged")
+    void testRefresh_RevocationExpired() {
+        final JwtTokenDenylist denylist;
+        final boolean          revoked;
+
+        // GIVEN
+        given(clock.instant()).willReturn(NOW, NOW.plusSeconds(3600));
+        given(revocationService.getRevokedSince(any())).willReturn(List
+            .of(new TokenRevocation(TokenRevocation.tokenKey(Tokens.TOKEN), REVOKED_AT, NOW.plusSeconds(60))),
+            List.of());
+        denylist = new JwtTokenDenylist(revocationService, Duration.ofSeconds(30), 100, 0.01, clock);
+        denylist.refresh();
+
+        // WHEN
+        denylist.refresh();
+
+        // THEN
+        revoked = denylist.isRevoked(token(Tokens.TOKEN, REVOKED_AT.minusSeconds(1)));
+
+        Assertions.assertThat(revoked)
+            .as("revoked")
+            .isFalse();
+        Assertions.assertThat(denylist.size())
+            .as("size")
+            .isZero();
+        verify(revocationService).purgeExpired();
+    }
+
+    @Test
+    @DisplayName("When refreshing without expired revocations, the stored revocations are not purged")
+    void testRefresh_RevocationNotExpired() {
+        final JwtTokenDenylist denylist;
+
+        // GIVEN
+        given(clock.instant()).willReturn(NOW);
+        given(revocationService.getRevokedSince(any())).willReturn(List
+            .of(new TokenRevocation(TokenRevocation.tokenKey(Tokens.TOKEN), REVOKED_AT, NOW.plusSeconds(60))));
+        denylist = new JwtTokenDenylist(revocationService, Duration.ofSeconds(30), 100, 0.01, clock);
+
+        // WHEN
+        denylist.refresh();
+
+        // THEN
+        Assertions.assertThat(denylist.size())
+            .as("size")
+            .isEqualTo(1);
+        verify(revocationService, never()).purgeExpired();
+    }
+
+    private final JwtTokenData token(final String id, final Instant issuedAt) {
+        return new JwtTokenData(id, Tokens.SUBJECT, null, issuedAt, null, NOW.plusSeconds(3600), List.of(), Map.of(),
+            Map.of());
+    }
+
+}
@@ -0,0 +1,77 @@
+package com.bernardomg.security.springframework.test.web.jwt.unit;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.bernardomg.security.domain.role.event.RoleTokenEpochEvent;
+import com.bernardomg.security.springframework.web.jwt.RoleTokenEpochEvictionListener;
+import com.bernardomg.security.springframework.web.jwt.TokenEpochCache;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RoleTokenEpochEvictionListener")
+class TestRoleTokenEpochEvictionListener {
+
+    private static final String            ROLE = "role";
+
+    @InjectMocks
+    private RoleTokenEpochEvictionListener listener;
+
+    @Mock
+    private TokenEpochCache                tokenEpochCache;
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("When there is no transaction, the cache is cleared at once")
+    void testHandle_NoTransaction() {
+        // WHEN
+        listener.handle(new RoleTokenEpochEvent(null, ROLE));
+
+        // THEN
+        verify(tokenEpochCache).clear();
+    }
+
+    @Test
+    @DisplayName("When there is a transaction, the cache is cleared after it completes")
+    void testHandle_Transaction_AfterCompletion() {
+        // GIVEN
+        TransactionSynchronizationManager.initSynchronization();
+
+        // WHEN
+        listener.handle(new RoleTokenEpochEvent(null, ROLE));
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // THEN
+        verify(tokenEpochCache).clear();
+    }
+
+    @Test
+    @DisplayName("When there is a transaction, the cache is not cleared before it completes")
+    void testHandle_Transaction_BeforeCompletion() {
+        // GIVEN
+        TransactionSynchronizationManager.initSynchronization();
+
+        // WHEN
+        listener.handle(new RoleTokenEpochEvent(null, ROLE));
+
+        // THEN
+        verify(tokenEpochCache, never()).clear();
+    }
+
+}
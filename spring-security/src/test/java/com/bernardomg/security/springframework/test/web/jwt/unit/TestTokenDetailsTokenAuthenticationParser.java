@@ -12,10 +12,10 @@
 
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -28,6 +28,7 @@
 import com.bernardomg.jwt.encoding.TokenDecoder;
 import com.bernardomg.security.springframework.test.jwt.config.Tokens;
 import com.bernardomg.security.springframework.web.jwt.TokenDetailsTokenAuthenticationParser;
+import com.bernardomg.security.usecase.login.encoder.CompactPermissions;
 
 import jakarta.servlet.http.HttpServletRequest;
 
@@ -35,7 +36,6 @@
 @DisplayName("TokenDetailsTokenAuthenticationParser")
 public class TestTokenDetailsTokenAuthenticationParser {
 
-    @InjectMocks
     private TokenDetailsTokenAuthenticationParser parser;
 
     @Mock
@@ -47,6 +47,11 @@ public class TestTokenDetailsTokenAuthenticationParser {
     @Mock
     private TokenDecoder                          tokenDecoder;
 
+    @BeforeEach
+    public void initializeParser() {
+        parser = new TokenDetailsTokenAuthenticationParser(tokenDecoder);
+    }
+
     @Test
     @DisplayName("When parsing a token before the start date, no authentication is parsed")
     void testParse_BeforeStartDate() {
@@ -65,6 +70,52 @@ void testParse_BeforeStartDate() {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    @DisplayName("When parsing a token with compact permissions, the permissions are added")
+    void testParse_CompactPermissions() {
+        final Authentication authentication;
+        final Set<String>    authorities;
+
+        // GIVEN
+        when(tokenDecoder.decode(Tokens.TOKEN)).thenReturn(tokenData);
+        when(tokenData.isExpired()).thenReturn(false);
+        when(tokenData.isBeforeStart()).thenReturn(false);
+        when(tokenData.subject()).thenReturn(Tokens.SUBJECT);
+        when(tokenData.values()).thenReturn(Map.of(CompactPermissions.CLAIM, "1|read,view,write|reports:2,users:5"));
+
+        // WHEN
+        authentication = parser.parse(Tokens.TOKEN, request)
+            .orElseThrow();
+
+        // THEN
+        authorities = authentication.getAuthorities()
+            .stream()
+            .map(GrantedAuthority::getAuthority)
+            .collect(Collectors.toSet());
+
+        assertThat(authorities).containsExactlyInAnyOrder("users:read", "users:write", "reports:view");
+    }
+
+    @Test
+    @DisplayName("When parsing a token with invalid compact permissions, an exception is thrown")
+    void testParse_CompactPermissions_Invalid() {
+        final ThrowingCallable executable;
+
+        // GIVEN
+        when(tokenDecoder.decode(Tokens.TOKEN)).thenReturn(tokenData);
+        when(tokenData.isExpired()).thenReturn(false);
+        when(tokenData.isBeforeStart()).thenReturn(false);
+        when(tokenData.subject()).thenReturn(Tokens.SUBJECT);
+        when(tokenData.values()).thenReturn(Map.of(CompactPermissions.CLAIM, "2|read|users:1"));
+
+        // WHEN
+        executable = () -> parser.parse(Tokens.TOKEN, request);
+
+        // THEN
+        Assertions.assertThatThrownBy(executable)
+            .isInstanceOf(BadCredentialsException.class);
+    }
+
     @Test
     @DisplayName("When parsing a expired token, no authentication is parsed")
     void testParse_ExpiredToken() {
@@ -0,0 +1,120 @@
+package com.bernardomg.security.springframework.test.web.jwt.unit;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.Authentication;
+
+import com.bernardomg.jwt.encoding.JwtTokenData;
+import com.bernardomg.jwt.encoding.TokenDecoder;
+import com.bernardomg.security.springframework.test.jwt.config.Tokens;
+import com.bernardomg.security.springframework.web.jwt.JwtTokenDataCache;
+import com.bernardomg.security.springframework.web.jwt.TokenDetailsTokenAuthenticationParser;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenDetailsTokenAuthenticationParser - cache")
+public class TestTokenDetailsTokenAuthenticationParserCache {
+
+    private JwtTokenDataCache                     cache;
+
+    private TokenDetailsTokenAuthenticationParser parser;
+
+    @Mock
+    private HttpServletRequest                    request;
+
+    @Mock
+    private JwtTokenData                          tokenData;
+
+    @Mock
+    private TokenDecoder                          tokenDecoder;
+
+    @BeforeEach
+    public void initializeParser() {
+        cache = new JwtTokenDataCache(10, Duration.ofMinutes(5));
+        parser = new TokenDetailsTokenAuthenticationParser(tokenDecoder, cache);
+    }
+
+    @Test
+    @DisplayName("When parsing an expired token, it is not cached")
+    void testParse_Expired_NotCached() {
+        // GIVEN
+        when(tokenDecoder.decode(Tokens.TOKEN)).thenReturn(tokenData);
+        when(tokenData.subject()).thenReturn(Tokens.SUBJECT);
+        when(tokenData.isExpired()).thenReturn(true);
+
+        // WHEN
+        parser.parse(Tokens.TOKEN, request);
+
+        // THEN
+        Assertions.assertThat(cache.size())
+            .as("cached entries")
+            .isZero();
+    }
+
+    @Test
+    @DisplayName("When parsing the same token twice, it is decoded only once")
+    void testParse_Twice_DecodedOnce() {
+        final Optional<Authentication> result;
+
+        // GIVEN
+        when(tokenDecoder.decode(Tokens.TOKEN)).thenReturn(tokenData);
+        when(tokenData.subject()).thenReturn(Tokens.SUBJECT);
+        when(tokenData.isExpired()).thenReturn(false);
+        when(tokenData.isBeforeStart()).thenReturn(false);
+        when(tokenData.permissions()).thenReturn(Map.of());
+
+        // WHEN
+        parser.parse(Tokens.TOKEN, request);
+        result = parser.parse(Tokens.TOKEN, request);
+
+        // THEN
+        verify(tokenDecoder, times(1)).decode(Tokens.TOKEN);
+
+        Assertions.assertThat(result)
+            .as("authentication")
+            .isPresent();
+        Assertions.assertThat(cache.getHitCount())
+            .as("hits")
+            .isEqualTo(1);
+        Assertions.assertThat(cache.getMissCount())
+            .as("misses")
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("When a cached token expires, no authentication is parsed")
+    void testParse_Twice_ExpiredAfterCaching() {
+        final Optional<Authentication> result;
+
+        // GIVEN
+        when(tokenDecoder.decode(Tokens.TOKEN)).thenReturn(tokenData);
+        when(tokenData.subject()).thenReturn(Tokens.SUBJECT);
+        when(tokenData.isExpired()).thenReturn(false, true);
+        when(tokenData.isBeforeStart()).thenReturn(false);
+        when(tokenData.permissions()).thenReturn(Map.of());
+
+        // WHEN
+        parser.parse(Tokens.TOKEN, request);
+        result = parser.parse(Tokens.TOKEN, request);
+
+        // THEN
+        Assertions.assertThat(result)
+            .as("authentication")
+            .isEmpty();
+    }
+
+}
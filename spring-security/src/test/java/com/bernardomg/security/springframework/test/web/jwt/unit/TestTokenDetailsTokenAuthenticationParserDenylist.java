@@ -0,0 +1,128 @@
+package com.bernardomg.security.springframework.test.web.jwt.unit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.Authentication;
+
+import com.bernardomg.jwt.encoding.JwtTokenData;
+import com.bernardomg.jwt.encoding.TokenDecoder;
+import com.bernardomg.security.domain.login.model.TokenRevocation;
+import com.bernardomg.security.springframework.test.jwt.config.Tokens;
+import com.bernardomg.security.springframework.web.jwt.JwtTokenDataCache;
+import com.bernardomg.security.springframework.web.jwt.JwtTokenDenylist;
+import com.bernardomg.security.springframework.web.jwt.TokenDetailsTokenAuthenticationParser;
+import com.bernardomg.security.usecase.login.service.TokenRevocationService;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenDetailsTokenAuthenticationParser - denylist")
+public class TestTokenDetailsTokenAuthenticationParserDenylist {
+
+    private JwtTokenDenylist                      denylist;
+
+    private TokenDetailsTokenAuthenticationParser parser;
+
+    @Mock
+    private HttpServletRequest                    request;
+
+    @Mock
+    private TokenRevocationService                revocationService;
+
+    private JwtTokenData                          tokenData;
+
+    @Mock
+    private TokenDecoder                          tokenDecoder;
+
+    @BeforeEach
+    public void initializeParser() {
+        denylist = new JwtTokenDenylist(revocationService, Duration.ofSeconds(30), 100, 0.01);
+        parser = new TokenDetailsTokenAuthenticationParser(tokenDecoder,
+            Optional.of(new JwtTokenDataCache(10, Duration.ofMinutes(5))), Optional.empty(), Optional.of(denylist),
+            Optional.empty());
+        tokenData = new JwtTokenData(Tokens.TOKEN, Tokens.SUBJECT, null, Instant.now()
+            .minusSeconds(60), null,
+            Instant.now()
+                .plusSeconds(3600),
+            List.of(), Map.of(), Map.of());
+    }
+
+    @Test
+    @DisplayName("When parsing a token which is not revoked, an authentication is parsed")
+    void testParse_NotRevoked() {
+        final Optional<Authentication> result;
+
+        // GIVEN
+        when(tokenDecoder.decode(Tokens.TOKEN)).thenReturn(tokenData);
+        when(revocationService.getRevokedSince(any())).thenReturn(List.of());
+        denylist.refresh();
+
+        // WHEN
+        result = parser.parse(Tokens.TOKEN, request);
+
+        // THEN
+        Assertions.assertThat(result)
+            .as("authentication")
+            .isPresent();
+    }
+
+    @Test
+    @DisplayName("When parsing a revoked token, no authentication is parsed")
+    void testParse_Revoked() {
+        final Optional<Authentication> result;
+
+        // GIVEN
+        when(tokenDecoder.decode(Tokens.TOKEN)).thenReturn(tokenData);
+        when(revocationService.getRevokedSince(any())).thenReturn(List.of(revocation()));
+        denylist.refresh();
+
+        // WHEN
+        result = parser.parse(Tokens.TOKEN, request);
+
+        // THEN
+        Assertions.assertThat(result)
+            .as("authentication")
+            .isEmpty();
+    }
+
+    @Test
+    @DisplayName("When parsing a cached token which was revoked after caching, no authentication is parsed")
+    void testParse_RevokedAfterCaching() {
+        final Optional<Authentication> result;
+
+        // GIVEN
+        when(tokenDecoder.decode(Tokens.TOKEN)).thenReturn(tokenData);
+        when(revocationService.getRevokedSince(any())).thenReturn(List.of(), List.of(revocation()));
+        denylist.refresh();
+        parser.parse(Tokens.TOKEN, request);
+        denylist.refresh();
+
+        // WHEN
+        result = parser.parse(Tokens.TOKEN, request);
+
+        // THEN
+        Assertions.assertThat(result)
+            .as("authentication")
+            .isEmpty();
+    }
+
+    private final TokenRevocation revocation() {
+        return new TokenRevocation(TokenRevocation.tokenKey(Tokens.TOKEN), Instant.now(), Instant.now()
+            .plusSeconds(3600));
+    }
+
+}
@@ -0,0 +1,117 @@
+
+package com.bernardomg.security.springframework.test.web.jwt.unit;
+
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.Authentication;
+
+import com.bernardomg.jwt.encoding.JwtTokenData;
+import com.bernardomg.jwt.encoding.TokenDecoder;
+import com.bernardomg.security.domain.user.repository.UserRepository;
+import com.bernardomg.security.springframework.test.jwt.config.Tokens;
+import com.bernardomg.security.springframework.web.jwt.JwtTokenDataCache;
+import com.bernardomg.security.springframework.web.jwt.TokenDetailsTokenAuthenticationParser;
+import com.bernardomg.security.springframework.web.jwt.TokenEpochCache;
+import com.bernardomg.security.usecase.login.encoder.JwtPermissionLoginTokenEncoder;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenDetailsTokenAuthenticationParser - token epoch")
+public class TestTokenDetailsTokenAuthenticationParserEpoch {
+
+    private TokenDetailsTokenAuthenticationParser parser;
+
+    @Mock
+    private HttpServletRequest                    request;
+
+    private JwtTokenData                          tokenData;
+
+    @Mock
+    private TokenDecoder                          tokenDecoder;
+
+    @Mock
+    private UserRepository                        userRepository;
+
+    @BeforeEach
+    public void initializeParser() {
+        // Epochs are never cached, so each parse reads the current one
+        parser = new TokenDetailsTokenAuthenticationParser(tokenDecoder,
+            Optional.of(new JwtTokenDataCache(10, Duration.ofMinutes(5))), Optional.empty(), Optional.empty(),
+            Optional.of(new TokenEpochCache(userRepository, 10, Duration.ZERO)));
+        tokenData = new JwtTokenData(Tokens.TOKEN, Tokens.SUBJECT, null, Instant.now()
+            .minusSeconds(60), null,
+            Instant.now()
+                .plusSeconds(3600),
+            List.of(), Map.of(), Map.of(JwtPermissionLoginTokenEncoder.EPOCH_CLAIM, "1"));
+    }
+
+    @Test
+    @DisplayName("When parsing a token with the current epoch, an authentication is parsed")
+    void testParse_CurrentEpoch() {
+        final Optional<Authentication> result;
+
+        // GIVEN
+        when(tokenDecoder.decode(Tokens.TOKEN)).thenReturn(tokenData);
+        when(userRepository.findTokenEpoch(Tokens.SUBJECT)).thenReturn(Optional.of(1L));
+
+        // WHEN
+        result = parser.parse(Tokens.TOKEN, request);
+
+        // THEN
+        Assertions.assertThat(result)
+            .as("authentication")
+            .isPresent();
+    }
+
+    @Test
+    @DisplayName("When parsing a cached token whose epoch was increased after caching, no authentication is parsed")
+    void testParse_EpochIncreasedAfterCaching() {
+        final Optional<Authentication> result;
+
+        // GIVEN
+        when(tokenDecoder.decode(Tokens.TOKEN)).thenReturn(tokenData);
+        when(userRepository.findTokenEpoch(Tokens.SUBJECT)).thenReturn(Optional.of(1L), Optional.of(2L));
+        parser.parse(Tokens.TOKEN, request);
+
+        // WHEN
+        result = parser.parse(Tokens.TOKEN, request);
+
+        // THEN
+        Assertions.assertThat(result)
+            .as("authentication")
+            .isEmpty();
+    }
+
+    @Test
+    @DisplayName("When parsing a token with an outdated epoch, no authentication is parsed")
+    void testParse_OutdatedEpoch() {
+        final Optional<Authentication> result;
+
+        // GIVEN
+        when(tokenDecoder.decode(Tokens.TOKEN)).thenReturn(tokenData);
+        when(userRepository.findTokenEpoch(Tokens.SUBJECT)).thenReturn(Optional.of(2L));
+
+        // WHEN
+        result = parser.parse(Tokens.TOKEN, request);
+
+        // THEN
+        Assertions.assertThat(result)
+            .as("authentication")
+            .isEmpty();
+    }
+
+}
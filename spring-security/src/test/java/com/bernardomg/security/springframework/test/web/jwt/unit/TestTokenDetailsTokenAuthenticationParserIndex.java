@@ -0,0 +1,82 @@
+package com.bernardomg.security.springframework.test.web.jwt.unit;
+
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.Authentication;
+
+import com.bernardomg.jwt.encoding.JwtTokenData;
+import com.bernardomg.jwt.encoding.TokenDecoder;
+import com.bernardomg.security.springframework.access.interceptor.ResourcePermissionAuthenticationToken;
+import com.bernardomg.security.springframework.access.interceptor.ResourcePermissionIndex;
+import com.bernardomg.security.springframework.test.jwt.config.Tokens;
+import com.bernardomg.security.springframework.test.permission.config.factory.PermissionConstants;
+import com.bernardomg.security.springframework.test.permission.config.factory.ResourcePermissions;
+import com.bernardomg.security.springframework.web.jwt.TokenDetailsTokenAuthenticationParser;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenDetailsTokenAuthenticationParser - permissions index")
+public class TestTokenDetailsTokenAuthenticationParserIndex {
+
+    private ResourcePermissionIndex               index;
+
+    private TokenDetailsTokenAuthenticationParser parser;
+
+    @Mock
+    private HttpServletRequest                    request;
+
+    @Mock
+    private JwtTokenData                          tokenData;
+
+    @Mock
+    private TokenDecoder                          tokenDecoder;
+
+    @BeforeEach
+    public void initializeParser() {
+        index = new ResourcePermissionIndex(() -> List.of(ResourcePermissions.create(), ResourcePermissions.read()));
+        parser = new TokenDetailsTokenAuthenticationParser(tokenDecoder, index);
+    }
+
+    @Test
+    @DisplayName("When parsing a valid token, the permissions are indexed")
+    void testParse_Indexed() {
+        final Authentication                        authentication;
+        final ResourcePermissionAuthenticationToken token;
+
+        // GIVEN
+        when(tokenDecoder.decode(Tokens.TOKEN)).thenReturn(tokenData);
+        when(tokenData.subject()).thenReturn(Tokens.SUBJECT);
+        when(tokenData.isExpired()).thenReturn(false);
+        when(tokenData.isBeforeStart()).thenReturn(false);
+        when(tokenData.permissions()).thenReturn(Map.of(PermissionConstants.DATA, List.of(PermissionConstants.READ)));
+
+        // WHEN
+        authentication = parser.parse(Tokens.TOKEN, request)
+            .orElseThrow();
+
+        // THEN
+        Assertions.assertThat(authentication)
+            .as("authentication")
+            .isInstanceOf(ResourcePermissionAuthenticationToken.class);
+
+        token = (ResourcePermissionAuthenticationToken) authentication;
+        Assertions.assertThat(token.hasPermission(index.indexOf(PermissionConstants.DATA, PermissionConstants.READ)))
+            .as("read permission")
+            .isTrue();
+        Assertions.assertThat(token.hasPermission(index.indexOf(PermissionConstants.DATA, PermissionConstants.CREATE)))
+            .as("create permission")
+            .isFalse();
+    }
+
+}
@@ -0,0 +1,308 @@
+
+package com.bernardomg.security.springframework.test.web.jwt.unit;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import com.bernardomg.jwt.encoding.JwtTokenData;
+import com.bernardomg.security.domain.user.repository.UserRepository;
+import com.bernardomg.security.springframework.test.jwt.config.Tokens;
+import com.bernardomg.security.springframework.web.jwt.TokenEpochCache;
+import com.bernardomg.security.usecase.login.encoder.JwtPermissionLoginTokenEncoder;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenEpochCache")
+public class TestTokenEpochCache {
+
+    private static final Instant NOW = Instant.parse("2020-02-01T00:00:00Z");
+
+    @Mock
+    private Clock                clock;
+
+    @Mock
+    private UserRepository       userRepository;
+
+    @Test
+    @DisplayName("When another user is evicted, the cached epoch is kept")
+    void testEvict_OtherUser() {
+        final TokenEpochCache cache;
+        final boolean         stale;
+
+        // GIVEN
+        cache = new TokenEpochCache(userRepository, 10, Duration.ofSeconds(30), Clock.fixed(NOW, ZoneOffset.UTC));
+        when(userRepository.findTokenEpoch(Tokens.SUBJECT)).thenReturn(Optional.of(0L));
+        cache.isStale(tokenData("0"));
+
+        // WHEN
+        cache.evict("other");
+        stale = cache.isStale(tokenData("0"));
+
+        // THEN
+        Assertions.assertThat(stale)
+            .as("stale")
+            .isFalse();
+        verify(userRepository, times(1)).findTokenEpoch(Tokens.SUBJECT);
+    }
+
+    @Test
+    @DisplayName("When the user is evicted, the epoch is loaded again")
+    void testEvict_Reloads() {
+        final TokenEpochCache cache;
+        final boolean         stale;
+
+        // GIVEN
+        cache = new TokenEpochCache(userRepository, 10, Duration.ofSeconds(30), Clock.fixed(NOW, ZoneOffset.UTC));
+        when(userRepository.findTokenEpoch(Tokens.SUBJECT)).thenReturn(Optional.of(0L), Optional.of(1L));
+        cache.isStale(tokenData("0"));
+
+        // WHEN
+        cache.evict(Tokens.SUBJECT);
+        stale = cache.isStale(tokenData("0"));
+
+        // THEN
+        Assertions.assertThat(stale)
+            .as("stale")
+            .isTrue();
+    }
+
+    @Test
+    @DisplayName("When checking a token with the current epoch, it is not stale")
+    void testIsStale_CurrentEpoch() {
+        final TokenEpochCache cache;
+        final boolean         stale;
+
+        // GIVEN
+        cache = new TokenEpochCache(userRepository, 10, Duration.ofSeconds(30), Clock.fixed(NOW, ZoneOffset.UTC));
+        when(userRepository.findTokenEpoch(Tokens.SUBJECT)).thenReturn(Optional.of(1L));
+
+        // WHEN
+        stale = cache.isStale(tokenData("1"));
+
+        // THEN
+        Assertions.assertThat(stale)
+            .as("stale")
+            .isFalse();
+    }
+
+    @Test
+    @DisplayName("When checking a token after the entry expired, the epoch is loaded again")
+    void testIsStale_Expired_Reloads() {
+        final TokenEpochCache cache;
+        final boolean         stale;
+
+        // GIVEN
+        cache = new TokenEpochCache(userRepository, 10, Duration.ofSeconds(30), clock);
+        when(clock.instant()).thenReturn(NOW, NOW.plusSeconds(60));
+        when(userRepository.findTokenEpoch(Tokens.SUBJECT)).thenReturn(Optional.of(0L), Optional.of(1L));
+        cache.isStale(tokenData("0"));
+
+        // WHEN
+        stale = cache.isStale(tokenData("0"));
+
+        // THEN
+        Assertions.assertThat(stale)
+            .as("stale")
+            .isTrue();
+        Assertions.assertThat(cache.getLoadCount())
+            .as("loads")
+            .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("When the cache is full, the least recently used entry is evicted")
+    void testIsStale_Full_EvictsEldest() {
+        final TokenEpochCache cache;
+
+        // GIVEN
+        cache = new TokenEpochCache(userRepository, 1, Duration.ofSeconds(30), Clock.fixed(NOW, ZoneOffset.UTC));
+        when(userRepository.findTokenEpoch("user1")).thenReturn(Optional.of(0L));
+        when(userRepository.findTokenEpoch("user2")).thenReturn(Optional.of(0L));
+
+        // WHEN
+        cache.isStale(tokenData("user1", "0"));
+        cache.isStale(tokenData("user2", "0"));
+
+        // THEN
+        Assertions.assertThat(cache.size())
+            .as("size")
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("When checking the same subject twice, the epoch is loaded once")
+    void testIsStale_Hit() {
+        final TokenEpochCache cache;
+
+        // GIVEN
+        cache = new TokenEpochCache(userRepository, 10, Duration.ofSeconds(30), Clock.fixed(NOW, ZoneOffset.UTC));
+        when(userRepository.findTokenEpoch(Tokens.SUBJECT)).thenReturn(Optional.of(0L));
+        cache.isStale(tokenData("0"));
+
+        // WHEN
+        cache.isStale(tokenData("0"));
+
+        // THEN
+        verify(userRepository, times(1)).findTokenEpoch(Tokens.SUBJECT);
+        Assertions.assertThat(cache.getHitCount())
+            .as("hits")
+            .isEqualTo(1);
+        Assertions.assertThat(cache.getLoadCount())
+            .as("loads")
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("When checking a token with an invalid epoch, an exception is thrown")
+    void testIsStale_InvalidEpoch() {
+        final TokenEpochCache  cache;
+        final ThrowingCallable execution;
+
+        // GIVEN
+        cache = new TokenEpochCache(userRepository, 10, Duration.ofSeconds(30), Clock.fixed(NOW, ZoneOffset.UTC));
+
+        // WHEN
+        execution = () -> cache.isStale(tokenData("abc"));
+
+        // THEN
+        Assertions.assertThatThrownBy(execution)
+            .isInstanceOf(BadCredentialsException.class);
+    }
+
+    @Test
+    @DisplayName("When checking a token with an epoch newer than the cached one, the epoch is loaded again")
+    void testIsStale_NewerEpoch_Reloads() {
+        final TokenEpochCache cache;
+        final boolean         stale;
+
+        // GIVEN
+        cache = new TokenEpochCache(userRepository, 10, Duration.ofSeconds(30), Clock.fixed(NOW, ZoneOffset.UTC));
+        when(userRepository.findTokenEpoch(Tokens.SUBJECT)).thenReturn(Optional.of(0L), Optional.of(1L));
+        cache.isStale(tokenData("0"));
+
+        // WHEN
+        stale = cache.isStale(tokenData("1"));
+
+        // THEN
+        Assertions.assertThat(stale)
+            .as("stale")
+            .isFalse();
+        Assertions.assertThat(cache.getLoadCount())
+            .as("loads")
+            .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("When checking a token without epoch, and the user is in the first epoch, it is not stale")
+    void testIsStale_NoClaim_FirstEpoch() {
+        final TokenEpochCache cache;
+        final boolean         stale;
+
+        // GIVEN
+        cache = new TokenEpochCache(userRepository, 10, Duration.ofSeconds(30), Clock.fixed(NOW, ZoneOffset.UTC));
+        when(userRepository.findTokenEpoch(Tokens.SUBJECT)).thenReturn(Optional.of(0L));
+
+        // WHEN
+        stale = cache.isStale(tokenData(null));
+
+        // THEN
+        Assertions.assertThat(stale)
+            .as("stale")
+            .isFalse();
+    }
+
+    @Test
+    @DisplayName("When checking a token without epoch, and the user epoch was increased, it is stale")
+    void testIsStale_NoClaim_IncreasedEpoch() {
+        final TokenEpochCache cache;
+        final boolean         stale;
+
+        // GIVEN
+        cache = new TokenEpochCache(userRepository, 10, Duration.ofSeconds(30), Clock.fixed(NOW, ZoneOffset.UTC));
+        when(userRepository.findTokenEpoch(Tokens.SUBJECT)).thenReturn(Optional.of(1L));
+
+        // WHEN
+        stale = cache.isStale(tokenData(null));
+
+        // THEN
+        Assertions.assertThat(stale)
+            .as("stale")
+            .isTrue();
+    }
+
+    @Test
+    @DisplayName("When checking a token for a user which doesn't exist, it is stale")
+    void testIsStale_NoUser() {
+        final TokenEpochCache cache;
+        final boolean         stale;
+
+        // GIVEN
+        cache = new TokenEpochCache(userRepository, 10, Duration.ofSeconds(30), Clock.fixed(NOW, ZoneOffset.UTC));
+        when(userRepository.findTokenEpoch(Tokens.SUBJECT)).thenReturn(Optional.empty());
+
+        // WHEN
+        stale = cache.isStale(tokenData("0"));
+
+        // THEN
+        Assertions.assertThat(stale)
+            .as("stale")
+            .isTrue();
+    }
+
+    @Test
+    @DisplayName("When checking a token with an older epoch, it is stale and counted")
+    void testIsStale_OldEpoch() {
+        final TokenEpochCache cache;
+        final boolean         stale;
+
+        // GIVEN
+        cache = new TokenEpochCache(userRepository, 10, Duration.ofSeconds(30), Clock.fixed(NOW, ZoneOffset.UTC));
+        when(userRepository.findTokenEpoch(Tokens.SUBJECT)).thenReturn(Optional.of(2L));
+
+        // WHEN
+        stale = cache.isStale(tokenData("1"));
+
+        // THEN
+        Assertions.assertThat(stale)
+            .as("stale")
+            .isTrue();
+        Assertions.assertThat(cache.getStaleCount())
+            .as("stale tokens")
+            .isEqualTo(1);
+    }
+
+    private final JwtTokenData tokenData(final String epoch) {
+        return tokenData(Tokens.SUBJECT, epoch);
+    }
+
+    private final JwtTokenData tokenData(final String subject, final String epoch) {
+        final Map<String, String> values;
+
+        if (epoch == null) {
+            values = Map.of();
+        } else {
+            values = Map.of(JwtPermissionLoginTokenEncoder.EPOCH_CLAIM, epoch);
+        }
+
+        return new JwtTokenData(Tokens.TOKEN, subject, null, NOW, null, NOW.plusSeconds(3600), List.of(), Map.of(),
+            values);
+    }
+
+}
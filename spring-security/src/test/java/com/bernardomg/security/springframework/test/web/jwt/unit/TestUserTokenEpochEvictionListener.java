@@ -0,0 +1,77 @@
+package com.bernardomg.security.springframework.test.web.jwt.unit;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.bernardomg.security.domain.user.event.UserTokenEpochEvent;
+import com.bernardomg.security.springframework.test.jwt.config.Tokens;
+import com.bernardomg.security.springframework.web.jwt.TokenEpochCache;
+import com.bernardomg.security.springframework.web.jwt.UserTokenEpochEvictionListener;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserTokenEpochEvictionListener")
+class TestUserTokenEpochEvictionListener {
+
+    @InjectMocks
+    private UserTokenEpochEvictionListener listener;
+
+    @Mock
+    private TokenEpochCache                tokenEpochCache;
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("When there is no transaction, the user is evicted at once")
+    void testHandle_NoTransaction() {
+        // WHEN
+        listener.handle(new UserTokenEpochEvent(null, Tokens.SUBJECT));
+
+        // THEN
+        verify(tokenEpochCache).evict(Tokens.SUBJECT);
+    }
+
+    @Test
+    @DisplayName("When there is a transaction, the user is evicted after it completes")
+    void testHandle_Transaction_AfterCompletion() {
+        // GIVEN
+        TransactionSynchronizationManager.initSynchronization();
+
+        // WHEN
+        listener.handle(new UserTokenEpochEvent(null, Tokens.SUBJECT));
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // THEN
+        verify(tokenEpochCache).evict(Tokens.SUBJECT);
+    }
+
+    @Test
+    @DisplayName("When there is a transaction, the user is not evicted before it completes")
+    void testHandle_Transaction_BeforeCompletion() {
+        // GIVEN
+        TransactionSynchronizationManager.initSynchronization();
+
+        // WHEN
+        listener.handle(new UserTokenEpochEvent(null, Tokens.SUBJECT));
+
+        // THEN
+        verify(tokenEpochCache, never()).evict(ArgumentMatchers.any());
+    }
+
+}
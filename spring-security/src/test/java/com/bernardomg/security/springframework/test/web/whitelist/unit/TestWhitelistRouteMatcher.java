@@ -0,0 +1,112 @@
+package com.bernardomg.security.springframework.test.web.whitelist.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import com.bernardomg.security.springframework.web.whitelist.WhitelistRoute;
+import com.bernardomg.security.springframework.web.whitelist.WhitelistRouteMatcher;
+
+@DisplayName("WhitelistRouteMatcher")
+class TestWhitelistRouteMatcher {
+
+    private static final List<WhitelistRoute> WHITELIST = List.of(WhitelistRoute.of("/login/**", HttpMethod.POST),
+        WhitelistRoute.of("/password/reset/**", HttpMethod.GET, HttpMethod.POST),
+        WhitelistRoute.of("/actuator/**", HttpMethod.GET, HttpMethod.POST, HttpMethod.PUT),
+        WhitelistRoute.of("/security/user/onboarding/{token}", HttpMethod.GET),
+        WhitelistRoute.of("/public/*.html"), WhitelistRoute.of("/docs"), WhitelistRoute.of("/assets/**"),
+        WhitelistRoute.of("/exact/path", HttpMethod.GET));
+
+    private static Stream<Arguments> requests() {
+        return Stream.of(Arguments.of("POST", "/login"), Arguments.of("POST", "/login/"),
+            Arguments.of("POST", "/login/refresh"), Arguments.of("GET", "/login"), Arguments.of("POST", "/loginx"),
+            Arguments.of("POST", "/log%69n"), Arguments.of("POST", "/login;jsessionid=abc"),
+            Arguments.of("POST", "//login"), Arguments.of("GET", "/password/reset/abc"),
+            Arguments.of("DELETE", "/password/reset/abc"), Arguments.of("PUT", "/actuator/health"),
+            Arguments.of("GET", "/actuator"), Arguments.of("GET", "/security/user/onboarding/abc"),
+            Arguments.of("GET", "/security/user/onboarding/abc/def"), Arguments.of("DELETE", "/public/index.html"),
+            Arguments.of("GET", "/public/sub/index.html"), Arguments.of("PATCH", "/docs"),
+            Arguments.of("GET", "/docs/"), Arguments.of("GET", "/docs/api"), Arguments.of("GET", "/assets/css/main.css"),
+            Arguments.of("GET", "/exact/path"), Arguments.of("GET", "/exact/path/"), Arguments.of("GET", "/exact"),
+            Arguments.of("get", "/exact/path"), Arguments.of("GET", "/"), Arguments.of("GET", ""),
+            Arguments.of("GET", "/users/1"));
+    }
+
+    private final WhitelistRouteMatcher matcher = new WhitelistRouteMatcher(WHITELIST);
+
+    /**
+     * Matches the request against each route, parsing the patterns every time. This is the expected behavior.
+     */
+    private final boolean matchesDirectly(final String method, final String uri) {
+        final PathPatternParser parser;
+
+        parser = new PathPatternParser();
+        return WHITELIST.stream()
+            .anyMatch(route -> parser.parse(route.route())
+                .matches(PathContainer.parsePath(uri))
+                    && (route.methods()
+                        .isEmpty()
+                            || route.methods()
+                                .contains(HttpMethod.valueOf(method))));
+    }
+
+    @Test
+    @DisplayName("When the whitelist is empty, nothing matches")
+    void testMatches_EmptyWhitelist() {
+        final boolean result;
+
+        // WHEN
+        result = new WhitelistRouteMatcher(List.of()).matches("GET", "/login");
+
+        // THEN
+        assertThat(result).isFalse();
+    }
+
+    @ParameterizedTest(name = "{0} {1}")
+    @MethodSource("requests")
+    @DisplayName("The result is the same as matching each route directly")
+    void testMatches_SameAsDirect(final String method, final String uri) {
+        final boolean result;
+
+        // WHEN
+        result = matcher.matches(method, uri);
+
+        // THEN
+        assertThat(result).isEqualTo(matchesDirectly(method, uri));
+    }
+
+    @Test
+    @DisplayName("When the route accepts the method, it matches")
+    void testMatches_Whitelisted() {
+        final boolean result;
+
+        // WHEN
+        result = matcher.matches("POST", "/login");
+
+        // THEN
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    @DisplayName("When the route doesn't accept the method, it doesn't match")
+    void testMatches_WrongMethod() {
+        final boolean result;
+
+        // WHEN
+        result = matcher.matches("GET", "/login");
+
+        // THEN
+        assertThat(result).isFalse();
+    }
+
+}
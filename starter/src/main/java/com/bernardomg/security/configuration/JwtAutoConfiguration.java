@@ -25,11 +25,16 @@
 package com.bernardomg.security.configuration;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 import javax.crypto.SecretKey;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -38,6 +43,24 @@
 import com.bernardomg.jwt.encoding.TokenEncoder;
 import com.bernardomg.jwt.encoding.jjwt.JjwtTokenDecoder;
 import com.bernardomg.jwt.encoding.jjwt.JjwtTokenEncoder;
+import com.bernardomg.security.adapter.inbound.jpa.repository.login.JpaTokenRevocationRepository;
+import com.bernardomg.security.adapter.inbound.jpa.repository.login.TokenRevocationSpringRepository;
+import com.bernardomg.security.domain.login.repository.TokenRevocationRepository;
+import com.bernardomg.security.domain.user.repository.UserRepository;
+import com.bernardomg.security.springframework.access.interceptor.ResourcePermissionIndex;
+import com.bernardomg.security.springframework.web.jwt.BearerHeaderTokenResolver;
+import com.bernardomg.security.springframework.web.jwt.CompositeTokenResolver;
+import com.bernardomg.security.springframework.web.jwt.CookieTokenResolver;
+import com.bernardomg.security.springframework.web.jwt.JwtTokenDataCache;
+import com.bernardomg.security.springframework.web.jwt.JwtTokenDenylist;
+import com.bernardomg.security.springframework.web.jwt.RoleTokenEpochEvictionListener;
+import com.bernardomg.security.springframework.web.jwt.TokenAuthenticationParser;
+import com.bernardomg.security.springframework.web.jwt.TokenDetailsTokenAuthenticationParser;
+import com.bernardomg.security.springframework.web.jwt.TokenEpochCache;
+import com.bernardomg.security.springframework.web.jwt.TokenResolver;
+import com.bernardomg.security.springframework.web.jwt.UserTokenEpochEvictionListener;
+import com.bernardomg.security.usecase.login.service.DefaultTokenRevocationService;
+import com.bernardomg.security.usecase.login.service.TokenRevocationService;
 
 import io.jsonwebtoken.security.Keys;
 
@@ -59,6 +82,84 @@ public JwtAutoConfiguration() {
         super();
     }
 
+    /**
+     * Returns the cache for verified tokens. Only created if enabled through the properties.
+     *
+     * @param properties
+     *            JWT configuration properties
+     * @return the verified tokens cache
+     */
+    @Bean("jwtTokenDataCache")
+    @ConditionalOnProperty(prefix = "security.jwt.cache", name = "enabled", havingValue = "true")
+    public JwtTokenDataCache getJwtTokenDataCache(final JwtProperties properties) {
+        return new JwtTokenDataCache(properties.cache()
+            .maxSize(),
+            properties.cache()
+                .timeToLive());
+    }
+
+    /**
+     * Returns the revoked tokens denylist. Only created if enabled through the properties. It starts polling the
+     * revocations once created, and stops when the context is closed.
+     *
+     * @param tokenRevocationService
+     *            token revocation service
+     * @param properties
+     *            JWT configuration properties
+     * @return the revoked tokens denylist
+     */
+    @Bean(name = "jwtTokenDenylist", initMethod = "start", destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "security.jwt.revocation", name = "enabled", havingValue = "true")
+    public JwtTokenDenylist getJwtTokenDenylist(final TokenRevocationService tokenRevocationService,
+            final JwtProperties properties) {
+        return new JwtTokenDenylist(tokenRevocationService, properties.revocation()
+            .pollInterval(),
+            properties.revocation()
+                .expectedEntries(),
+            properties.revocation()
+                .falsePositiveRate());
+    }
+
+    /**
+     * Returns the listener which clears the token epoch cache when a role update increases the epoch of its users. Only
+     * created if the token epochs are enabled through the properties.
+     *
+     * @param tokenEpochCache
+     *            token epochs cache
+     * @return the listener for role token epoch increases
+     */
+    @Bean("roleTokenEpochEvictionListener")
+    @ConditionalOnProperty(prefix = "security.jwt.epoch", name = "enabled", havingValue = "true")
+    public RoleTokenEpochEvictionListener getRoleTokenEpochEvictionListener(final TokenEpochCache tokenEpochCache) {
+        return new RoleTokenEpochEvictionListener(tokenEpochCache);
+    }
+
+    /**
+     * Returns the token authentication parser. If the verified tokens cache exists, it will be used. Same for the
+     * revoked tokens denylist and the token epochs cache. The parsed authentications keep the permissions indexed.
+     *
+     * @param decoder
+     *            token decoder
+     * @param cache
+     *            verified tokens cache provider
+     * @param index
+     *            resource permissions index
+     * @param denylist
+     *            revoked tokens denylist provider
+     * @param epochCache
+     *            token epochs cache provider
+     * @return the token authentication parser
+     */
+    @Bean("tokenAuthenticationParser")
+    @ConditionalOnMissingBean({ TokenAuthenticationParser.class })
+    public TokenAuthenticationParser getTokenAuthenticationParser(final TokenDecoder decoder,
+            final ObjectProvider<JwtTokenDataCache> cache, final ResourcePermissionIndex index,
+            final ObjectProvider<JwtTokenDenylist> denylist, final ObjectProvider<TokenEpochCache> epochCache) {
+        return new TokenDetailsTokenAuthenticationParser(decoder, Optional.ofNullable(cache.getIfAvailable()),
+            Optional.of(index), Optional.ofNullable(denylist.getIfAvailable()),
+            Optional.ofNullable(epochCache.getIfAvailable()));
+    }
+
     /**
      * Returns the token decoder.
      *
@@ -85,6 +186,95 @@ public TokenEncoder getTokenEncoder(final SecretKey key) {
         return new JjwtTokenEncoder(key);
     }
 
+    /**
+     * Returns the cache for the user token epochs. Only created if enabled through the properties.
+     *
+     * @param userRepository
+     *            user repository
+     * @param properties
+     *            JWT configuration properties
+     * @return the token epochs cache
+     */
+    @Bean("tokenEpochCache")
+    @ConditionalOnProperty(prefix = "security.jwt.epoch", name = "enabled", havingValue = "true")
+    public TokenEpochCache getTokenEpochCache(final UserRepository userRepository, final JwtProperties properties) {
+        return new TokenEpochCache(userRepository, properties.epoch()
+            .maxSize(),
+            properties.epoch()
+                .timeToLive());
+    }
+
+    /**
+     * Returns the token resolver. The token is read from the bearer header, and then from the cookie, if it is
+     * configured.
+     *
+     * @param properties
+     *            JWT configuration properties
+     * @return the token resolver
+     */
+    @Bean("tokenResolver")
+    @ConditionalOnMissingBean({ TokenResolver.class })
+    public TokenResolver getTokenResolver(final JwtProperties properties) {
+        final List<TokenResolver> resolvers;
+        final String              cookie;
+
+        resolvers = new ArrayList<>();
+        resolvers.add(new BearerHeaderTokenResolver(properties.source()
+            .header()));
+
+        cookie = properties.source()
+            .cookie();
+        if ((cookie != null) && !cookie.isBlank()) {
+            resolvers.add(new CookieTokenResolver(cookie));
+        }
+
+        return new CompositeTokenResolver(resolvers);
+    }
+
+    /**
+     * Returns the token revocation repository. Only created if revocation is enabled through the properties.
+     *
+     * @param tokenRevocationSpringRepository
+     *            token revocation Spring repository
+     * @return the token revocation repository
+     */
+    @Bean("tokenRevocationRepository")
+    @ConditionalOnProperty(prefix = "security.jwt.revocation", name = "enabled", havingValue = "true")
+    public TokenRevocationRepository
+            getTokenRevocationRepository(final TokenRevocationSpringRepository tokenRevocationSpringRepository) {
+        return new JpaTokenRevocationRepository(tokenRevocationSpringRepository);
+    }
+
+    /**
+     * Returns the token revocation service. Only created if revocation is enabled through the properties.
+     *
+     * @param tokenRevocationRepository
+     *            token revocation repository
+     * @param properties
+     *            JWT configuration properties
+     * @return the token revocation service
+     */
+    @Bean("tokenRevocationService")
+    @ConditionalOnProperty(prefix = "security.jwt.revocation", name = "enabled", havingValue = "true")
+    public TokenRevocationService getTokenRevocationService(final TokenRevocationRepository tokenRevocationRepository,
+            final JwtProperties properties) {
+        return new DefaultTokenRevocationService(tokenRevocationRepository, properties.validity());
+    }
+
+    /**
+     * Returns the listener which removes a user from the token epoch cache when its epoch is increased. Only created if
+     * the token epochs are enabled through the properties.
+     *
+     * @param tokenEpochCache
+     *            token epochs cache
+     * @return the listener for user token epoch increases
+     */
+    @Bean("userTokenEpochEvictionListener")
+    @ConditionalOnProperty(prefix = "security.jwt.epoch", name = "enabled", havingValue = "true")
+    public UserTokenEpochEvictionListener getUserTokenEpochEvictionListener(final TokenEpochCache tokenEpochCache) {
+        return new UserTokenEpochEvictionListener(tokenEpochCache);
+    }
+
     /**
      * Returns the JWT secret key.
      *
@@ -27,27 +27,179 @@
 import java.time.Duration;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.http.HttpHeaders;
 import org.springframework.validation.annotation.Validated;
 
 import jakarta.validation.constraints.NotEmpty;
 
 /**
  * JWT configuration properties.
+ * <p>
+ * If {@code compactPermissions} is active, the login tokens store the permissions in a compact form. Tokens are
+ * always accepted in both forms, so it can be changed without invalidating the tokens already issued.
  *
  * @author Bernardo Mart&iacute;nez Garrido
  *
  */
 @Validated
 @ConfigurationProperties(prefix = "security.jwt")
-public final record JwtProperties(@NotEmpty String secret, Duration validity) {
+public final record JwtProperties(@NotEmpty String secret, Duration validity, CacheProperties cache,
+        TokenSourceProperties source, boolean compactPermissions, RevocationProperties revocation,
+        EpochProperties epoch) {
+
+    /**
+     * Verified tokens cache configuration properties. Disabled by default.
+     *
+     * @param enabled
+     *            cache enabled flag
+     * @param maxSize
+     *            maximum number of cached tokens
+     * @param timeToLive
+     *            maximum time a token is kept in the cache, tokens won't be kept longer than their own expiration
+     */
+    public static final record CacheProperties(boolean enabled, Integer maxSize, Duration timeToLive) {
+
+        public CacheProperties(final boolean enabled, final Integer maxSize, final Duration timeToLive) {
+            this.enabled = enabled;
+            if (maxSize == null) {
+                this.maxSize = 10_000;
+            } else {
+                this.maxSize = maxSize;
+            }
+            if (timeToLive == null) {
+                this.timeToLive = Duration.ofMinutes(5);
+            } else {
+                this.timeToLive = timeToLive;
+            }
+        }
 
-    public JwtProperties(final String secret, final Duration validity) {
+    }
+
+    /**
+     * User token epoch configuration properties. Disabled by default.
+     * <p>
+     * Tokens issued before the last epoch change of their user are rejected. The epochs are cached, so a change may
+     * take up to the time to live to apply, unless a newer token is received first.
+     *
+     * @param enabled
+     *            epoch check enabled flag
+     * @param maxSize
+     *            maximum number of cached epochs
+     * @param timeToLive
+     *            maximum time an epoch is kept in the cache
+     */
+    public static final record EpochProperties(boolean enabled, Integer maxSize, Duration timeToLive) {
+
+        public EpochProperties(final boolean enabled, final Integer maxSize, final Duration timeToLive) {
+            this.enabled = enabled;
+            if (maxSize == null) {
+                this.maxSize = 10_000;
+            } else {
+                this.maxSize = maxSize;
+            }
+            if (timeToLive == null) {
+                this.timeToLive = Duration.ofSeconds(30);
+            } else {
+                this.timeToLive = timeToLive;
+            }
+        }
+
+    }
+
+    /**
+     * Token revocation configuration properties. Disabled by default.
+     * <p>
+     * Revocations are read by all the nodes every poll interval, so a revocation may take that long to apply.
+     *
+     * @param enabled
+     *            revocation enabled flag
+     * @param pollInterval
+     *            time between reads of the revocations
+     * @param expectedEntries
+     *            expected number of revocations, used to size the in-memory filter
+     * @param falsePositiveRate
+     *            accepted false positive rate for the in-memory filter
+     */
+    public static final record RevocationProperties(boolean enabled, Duration pollInterval, Integer expectedEntries,
+            Double falsePositiveRate) {
+
+        public RevocationProperties(final boolean enabled, final Duration pollInterval, final Integer expectedEntries,
+                final Double falsePositiveRate) {
+            this.enabled = enabled;
+            if (pollInterval == null) {
+                this.pollInterval = Duration.ofSeconds(30);
+            } else {
+                this.pollInterval = pollInterval;
+            }
+            if (expectedEntries == null) {
+                this.expectedEntries = 10_000;
+            } else {
+                this.expectedEntries = expectedEntries;
+            }
+            if (falsePositiveRate == null) {
+                this.falsePositiveRate = 0.01;
+            } else {
+                this.falsePositiveRate = falsePositiveRate;
+            }
+        }
+
+    }
+
+    /**
+     * Token sources configuration properties. By default the token is only read from the authorization header.
+     * <p>
+     * If a cookie is set, CSRF protection is enabled for the requests authenticated by it. The cookie itself is set by
+     * the application, and it should be {@code HttpOnly}, {@code Secure} and {@code SameSite=Strict}, or at least
+     * {@code SameSite=Lax}, so other sites can't send it along their requests.
+     *
+     * @param header
+     *            header containing the token, following the bearer scheme
+     * @param cookie
+     *            cookie containing the token, if empty no cookie is read
+     */
+    public static final record TokenSourceProperties(String header, String cookie) {
+
+        public TokenSourceProperties(final String header, final String cookie) {
+            if (header == null) {
+                this.header = HttpHeaders.AUTHORIZATION;
+            } else {
+                this.header = header;
+            }
+            this.cookie = cookie;
+        }
+
+    }
+
+    public JwtProperties(final String secret, final Duration validity, final CacheProperties cache,
+            final TokenSourceProperties source, final boolean compactPermissions,
+            final RevocationProperties revocation, final EpochProperties epoch) {
         this.secret = secret;
         if (validity == null) {
             this.validity = Duration.ofHours(1);
         } else {
             this.validity = validity;
         }
+        if (cache == null) {
+            this.cache = new CacheProperties(false, null, null);
+        } else {
+            this.cache = cache;
+        }
+        if (source == null) {
+            this.source = new TokenSourceProperties(null, null);
+        } else {
+            this.source = source;
+        }
+        this.compactPermissions = compactPermissions;
+        if (revocation == null) {
+            this.revocation = new RevocationProperties(false, null, null, null);
+        } else {
+            this.revocation = revocation;
+        }
+        if (epoch == null) {
+            this.epoch = new EpochProperties(false, null, null);
+        } else {
+            this.epoch = epoch;
+        }
     }
 
 }
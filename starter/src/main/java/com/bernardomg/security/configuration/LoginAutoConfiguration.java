@@ -24,9 +24,12 @@
 
 package com.bernardomg.security.configuration;
 
+import java.util.Optional;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -34,17 +37,27 @@
 
 import com.bernardomg.event.emitter.EventEmitter;
 import com.bernardomg.jwt.encoding.TokenEncoder;
+import com.bernardomg.security.adapter.inbound.event.login.AsyncLoginEventListener;
 import com.bernardomg.security.adapter.inbound.event.login.LoginFailureBlockerListener;
 import com.bernardomg.security.domain.user.repository.UserRepository;
+import com.bernardomg.security.domain.user.repository.UserTokenRepository;
 import com.bernardomg.security.springframework.login.authentication.AuthenticationManagerLoginUserAuthenticator;
+import com.bernardomg.security.springframework.login.authentication.SlidingWindowLimiter;
+import com.bernardomg.security.springframework.login.authentication.ThrottledLoginUserAuthenticator;
 import com.bernardomg.security.springframework.web.whitelist.WhitelistRoute;
 import com.bernardomg.security.usecase.login.authentication.LoginUserAuthenticator;
 import com.bernardomg.security.usecase.login.encoder.JwtPermissionLoginTokenEncoder;
 import com.bernardomg.security.usecase.login.encoder.LoginTokenEncoder;
+import com.bernardomg.security.usecase.login.service.DefaultTokenRefreshService;
 import com.bernardomg.security.usecase.login.service.DefaultUserLoginAttempsService;
+import com.bernardomg.security.usecase.login.service.DisabledTokenRefreshService;
+import com.bernardomg.security.usecase.login.service.LoginRegisterService;
 import com.bernardomg.security.usecase.login.service.LoginService;
 import com.bernardomg.security.usecase.login.service.TokenLoginService;
+import com.bernardomg.security.usecase.login.service.TokenRefreshService;
 import com.bernardomg.security.usecase.login.service.UserLoginAttempsService;
+import com.bernardomg.security.usecase.user.store.ScopedUserTokenStore;
+import com.bernardomg.security.usecase.user.store.UserTokenStore;
 
 /**
  * Login auto configuration.
@@ -61,36 +74,132 @@ public class LoginAutoConfiguration {
      */
     private static final Logger log = LoggerFactory.getLogger(LoginAutoConfiguration.class);
 
+    @Bean(name = "asyncLoginEventListener", initMethod = "start", destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "security.login.events", name = "async", havingValue = "true")
+    public AsyncLoginEventListener getAsyncLoginEventListener(final LoginRegisterService loginRegisterService,
+            final UserLoginAttempsService userLoginAttempsService, final LoginProperties loginProperties) {
+        final LoginProperties.EventsProperties events;
+
+        events = loginProperties.events();
+        log.info("Login events will be handled asynchronously, in batches of up to {} events", events.batchSize());
+
+        return new AsyncLoginEventListener(loginRegisterService, userLoginAttempsService, events.queueCapacity(),
+            events.batchSize(), events.flushInterval(), events.shutdownTimeout());
+    }
+
     @Bean("loginFailureBlockerListener")
+    @ConditionalOnProperty(prefix = "security.login.events", name = "async", havingValue = "false",
+            matchIfMissing = true)
     public LoginFailureBlockerListener getLoginFailureBlockerListener(final UserLoginAttempsService userAccessService) {
         return new LoginFailureBlockerListener(userAccessService);
     }
 
     @Bean("loginService")
-    public LoginService getLoginService(final TokenEncoder tokenEncoder, final EventEmitter eventEmitter,
-            final LoginUserAuthenticator userAuthenticator, final JwtProperties jwtProperties) {
-        final LoginTokenEncoder loginTokenEncoder;
+    public LoginService getLoginService(final LoginTokenEncoder loginTokenEncoder, final EventEmitter eventEmitter,
+            final LoginUserAuthenticator userAuthenticator, final UserTokenRepository userTokenRepository,
+            final UserRepository userRepository, final LoginProperties loginProperties) {
+        final LoginProperties.RefreshProperties refresh;
+        final LoginService                      service;
+
+        refresh = loginProperties.refresh();
+        if (refresh.enabled()) {
+            log.info("Refresh tokens will have a validity of {}", refresh.validity());
+            service = new TokenLoginService(userAuthenticator, loginTokenEncoder, eventEmitter,
+                Optional.of(getRefreshTokenStore(userTokenRepository, userRepository, refresh)));
+        } else {
+            service = new TokenLoginService(userAuthenticator, loginTokenEncoder, eventEmitter);
+        }
+
+        return service;
+    }
+
+    @Bean("loginTokenEncoder")
+    public LoginTokenEncoder getLoginTokenEncoder(final TokenEncoder tokenEncoder, final UserRepository userRepository,
+            final JwtProperties jwtProperties) {
+        final LoginTokenEncoder encoder;
 
         log.info("Security tokens will have a validity of {}", jwtProperties.validity());
-        loginTokenEncoder = new JwtPermissionLoginTokenEncoder(tokenEncoder, jwtProperties.validity());
+        if (jwtProperties.epoch()
+            .enabled()) {
+            // Tokens include the user epoch, so they can be invalidated at once
+            encoder = new JwtPermissionLoginTokenEncoder(tokenEncoder, jwtProperties.validity(),
+                jwtProperties.compactPermissions(), userRepository);
+        } else {
+            encoder = new JwtPermissionLoginTokenEncoder(tokenEncoder, jwtProperties.validity(),
+                jwtProperties.compactPermissions());
+        }
 
-        return new TokenLoginService(userAuthenticator, loginTokenEncoder, eventEmitter);
+        return encoder;
     }
 
     @Bean("LoginUserAuthenticator")
-    public LoginUserAuthenticator getLoginUserAuthenticator(final AuthenticationManager authenticationManager) {
-        return new AuthenticationManagerLoginUserAuthenticator(authenticationManager);
+    public LoginUserAuthenticator getLoginUserAuthenticator(final AuthenticationManager authenticationManager,
+            final LoginProperties loginProperties) {
+        final LoginUserAuthenticator             authenticator;
+        final LoginProperties.ThrottleProperties throttle;
+        final LoginUserAuthenticator             result;
+
+        authenticator = new AuthenticationManagerLoginUserAuthenticator(authenticationManager);
+        throttle = loginProperties.throttle();
+        if (throttle.enabled()) {
+            log.info("Login attempts will be throttled after {} failures by username, or {} by address, in {}",
+                throttle.maxUsernameFailures(), throttle.maxAddressFailures(), throttle.window());
+            result = new ThrottledLoginUserAuthenticator(authenticator,
+                new SlidingWindowLimiter(throttle.maxUsernameFailures(), throttle.window()),
+                new SlidingWindowLimiter(throttle.maxAddressFailures(), throttle.window()));
+        } else {
+            result = authenticator;
+        }
+
+        return result;
     }
 
     @Bean("loginWhitelist")
     public WhitelistRoute getLoginWhitelist() {
+        // Also covers the token refresh
         return WhitelistRoute.of("/login/**", HttpMethod.POST);
     }
 
+    @Bean("tokenRefreshService")
+    public TokenRefreshService getTokenRefreshService(final LoginTokenEncoder loginTokenEncoder,
+            final UserTokenRepository userTokenRepository, final UserRepository userRepository,
+            final LoginProperties loginProperties) {
+        final LoginProperties.RefreshProperties refresh;
+        final TokenRefreshService               service;
+
+        refresh = loginProperties.refresh();
+        if (refresh.enabled()) {
+            service = new DefaultTokenRefreshService(getRefreshTokenStore(userTokenRepository, userRepository, refresh),
+                userRepository, loginTokenEncoder);
+        } else {
+            log.info("Disabled refresh tokens");
+            service = new DisabledTokenRefreshService();
+        }
+
+        return service;
+    }
+
     @Bean("userLoginAttempsService")
     public UserLoginAttempsService getUserLoginAttempsService(final UserRepository userRepository,
-            final LoginProperties userAccessProperties) {
-        return new DefaultUserLoginAttempsService(userAccessProperties.maxLoginAttempts(), userRepository);
+            final LoginProperties userAccessProperties, final EventEmitter eventEmitter) {
+        return new DefaultUserLoginAttempsService(userAccessProperties.maxLoginAttempts(), userRepository,
+            eventEmitter);
+    }
+
+    /**
+     * Returns the store for refresh tokens. They are kept along the other user tokens, in their own scope.
+     *
+     * @param userTokenRepository
+     *            user token repository
+     * @param userRepository
+     *            user repository
+     * @param refresh
+     *            refresh token properties
+     * @return the refresh token store
+     */
+    private final UserTokenStore getRefreshTokenStore(final UserTokenRepository userTokenRepository,
+            final UserRepository userRepository, final LoginProperties.RefreshProperties refresh) {
+        return new ScopedUserTokenStore(userTokenRepository, userRepository, "refresh", refresh.validity());
     }
 
 }
@@ -24,25 +24,155 @@
 
 package com.bernardomg.security.configuration;
 
+import java.time.Duration;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
 /**
  * Login configuration properties.
+ * <p>
+ * If {@code events.async} is active, the login events are handled in batches by a background worker, instead of
+ * during the login request.
+ * <p>
+ * If {@code refresh.enabled} is active, successful logins also return a refresh token. It can be exchanged, once, for
+ * a new token and a new refresh token, without checking the password again.
+ * <p>
+ * If {@code throttle.enabled} is active, login attempts are rejected before checking the password once there are too
+ * many recent failures for the same username or client address.
  *
  * @author Bernardo Mart&iacute;nez Garrido
  *
  */
 @Validated
 @ConfigurationProperties(prefix = "security.login")
-public final record LoginProperties(Integer maxLoginAttempts) {
+public final record LoginProperties(Integer maxLoginAttempts, EventsProperties events, RefreshProperties refresh,
+        ThrottleProperties throttle) {
+
+    /**
+     * Login events configuration properties. By default the events are handled synchronously.
+     *
+     * @param async
+     *            asynchronous handling flag
+     * @param queueCapacity
+     *            maximum number of events waiting to be handled
+     * @param batchSize
+     *            maximum number of events handled at once
+     * @param flushInterval
+     *            maximum time an event waits for its batch to be completed
+     * @param shutdownTimeout
+     *            maximum time to wait for the pending events when stopping
+     */
+    public static final record EventsProperties(boolean async, Integer queueCapacity, Integer batchSize,
+            Duration flushInterval, Duration shutdownTimeout) {
+
+        public EventsProperties(final boolean async, final Integer queueCapacity, final Integer batchSize,
+                final Duration flushInterval, final Duration shutdownTimeout) {
+            this.async = async;
+            if (queueCapacity == null) {
+                this.queueCapacity = 10_000;
+            } else {
+                this.queueCapacity = queueCapacity;
+            }
+            if (batchSize == null) {
+                this.batchSize = 100;
+            } else {
+                this.batchSize = batchSize;
+            }
+            if (flushInterval == null) {
+                this.flushInterval = Duration.ofMillis(500);
+            } else {
+                this.flushInterval = flushInterval;
+            }
+            if (shutdownTimeout == null) {
+                this.shutdownTimeout = Duration.ofSeconds(10);
+            } else {
+                this.shutdownTimeout = shutdownTimeout;
+            }
+        }
 
-    public LoginProperties(final Integer maxLoginAttempts) {
+    }
+
+    /**
+     * Refresh token configuration properties. Disabled by default.
+     *
+     * @param enabled
+     *            refresh tokens enabled flag
+     * @param validity
+     *            refresh token validity
+     */
+    public static final record RefreshProperties(boolean enabled, Duration validity) {
+
+        public RefreshProperties(final boolean enabled, final Duration validity) {
+            this.enabled = enabled;
+            if (validity == null) {
+                this.validity = Duration.ofDays(7);
+            } else {
+                this.validity = validity;
+            }
+        }
+
+    }
+
+    /**
+     * Login throttling configuration properties. Disabled by default.
+     *
+     * @param enabled
+     *            throttling enabled flag
+     * @param maxUsernameFailures
+     *            maximum failed attempts for a username in the window
+     * @param maxAddressFailures
+     *            maximum failed attempts from a client address in the window
+     * @param window
+     *            sliding window where failures are counted
+     */
+    public static final record ThrottleProperties(boolean enabled, Integer maxUsernameFailures,
+            Integer maxAddressFailures, Duration window) {
+
+        public ThrottleProperties(final boolean enabled, final Integer maxUsernameFailures,
+                final Integer maxAddressFailures, final Duration window) {
+            this.enabled = enabled;
+            if (maxUsernameFailures == null) {
+                this.maxUsernameFailures = 5;
+            } else {
+                this.maxUsernameFailures = maxUsernameFailures;
+            }
+            if (maxAddressFailures == null) {
+                this.maxAddressFailures = 20;
+            } else {
+                this.maxAddressFailures = maxAddressFailures;
+            }
+            if (window == null) {
+                this.window = Duration.ofMinutes(1);
+            } else {
+                this.window = window;
+            }
+        }
+
+    }
+
+    public LoginProperties(final Integer maxLoginAttempts, final EventsProperties events,
+            final RefreshProperties refresh, final ThrottleProperties throttle) {
         if (maxLoginAttempts == null) {
             this.maxLoginAttempts = 3;
         } else {
             this.maxLoginAttempts = maxLoginAttempts;
         }
+        if (events == null) {
+            this.events = new EventsProperties(false, null, null, null, null);
+        } else {
+            this.events = events;
+        }
+        if (refresh == null) {
+            this.refresh = new RefreshProperties(false, null);
+        } else {
+            this.refresh = refresh;
+        }
+        if (throttle == null) {
+            this.throttle = new ThrottleProperties(false, null, null, null);
+        } else {
+            this.throttle = throttle;
+        }
     }
 
 }
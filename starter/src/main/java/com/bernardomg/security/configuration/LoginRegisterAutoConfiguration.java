@@ -25,6 +25,7 @@
 package com.bernardomg.security.configuration;
 
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -46,6 +47,8 @@
 public class LoginRegisterAutoConfiguration {
 
     @Bean("loginEventRegisterListener")
+    @ConditionalOnProperty(prefix = "security.login.events", name = "async", havingValue = "false",
+            matchIfMissing = true)
     public LoginEventRegisterListener getLoginEventRegisterListener(final LoginRegisterService loginRegisterService) {
         return new LoginEventRegisterListener(loginRegisterService);
     }
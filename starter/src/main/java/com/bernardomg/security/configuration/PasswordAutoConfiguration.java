@@ -25,6 +25,8 @@
 package com.bernardomg.security.configuration;
 
 import java.security.SecureRandom;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,15 +39,23 @@
 import org.springframework.http.HttpMethod;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.security.authentication.AuthenticationTrustResolver;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+import org.springframework.util.ClassUtils;
 import org.thymeleaf.spring6.SpringTemplateEngine;
 
 import com.bernardomg.event.emitter.EventEmitter;
 import com.bernardomg.security.adapter.inbound.event.password.reset.PasswordResetNotificationListener;
 import com.bernardomg.security.adapter.outbound.mail.password.reset.usecase.service.SpringMailPasswordNotificationService;
+import com.bernardomg.security.configuration.PasswordProperties.EncodingProperties;
+import com.bernardomg.security.configuration.PasswordProperties.HashingProperties;
 import com.bernardomg.security.domain.user.repository.UserRepository;
 import com.bernardomg.security.domain.user.repository.UserTokenRepository;
+import com.bernardomg.security.springframework.password.BcryptStrengthCalibrator;
+import com.bernardomg.security.springframework.password.BoundedPasswordEncoder;
 import com.bernardomg.security.springframework.password.SpringSecurityPasswordEncrypter;
 import com.bernardomg.security.springframework.session.SecurityContextHolderUsernameInSessionProvider;
 import com.bernardomg.security.springframework.web.whitelist.WhitelistRoute;
@@ -68,7 +78,7 @@
  */
 @AutoConfiguration
 @Configuration(proxyBeanMethods = false)
-@EnableConfigurationProperties({ PasswordNotificationProperties.class })
+@EnableConfigurationProperties({ PasswordNotificationProperties.class, PasswordProperties.class })
 public class PasswordAutoConfiguration {
 
     /**
@@ -91,16 +101,34 @@ public PasswordNotificationService getDefaultPasswordNotificationService() {
 
     @Bean("passwordChangeService")
     public PasswordChangeService getPasswordChangeService(final UserRepository userRepository,
-            final PasswordEncrypter passwordEncrypter, final AuthenticationTrustResolver trustResolver) {
+            final PasswordEncrypter passwordEncrypter, final AuthenticationTrustResolver trustResolver,
+            final EventEmitter eventEmitter) {
         final UsernameInSessionProvider usernameInSessionProvider;
 
         usernameInSessionProvider = new SecurityContextHolderUsernameInSessionProvider(trustResolver);
-        return new DefaultPasswordChangeService(userRepository, passwordEncrypter, usernameInSessionProvider);
+        return new DefaultPasswordChangeService(userRepository, passwordEncrypter, usernameInSessionProvider,
+            eventEmitter);
     }
 
     @Bean("passwordEncoder")
-    public PasswordEncoder getPasswordEncoder() {
-        return new BCryptPasswordEncoder(10, new SecureRandom());
+    public PasswordEncoder getPasswordEncoder(final PasswordProperties passwordProperties) {
+        final PasswordEncoder   encoder;
+        final HashingProperties hashing;
+        final PasswordEncoder   result;
+
+        encoder = getDelegatingPasswordEncoder(passwordProperties.encoding());
+        hashing = passwordProperties.hashing();
+        if (hashing.bounded()) {
+            log.info("Bounded password hashing with {} threads, queue capacity {} and queue timeout {}",
+                hashing.maxConcurrency(), hashing.queueCapacity(), hashing.queueTimeout());
+            // Closed by Spring when the context stops
+            result = new BoundedPasswordEncoder(encoder, hashing.maxConcurrency(), hashing.queueCapacity(),
+                hashing.queueTimeout());
+        } else {
+            result = encoder;
+        }
+
+        return result;
     }
 
     @Bean("passwordEncrypter")
@@ -147,4 +175,43 @@ public WhitelistRoute getPasswordResetWhitelist() {
         return WhitelistRoute.of("/password/reset/**", HttpMethod.GET, HttpMethod.POST);
     }
 
+    /**
+     * Returns an encoder which prefixes the hashes with the id of their algorithm. Hashes without prefix are handled
+     * as bcrypt, as they were stored before the prefixes.
+     *
+     * @param encoding
+     *            encoding properties
+     * @return the password encoder
+     */
+    private final PasswordEncoder getDelegatingPasswordEncoder(final EncodingProperties encoding) {
+        final Map<String, PasswordEncoder> encoders;
+        final PasswordEncoder              bcrypt;
+        final int                          strength;
+        final DelegatingPasswordEncoder    encoder;
+
+        if (encoding.calibrate()) {
+            strength = new BcryptStrengthCalibrator(encoding.strength(), encoding.maxStrength(), 5)
+                .calibrate(encoding.targetTime());
+            log.info("Calibrated bcrypt strength to {} for a target hash time of {}", strength,
+                encoding.targetTime());
+        } else {
+            strength = encoding.strength();
+        }
+
+        bcrypt = new BCryptPasswordEncoder(strength, new SecureRandom());
+        encoders = new HashMap<>();
+        encoders.put("bcrypt", bcrypt);
+        encoders.put("pbkdf2", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        // Argon2 requires Bouncy Castle
+        if (ClassUtils.isPresent("org.bouncycastle.crypto.generators.Argon2BytesGenerator", null)) {
+            encoders.put("argon2", Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        }
+
+        log.info("Encoding new passwords with {}", encoding.algorithm());
+        encoder = new DelegatingPasswordEncoder(encoding.algorithm(), encoders);
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        return encoder;
+    }
+
 }
@@ -0,0 +1,144 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.security.configuration;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Password configuration properties.
+ * <p>
+ * New hashes are prefixed with the id of their algorithm, so hashes of several algorithms can coexist. Outdated hashes
+ * are upgraded when their users log in. If {@code encoding.calibrate} is active, the bcrypt strength is chosen on
+ * startup to take the target time on this host.
+ * <p>
+ * If {@code hashing.bounded} is active, password hashes run on a dedicated pool with limited concurrency. When the
+ * pool is saturated, requests needing a hash are rejected with a service unavailable status.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@Validated
+@ConfigurationProperties(prefix = "security.password")
+public final record PasswordProperties(EncodingProperties encoding, HashingProperties hashing) {
+
+    /**
+     * Password encoding configuration properties. By default new hashes use bcrypt with a strength of 10.
+     *
+     * @param algorithm
+     *            id of the algorithm for new hashes, one of {@code bcrypt}, {@code pbkdf2} or {@code argon2}
+     * @param strength
+     *            bcrypt strength, when calibrating this is the minimum strength
+     * @param calibrate
+     *            bcrypt strength calibration flag
+     * @param maxStrength
+     *            maximum bcrypt strength when calibrating
+     * @param targetTime
+     *            target time to hash a password when calibrating
+     */
+    public static final record EncodingProperties(String algorithm, Integer strength, boolean calibrate,
+            Integer maxStrength, Duration targetTime) {
+
+        public EncodingProperties(final String algorithm, final Integer strength, final boolean calibrate,
+                final Integer maxStrength, final Duration targetTime) {
+            if (algorithm == null) {
+                this.algorithm = "bcrypt";
+            } else {
+                this.algorithm = algorithm;
+            }
+            if (strength == null) {
+                this.strength = 10;
+            } else {
+                this.strength = strength;
+            }
+            this.calibrate = calibrate;
+            if (maxStrength == null) {
+                this.maxStrength = 16;
+            } else {
+                this.maxStrength = maxStrength;
+            }
+            if (targetTime == null) {
+                this.targetTime = Duration.ofMillis(80);
+            } else {
+                this.targetTime = targetTime;
+            }
+        }
+
+    }
+
+    /**
+     * Password hashing configuration properties. By default hashes run on the calling thread.
+     *
+     * @param bounded
+     *            bounded pool flag
+     * @param maxConcurrency
+     *            maximum number of hashes running at once
+     * @param queueCapacity
+     *            maximum number of hashes waiting for a thread
+     * @param queueTimeout
+     *            maximum time a hash waits for a thread
+     */
+    public static final record HashingProperties(boolean bounded, Integer maxConcurrency, Integer queueCapacity,
+            Duration queueTimeout) {
+
+        public HashingProperties(final boolean bounded, final Integer maxConcurrency, final Integer queueCapacity,
+                final Duration queueTimeout) {
+            this.bounded = bounded;
+            if (maxConcurrency == null) {
+                this.maxConcurrency = Math.max(1, Runtime.getRuntime()
+                    .availableProcessors() / 2);
+            } else {
+                this.maxConcurrency = maxConcurrency;
+            }
+            if (queueCapacity == null) {
+                this.queueCapacity = 100;
+            } else {
+                this.queueCapacity = queueCapacity;
+            }
+            if (queueTimeout == null) {
+                this.queueTimeout = Duration.ofSeconds(2);
+            } else {
+                this.queueTimeout = queueTimeout;
+            }
+        }
+
+    }
+
+    public PasswordProperties(final EncodingProperties encoding, final HashingProperties hashing) {
+        if (encoding == null) {
+            this.encoding = new EncodingProperties(null, null, false, null, null);
+        } else {
+            this.encoding = encoding;
+        }
+        if (hashing == null) {
+            this.hashing = new HashingProperties(false, null, null, null);
+        } else {
+            this.hashing = hashing;
+        }
+    }
+
+}
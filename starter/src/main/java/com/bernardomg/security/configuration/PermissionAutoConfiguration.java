@@ -27,6 +27,7 @@
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcOperations;
 
 import com.bernardomg.security.adapter.inbound.jpa.repository.permission.ActionSpringRepository;
 import com.bernardomg.security.adapter.inbound.jpa.repository.permission.JpaActionRepository;
@@ -65,9 +66,10 @@ public PermissionService getPermissionService(final ResourcePermissionRepository
     }
 
     @Bean("resourcePermissionRepository")
-    public ResourcePermissionRepository
-            getResourcePermissionRepository(final ResourcePermissionSpringRepository resourcePermissionRepository) {
-        return new JpaResourcePermissionRepository(resourcePermissionRepository);
+    public ResourcePermissionRepository getResourcePermissionRepository(
+            final ResourcePermissionSpringRepository resourcePermissionRepository,
+            final JdbcOperations jdbcOperations) {
+        return new JpaResourcePermissionRepository(resourcePermissionRepository, jdbcOperations);
     }
 
     @Bean("resourceRepository")
@@ -0,0 +1,72 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.security.configuration;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.bernardomg.security.domain.login.repository.LoginRegisterRepository;
+import com.bernardomg.security.domain.user.repository.UserTokenRepository;
+import com.bernardomg.security.springframework.retention.RetentionPurger;
+
+/**
+ * Data retention auto configuration. Only applied when enabled through the {@code security.retention.enabled}
+ * property.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@AutoConfiguration(after = { UserTokenAutoConfiguration.class, LoginRegisterAutoConfiguration.class })
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(RetentionProperties.class)
+@ConditionalOnProperty(prefix = "security.retention", name = "enabled", havingValue = "true")
+public class RetentionAutoConfiguration {
+
+    public RetentionAutoConfiguration() {
+        super();
+    }
+
+    /**
+     * Returns the retention purger. It starts the periodic runs once created, and stops when the context is closed.
+     *
+     * @param userTokenRepository
+     *            user token repository
+     * @param loginRegisterRepository
+     *            login register repository
+     * @param properties
+     *            retention configuration properties
+     * @return the retention purger
+     */
+    @Bean(name = "retentionPurger", initMethod = "start", destroyMethod = "close")
+    public RetentionPurger getRetentionPurger(final UserTokenRepository userTokenRepository,
+            final LoginRegisterRepository loginRegisterRepository, final RetentionProperties properties) {
+        return new RetentionPurger(userTokenRepository, properties.userTokens(), loginRegisterRepository,
+            properties.loginRegisters(), properties.batchSize(), properties.timeBudget(), properties.interval());
+    }
+
+}
@@ -0,0 +1,92 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.security.configuration;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Data retention configuration properties. Disabled by default.
+ * <p>
+ * If {@code enabled} is active, old user tokens and login registers are removed periodically. User tokens are kept
+ * for {@code userTokens} after expiring, and login registers for {@code loginRegisters} after being made.
+ * <p>
+ * Rows are removed in batches of {@code batchSize}, and all the tables are purged for up to {@code timeBudget} on
+ * each run. Whatever is left is removed on the next run.
+ *
+ * @param enabled
+ *            retention enabled flag
+ * @param interval
+ *            time between runs
+ * @param batchSize
+ *            maximum number of rows removed at once
+ * @param timeBudget
+ *            maximum time spent purging on a single run
+ * @param userTokens
+ *            how long user tokens are kept after expiring
+ * @param loginRegisters
+ *            how long login registers are kept
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@Validated
+@ConfigurationProperties(prefix = "security.retention")
+public final record RetentionProperties(boolean enabled, Duration interval, Integer batchSize, Duration timeBudget,
+        Duration userTokens, Duration loginRegisters) {
+
+    public RetentionProperties(final boolean enabled, final Duration interval, final Integer batchSize,
+            final Duration timeBudget, final Duration userTokens, final Duration loginRegisters) {
+        this.enabled = enabled;
+        if (interval == null) {
+            this.interval = Duration.ofHours(1);
+        } else {
+            this.interval = interval;
+        }
+        if (batchSize == null) {
+            this.batchSize = 1_000;
+        } else {
+            this.batchSize = batchSize;
+        }
+        if (timeBudget == null) {
+            this.timeBudget = Duration.ofSeconds(10);
+        } else {
+            this.timeBudget = timeBudget;
+        }
+        if (userTokens == null) {
+            this.userTokens = Duration.ofDays(30);
+        } else {
+            this.userTokens = userTokens;
+        }
+        if (loginRegisters == null) {
+            this.loginRegisters = Duration.ofDays(90);
+        } else {
+            this.loginRegisters = loginRegisters;
+        }
+    }
+
+}
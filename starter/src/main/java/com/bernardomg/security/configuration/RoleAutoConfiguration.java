@@ -28,12 +28,14 @@
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.bernardomg.event.emitter.EventEmitter;
 import com.bernardomg.security.adapter.inbound.jpa.repository.permission.ResourcePermissionSpringRepository;
 import com.bernardomg.security.adapter.inbound.jpa.repository.role.JpaRoleRepository;
 import com.bernardomg.security.adapter.inbound.jpa.repository.role.RoleSpringRepository;
 import com.bernardomg.security.adapter.inbound.jpa.repository.role.UserRoleSpringRepository;
 import com.bernardomg.security.domain.permission.repository.ResourcePermissionRepository;
 import com.bernardomg.security.domain.role.repository.RoleRepository;
+import com.bernardomg.security.domain.user.repository.UserRepository;
 import com.bernardomg.security.usecase.role.service.DefaultRoleService;
 import com.bernardomg.security.usecase.role.service.RoleService;
 
@@ -61,8 +63,9 @@ public RoleRepository getRoleRepository(final RoleSpringRepository roleSpringRep
 
     @Bean("roleService")
     public RoleService getRoleService(final RoleRepository roleRepository,
-            final ResourcePermissionRepository resourcePermissionRepository) {
-        return new DefaultRoleService(roleRepository, resourcePermissionRepository);
+            final ResourcePermissionRepository resourcePermissionRepository, final UserRepository userRepository,
+            final EventEmitter eventEmitter) {
+        return new DefaultRoleService(roleRepository, resourcePermissionRepository, userRepository, eventEmitter);
     }
 
 }
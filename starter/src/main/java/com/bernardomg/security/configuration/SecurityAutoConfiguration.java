@@ -34,13 +34,16 @@
 import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.bernardomg.framework.security.access.interceptor.ResourceAccessValidator;
+import com.bernardomg.security.domain.permission.repository.ResourcePermissionRepository;
 import com.bernardomg.security.domain.user.repository.UserRepository;
-import com.bernardomg.security.springframework.access.interceptor.AuthorityResourcePermissionEvaluator;
+import com.bernardomg.security.springframework.access.interceptor.IndexedResourcePermissionEvaluator;
 import com.bernardomg.security.springframework.access.interceptor.ResourcePermissionEvaluator;
+import com.bernardomg.security.springframework.access.interceptor.ResourcePermissionIndex;
 import com.bernardomg.security.springframework.access.interceptor.SecurityContextHolderResourceAccessValidator;
 import com.bernardomg.security.springframework.usecase.service.UserDomainDetailsService;
 
@@ -67,6 +70,10 @@ public AuthenticationManager getAuthenticationManager(final UserDetailsService u
 
         provider = new DaoAuthenticationProvider(userDetailsService);
         provider.setPasswordEncoder(passwordEncoder);
+        if (userDetailsService instanceof final UserDetailsPasswordService passwordService) {
+            // Upgrades outdated password hashes on login
+            provider.setUserDetailsPasswordService(passwordService);
+        }
 
         return new ProviderManager(provider);
     }
@@ -76,16 +83,23 @@ public AuthenticationTrustResolver getAuthenticationTrustResolver() {
         return new AuthenticationTrustResolverImpl();
     }
 
+    @Bean("resourcePermissionIndex")
+    public ResourcePermissionIndex getResourcePermissionIndex(
+            final ResourcePermissionRepository resourcePermissionRepository) {
+        return new ResourcePermissionIndex(resourcePermissionRepository::findAll);
+    }
+
     @Bean("userDetailsService")
     public UserDetailsService getUserDetailsService(final UserRepository userRepository) {
         return new UserDomainDetailsService(userRepository);
     }
 
     @Bean("springResourceAccessValidator")
-    public ResourceAccessValidator springResourceAccessValidator(final AuthenticationTrustResolver trustResolver) {
+    public ResourceAccessValidator springResourceAccessValidator(final AuthenticationTrustResolver trustResolver,
+            final ResourcePermissionIndex resourcePermissionIndex) {
         final ResourcePermissionEvaluator permissionEvaluator;
 
-        permissionEvaluator = new AuthorityResourcePermissionEvaluator();
+        permissionEvaluator = new IndexedResourcePermissionEvaluator(resourcePermissionIndex);
         return new SecurityContextHolderResourceAccessValidator(permissionEvaluator, trustResolver);
     }
 
@@ -0,0 +1,78 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2022-2025 Bernardo Martínez Garrido
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.security.configuration;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.bernardomg.security.springframework.metrics.LoginMeterListener;
+import com.bernardomg.security.springframework.metrics.SecurityMetricsPostProcessor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Security metrics auto configuration. Disabled by default, it is enabled with the {@code security.metrics.enabled}
+ * property, and only applied when Micrometer is on the classpath.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@AutoConfiguration(
+        afterName = "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration")
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+@ConditionalOnProperty(prefix = "security.metrics", name = "enabled", havingValue = "true", matchIfMissing = false)
+public class SecurityMetricsAutoConfiguration {
+
+    public SecurityMetricsAutoConfiguration() {
+        super();
+    }
+
+    @Bean("loginMeterListener")
+    @ConditionalOnBean(MeterRegistry.class)
+    public LoginMeterListener getLoginMeterListener(final MeterRegistry meterRegistry) {
+        return new LoginMeterListener(meterRegistry);
+    }
+
+    /**
+     * Post processor instrumenting the security beans. It is static, as post processors are created before the
+     * configuration instances.
+     *
+     * @param meterRegistry
+     *            meter registry provider
+     * @return the security metrics post processor
+     */
+    @Bean("securityMetricsPostProcessor")
+    public static SecurityMetricsPostProcessor
+            getSecurityMetricsPostProcessor(final ObjectProvider<MeterRegistry> meterRegistry) {
+        return new SecurityMetricsPostProcessor(meterRegistry);
+    }
+
+}
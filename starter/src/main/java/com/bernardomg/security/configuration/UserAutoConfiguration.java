@@ -41,6 +41,7 @@
 import com.bernardomg.security.adapter.inbound.event.user.UserInvitationNotificationListener;
 import com.bernardomg.security.adapter.inbound.jpa.repository.role.RoleSpringRepository;
 import com.bernardomg.security.adapter.inbound.jpa.repository.user.JpaUserRepository;
+import com.bernardomg.security.adapter.inbound.jpa.repository.user.UserResourcePermissionSpringRepository;
 import com.bernardomg.security.adapter.inbound.jpa.repository.user.UserSpringRepository;
 import com.bernardomg.security.adapter.outbound.mail.user.usecase.service.SpringMailUserNotificationService;
 import com.bernardomg.security.domain.role.repository.RoleRepository;
@@ -130,14 +131,15 @@ public WhitelistRoute getUserOnboardingWhitelist() {
 
     @Bean("userRepository")
     public UserRepository getUserRepository(final UserSpringRepository userRepository,
-            final RoleSpringRepository roleSpringRepository) {
-        return new JpaUserRepository(userRepository, roleSpringRepository);
+            final RoleSpringRepository roleSpringRepository,
+            final UserResourcePermissionSpringRepository userResourcePermissionSpringRepository) {
+        return new JpaUserRepository(userRepository, roleSpringRepository, userResourcePermissionSpringRepository);
     }
 
     @Bean("userService")
     public UserService getUserService(final UserRepository userRepository, final RoleRepository roleRepository,
-            final PasswordEncrypter passwordEncrypter) {
-        return new DefaultUserService(userRepository, roleRepository, passwordEncrypter);
+            final PasswordEncrypter passwordEncrypter, final EventEmitter eventEmitter) {
+        return new DefaultUserService(userRepository, roleRepository, passwordEncrypter, eventEmitter);
     }
 
 }
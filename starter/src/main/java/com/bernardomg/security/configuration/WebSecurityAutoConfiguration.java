@@ -46,18 +46,21 @@
 import org.springframework.security.web.DefaultSecurityFilterChain;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
+import org.springframework.security.web.csrf.CookieCsrfTokenRepository;
+import org.springframework.security.web.csrf.CsrfTokenRequestAttributeHandler;
 import org.springframework.web.cors.CorsConfigurationSource;
 
-import com.bernardomg.jwt.encoding.TokenDecoder;
 import com.bernardomg.security.springframework.web.ErrorResponseAuthenticationEntryPoint;
 import com.bernardomg.security.springframework.web.error.SecurityExceptionHandler;
-import com.bernardomg.security.springframework.web.jwt.BearerHeaderTokenResolver;
+import com.bernardomg.security.springframework.web.jwt.CookieTokenCsrfRequestMatcher;
 import com.bernardomg.security.springframework.web.jwt.JwtTokenFilter;
 import com.bernardomg.security.springframework.web.jwt.TokenAuthenticationParser;
-import com.bernardomg.security.springframework.web.jwt.TokenDetailsTokenAuthenticationParser;
+import com.bernardomg.security.springframework.web.jwt.TokenResolver;
+import com.bernardomg.security.springframework.web.whitelist.RouteMatcher;
 import com.bernardomg.security.springframework.web.whitelist.WhitelistCustomizer;
 import com.bernardomg.security.springframework.web.whitelist.WhitelistFilterSkipWrapper;
 import com.bernardomg.security.springframework.web.whitelist.WhitelistRoute;
+import com.bernardomg.security.springframework.web.whitelist.WhitelistRouteMatcher;
 
 import jakarta.servlet.Filter;
 
@@ -93,42 +96,53 @@ public SecurityExceptionHandler getSecurityExceptionHandler() {
 
     /**
      * Web security filter chain. Sets up all the authentication requirements for requests.
+     * <p>
+     * CSRF protection is only enabled when the token can be read from a cookie, as browsers send it on their own. Then
+     * state changing requests authenticated by the cookie need the CSRF token, which is sent to the client in the
+     * {@code XSRF-TOKEN} cookie, and has to be returned in the {@code X-XSRF-TOKEN} header.
      *
      * @param http
      *            HTTP security component
      * @param corsProperties
      *            CORS properties
+     * @param jwtProperties
+     *            JWT properties
      * @param securityConfigurers
      *            security configurers
-     * @param decoder
-     *            token decoder
+     * @param tokenResolver
+     *            token resolver
+     * @param tokenAuthenticationParser
+     *            token authentication parser
      * @param trustResolver
      *            trust resolver
      * @param userDetailsService
      *            user details service
      * @param whitelist
      *            routes whitelist
+     * @param whitelistMatcher
+     *            matcher for the whitelisted routes
      * @return web security filter chain with all authentication requirements
      * @throws Exception
      *             if the setup fails
      */
     @Bean("webSecurityFilterChain")
     public SecurityFilterChain getWebSecurityFilterChain(final HttpSecurity http, final CorsProperties corsProperties,
+            final JwtProperties jwtProperties,
             final Collection<SecurityConfigurer<DefaultSecurityFilterChain, HttpSecurity>> securityConfigurers,
-            final TokenDecoder decoder, final AuthenticationTrustResolver trustResolver,
-            final UserDetailsService userDetailsService, final Collection<WhitelistRoute> whitelist) throws Exception {
+            final TokenResolver tokenResolver, final TokenAuthenticationParser tokenAuthenticationParser,
+            final AuthenticationTrustResolver trustResolver, final UserDetailsService userDetailsService,
+            final Collection<WhitelistRoute> whitelist, final RouteMatcher whitelistMatcher) throws Exception {
         final CorsConfigurationSource                                                                              corsConfigurationSource;
         final Customizer<AuthorizeHttpRequestsConfigurer<HttpSecurity>.AuthorizationManagerRequestMatcherRegistry> whitelister;
         final JwtTokenFilter                                                                                       jwtFilter;
         final Filter                                                                                               jwtFilterWrapped;
-        final TokenAuthenticationParser                                                                            tokenAuthenticationParser;
+        final String                                                                                               cookie;
+        final CsrfTokenRequestAttributeHandler                                                                     csrfHandler;
 
         corsConfigurationSource = new CorsConfigurationPropertiesSource(corsProperties);
         whitelister = new WhitelistCustomizer(whitelist);
-        // TODO: move to JWT config
-        tokenAuthenticationParser = new TokenDetailsTokenAuthenticationParser(decoder);
-        jwtFilter = new JwtTokenFilter(trustResolver, new BearerHeaderTokenResolver(), tokenAuthenticationParser);
-        jwtFilterWrapped = new WhitelistFilterSkipWrapper(jwtFilter, whitelist);
+        jwtFilter = new JwtTokenFilter(trustResolver, tokenResolver, tokenAuthenticationParser);
+        jwtFilterWrapped = new WhitelistFilterSkipWrapper(jwtFilter, whitelistMatcher);
         http
             // Whitelist access
             .authorizeHttpRequests(whitelister)
@@ -137,8 +151,7 @@ public SecurityFilterChain getWebSecurityFilterChain(final HttpSecurity http, fi
                 .authenticated())
             // TODO: why is it using the basic auth filter?
             .addFilterBefore(jwtFilterWrapped, BasicAuthenticationFilter.class)
-            // CSRF and CORS
-            .csrf(CsrfConfigurer::disable)
+            // CORS
             .cors(cors -> cors.configurationSource(corsConfigurationSource))
             // Authentication error handling
             .exceptionHandling(handler -> handler.authenticationEntryPoint(new ErrorResponseAuthenticationEntryPoint()))
@@ -148,6 +161,22 @@ public SecurityFilterChain getWebSecurityFilterChain(final HttpSecurity http, fi
             .formLogin(FormLoginConfigurer::disable)
             .logout(LogoutConfigurer::disable);
 
+        // CSRF
+        cookie = jwtProperties.source()
+            .cookie();
+        if ((cookie != null) && !cookie.isBlank()) {
+            log.debug("Token cookie {} configured, enabling CSRF protection for it", cookie);
+            // The token is loaded on each request, so the client always has the CSRF cookie
+            csrfHandler = new CsrfTokenRequestAttributeHandler();
+            csrfHandler.setCsrfRequestAttributeName(null);
+            http.csrf(csrf -> csrf.csrfTokenRepository(CookieCsrfTokenRepository.withHttpOnlyFalse())
+                .csrfTokenRequestHandler(csrfHandler)
+                .requireCsrfProtectionMatcher(new CookieTokenCsrfRequestMatcher(cookie, jwtProperties.source()
+                    .header())));
+        } else {
+            http.csrf(CsrfConfigurer::disable);
+        }
+
         // Security configurers
         log.debug("Applying configurers: {}", securityConfigurers);
         for (final SecurityConfigurer<DefaultSecurityFilterChain, HttpSecurity> securityConfigurer : securityConfigurers) {
@@ -157,4 +186,9 @@ public SecurityFilterChain getWebSecurityFilterChain(final HttpSecurity http, fi
         return http.build();
     }
 
+    @Bean("whitelistRouteMatcher")
+    public RouteMatcher getWhitelistRouteMatcher(final Collection<WhitelistRoute> whitelist) {
+        return new WhitelistRouteMatcher(whitelist);
+    }
+
 }
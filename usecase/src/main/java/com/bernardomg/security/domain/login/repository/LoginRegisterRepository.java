@@ -24,6 +24,9 @@
 
 package com.bernardomg.security.domain.login.repository;
 
+import java.time.Instant;
+import java.util.Collection;
+
 import com.bernardomg.pagination.domain.Page;
 import com.bernardomg.pagination.domain.Pagination;
 import com.bernardomg.pagination.domain.Sorting;
@@ -36,6 +39,18 @@
  */
 public interface LoginRegisterRepository {
 
+    /**
+     * Removes the login registers made before the received date, up to the received limit. This allows removing old
+     * registers in small batches.
+     *
+     * @param date
+     *            date before which the registers are removed
+     * @param limit
+     *            maximum number of registers to remove
+     * @return the number of removed registers
+     */
+    public int deleteBefore(final Instant date, final int limit);
+
     /**
      * Returns all login registers.
      *
@@ -56,4 +71,13 @@ public interface LoginRegisterRepository {
      */
     public LoginRegister save(final LoginRegister register);
 
+    /**
+     * Saves all the login registers at once. These are always stored as new registers.
+     *
+     * @param registers
+     *            login registers to save
+     * @return newly created login registers
+     */
+    public Collection<LoginRegister> saveAll(final Collection<LoginRegister> registers);
+
 }
@@ -24,6 +24,11 @@
 
 package com.bernardomg.security.domain.permission.exception;
 
+import java.util.Collection;
+import java.util.List;
+
+import com.bernardomg.security.domain.permission.model.ResourcePermission;
+
 /**
  * Missing resource permission exception.
  *
@@ -32,17 +37,30 @@
  */
 public final class MissingResourcePermissionException extends RuntimeException {
 
-    private static final long serialVersionUID = 2786821546505029631L;
+    private static final long                    serialVersionUID = 2786821546505029631L;
 
     /**
      * Id which caused the exception.
      */
-    private final String      name;
+    private final String                         name;
+
+    /**
+     * Permissions which are missing.
+     */
+    private final Collection<ResourcePermission> permissions;
 
     public MissingResourcePermissionException(final String name) {
         super(String.format("Missing id %s for resource permission", name));
 
         this.name = name;
+        permissions = List.of();
+    }
+
+    public MissingResourcePermissionException(final String name, final Collection<ResourcePermission> missing) {
+        super(String.format("Missing resource permissions %s for %s", missing, name));
+
+        this.name = name;
+        permissions = List.copyOf(missing);
     }
 
     /**
@@ -54,4 +72,13 @@ public final String getName() {
         return name;
     }
 
+    /**
+     * Returns the permissions which are missing.
+     *
+     * @return the permissions which are missing
+     */
+    public final Collection<ResourcePermission> getPermissions() {
+        return permissions;
+    }
+
 }
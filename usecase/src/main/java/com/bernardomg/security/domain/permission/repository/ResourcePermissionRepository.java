@@ -67,6 +67,15 @@ public interface ResourcePermissionRepository {
      */
     public Page<ResourcePermission> findAll(final Pagination pagination, final Sorting sorting);
 
+    /**
+     * Returns the received permissions which exist, checking all of them at once.
+     *
+     * @param permissions
+     *            permissions to check
+     * @return the received permissions which exist
+     */
+    public Collection<ResourcePermission> findExisting(final Collection<ResourcePermission> permissions);
+
     /**
      * Saves the received permissions. If they exist these are updated, otherwise they are created.
      *
@@ -24,6 +24,7 @@
 
 package com.bernardomg.security.domain.role.repository;
 
+import java.util.Collection;
 import java.util.Optional;
 
 import com.bernardomg.pagination.domain.Page;
@@ -69,6 +70,16 @@ public interface RoleRepository {
      */
     public Page<Role> findAll(final RoleFilter query, final Pagination pagination, final Sorting sorting);
 
+    /**
+     * Returns the received role names which exist, checking all of them at once. Names are compared ignoring case, and
+     * returned as received.
+     *
+     * @param names
+     *            names of the roles to check
+     * @return the received names for the roles which exist
+     */
+    public Collection<String> findExistingNames(final Collection<String> names);
+
     /**
      * Returns the role for the received name.
      *
@@ -31,6 +31,7 @@
 import com.bernardomg.pagination.domain.Sorting;
 import com.bernardomg.security.domain.user.filter.UserFilter;
 import com.bernardomg.security.domain.user.model.User;
+import com.bernardomg.security.domain.user.model.UserAuthenticationDetails;
 
 /**
  * User repository.
@@ -108,6 +109,26 @@ public interface UserRepository {
      */
     public Page<User> findAll(final UserFilter query, final Pagination pagination, final Sorting sorting);
 
+    /**
+     * Returns the data required to authenticate the user with the received username. This includes the credentials,
+     * status flags and effective permissions.
+     *
+     * @param username
+     *            username to search for
+     * @return the authentication details for the user
+     */
+    public Optional<UserAuthenticationDetails> findAuthenticationDetails(final String username);
+
+    /**
+     * Returns the data required to authenticate the user with the received email. This includes the credentials,
+     * status flags and effective permissions.
+     *
+     * @param email
+     *            email to search for
+     * @return the authentication details for the user
+     */
+    public Optional<UserAuthenticationDetails> findAuthenticationDetailsByEmail(final String email);
+
     public Optional<Long> findIdByUsername(final String username);
 
     /**
@@ -146,6 +167,15 @@ public interface UserRepository {
      */
     public Optional<String> findPassword(final String username);
 
+    /**
+     * Returns the token epoch for the user. Tokens issued with an older epoch are no longer valid.
+     *
+     * @param username
+     *            user to search for the token epoch
+     * @return the token epoch for the user
+     */
+    public Optional<Long> findTokenEpoch(final String username);
+
     /**
      * Increases the number of login attempts and returns the new number.
      *
@@ -156,7 +186,30 @@ public interface UserRepository {
     public int increaseLoginAttempts(final String username);
 
     /**
-     * Locks the received user.
+     * Increases the number of login attempts and returns the new number. If this number reaches the received maximum,
+     * the user is locked, and its token epoch increased.
+     * <p>
+     * Both changes are applied atomically, so concurrent calls for the same user never lose an attempt.
+     *
+     * @param username
+     *            user to increase the login attempts
+     * @param maxAttempts
+     *            number of login attempts which locks the user
+     * @return number of login attempts for the user, if it doesn't exist then the value is negative
+     */
+    public int increaseLoginAttempts(final String username, final int maxAttempts);
+
+    /**
+     * Increases the token epoch for all the users with the role. This invalidates all the tokens issued to them.
+     *
+     * @param role
+     *            role to increase the token epoch for
+     * @return the number of updated users
+     */
+    public int increaseTokenEpochByRole(final String role);
+
+    /**
+     * Locks the received user. This increases its token epoch, so the tokens issued to the user are no longer valid.
      *
      * @param username
      *            user to lock
@@ -165,7 +218,8 @@ public interface UserRepository {
     public User lock(final String username);
 
     /**
-     * Resets the password for the user, this includes disabling the password expired flag.
+     * Resets the password for the user, this includes disabling the password expired flag. This increases its token
+     * epoch, so the tokens issued to the user are no longer valid.
      *
      * @param username
      *            user to refresh the password
@@ -176,7 +230,20 @@ public interface UserRepository {
     public User resetPassword(final String username, final String password);
 
     /**
-     * Updates an existing user.
+     * Replaces the stored password hash for the user. Nothing else is changed, so this is meant for upgrading the hash
+     * of a password which is already known to be valid.
+     *
+     * @param username
+     *            user to update
+     * @param password
+     *            new password hash
+     * @return {@code true} if the user exists, {@code false} otherwise
+     */
+    public boolean updatePasswordHash(final String username, final String password);
+
+    /**
+     * Updates an existing user. If its roles change, or it is disabled or locked, this increases its token epoch, so
+     * the tokens issued to the user are no longer valid.
      *
      * @param user
      *            the user to update
@@ -24,6 +24,7 @@
 
 package com.bernardomg.security.domain.user.repository;
 
+import java.time.Instant;
 import java.util.Collection;
 import java.util.Optional;
 
@@ -40,7 +41,35 @@
 public interface UserTokenRepository {
 
     /**
-     * Returns all the tokens paginated.
+     * Consumes the token, if it is valid for the scope, and returns the username for it. A token is valid if it is not
+     * consumed, not revoked and not expired.
+     * <p>
+     * This is done in a single operation, so a token can't be consumed twice.
+     *
+     * @param token
+     *            token code to consume
+     * @param scope
+     *            token scope
+     * @return the username for the consumed token, or an empty optional if no valid token was consumed
+     */
+    public Optional<String> consume(final String token, final String scope);
+
+    /**
+     * Removes the tokens expired before the received date, up to the received limit. This allows removing old tokens in
+     * small batches.
+     *
+     * @param date
+     *            date before which the tokens expired
+     * @param limit
+     *            maximum number of tokens to remove
+     * @return the number of removed tokens
+     */
+    public int deleteExpired(final Instant date, final int limit);
+
+    /**
+     * Returns all the tokens paginated. The token codes are not stored, so the tokens contain the digest of their code
+     * instead. This digest can be used to read and update the tokens, through {@link #findOneByDigest(String)} and
+     * {@link #updateByDigest(UserToken)}.
      *
      * @param pagination
      *            pagination to apply
@@ -50,17 +79,6 @@ public interface UserTokenRepository {
      */
     public Page<UserToken> findAll(final Pagination pagination, final Sorting sorting);
 
-    /**
-     * Returns all the tokens which are not revoked for a user and scope.
-     *
-     * @param username
-     *            user with the tokens
-     * @param scope
-     *            token scope
-     * @return all the tokens which are not revoked for a user and scope.
-     */
-    public Collection<UserToken> findAllNotRevoked(final String username, final String scope);
-
     /**
      * Returns the token for the received token code.
      *
@@ -70,6 +88,16 @@ public interface UserTokenRepository {
      */
     public Optional<UserToken> findOne(final String token);
 
+    /**
+     * Returns the token for the received code digest, as returned by {@link #findAll(Pagination, Sorting)}. The
+     * returned token contains the digest instead of the code.
+     *
+     * @param digest
+     *            digest of the token code to search for
+     * @return the token for the received digest
+     */
+    public Optional<UserToken> findOneByDigest(final String digest);
+
     /**
      * Returns the token for the received token code and scope.
      *
@@ -82,7 +110,20 @@ public interface UserTokenRepository {
     public Optional<UserToken> findOneByScope(final String token, final String scope);
 
     /**
-     * Saves the received token. If it exists it is updated, otherwise it is created.
+     * Revokes all the tokens which are not revoked for a user and scope.
+     *
+     * @param username
+     *            user with the tokens
+     * @param scope
+     *            token scope
+     * @return the number of revoked tokens
+     */
+    public int revokeAll(final String username, final String scope);
+
+    /**
+     * Saves the received token. If it exists it is updated, otherwise it is created. Fails with a
+     * {@link com.bernardomg.security.domain.user.exception.MissingUsernameException MissingUsernameException} if the
+     * token user doesn't exist, as nothing is stored then.
      *
      * @param token
      *            token to save
@@ -91,7 +132,9 @@ public interface UserTokenRepository {
     public UserToken save(final UserToken token);
 
     /**
-     * Saves all the received tokens. If they exists they are updated, otherwise they are created.
+     * Saves all the received tokens. If they exists they are updated, otherwise they are created. Fails with a
+     * {@link com.bernardomg.security.domain.user.exception.MissingUsernameException MissingUsernameException} if the
+     * user of any token doesn't exist, and then none of the tokens are stored.
      *
      * @param tokens
      *            tokens to save
@@ -99,4 +142,16 @@ public interface UserTokenRepository {
      */
     public Collection<UserToken> saveAll(final Collection<UserToken> tokens);
 
+    /**
+     * Updates the token identified by the code digest it contains, as returned by
+     * {@link #findAll(Pagination, Sorting)}. The expiration date, consumed and revoked flags are updated. Fails with a
+     * {@link com.bernardomg.security.domain.user.exception.MissingUserTokenException MissingUserTokenException} if the
+     * token doesn't exist.
+     *
+     * @param token
+     *            token to update, containing the digest of its code
+     * @return the updated token
+     */
+    public UserToken updateByDigest(final UserToken token);
+
 }
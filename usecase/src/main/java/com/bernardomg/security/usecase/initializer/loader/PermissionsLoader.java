@@ -26,6 +26,7 @@
 
 import java.io.InputStream;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Predicate;
@@ -108,7 +109,7 @@ public final void load() {
         // TODO: Load default actions
         // Load actions
         log.debug("Saving actions");
-        actionNames = actionRepository.findAllNames();
+        actionNames = new HashSet<>(actionRepository.findAllNames());
         actions = permissionConfigs.stream()
             .map(PermissionConfig::getActions)
             .flatMap(Collection::stream)
@@ -123,7 +124,7 @@ public final void load() {
         // Load resources
         // TODO: maybe they should be defined elsewhere like the actions
         log.debug("Saving resources");
-        resourceNames = resourceRepository.findAllNames();
+        resourceNames = new HashSet<>(resourceRepository.findAllNames());
         resources = permissionConfigs.stream()
             .map(PermissionConfig::getPermissions)
             .flatMap(Collection::stream)
@@ -143,18 +144,16 @@ public final void load() {
     }
 
     private final void loadPermissions() {
-        final List<ResourcePermission> permissions;
-        final Collection<String>       actionNames;
-        final Collection<String>       resourceNames;
-        final Collection<String>       permissionNames;
+        final List<ResourcePermission>       permissions;
+        final Collection<String>             actionNames;
+        final Collection<String>             resourceNames;
+        final Collection<ResourcePermission> existing;
 
         log.debug("Saving permissions");
-        actionNames = actionRepository.findAllNames();
-        resourceNames = resourceRepository.findAllNames();
-        permissionNames = resourcePermissionRepository.findAll()
-            .stream()
-            .map(this::toName)
-            .toList();
+        // Hash sets, as every permission in the configuration is checked against them
+        actionNames = new HashSet<>(actionRepository.findAllNames());
+        resourceNames = new HashSet<>(resourceRepository.findAllNames());
+        existing = new HashSet<>(resourcePermissionRepository.findAll());
         permissions = permissionConfigs.stream()
             .map(PermissionConfig::getPermissions)
             .flatMap(Collection::stream)
@@ -163,7 +162,7 @@ private final void loadPermissions() {
             .distinct()
             .filter(p -> actionNames.contains(p.action()))
             .filter(p -> resourceNames.contains(p.resource()))
-            .filter(p -> !permissionNames.contains(toName(p)))
+            .filter(Predicate.not(existing::contains))
             .toList();
         resourcePermissionRepository.saveAll(permissions);
         log.debug("Saved permissions");
@@ -182,10 +181,6 @@ private final PermissionConfig readPermissions(final InputStream permissions) {
         return config;
     }
 
-    private final String toName(final ResourcePermission permission) {
-        return String.format("%s:%s", permission.resource(), permission.action());
-    }
-
     private final Collection<ResourcePermission> toResourcePermission(final ResourcePermissionConfig config) {
         return config.getActions()
             .stream()
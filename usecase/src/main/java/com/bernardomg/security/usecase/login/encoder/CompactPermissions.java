@@ -0,0 +1,258 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.security.usecase.login.encoder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Compact encoding for the permissions claim. Instead of repeating the actions for each resource, the actions are
+ * listed once, and each resource receives a bitmask of its actions.
+ * <h2>Format</h2>
+ * <p>
+ * The encoded value is {@code version|actions|resources}, where:
+ * <ul>
+ * <li>{@code version} is the format version, currently {@value #VERSION}</li>
+ * <li>{@code actions} is the sorted list of actions, separated by commas</li>
+ * <li>{@code resources} is the sorted list of resources, separated by commas, each one as {@code resource:mask}. The
+ * mask is written in hexadecimal, and bit {@code n} marks the action at position {@code n}</li>
+ * </ul>
+ * <p>
+ * For example, {@code {"USER": ["CREATE", "READ"], "ROLE": ["READ"]}} is encoded as
+ * {@code 1|CREATE,READ|ROLE:2,USER:3}.
+ * <p>
+ * The encoding is self-contained, so no dictionary has to be shared between the nodes. Permissions which can't be
+ * encoded, as they contain a separator or there are more than 64 actions, are rejected.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class CompactPermissions {
+
+    /**
+     * Claim, stored in the token values, which contains the compact permissions.
+     */
+    public static final String CLAIM       = "cperm";
+
+    /**
+     * Current format version.
+     */
+    public static final String VERSION     = "1";
+
+    /**
+     * Separator between elements in a section.
+     */
+    private static final char  ELEMENT     = ',';
+
+    /**
+     * Separator between a resource and its mask.
+     */
+    private static final char  MASK        = ':';
+
+    /**
+     * Maximum number of actions. Limited by the mask size.
+     */
+    private static final int   MAX_ACTIONS = Long.SIZE;
+
+    /**
+     * Separator between the format sections.
+     */
+    private static final char  SECTION     = '|';
+
+    /**
+     * Decodes the compact permissions into a map, with the resource as key, and the list of actions as value.
+     *
+     * @param encoded
+     *            compact permissions to decode
+     * @return the permissions map
+     * @throws IllegalArgumentException
+     *             if the value is not valid compact permissions
+     */
+    public static final Map<String, List<String>> decode(final String encoded) {
+        final Map<String, List<String>> permissions;
+        final int                       actionsEnd;
+        final int                       versionEnd;
+        final List<String>              actions;
+        List<String>                    resourceActions;
+        String                          resource;
+        long                            mask;
+        int                             start;
+        int                             end;
+        int                             separator;
+
+        versionEnd = encoded.indexOf(SECTION);
+        if ((versionEnd < 0) || !VERSION.equals(encoded.substring(0, versionEnd))) {
+            throw new IllegalArgumentException("Unsupported compact permissions version");
+        }
+        actionsEnd = encoded.indexOf(SECTION, versionEnd + 1);
+        if (actionsEnd < 0) {
+            throw new IllegalArgumentException("Missing compact permissions resources");
+        }
+
+        actions = split(encoded, versionEnd + 1, actionsEnd);
+
+        permissions = new HashMap<>();
+        start = actionsEnd + 1;
+        while (start < encoded.length()) {
+            end = encoded.indexOf(ELEMENT, start);
+            if (end < 0) {
+                end = encoded.length();
+            }
+            separator = encoded.lastIndexOf(MASK, end - 1);
+            if (separator < start) {
+                throw new IllegalArgumentException("Missing compact permissions mask");
+            }
+
+            resource = encoded.substring(start, separator);
+            mask = Long.parseUnsignedLong(encoded, separator + 1, end, 16);
+            if ((Long.SIZE - Long.numberOfLeadingZeros(mask)) > actions.size()) {
+                throw new IllegalArgumentException("Compact permissions mask references unknown actions");
+            }
+
+            resourceActions = new ArrayList<>(Long.bitCount(mask));
+            for (int i = 0; i < actions.size(); i++) {
+                if ((mask & (1L << i)) != 0) {
+                    resourceActions.add(actions.get(i));
+                }
+            }
+            permissions.put(resource, List.copyOf(resourceActions));
+
+            start = end + 1;
+        }
+
+        return permissions;
+    }
+
+    /**
+     * Encodes the permissions map, with the resource as key, and the list of actions as value. If the permissions can't
+     * be encoded, then an empty optional is returned.
+     *
+     * @param permissions
+     *            permissions to encode
+     * @return the compact permissions, or an empty optional if they can't be encoded
+     */
+    public static final Optional<String> encode(final Map<String, ? extends Collection<String>> permissions) {
+        final Map<String, Integer>                      actionIndexes;
+        final TreeSet<String>                           actions;
+        final Map<String, ? extends Collection<String>> sorted;
+        final StringBuilder                             encoded;
+        final Optional<String>                          result;
+        long                                            mask;
+        boolean                                         first;
+
+        actions = new TreeSet<>();
+        permissions.values()
+            .forEach(actions::addAll);
+        sorted = new TreeMap<>(permissions);
+
+        if ((actions.size() > MAX_ACTIONS) || !actions.stream()
+            .allMatch(CompactPermissions::isEncodable)
+                || !sorted.keySet()
+                    .stream()
+                    .allMatch(CompactPermissions::isEncodable)) {
+            result = Optional.empty();
+        } else {
+            encoded = new StringBuilder();
+            encoded.append(VERSION)
+                .append(SECTION);
+
+            actionIndexes = new HashMap<>();
+            first = true;
+            for (final String action : actions) {
+                if (!first) {
+                    encoded.append(ELEMENT);
+                }
+                actionIndexes.put(action, actionIndexes.size());
+                encoded.append(action);
+                first = false;
+            }
+            encoded.append(SECTION);
+
+            first = true;
+            for (final Map.Entry<String, ? extends Collection<String>> entry : sorted.entrySet()) {
+                if (!entry.getValue()
+                    .isEmpty()) {
+                    mask = 0;
+                    for (final String action : entry.getValue()) {
+                        mask |= 1L << actionIndexes.get(action);
+                    }
+                    if (!first) {
+                        encoded.append(ELEMENT);
+                    }
+                    encoded.append(entry.getKey())
+                        .append(MASK)
+                        .append(Long.toHexString(mask));
+                    first = false;
+                }
+            }
+
+            result = Optional.of(encoded.toString());
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks if the name can be encoded. It can't be empty, or contain any separator.
+     *
+     * @param value
+     *            name to check
+     * @return {@code true} if the name can be encoded, {@code false} otherwise
+     */
+    private static final boolean isEncodable(final String value) {
+        return !value.isEmpty() && (value.indexOf(SECTION) < 0) && (value.indexOf(ELEMENT) < 0)
+                && (value.indexOf(MASK) < 0);
+    }
+
+    private static final List<String> split(final String value, final int start, final int end) {
+        final List<String> elements;
+        int                begin;
+        int                next;
+
+        elements = new ArrayList<>();
+        begin = start;
+        while (begin < end) {
+            next = value.indexOf(ELEMENT, begin);
+            if ((next < 0) || (next > end)) {
+                next = end;
+            }
+            elements.add(value.substring(begin, next));
+            begin = next + 1;
+        }
+
+        return elements;
+    }
+
+    private CompactPermissions() {
+        super();
+    }
+
+}
@@ -3,9 +3,12 @@
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -15,48 +18,98 @@
 import com.bernardomg.jwt.encoding.JwtTokenData;
 import com.bernardomg.jwt.encoding.TokenEncoder;
 import com.bernardomg.security.domain.permission.model.ResourcePermission;
+import com.bernardomg.security.domain.user.repository.UserRepository;
 import com.bernardomg.security.usecase.login.domain.LoginUser;
 
 /**
  * Encodes a JWT token including the permissions for the user.
+ * <p>
+ * The permissions can be stored in compact form, as defined by {@link CompactPermissions}. In this case the plain
+ * permissions claim is left empty. If the permissions can't be compacted, they are stored as usual.
+ * <p>
+ * If the user repository is received, the current token epoch of the user is stored in the {@link #EPOCH_CLAIM}
+ * claim. This allows invalidating all the tokens of a user by increasing the epoch.
  *
  * @author Bernardo Mart&iacute;nez Garrido
  *
  */
 public class JwtPermissionLoginTokenEncoder implements LoginTokenEncoder {
 
+    /**
+     * Claim for the user token epoch.
+     */
+    public static final String             EPOCH_CLAIM = "epoch";
+
     /**
      * Logger for the class.
      */
-    private static final Logger log = LoggerFactory.getLogger(JwtPermissionLoginTokenEncoder.class);
+    private static final Logger            log         = LoggerFactory.getLogger(JwtPermissionLoginTokenEncoder.class);
+
+    /**
+     * Compact permissions flag. If active, the permissions are stored in compact form.
+     */
+    private final boolean                  compactPermissions;
 
     /**
      * Token encoder for creating authentication tokens.
      */
-    private final TokenEncoder  tokenEncoder;
+    private final TokenEncoder             tokenEncoder;
+
+    /**
+     * User repository, to read the token epoch. If missing, the epoch claim is not added.
+     */
+    private final Optional<UserRepository> userRepository;
 
     /**
      * Token validity time in seconds.
      */
-    private final Duration      validity;
+    private final Duration                 validity;
 
     public JwtPermissionLoginTokenEncoder(final TokenEncoder tknEncoder, final Duration vldt) {
+        this(tknEncoder, vldt, false);
+    }
+
+    public JwtPermissionLoginTokenEncoder(final TokenEncoder tknEncoder, final Duration vldt, final boolean compact) {
         super();
 
         tokenEncoder = Objects.requireNonNull(tknEncoder);
         validity = Objects.requireNonNull(vldt);
+        compactPermissions = compact;
+        userRepository = Optional.empty();
+    }
+
+    public JwtPermissionLoginTokenEncoder(final TokenEncoder tknEncoder, final Duration vldt, final boolean compact,
+            final UserRepository userRepo) {
+        super();
+
+        tokenEncoder = Objects.requireNonNull(tknEncoder);
+        validity = Objects.requireNonNull(vldt);
+        compactPermissions = compact;
+        userRepository = Optional.of(userRepo);
     }
 
     @Override
     public final String encode(final LoginUser user) {
+        final Map<String, List<String>> userPermissions;
         final Map<String, List<String>> permissions;
+        final Optional<String>          compact;
         final Instant                   expiration;
         final Instant                   issuedAt;
         final String                    token;
         final JwtTokenData              data;
         final Map<String, String>       values;
-
-        permissions = getPermissionsMap(user);
+        final Optional<Long>            epoch;
+        final String                    id;
+
+        userPermissions = getPermissionsMap(user);
+        if (compactPermissions) {
+            compact = CompactPermissions.encode(userPermissions);
+            if (compact.isEmpty()) {
+                log.warn("Permissions for {} can't be compacted, they will be stored as usual", user.username());
+            }
+        } else {
+            compact = Optional.empty();
+        }
 
         // Issued right now
         issuedAt = Instant.now();
@@ -65,12 +118,26 @@ public final String encode(final LoginUser user) {
             .plus(validity);
 
         // TODO: Add roles?
-        values = Map.of("id", String.valueOf(user.id()));
+        values = new HashMap<>();
+        values.put("id", String.valueOf(user.id()));
+        if (compact.isPresent()) {
+            permissions = Map.of();
+            values.put(CompactPermissions.CLAIM, compact.get());
+        } else {
+            permissions = userPermissions;
+        }
+
+        // The epoch allows invalidating all the tokens of the user at once
+        epoch = userRepository.flatMap(repo -> repo.findTokenEpoch(user.username()));
+        epoch.ifPresent(e -> values.put(EPOCH_CLAIM, String.valueOf(e)));
 
         // Build token data for the wrapped encoder
         // TODO: Test that permissions are added
         // TODO: Test that id is added
-        data = new JwtTokenData("", user.username(), "", issuedAt, issuedAt, expiration, List.of(), permissions,
+        // Each token gets its own id, so it can be revoked
+        id = UUID.randomUUID()
+            .toString();
+        data = new JwtTokenData(id, user.username(), "", issuedAt, issuedAt, expiration, List.of(), permissions,
             values);
 
         token = tokenEncoder.encode(data);
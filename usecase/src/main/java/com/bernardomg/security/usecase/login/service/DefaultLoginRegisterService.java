@@ -25,6 +25,7 @@
 package com.bernardomg.security.usecase.login.service;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.Objects;
 
 import org.slf4j.Logger;
@@ -85,4 +86,13 @@ public final void register(final String username, final boolean logged) {
         log.trace("Registered log in attempt for user {} and status {}", username, logged);
     }
 
+    @Override
+    public final void registerAll(final Collection<LoginRegister> registers) {
+        log.trace("Registering {} log in attempts", registers.size());
+
+        loginRegisterRepository.saveAll(registers);
+
+        log.trace("Registered {} log in attempts", registers.size());
+    }
+
 }
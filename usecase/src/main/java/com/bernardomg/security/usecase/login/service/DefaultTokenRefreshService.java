@@ -0,0 +1,153 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.security.usecase.login.service;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.bernardomg.security.domain.login.model.TokenLoginStatus;
+import com.bernardomg.security.domain.user.exception.ConsumedTokenException;
+import com.bernardomg.security.domain.user.exception.InvalidTokenException;
+import com.bernardomg.security.domain.user.exception.MissingUserTokenException;
+import com.bernardomg.security.domain.user.model.UserAuthenticationDetails;
+import com.bernardomg.security.domain.user.repository.UserRepository;
+import com.bernardomg.security.usecase.login.domain.LoginUser;
+import com.bernardomg.security.usecase.login.encoder.LoginTokenEncoder;
+import com.bernardomg.security.usecase.user.store.UserTokenStore;
+
+import jakarta.transaction.Transactional;
+
+/**
+ * Default token refresh service. The refresh tokens are user tokens, handled by a {@link UserTokenStore} scoped for
+ * refresh tokens.
+ * <h2>Rotation</h2>
+ * <p>
+ * Each refresh token is used once. When it is exchanged it is consumed, and a new refresh token is returned along the
+ * new access token. If a consumed refresh token is received again, it may have been stolen, so all the refresh tokens
+ * for the user are revoked, and the user has to log in again.
+ * <p>
+ * The refresh token is consumed before anything else, in a single statement which also returns its user. So the token
+ * is spent even if the refresh is then rejected because of the user status.
+ * <h2>User status</h2>
+ * <p>
+ * The user is read again, but the password is not checked. The refresh is rejected if the user can no longer log in,
+ * and the new token contains the current user permissions.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@Transactional
+public final class DefaultTokenRefreshService implements TokenRefreshService {
+
+    /**
+     * Logger for the class.
+     */
+    private static final Logger     log = LoggerFactory.getLogger(DefaultTokenRefreshService.class);
+
+    /**
+     * Access token encoder.
+     */
+    private final LoginTokenEncoder loginTokenEncoder;
+
+    /**
+     * Refresh token store.
+     */
+    private final UserTokenStore    refreshTokenStore;
+
+    /**
+     * User repository.
+     */
+    private final UserRepository    userRepository;
+
+    public DefaultTokenRefreshService(final UserTokenStore refreshStore, final UserRepository userRepo,
+            final LoginTokenEncoder loginTokenEnc) {
+        super();
+
+        refreshTokenStore = Objects.requireNonNull(refreshStore);
+        userRepository = Objects.requireNonNull(userRepo);
+        loginTokenEncoder = Objects.requireNonNull(loginTokenEnc);
+    }
+
+    @Override
+    public final TokenLoginStatus refresh(final String refreshToken) {
+        final String                              username;
+        final Optional<UserAuthenticationDetails> user;
+        final String                              token;
+        final String                              newRefreshToken;
+        TokenLoginStatus                          status;
+
+        log.trace("Refreshing token");
+
+        try {
+            username = refreshTokenStore.consumeToken(refreshToken);
+
+            user = userRepository.findAuthenticationDetails(username)
+                .filter(this::canLogIn);
+            if (user.isPresent()) {
+                newRefreshToken = refreshTokenStore.createToken(username);
+                token = loginTokenEncoder.encode(toLoginUser(user.get()));
+
+                status = new TokenLoginStatus(true, token, newRefreshToken);
+
+                log.debug("Refreshed token for {}", username);
+            } else {
+                log.debug("User {} can't log in, rejecting refresh", username);
+                status = new TokenLoginStatus(false, "");
+            }
+        } catch (final ConsumedTokenException exception) {
+            log.warn("Received an already used refresh token, revoking all the refresh tokens for its user");
+            refreshTokenStore.revokeExistingTokens(exception.getUsername());
+            status = new TokenLoginStatus(false, "");
+        } catch (final InvalidTokenException | MissingUserTokenException exception) {
+            log.debug("Invalid refresh token", exception);
+            status = new TokenLoginStatus(false, "");
+        }
+
+        log.trace("Finished token refresh");
+
+        return status;
+    }
+
+    /**
+     * Checks if the user can still log in. This mirrors the checks applied on login, except for the password.
+     *
+     * @param user
+     *            user to check
+     * @return {@code true} if the user can log in, {@code false} otherwise
+     */
+    private final boolean canLogIn(final UserAuthenticationDetails user) {
+        return user.enabled() && user.notExpired() && user.notLocked() && user.passwordNotExpired()
+                && !user.permissions()
+                    .isEmpty();
+    }
+
+    private final LoginUser toLoginUser(final UserAuthenticationDetails user) {
+        return new LoginUser(user.id(), user.email(), user.username(), user.name(), user.permissions());
+    }
+
+}
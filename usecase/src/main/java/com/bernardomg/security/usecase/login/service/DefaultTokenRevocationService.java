@@ -0,0 +1,134 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.security.usecase.login.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.bernardomg.security.domain.login.model.TokenRevocation;
+import com.bernardomg.security.domain.login.repository.TokenRevocationRepository;
+
+import jakarta.transaction.Transactional;
+
+/**
+ * Default implementation of the token revocation service.
+ * <p>
+ * The tokens of a user are revoked until the longest a token issued right now may live, which is the token validity.
+ */
+@Transactional
+public final class DefaultTokenRevocationService implements TokenRevocationService {
+
+    /**
+     * Logger for the class.
+     */
+    private static final Logger             log = LoggerFactory.getLogger(DefaultTokenRevocationService.class);
+
+    /**
+     * Clock for the revocation dates.
+     */
+    private final Clock                     clock;
+
+    /**
+     * Revocations repository.
+     */
+    private final TokenRevocationRepository tokenRevocationRepository;
+
+    /**
+     * Token validity. Revocations for all the tokens of a user are kept this long.
+     */
+    private final Duration                  validity;
+
+    public DefaultTokenRevocationService(final TokenRevocationRepository tokenRevocationRepo, final Duration vldt) {
+        this(tokenRevocationRepo, vldt, Clock.systemUTC());
+    }
+
+    public DefaultTokenRevocationService(final TokenRevocationRepository tokenRevocationRepo, final Duration vldt,
+            final Clock clck) {
+        super();
+
+        tokenRevocationRepository = Objects.requireNonNull(tokenRevocationRepo);
+        validity = Objects.requireNonNull(vldt);
+        clock = Objects.requireNonNull(clck);
+    }
+
+    @Override
+    public final Collection<TokenRevocation> getRevokedSince(final Instant since) {
+        final Collection<TokenRevocation> revocations;
+
+        log.trace("Reading token revocations since {}", since);
+
+        revocations = tokenRevocationRepository.findAllRevokedSince(since, clock.instant());
+
+        log.trace("Read {} token revocations since {}", revocations.size(), since);
+
+        return revocations;
+    }
+
+    @Override
+    public final int purgeExpired() {
+        final int purged;
+
+        log.trace("Purging expired token revocations");
+
+        purged = tokenRevocationRepository.deleteExpired(clock.instant());
+
+        log.trace("Purged {} expired token revocations", purged);
+
+        return purged;
+    }
+
+    @Override
+    public final void revokeToken(final String id, final Instant expiration) {
+        final TokenRevocation revocation;
+
+        log.debug("Revoking token {}", id);
+
+        revocation = new TokenRevocation(TokenRevocation.tokenKey(id), clock.instant(), expiration);
+        tokenRevocationRepository.save(revocation);
+
+        log.debug("Revoked token {}", id);
+    }
+
+    @Override
+    public final void revokeUserTokens(final String username) {
+        final TokenRevocation revocation;
+        final Instant         now;
+
+        log.debug("Revoking tokens for user {}", username);
+
+        now = clock.instant();
+        revocation = new TokenRevocation(TokenRevocation.subjectKey(username), now, now.plus(validity));
+        tokenRevocationRepository.save(revocation);
+
+        log.debug("Revoked tokens for user {}", username);
+    }
+
+}
@@ -25,12 +25,13 @@
 package com.bernardomg.security.usecase.login.service;
 
 import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.bernardomg.security.domain.user.exception.MissingUsernameException;
-import com.bernardomg.security.domain.user.model.User;
+import com.bernardomg.event.emitter.EventEmitter;
+import com.bernardomg.security.domain.user.event.UserTokenEpochEvent;
 import com.bernardomg.security.domain.user.repository.UserRepository;
 
 import jakarta.transaction.Transactional;
@@ -44,7 +45,17 @@ public final class DefaultUserLoginAttempsService implements UserLoginAttempsSer
     /**
      * Logger for the class.
      */
-    private static final Logger  log = LoggerFactory.getLogger(DefaultUserLoginAttempsService.class);
+    private static final Logger  log      = LoggerFactory.getLogger(DefaultUserLoginAttempsService.class);
+
+    /**
+     * Event emitter. Notifies when locking a user increases its token epoch.
+     */
+    private final EventEmitter   eventEmitter;
+
+    /**
+     * Number of locked users.
+     */
+    private final LongAdder      lockouts = new LongAdder();
 
     /**
      * Max login attempts. Once the user reaches this number, it is locked.
@@ -56,37 +67,35 @@ public final class DefaultUserLoginAttempsService implements UserLoginAttempsSer
      */
     private final UserRepository userRepository;
 
-    public DefaultUserLoginAttempsService(final int maxAttmp, final UserRepository userRepo) {
+    public DefaultUserLoginAttempsService(final int maxAttmp, final UserRepository userRepo,
+            final EventEmitter eventEmit) {
         super();
 
         maxAttempts = Objects.requireNonNull(maxAttmp);
         userRepository = Objects.requireNonNull(userRepo);
+        eventEmitter = Objects.requireNonNull(eventEmit);
     }
 
     @Override
     public final void checkForLocking(final String username) {
-        final int  attempts;
-        final User user;
+        final int attempts;
 
         log.trace("Checking user {} for locking", username);
 
-        // Get number of attempts
-        attempts = userRepository.increaseLoginAttempts(username);
+        // Increases the attempts, and locks the user when reaching the max, in a single operation
+        attempts = userRepository.increaseLoginAttempts(username, maxAttempts);
 
-        // If attempts reached the max
         if (attempts < 0) {
             log.debug("User {} doesn't exist, can't be locked", username);
         } else if (attempts >= maxAttempts) {
-            // Then the user is locked
-            user = userRepository.findOne(username)
-                .orElseThrow(() -> {
-                    log.error("Missing user {}", username);
-                    throw new MissingUsernameException(username);
-                });
-            // TODO: then, read just the username
-            userRepository.lock(user.username());
             log.debug("User {} had {} login attempts out of a max of {}. Has been locked", username, attempts,
                 maxAttempts);
+            if (attempts == maxAttempts) {
+                // Only the attempt reaching the max locks the user, the next ones find it already locked
+                lockouts.increment();
+                // Locking increased the token epoch
+                eventEmitter.emit(new UserTokenEpochEvent(null, username));
+            }
         } else {
             log.debug("User {} had {} login attempts out of a max of {}. Won't be locked", username, attempts,
                 maxAttempts);
@@ -112,4 +121,13 @@ public final void clearLoginAttempts(final String username) {
         log.trace("Cleared login attempts for {}", username);
     }
 
+    /**
+     * Returns the number of locked users. Each time a user reaches the max login attempts is counted.
+     *
+     * @return the number of locked users
+     */
+    public final long getLockoutCount() {
+        return lockouts.sum();
+    }
+
 }
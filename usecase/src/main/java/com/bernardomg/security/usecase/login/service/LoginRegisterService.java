@@ -24,6 +24,8 @@
 
 package com.bernardomg.security.usecase.login.service;
 
+import java.util.Collection;
+
 import com.bernardomg.pagination.domain.Page;
 import com.bernardomg.pagination.domain.Pagination;
 import com.bernardomg.pagination.domain.Sorting;
@@ -55,4 +57,13 @@ public interface LoginRegisterService {
      */
     public void register(final String username, final boolean logged);
 
+    /**
+     * Registers multiple log in attempts at once. Each register keeps its own date, which allows registering attempts
+     * some time after they happened.
+     *
+     * @param registers
+     *            log in attempts to register
+     */
+    public void registerAll(final Collection<LoginRegister> registers);
+
 }
@@ -25,6 +25,7 @@
 package com.bernardomg.security.usecase.login.service;
 
 import java.util.Objects;
+import java.util.Optional;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,11 +38,15 @@
 import com.bernardomg.security.usecase.login.authentication.LoginUserAuthenticator;
 import com.bernardomg.security.usecase.login.domain.LoginUser;
 import com.bernardomg.security.usecase.login.encoder.LoginTokenEncoder;
+import com.bernardomg.security.usecase.user.store.UserTokenStore;
 
 import jakarta.transaction.Transactional;
 
 /**
  * Login service which generates a token for the logged in user.
+ * <p>
+ * If it receives a refresh token store, successful logins also get a refresh token, which can be exchanged for a new
+ * token without logging in again.
  *
  * @author Bernardo Mart&iacute;nez Garrido
  *
@@ -52,21 +57,32 @@ public final class TokenLoginService implements LoginService {
     /**
      * Logger for the class.
      */
-    private static final Logger          log = LoggerFactory.getLogger(TokenLoginService.class);
+    private static final Logger            log = LoggerFactory.getLogger(TokenLoginService.class);
+
+    private final EventEmitter             eventEmitter;
 
-    private final EventEmitter           eventEmitter;
+    private final LoginTokenEncoder        loginTokenEncoder;
 
-    private final LoginTokenEncoder      loginTokenEncoder;
+    /**
+     * Refresh token store. If empty, no refresh tokens are created.
+     */
+    private final Optional<UserTokenStore> refreshTokenStore;
 
-    private final LoginUserAuthenticator userAuthenticator;
+    private final LoginUserAuthenticator   userAuthenticator;
 
     public TokenLoginService(final LoginUserAuthenticator userAuthent, final LoginTokenEncoder loginTokenEnc,
             final EventEmitter emitter) {
+        this(userAuthent, loginTokenEnc, emitter, Optional.empty());
+    }
+
+    public TokenLoginService(final LoginUserAuthenticator userAuthent, final LoginTokenEncoder loginTokenEnc,
+            final EventEmitter emitter, final Optional<UserTokenStore> refreshStore) {
         super();
 
         userAuthenticator = Objects.requireNonNull(userAuthent);
         loginTokenEncoder = Objects.requireNonNull(loginTokenEnc);
         eventEmitter = Objects.requireNonNull(emitter);
+        refreshTokenStore = Objects.requireNonNull(refreshStore);
     }
 
     @Override
@@ -74,6 +90,7 @@ public final TokenLoginStatus login(final Credentials credentials) {
         final LogInEvent event;
         final LoginUser  user;
         final String     token;
+        final String     refreshToken;
         TokenLoginStatus status;
 
         log.trace("Log in attempt for {}", credentials.username());
@@ -83,7 +100,11 @@ public final TokenLoginStatus login(final Credentials credentials) {
 
             token = loginTokenEncoder.encode(user);
 
-            status = new TokenLoginStatus(true, token);
+            // The refresh token is created for the authenticated username, as the login may use the email
+            refreshToken = refreshTokenStore.map(store -> store.createToken(user.username()))
+                .orElse("");
+
+            status = new TokenLoginStatus(true, token, refreshToken);
 
             log.debug("Successful login for {}", credentials.username());
         } catch (final InvalidCredentialsException exception) {
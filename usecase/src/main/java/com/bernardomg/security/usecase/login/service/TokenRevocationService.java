@@ -0,0 +1,73 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.security.usecase.login.service;
+
+import java.time.Instant;
+import java.util.Collection;
+
+import com.bernardomg.security.domain.login.model.TokenRevocation;
+
+/**
+ * Revokes login tokens before they expire.
+ * <p>
+ * Revocations are stored, so all the nodes can read them, and kept until the tokens they affect expire.
+ */
+public interface TokenRevocationService {
+
+    /**
+     * Returns all the revocations made since the received date, which are not expired yet.
+     *
+     * @param since
+     *            earliest revocation date, inclusive
+     * @return all the revocations since the date
+     */
+    public Collection<TokenRevocation> getRevokedSince(final Instant since);
+
+    /**
+     * Removes all the expired revocations.
+     *
+     * @return the number of removed revocations
+     */
+    public int purgeExpired();
+
+    /**
+     * Revokes a single token.
+     *
+     * @param id
+     *            id of the token to revoke
+     * @param expiration
+     *            token expiration date
+     */
+    public void revokeToken(final String id, final Instant expiration);
+
+    /**
+     * Revokes all the tokens issued to the user up to this moment.
+     *
+     * @param username
+     *            user to revoke the tokens for
+     */
+    public void revokeUserTokens(final String username);
+
+}
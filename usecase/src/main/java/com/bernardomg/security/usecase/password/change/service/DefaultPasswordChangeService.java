@@ -30,10 +30,12 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.bernardomg.event.emitter.EventEmitter;
 import com.bernardomg.security.domain.password.change.exception.InvalidPasswordChangeException;
 import com.bernardomg.security.domain.user.exception.DisabledUserException;
 import com.bernardomg.security.domain.user.exception.ExpiredUserException;
 import com.bernardomg.security.domain.user.exception.LockedUserException;
+import com.bernardomg.security.domain.user.event.UserTokenEpochEvent;
 import com.bernardomg.security.domain.user.exception.MissingUsernameException;
 import com.bernardomg.security.domain.user.model.User;
 import com.bernardomg.security.domain.user.repository.UserRepository;
@@ -61,6 +63,11 @@ public final class DefaultPasswordChangeService implements PasswordChangeService
      */
     private static final Logger             log = LoggerFactory.getLogger(DefaultPasswordChangeService.class);
 
+    /**
+     * Event emitter. Notifies when changing the password increases the user token epoch.
+     */
+    private final EventEmitter              eventEmitter;
+
     /**
      * Password encoder, for validating passwords.
      */
@@ -79,12 +86,13 @@ public final class DefaultPasswordChangeService implements PasswordChangeService
     private final Validator<String>         validatorChange;
 
     public DefaultPasswordChangeService(final UserRepository userRepo, final PasswordEncrypter passEncrypter,
-            final UsernameInSessionProvider usernameInSessionProv) {
+            final UsernameInSessionProvider usernameInSessionProv, final EventEmitter eventEmit) {
         super();
 
         repository = Objects.requireNonNull(userRepo);
         passwordEncrypter = Objects.requireNonNull(passEncrypter);
         usernameInSessionProvider = Objects.requireNonNull(usernameInSessionProv);
+        eventEmitter = Objects.requireNonNull(eventEmit);
 
         validatorChange = new FieldRuleValidator<>(new PasswordResetHasStrongPasswordRule());
 
@@ -123,7 +131,9 @@ public final void changePasswordForUserInSession(final String oldPassword, final
         authorizePasswordChange(user.get());
 
         encodedPassword = passwordEncrypter.encrypt(newPassword);
+        // Also increases the token epoch
         repository.resetPassword(username.get(), encodedPassword);
+        eventEmitter.emit(new UserTokenEpochEvent(null, username.get()));
 
         log.trace("Changed password for user {}", username.get());
     }
@@ -32,6 +32,7 @@
 
 import com.bernardomg.event.emitter.EventEmitter;
 import com.bernardomg.security.domain.password.reset.event.PasswordResetEvent;
+import com.bernardomg.security.domain.user.event.UserTokenEpochEvent;
 import com.bernardomg.security.domain.user.exception.DisabledUserException;
 import com.bernardomg.security.domain.user.exception.ExpiredUserException;
 import com.bernardomg.security.domain.user.exception.InvalidTokenException;
@@ -128,12 +129,12 @@ public final void changePassword(final String token, final String password) {
 
         log.trace("Changing password from token");
 
-        passwordResetTokenStore.validate(token);
-
         log.debug("Validating new password");
         validatorChange.validate(password);
 
-        username = passwordResetTokenStore.getUsername(token);
+        // Validates and consumes the token at once
+        // If the change fails, the transaction is rolled back and the token is not consumed
+        username = passwordResetTokenStore.consumeToken(token);
 
         log.debug("Applying requested password change to {}", username);
 
@@ -143,8 +144,9 @@ public final void changePassword(final String token, final String password) {
         authorizePasswordChange(user);
 
         encodedPassword = passwordEncrypter.encrypt(password);
+        // Also increases the token epoch
         userRepository.resetPassword(user.username(), encodedPassword);
-        passwordResetTokenStore.consumeToken(token);
+        eventEmitter.emit(new UserTokenEpochEvent(null, user.username()));
 
         log.trace("Changed password for {}", username);
     }
@@ -24,6 +24,8 @@
 
 package com.bernardomg.security.usecase.role.service;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -31,16 +33,19 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.bernardomg.event.emitter.EventEmitter;
 import com.bernardomg.pagination.domain.Page;
 import com.bernardomg.pagination.domain.Pagination;
 import com.bernardomg.pagination.domain.Sorting;
 import com.bernardomg.security.domain.permission.exception.MissingResourcePermissionException;
 import com.bernardomg.security.domain.permission.model.ResourcePermission;
 import com.bernardomg.security.domain.permission.repository.ResourcePermissionRepository;
+import com.bernardomg.security.domain.role.event.RoleTokenEpochEvent;
 import com.bernardomg.security.domain.role.exception.MissingRoleException;
 import com.bernardomg.security.domain.role.filter.RoleFilter;
 import com.bernardomg.security.domain.role.model.Role;
 import com.bernardomg.security.domain.role.repository.RoleRepository;
+import com.bernardomg.security.domain.user.repository.UserRepository;
 import com.bernardomg.security.usecase.role.validation.RoleHasNoUserRule;
 import com.bernardomg.security.usecase.role.validation.RoleNameNotEmptyRule;
 import com.bernardomg.security.usecase.role.validation.RoleNameNotExistsRule;
@@ -64,6 +69,11 @@ public final class DefaultRoleService implements RoleService {
      */
     private static final Logger                log = LoggerFactory.getLogger(DefaultRoleService.class);
 
+    /**
+     * Event emitter. Notifies when updating a role increases the token epoch of its users.
+     */
+    private final EventEmitter                 eventEmitter;
+
     /**
      * Resource permission repository.
      */
@@ -74,6 +84,11 @@ public final class DefaultRoleService implements RoleService {
      */
     private final RoleRepository               roleRepository;
 
+    /**
+     * User repository. Used to invalidate the tokens of users whose roles change.
+     */
+    private final UserRepository               userRepository;
+
     /**
      * Create validator.
      */
@@ -90,11 +105,14 @@ public final class DefaultRoleService implements RoleService {
     private final Validator<Role>              validatorUpdate;
 
     public DefaultRoleService(final RoleRepository roleRepo,
-            final ResourcePermissionRepository resourcePermissionRepo) {
+            final ResourcePermissionRepository resourcePermissionRepo, final UserRepository userRepo,
+            final EventEmitter eventEmit) {
         super();
 
         roleRepository = Objects.requireNonNull(roleRepo);
         resourcePermissionRepository = Objects.requireNonNull(resourcePermissionRepo);
+        userRepository = Objects.requireNonNull(userRepo);
+        eventEmitter = Objects.requireNonNull(eventEmit);
 
         validatorCreate = new FieldRuleValidator<>(new RoleNameNotEmptyRule(), new RoleNameNotExistsRule(roleRepo));
         validatorDelete = new FieldRuleValidator<>(new RoleHasNoUserRule(roleRepo));
@@ -107,13 +125,7 @@ public final Role create(final Role role) {
 
         log.trace("Creating role {} with permissions {}", role.name(), role.permissions());
 
-        // Verify the permissions exists
-        for (final ResourcePermission permission : role.permissions()) {
-            if (!resourcePermissionRepository.exists(permission.resource(), permission.action())) {
-                // TODO: send all missing in a single exception
-                throw new MissingResourcePermissionException(role.name());
-            }
-        }
+        checkPermissionsExist(role);
 
         validatorCreate.validate(role);
 
@@ -189,23 +201,47 @@ public final Role update(final Role role) {
             throw new MissingRoleException(role.name());
         }
 
-        // Verify the permissions exists
-        for (final ResourcePermission permission : role.permissions()) {
-            if (!resourcePermissionRepository.exists(permission.resource(), permission.action())) {
-                // TODO: send all missing in a single exception
-                throw new MissingResourcePermissionException(role.name());
-            }
-        }
-
-        // Verify the permissions exist
+        checkPermissionsExist(role);
 
         validatorUpdate.validate(role);
 
         updated = roleRepository.save(role);
 
+        // The tokens issued to the users with the role keep the old permissions
+        userRepository.increaseTokenEpochByRole(role.name());
+        eventEmitter.emit(new RoleTokenEpochEvent(null, role.name()));
+
         log.trace("Updated role {} using data {}", role.name(), role);
 
         return updated;
     }
 
+    /**
+     * Verifies all the role permissions exist. They are checked with a single query, and all the missing ones are
+     * reported in the same exception.
+     *
+     * @param role
+     *            role to check
+     */
+    private final void checkPermissionsExist(final Role role) {
+        final Collection<ResourcePermission> permissions;
+        final Collection<ResourcePermission> existing;
+        final Collection<ResourcePermission> missing;
+
+        permissions = role.permissions()
+            .stream()
+            .distinct()
+            .toList();
+        if (!permissions.isEmpty()) {
+            existing = new HashSet<>(resourcePermissionRepository.findExisting(permissions));
+            missing = permissions.stream()
+                .filter(p -> !existing.contains(p))
+                .toList();
+            if (!missing.isEmpty()) {
+                log.error("Missing permissions {} for role {}", missing, role.name());
+                throw new MissingResourcePermissionException(role.name(), missing);
+            }
+        }
+    }
+
 }
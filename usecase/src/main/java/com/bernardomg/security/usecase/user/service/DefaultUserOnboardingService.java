@@ -24,6 +24,7 @@
 
 package com.bernardomg.security.usecase.user.service;
 
+import java.util.Collection;
 import java.util.Objects;
 
 import org.slf4j.Logger;
@@ -124,14 +125,12 @@ public final User activateUser(final String token, final String password) {
 
         log.trace("Activating new user");
 
-        // Validate token
-        tokenStore.validate(token);
-
         // Validate password
         validatorActivate.validate(password.trim());
 
-        // Acquire username
-        username = tokenStore.getUsername(token);
+        // Validate and consume token, acquiring the username
+        // If the activation fails, the transaction is rolled back and the token is not consumed
+        username = tokenStore.consumeToken(token);
 
         log.debug("Activating new user {}", username);
 
@@ -146,7 +145,6 @@ public final User activateUser(final String token, final String password) {
 
         encodedPassword = passwordEncrypter.encrypt(password.trim());
         saved = userRepository.activate(username, encodedPassword);
-        tokenStore.consumeToken(token);
 
         log.trace("Activated new user {}", username);
 
@@ -155,6 +153,8 @@ public final User activateUser(final String token, final String password) {
 
     @Override
     public final User inviteUser(final User user) {
+        final Collection<String>  names;
+        final Collection<String>  existing;
         final User                toCreate;
         final User                created;
         final String              token;
@@ -163,11 +163,19 @@ public final User inviteUser(final User user) {
 
         log.trace("Inviting new user {} with email {} and name {}", user.username(), user.email(), user.name());
 
-        // Verify the roles exists
-        for (final Role role : user.roles()) {
-            if (!roleRepository.exists(role.name())) {
-                log.error("Missing role {}", role.name());
-                throw new MissingRoleException(role.name());
+        // Verify the roles exists, all of them in a single query
+        names = user.roles()
+            .stream()
+            .map(Role::name)
+            .distinct()
+            .toList();
+        if (!names.isEmpty()) {
+            existing = roleRepository.findExistingNames(names);
+            for (final String name : names) {
+                if (!existing.contains(name)) {
+                    log.error("Missing role {}", name);
+                    throw new MissingRoleException(name);
+                }
             }
         }
 
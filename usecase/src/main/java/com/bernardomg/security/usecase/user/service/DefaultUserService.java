@@ -24,18 +24,22 @@
 
 package com.bernardomg.security.usecase.user.service;
 
+import java.util.Collection;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.bernardomg.event.emitter.EventEmitter;
 import com.bernardomg.pagination.domain.Page;
 import com.bernardomg.pagination.domain.Pagination;
 import com.bernardomg.pagination.domain.Sorting;
 import com.bernardomg.security.domain.role.exception.MissingRoleException;
 import com.bernardomg.security.domain.role.model.Role;
 import com.bernardomg.security.domain.role.repository.RoleRepository;
+import com.bernardomg.security.domain.user.event.UserTokenEpochEvent;
 import com.bernardomg.security.domain.user.exception.MissingUsernameException;
 import com.bernardomg.security.domain.user.filter.UserFilter;
 import com.bernardomg.security.domain.user.model.User;
@@ -65,6 +69,11 @@ public final class DefaultUserService implements UserService {
      */
     private static final Logger     log = LoggerFactory.getLogger(DefaultUserService.class);
 
+    /**
+     * Event emitter. Notifies when updating a user increases its token epoch.
+     */
+    private final EventEmitter      eventEmitter;
+
     /**
      * Password encoder.
      */
@@ -91,12 +100,13 @@ public final class DefaultUserService implements UserService {
     private final Validator<User>   validatorUpdateUser;
 
     public DefaultUserService(final UserRepository userRepo, final RoleRepository roleRepo,
-            final PasswordEncrypter passEncrypt) {
+            final PasswordEncrypter passEncrypt, final EventEmitter eventEmit) {
         super();
 
         userRepository = Objects.requireNonNull(userRepo);
         roleRepository = Objects.requireNonNull(roleRepo);
         passwordEncrypt = Objects.requireNonNull(passEncrypt);
+        eventEmitter = Objects.requireNonNull(eventEmit);
 
         validatorCreateUser = new FieldRuleValidator<>(new UserEmailFormatRule(), new UserRolesNotDuplicatedRule(),
             new UserEmailNotExistsRule(userRepo), new UserUsernameNotExistsRule(userRepository));
@@ -220,10 +230,34 @@ public final User update(final User user) {
             existing.notLocked(), user.passwordNotExpired(), user.roles(), user.permissions());
 
         updated = userRepository.save(toSave);
+        if (isTokenEpochIncreased(existing, toSave)) {
+            eventEmitter.emit(new UserTokenEpochEvent(null, existing.username()));
+        }
 
         log.trace("Updated user {} using data {}", user.username(), user);
 
         return updated;
     }
 
+    private final Collection<String> getRoleNames(final User user) {
+        return user.roles()
+            .stream()
+            .map(Role::name)
+            .collect(Collectors.toSet());
+    }
+
+    /**
+     * Checks if saving the update increases the user token epoch. This happens when the roles change or the user is
+     * disabled, as the tokens issued before keep the old permissions and status.
+     *
+     * @param existing
+     *            user before the update
+     * @param updated
+     *            user after the update
+     * @return {@code true} if the token epoch is increased, {@code false} otherwise
+     */
+    private final boolean isTokenEpochIncreased(final User existing, final User updated) {
+        return (existing.enabled() && !updated.enabled()) || !getRoleNames(existing).equals(getRoleNames(updated));
+    }
+
 }
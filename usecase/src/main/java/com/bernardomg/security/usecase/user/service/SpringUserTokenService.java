@@ -107,7 +107,7 @@ public final Optional<UserToken> getOne(final String token) {
 
         log.trace("Reading token {}", token);
 
-        userToken = userTokenRepository.findOne(token);
+        userToken = userTokenRepository.findOneByDigest(token);
         if (userToken.isEmpty()) {
             log.error("Missing user token {}", token);
             throw new MissingUserTokenException(token);
@@ -125,7 +125,7 @@ public final UserToken patch(final UserToken token) {
 
         log.debug("Patching token {}", token.token());
 
-        existing = userTokenRepository.findOne(token.token())
+        existing = userTokenRepository.findOneByDigest(token.token())
             .orElseThrow(() -> {
                 log.error("Missing user token {}", token.token());
                 return new MissingUserTokenException(token.token());
@@ -135,7 +135,7 @@ public final UserToken patch(final UserToken token) {
 
         toSave = copy(existing, token);
 
-        return userTokenRepository.save(toSave);
+        return userTokenRepository.updateByDigest(toSave);
     }
 
     private final UserToken copy(final UserToken existing, final UserToken updated) {
@@ -25,16 +25,15 @@
 package com.bernardomg.security.usecase.user.store;
 
 import java.time.Duration;
-import java.util.Collection;
 import java.util.Objects;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.bernardomg.security.domain.user.exception.ConsumedTokenException;
+import com.bernardomg.security.domain.user.exception.InvalidTokenException;
 import com.bernardomg.security.domain.user.exception.MissingUserTokenException;
 import com.bernardomg.security.domain.user.exception.MissingUsernameException;
-import com.bernardomg.security.domain.user.model.User;
 import com.bernardomg.security.domain.user.model.UserToken;
 import com.bernardomg.security.domain.user.repository.UserRepository;
 import com.bernardomg.security.domain.user.repository.UserTokenRepository;
@@ -89,26 +88,21 @@ public ScopedUserTokenStore(final UserTokenRepository tokenRepo, final UserRepos
     }
 
     @Override
-    public final void consumeToken(final String token) {
-        final UserToken readToken;
-        final UserToken updated;
+    public final String consumeToken(final String token) {
+        final String username;
 
         log.trace("Consuming token with scope {}", tokenScope);
 
-        readToken = userTokenRepository.findOneByScope(token, tokenScope)
+        // Validated and consumed at once, so concurrent requests can't consume the same token
+        username = userTokenRepository.consume(token, tokenScope)
             .orElseThrow(() -> {
-                log.error("Token missing with scope {}: {}", tokenScope, token);
-                throw new MissingUserTokenException(token);
+                log.warn("Token not consumed with scope {}: {}", tokenScope, token);
+                throw getInvalidTokenException(token);
             });
 
-        if (readToken.consumed()) {
-            log.warn("Token already consumed with scope {}: {}", tokenScope, token);
-            throw new ConsumedTokenException(token);
-        }
+        log.trace("Consumed token {} with scope {} for {}", token, tokenScope, username);
 
-        updated = readToken.consume();
-        userTokenRepository.save(updated);
-        log.trace("Consumed token {} with scope {}", token, tokenScope);
+        return username;
     }
 
     @Override
@@ -146,29 +140,19 @@ public final String getUsername(final String token) {
 
     @Override
     public final void revokeExistingTokens(final String username) {
-        final Collection<UserToken> tokens;
-        final Collection<UserToken> revoked;
-        final User                  readUser;
+        final int revoked;
 
         log.trace("Revoking tokens with scope {} for {}", tokenScope, username);
 
-        readUser = userRepository.findOne(username)
-            .orElseThrow(() -> {
-                log.error("Missing user {}", username);
-                throw new MissingUsernameException(username);
-            });
-
-        // Find all tokens not revoked, and mark them as revoked
-        tokens = userTokenRepository.findAllNotRevoked(readUser.username(), tokenScope);
-        revoked = tokens.stream()
-            .map(UserToken::revoke)
-            .toList();
-
-        log.debug("Found {} tokens to revoke with scope {}", revoked.size(), tokenScope);
+        if (!userRepository.exists(username)) {
+            log.error("Missing user {}", username);
+            throw new MissingUsernameException(username);
+        }
 
-        userTokenRepository.saveAll(revoked);
+        // All the tokens not revoked are marked as revoked at once
+        revoked = userTokenRepository.revokeAll(username, tokenScope);
 
-        log.trace("Revoked all existing tokens with scope {} for {}", tokenScope, readUser.username());
+        log.trace("Revoked {} existing tokens with scope {} for {}", revoked, tokenScope, username);
     }
 
     @Override
@@ -186,4 +170,27 @@ public final void validate(final String token) {
         read.checkStatus(tokenScope);
     }
 
+    /**
+     * Returns the exception for a token which couldn't be consumed. The token is read again to find out why it is not
+     * valid.
+     *
+     * @param token
+     *            token which couldn't be consumed
+     * @return exception for the invalid token
+     */
+    private final InvalidTokenException getInvalidTokenException(final String token) {
+        final UserToken readToken;
+
+        readToken = userTokenRepository.findOne(token)
+            .orElseThrow(() -> {
+                log.error("Token missing with scope {}: {}", tokenScope, token);
+                throw new MissingUserTokenException(token);
+            });
+
+        readToken.checkStatus(tokenScope);
+
+        // The token was valid when read, so another request consumed it first
+        return new ConsumedTokenException(token, readToken.username());
+    }
+
 }
@@ -35,12 +35,16 @@
 public interface UserTokenStore {
 
     /**
-     * Consumes the token, marking it as already used.
+     * Consumes the token, marking it as already used, and returns the username for it. The token is validated while
+     * being consumed, throwing an exception if it is invalid.
      *
      * @param token
      *            token to consume
+     * @return username for the token
+     * @throws InvalidTokenException
+     *             if the token is invalid
      */
-    public void consumeToken(final String token);
+    public String consumeToken(final String token) throws InvalidTokenException;
 
     /**
      * Returns a new token for a user.
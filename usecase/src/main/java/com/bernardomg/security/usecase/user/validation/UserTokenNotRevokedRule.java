@@ -36,7 +36,7 @@ public final Optional<FieldFailure> check(final UserToken token) {
         final FieldFailure           fieldFailure;
         final UserToken              existing;
 
-        existing = userTokenRepository.findOne(token.token())
+        existing = userTokenRepository.findOneByDigest(token.token())
             .get();
         if (existing.revoked()) {
             log.error("Editing revoked token");
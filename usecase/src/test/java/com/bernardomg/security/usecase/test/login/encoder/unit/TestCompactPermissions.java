@@ -0,0 +1,144 @@
+
+package com.bernardomg.security.usecase.test.login.encoder.unit;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.bernardomg.security.usecase.login.encoder.CompactPermissions;
+
+@DisplayName("CompactPermissions")
+class TestCompactPermissions {
+
+    @Test
+    @DisplayName("Decodes the encoded permissions")
+    void testDecode() {
+        final Map<String, List<String>> permissions;
+
+        // WHEN
+        permissions = CompactPermissions.decode("1|CREATE,READ|ROLE:2,USER:3");
+
+        // THEN
+        Assertions.assertThat(permissions)
+            .as("permissions")
+            .containsOnlyKeys("ROLE", "USER")
+            .containsEntry("ROLE", List.of("READ"))
+            .containsEntry("USER", List.of("CREATE", "READ"));
+    }
+
+    @Test
+    @DisplayName("Decodes permissions without resources")
+    void testDecode_Empty() {
+        final Map<String, List<String>> permissions;
+
+        // WHEN
+        permissions = CompactPermissions.decode("1||");
+
+        // THEN
+        Assertions.assertThat(permissions)
+            .as("permissions")
+            .isEmpty();
+    }
+
+    @Test
+    @DisplayName("Rejects masks referencing unknown actions")
+    void testDecode_UnknownAction() {
+        final ThrowingCallable executable;
+
+        // WHEN
+        executable = () -> CompactPermissions.decode("1|READ|USER:3");
+
+        // THEN
+        Assertions.assertThatThrownBy(executable)
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Rejects unsupported versions")
+    void testDecode_UnsupportedVersion() {
+        final ThrowingCallable executable;
+
+        // WHEN
+        executable = () -> CompactPermissions.decode("2|READ|USER:1");
+
+        // THEN
+        Assertions.assertThatThrownBy(executable)
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Encodes the permissions sorted, with an action mask for each resource")
+    void testEncode() {
+        final Optional<String> encoded;
+
+        // WHEN
+        encoded = CompactPermissions.encode(Map.of("USER", List.of("READ", "CREATE"), "ROLE", List.of("READ")));
+
+        // THEN
+        Assertions.assertThat(encoded)
+            .as("encoded")
+            .contains("1|CREATE,READ|ROLE:2,USER:3");
+    }
+
+    @Test
+    @DisplayName("Doesn't encode names containing separators")
+    void testEncode_Separator() {
+        final Optional<String> encoded;
+
+        // WHEN
+        encoded = CompactPermissions.encode(Map.of("USER|ROLE", List.of("READ")));
+
+        // THEN
+        Assertions.assertThat(encoded)
+            .as("encoded")
+            .isEmpty();
+    }
+
+    @Test
+    @DisplayName("Doesn't encode more actions than the mask supports")
+    void testEncode_TooManyActions() {
+        final Optional<String> encoded;
+        final List<String>     actions;
+
+        // GIVEN
+        actions = IntStream.range(0, 65)
+            .mapToObj(i -> "ACTION" + i)
+            .collect(Collectors.toList());
+
+        // WHEN
+        encoded = CompactPermissions.encode(Map.of("USER", actions));
+
+        // THEN
+        Assertions.assertThat(encoded)
+            .as("encoded")
+            .isEmpty();
+    }
+
+    @Test
+    @DisplayName("Decoding the encoded permissions returns the original permissions")
+    void testRoundTrip() {
+        final Map<String, List<String>> permissions;
+        final Map<String, List<String>> decoded;
+
+        // GIVEN
+        permissions = Map.of("USER", List.of("CREATE", "DELETE", "READ", "UPDATE"), "ROLE", List.of("READ"),
+            "LOGIN_REGISTER", List.of("VIEW"));
+
+        // WHEN
+        decoded = CompactPermissions.decode(CompactPermissions.encode(permissions)
+            .orElseThrow());
+
+        // THEN
+        Assertions.assertThat(decoded)
+            .as("decoded")
+            .isEqualTo(permissions);
+    }
+
+}
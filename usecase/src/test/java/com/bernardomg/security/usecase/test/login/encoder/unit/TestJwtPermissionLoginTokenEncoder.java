@@ -5,24 +5,29 @@
 import static org.mockito.BDDMockito.given;
 
 import java.time.Duration;
+import java.util.Optional;
 
 import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.bernardomg.jwt.encoding.JwtTokenData;
 import com.bernardomg.jwt.encoding.TokenEncoder;
+import com.bernardomg.security.domain.user.repository.UserRepository;
+import com.bernardomg.security.usecase.login.encoder.CompactPermissions;
 import com.bernardomg.security.usecase.login.encoder.JwtPermissionLoginTokenEncoder;
 import com.bernardomg.security.usecase.test.user.config.factory.LoginUsers;
+import com.bernardomg.security.usecase.test.user.config.factory.UserConstants;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("JwtPermissionLoginTokenEncoder")
 class TestJwtPermissionLoginTokenEncoder {
 
-    @InjectMocks
     private JwtPermissionLoginTokenEncoder encoder;
 
     private final String                   TOKEN = "token";
@@ -30,6 +35,9 @@ class TestJwtPermissionLoginTokenEncoder {
     @Mock
     private TokenEncoder                   tokenEncoder;
 
+    @Mock
+    private UserRepository                 userRepository;
+
     @Mock
     private Duration                       validity;
 
@@ -38,6 +46,75 @@ public TestJwtPermissionLoginTokenEncoder() {
         // TODO: verify the permissions are sent to the encoder
     }
 
+    @BeforeEach
+    public void initializeEncoder() {
+        encoder = new JwtPermissionLoginTokenEncoder(tokenEncoder, validity);
+    }
+
+    @Test
+    @DisplayName("With compact permissions, the permissions are sent compacted")
+    void testEncode_CompactPermissions() {
+        final ArgumentCaptor<JwtTokenData> captor;
+
+        // GIVEN
+        encoder = new JwtPermissionLoginTokenEncoder(tokenEncoder, validity, true);
+        captor = ArgumentCaptor.forClass(JwtTokenData.class);
+        given(tokenEncoder.encode(captor.capture())).willReturn(TOKEN);
+
+        // WHEN
+        encoder.encode(LoginUsers.valid());
+
+        // THEN
+        Assertions.assertThat(captor.getValue()
+            .permissions())
+            .as("permissions")
+            .isEmpty();
+        Assertions.assertThat(captor.getValue()
+            .values())
+            .as("values")
+            .containsEntry(CompactPermissions.CLAIM, "1|CREATE|DATA:1");
+    }
+
+    @Test
+    @DisplayName("With the user repository, the token epoch is sent")
+    void testEncode_Epoch() {
+        final ArgumentCaptor<JwtTokenData> captor;
+
+        // GIVEN
+        encoder = new JwtPermissionLoginTokenEncoder(tokenEncoder, validity, false, userRepository);
+        captor = ArgumentCaptor.forClass(JwtTokenData.class);
+        given(tokenEncoder.encode(captor.capture())).willReturn(TOKEN);
+        given(userRepository.findTokenEpoch(UserConstants.USERNAME)).willReturn(Optional.of(2L));
+
+        // WHEN
+        encoder.encode(LoginUsers.valid());
+
+        // THEN
+        Assertions.assertThat(captor.getValue()
+            .values())
+            .as("values")
+            .containsEntry(JwtPermissionLoginTokenEncoder.EPOCH_CLAIM, "2");
+    }
+
+    @Test
+    @DisplayName("Without the user repository, no token epoch is sent")
+    void testEncode_NoEpoch() {
+        final ArgumentCaptor<JwtTokenData> captor;
+
+        // GIVEN
+        captor = ArgumentCaptor.forClass(JwtTokenData.class);
+        given(tokenEncoder.encode(captor.capture())).willReturn(TOKEN);
+
+        // WHEN
+        encoder.encode(LoginUsers.valid());
+
+        // THEN
+        Assertions.assertThat(captor.getValue()
+            .values())
+            .as("values")
+            .doesNotContainKey(JwtPermissionLoginTokenEncoder.EPOCH_CLAIM);
+    }
+
     @Test
     @DisplayName("Returns the generated token")
     void testEncode_NoData() {
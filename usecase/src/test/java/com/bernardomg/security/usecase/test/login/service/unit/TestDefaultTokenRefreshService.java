@@ -0,0 +1,181 @@
+package com.bernardomg.security.usecase.test.login.service.unit;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.Optional;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.bernardomg.security.domain.login.model.TokenLoginStatus;
+import com.bernardomg.security.domain.user.exception.ConsumedTokenException;
+import com.bernardomg.security.domain.user.exception.ExpiredTokenException;
+import com.bernardomg.security.domain.user.exception.MissingUserTokenException;
+import com.bernardomg.security.domain.user.repository.UserRepository;
+import com.bernardomg.security.usecase.login.encoder.LoginTokenEncoder;
+import com.bernardomg.security.usecase.login.service.DefaultTokenRefreshService;
+import com.bernardomg.security.usecase.test.config.jwt.factory.Tokens;
+import com.bernardomg.security.usecase.test.user.config.factory.LoginUsers;
+import com.bernardomg.security.usecase.test.user.config.factory.UserConstants;
+import com.bernardomg.security.usecase.test.user.config.factory.UsersAuthenticationDetails;
+import com.bernardomg.security.usecase.user.store.UserTokenStore;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DefaultTokenRefreshService")
+class TestDefaultTokenRefreshService {
+
+    private static final String        ACCESS_TOKEN = "access";
+
+    @Mock
+    private LoginTokenEncoder          loginTokenEncoder;
+
+    @Mock
+    private UserTokenStore             refreshTokenStore;
+
+    @InjectMocks
+    private DefaultTokenRefreshService service;
+
+    @Mock
+    private UserRepository             userRepository;
+
+    @Test
+    @DisplayName("When the refresh token was already used, all the refresh tokens for the user are revoked")
+    void testRefresh_Consumed() {
+        final TokenLoginStatus status;
+
+        // GIVEN
+        given(refreshTokenStore.consumeToken(Tokens.TOKEN))
+            .willThrow(new ConsumedTokenException(Tokens.TOKEN, UserConstants.USERNAME));
+
+        // WHEN
+        status = service.refresh(Tokens.TOKEN);
+
+        // THEN
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(status.logged())
+                .as("logged")
+                .isFalse();
+            softly.assertThat(status.token())
+                .as("token")
+                .isEmpty();
+            softly.assertThat(status.refreshToken())
+                .as("refresh token")
+                .isEmpty();
+        });
+        verify(refreshTokenStore).revokeExistingTokens(UserConstants.USERNAME);
+        verify(refreshTokenStore, never()).createToken(ArgumentMatchers.anyString());
+        verify(refreshTokenStore, never()).getUsername(ArgumentMatchers.anyString());
+    }
+
+    @Test
+    @DisplayName("When the refresh token is expired, it is rejected")
+    void testRefresh_Expired() {
+        final TokenLoginStatus status;
+
+        // GIVEN
+        given(refreshTokenStore.consumeToken(Tokens.TOKEN)).willThrow(new ExpiredTokenException(Tokens.TOKEN));
+
+        // WHEN
+        status = service.refresh(Tokens.TOKEN);
+
+        // THEN
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(status.logged())
+                .as("logged")
+                .isFalse();
+            softly.assertThat(status.token())
+                .as("token")
+                .isEmpty();
+        });
+        verify(refreshTokenStore, never()).createToken(ArgumentMatchers.anyString());
+        verify(refreshTokenStore, never()).revokeExistingTokens(ArgumentMatchers.anyString());
+    }
+
+    @Test
+    @DisplayName("When the user is locked, the refresh is rejected")
+    void testRefresh_Locked() {
+        final TokenLoginStatus status;
+
+        // GIVEN
+        given(refreshTokenStore.consumeToken(Tokens.TOKEN)).willReturn(UserConstants.USERNAME);
+        given(userRepository.findAuthenticationDetails(UserConstants.USERNAME))
+            .willReturn(Optional.of(UsersAuthenticationDetails.locked()));
+
+        // WHEN
+        status = service.refresh(Tokens.TOKEN);
+
+        // THEN
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(status.logged())
+                .as("logged")
+                .isFalse();
+            softly.assertThat(status.token())
+                .as("token")
+                .isEmpty();
+        });
+        verify(refreshTokenStore, never()).createToken(ArgumentMatchers.anyString());
+        verify(loginTokenEncoder, never()).encode(ArgumentMatchers.any());
+    }
+
+    @Test
+    @DisplayName("When the refresh token doesn't exist, it is rejected")
+    void testRefresh_NotExisting() {
+        final TokenLoginStatus status;
+
+        // GIVEN
+        given(refreshTokenStore.consumeToken(Tokens.TOKEN)).willThrow(new MissingUserTokenException(Tokens.TOKEN));
+
+        // WHEN
+        status = service.refresh(Tokens.TOKEN);
+
+        // THEN
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(status.logged())
+                .as("logged")
+                .isFalse();
+            softly.assertThat(status.token())
+                .as("token")
+                .isEmpty();
+        });
+    }
+
+    @Test
+    @DisplayName("When refreshing, the refresh token is exchanged for new tokens")
+    void testRefresh_Valid() {
+        final TokenLoginStatus status;
+
+        // GIVEN
+        given(refreshTokenStore.consumeToken(Tokens.TOKEN)).willReturn(UserConstants.USERNAME);
+        given(refreshTokenStore.createToken(UserConstants.USERNAME)).willReturn(Tokens.ALTERNATIVE_TOKEN);
+        given(userRepository.findAuthenticationDetails(UserConstants.USERNAME))
+            .willReturn(Optional.of(UsersAuthenticationDetails.enabled()));
+        given(loginTokenEncoder.encode(LoginUsers.valid())).willReturn(ACCESS_TOKEN);
+
+        // WHEN
+        status = service.refresh(Tokens.TOKEN);
+
+        // THEN
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(status.logged())
+                .as("logged")
+                .isTrue();
+            softly.assertThat(status.token())
+                .as("token")
+                .isEqualTo(ACCESS_TOKEN);
+            softly.assertThat(status.refreshToken())
+                .as("refresh token")
+                .isEqualTo(Tokens.ALTERNATIVE_TOKEN);
+        });
+        verify(refreshTokenStore, never()).validate(ArgumentMatchers.anyString());
+        verify(refreshTokenStore, never()).getUsername(ArgumentMatchers.anyString());
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.bernardomg.security.usecase.test.login.service.unit;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.bernardomg.security.domain.login.model.TokenRevocation;
+import com.bernardomg.security.domain.login.repository.TokenRevocationRepository;
+import com.bernardomg.security.usecase.login.service.DefaultTokenRevocationService;
+import com.bernardomg.security.usecase.test.config.jwt.factory.Tokens;
+import com.bernardomg.security.usecase.test.user.config.factory.UserConstants;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DefaultTokenRevocationService")
+class TestDefaultTokenRevocationService {
+
+    private static final Instant          NOW      = Instant.parse("2020-02-01T00:00:00Z");
+
+    private static final Duration         VALIDITY = Duration.ofHours(1);
+
+    private DefaultTokenRevocationService service;
+
+    @Mock
+    private TokenRevocationRepository     tokenRevocationRepository;
+
+    @BeforeEach
+    public void initializeService() {
+        service = new DefaultTokenRevocationService(tokenRevocationRepository, VALIDITY,
+            Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("When purging, the revocations expired right now are removed")
+    void testPurgeExpired() {
+        final int purged;
+
+        // GIVEN
+        given(tokenRevocationRepository.deleteExpired(NOW)).willReturn(2);
+
+        // WHEN
+        purged = service.purgeExpired();
+
+        // THEN
+        Assertions.assertThat(purged)
+            .as("purged")
+            .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("When revoking a token, it is revoked until the token expires")
+    void testRevokeToken() {
+        final Instant expiration;
+
+        // GIVEN
+        expiration = NOW.plusSeconds(60);
+
+        // WHEN
+        service.revokeToken(Tokens.TOKEN, expiration);
+
+        // THEN
+        verify(tokenRevocationRepository)
+            .save(new TokenRevocation(TokenRevocation.tokenKey(Tokens.TOKEN), NOW, expiration));
+    }
+
+    @Test
+    @DisplayName("When revoking the tokens of a user, they are revoked for the token validity")
+    void testRevokeUserTokens() {
+        // WHEN
+        service.revokeUserTokens(UserConstants.USERNAME);
+
+        // THEN
+        verify(tokenRevocationRepository).save(
+            new TokenRevocation(TokenRevocation.subjectKey(UserConstants.USERNAME), NOW, NOW.plus(VALIDITY)));
+    }
+
+}
@@ -4,21 +4,22 @@
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
-import java.util.Optional;
-
+import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.bernardomg.event.emitter.EventEmitter;
+import com.bernardomg.security.domain.user.event.UserTokenEpochEvent;
 import com.bernardomg.security.domain.user.repository.UserRepository;
 import com.bernardomg.security.usecase.login.service.DefaultUserLoginAttempsService;
 import com.bernardomg.security.usecase.login.service.UserLoginAttempsService;
 import com.bernardomg.security.usecase.test.user.config.factory.UserConstants;
-import com.bernardomg.security.usecase.test.user.config.factory.Users;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("DefaultUserLoginAttempsService - check for locking")
@@ -26,6 +27,9 @@ class TestDefaultUserLoginAttempsServiceCheckForLocking {
 
     private UserLoginAttempsService service;
 
+    @Mock
+    private EventEmitter            eventEmitter;
+
     @Mock
     private UserRepository          userRepository;
 
@@ -35,14 +39,49 @@ public TestDefaultUserLoginAttempsServiceCheckForLocking() {
 
     @BeforeEach
     public void setupService() {
-        service = new DefaultUserLoginAttempsService(UserConstants.MAX_LOGIN_ATTEMPTS, userRepository);
+        service = new DefaultUserLoginAttempsService(UserConstants.MAX_LOGIN_ATTEMPTS, userRepository, eventEmitter);
+    }
+
+    @Test
+    @DisplayName("When the user was already locked, no lockout is counted")
+    void testCheckForLocking_AlreadyLocked_LockoutNotCounted() {
+        final DefaultUserLoginAttempsService attempsService;
+
+        // GIVEN
+        attempsService = new DefaultUserLoginAttempsService(UserConstants.MAX_LOGIN_ATTEMPTS, userRepository,
+            eventEmitter);
+        given(userRepository.increaseLoginAttempts(UserConstants.USERNAME, UserConstants.MAX_LOGIN_ATTEMPTS))
+            .willReturn(UserConstants.MAX_LOGIN_ATTEMPTS + 1);
+
+        // WHEN
+        attempsService.checkForLocking(UserConstants.USERNAME);
+
+        // THEN
+        Assertions.assertThat(attempsService.getLockoutCount())
+            .as("lockouts")
+            .isZero();
+    }
+
+    @Test
+    @DisplayName("When the user was already locked, no token epoch event is emitted")
+    void testCheckForLocking_AlreadyLocked_NoEvent() {
+        // GIVEN
+        given(userRepository.increaseLoginAttempts(UserConstants.USERNAME, UserConstants.MAX_LOGIN_ATTEMPTS))
+            .willReturn(UserConstants.MAX_LOGIN_ATTEMPTS + 1);
+
+        // WHEN
+        service.checkForLocking(UserConstants.USERNAME);
+
+        // THEN
+        verify(eventEmitter, Mockito.never()).emit(ArgumentMatchers.any());
     }
 
     @Test
     @DisplayName("When this is the first login attempt it is not locked")
     void testCheckForLocking_FirstAttempt() {
         // GIVEN
-        given(userRepository.increaseLoginAttempts(UserConstants.USERNAME)).willReturn(1);
+        given(userRepository.increaseLoginAttempts(UserConstants.USERNAME, UserConstants.MAX_LOGIN_ATTEMPTS))
+            .willReturn(1);
 
         // WHEN
         service.checkForLocking(UserConstants.USERNAME);
@@ -55,7 +94,7 @@ void testCheckForLocking_FirstAttempt() {
     @DisplayName("When the user is in the max login attempts it is not locked")
     void testCheckForLocking_JustUnderMaxAttempts() {
         // GIVEN
-        given(userRepository.increaseLoginAttempts(UserConstants.USERNAME))
+        given(userRepository.increaseLoginAttempts(UserConstants.USERNAME, UserConstants.MAX_LOGIN_ATTEMPTS))
             .willReturn(UserConstants.MAX_LOGIN_ATTEMPTS - 1);
 
         // WHEN
@@ -66,25 +105,60 @@ void testCheckForLocking_JustUnderMaxAttempts() {
     }
 
     @Test
-    @DisplayName("When the user has reached the max login attempts it is locked")
+    @DisplayName("When the user has reached the max login attempts it is locked along the attempts increase")
     void testCheckForLocking_MaxAttempts() {
         // GIVEN
-        given(userRepository.increaseLoginAttempts(UserConstants.USERNAME))
+        given(userRepository.increaseLoginAttempts(UserConstants.USERNAME, UserConstants.MAX_LOGIN_ATTEMPTS))
             .willReturn(UserConstants.MAX_LOGIN_ATTEMPTS);
-        given(userRepository.findOne(UserConstants.USERNAME)).willReturn(Optional.of(Users.enabled()));
 
         // WHEN
         service.checkForLocking(UserConstants.USERNAME);
 
         // THEN
-        verify(userRepository).lock(UserConstants.USERNAME);
+        verify(userRepository).increaseLoginAttempts(UserConstants.USERNAME, UserConstants.MAX_LOGIN_ATTEMPTS);
+        verify(userRepository, Mockito.never()).lock(UserConstants.USERNAME);
+    }
+
+    @Test
+    @DisplayName("When the user reaches the max login attempts, the token epoch event is emitted")
+    void testCheckForLocking_MaxAttempts_Event() {
+        // GIVEN
+        given(userRepository.increaseLoginAttempts(UserConstants.USERNAME, UserConstants.MAX_LOGIN_ATTEMPTS))
+            .willReturn(UserConstants.MAX_LOGIN_ATTEMPTS);
+
+        // WHEN
+        service.checkForLocking(UserConstants.USERNAME);
+
+        // THEN
+        verify(eventEmitter).emit(new UserTokenEpochEvent(null, UserConstants.USERNAME));
+    }
+
+    @Test
+    @DisplayName("When the user reaches the max login attempts, the lockout is counted")
+    void testCheckForLocking_MaxAttempts_LockoutCounted() {
+        final DefaultUserLoginAttempsService attempsService;
+
+        // GIVEN
+        attempsService = new DefaultUserLoginAttempsService(UserConstants.MAX_LOGIN_ATTEMPTS, userRepository,
+            eventEmitter);
+        given(userRepository.increaseLoginAttempts(UserConstants.USERNAME, UserConstants.MAX_LOGIN_ATTEMPTS))
+            .willReturn(UserConstants.MAX_LOGIN_ATTEMPTS);
+
+        // WHEN
+        attempsService.checkForLocking(UserConstants.USERNAME);
+
+        // THEN
+        Assertions.assertThat(attempsService.getLockoutCount())
+            .as("lockouts")
+            .isEqualTo(1);
     }
 
     @Test
     @DisplayName("When the user doesn't exist it is not locked")
     void testCheckForLocking_NoUser() {
         // GIVEN
-        given(userRepository.increaseLoginAttempts(UserConstants.USERNAME)).willReturn(0);
+        given(userRepository.increaseLoginAttempts(UserConstants.USERNAME, UserConstants.MAX_LOGIN_ATTEMPTS))
+            .willReturn(0);
 
         // WHEN
         service.checkForLocking(UserConstants.USERNAME);
@@ -12,6 +12,7 @@
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.bernardomg.event.emitter.EventEmitter;
 import com.bernardomg.security.domain.user.repository.UserRepository;
 import com.bernardomg.security.usecase.login.service.DefaultUserLoginAttempsService;
 import com.bernardomg.security.usecase.test.user.config.factory.UserConstants;
@@ -22,6 +23,9 @@ class TestDefaultUserLoginAttempsServiceClear {
 
     private DefaultUserLoginAttempsService service;
 
+    @Mock
+    private EventEmitter                   eventEmitter;
+
     @Mock
     private UserRepository                 userRepository;
 
@@ -31,7 +35,7 @@ public TestDefaultUserLoginAttempsServiceClear() {
 
     @BeforeEach
     public void setupService() {
-        service = new DefaultUserLoginAttempsService(UserConstants.MAX_LOGIN_ATTEMPTS, userRepository);
+        service = new DefaultUserLoginAttempsService(UserConstants.MAX_LOGIN_ATTEMPTS, userRepository, eventEmitter);
     }
 
     @Test
@@ -0,0 +1,39 @@
+
+package com.bernardomg.security.usecase.test.login.service.unit;
+
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.bernardomg.security.domain.login.repository.LoginRegisterRepository;
+import com.bernardomg.security.usecase.login.service.DefaultLoginRegisterService;
+import com.bernardomg.security.usecase.test.login.config.factory.LoginRegisters;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LoginRegisterService - register all log ins")
+class TestLoginRegisterServiceRegisterAll {
+
+    @Mock
+    private LoginRegisterRepository     loginRegisterRepository;
+
+    @InjectMocks
+    private DefaultLoginRegisterService service;
+
+    @Test
+    @DisplayName("Persists all the log in attempts at once, keeping their dates")
+    void testRegisterAll_Persisted() {
+        // WHEN
+        service.registerAll(List.of(LoginRegisters.loggedIn(), LoginRegisters.notLoggedIn()));
+
+        // THEN
+        verify(loginRegisterRepository).saveAll(List.of(LoginRegisters.loggedIn(), LoginRegisters.notLoggedIn()));
+    }
+
+}
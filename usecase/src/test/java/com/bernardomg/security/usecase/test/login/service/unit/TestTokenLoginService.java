@@ -5,10 +5,10 @@
 
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -32,12 +32,16 @@ class TestTokenLoginService {
     @Mock
     private LoginTokenEncoder      loginTokenEncoder;
 
-    @InjectMocks
     private TokenLoginService      service;
 
     @Mock
     private LoginUserAuthenticator userAuthenticator;
 
+    @BeforeEach
+    public void initializeService() {
+        service = new TokenLoginService(userAuthenticator, loginTokenEncoder, eventEmitter);
+    }
+
     @Test
     @DisplayName("When loggin in the status and token is returned")
     void testLogIn() {
@@ -4,12 +4,12 @@
 import static org.mockito.BDDMockito.given;
 
 import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -38,7 +38,6 @@ class TestTokenLoginServiceEvent {
     @Mock
     private LoginTokenEncoder          loginTokenEncoder;
 
-    @InjectMocks
     private TokenLoginService          service;
 
     @Mock
@@ -48,6 +47,11 @@ public TestTokenLoginServiceEvent() {
         super();
     }
 
+    @BeforeEach
+    public void initializeService() {
+        service = new TokenLoginService(userAuthenticator, loginTokenEncoder, eventEmitter);
+    }
+
     @Test
     @DisplayName("With a valid account and logging with username it generates a logged in event")
     void testLogIn() {
@@ -0,0 +1,114 @@
+package com.bernardomg.security.usecase.test.login.service.unit;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.Optional;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.bernardomg.event.emitter.EventEmitter;
+import com.bernardomg.security.domain.login.exception.InvalidCredentialsException;
+import com.bernardomg.security.domain.login.model.TokenLoginStatus;
+import com.bernardomg.security.usecase.login.authentication.LoginUserAuthenticator;
+import com.bernardomg.security.usecase.login.encoder.LoginTokenEncoder;
+import com.bernardomg.security.usecase.login.service.TokenLoginService;
+import com.bernardomg.security.usecase.test.config.jwt.factory.Tokens;
+import com.bernardomg.security.usecase.test.login.config.factory.Credentialses;
+import com.bernardomg.security.usecase.test.user.config.factory.LoginUsers;
+import com.bernardomg.security.usecase.test.user.config.factory.UserConstants;
+import com.bernardomg.security.usecase.user.store.UserTokenStore;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenLoginService - refresh token")
+class TestTokenLoginServiceRefreshToken {
+
+    @Mock
+    private EventEmitter           eventEmitter;
+
+    @Mock
+    private LoginTokenEncoder      loginTokenEncoder;
+
+    @Mock
+    private UserTokenStore         refreshTokenStore;
+
+    private TokenLoginService      service;
+
+    @Mock
+    private LoginUserAuthenticator userAuthenticator;
+
+    @BeforeEach
+    public void initializeService() {
+        service = new TokenLoginService(userAuthenticator, loginTokenEncoder, eventEmitter,
+            Optional.of(refreshTokenStore));
+    }
+
+    @Test
+    @DisplayName("When the refresh token store is null, it is rejected")
+    void testConstructor_NullStore() {
+        final ThrowingCallable execution;
+
+        // WHEN
+        execution = () -> new TokenLoginService(userAuthenticator, loginTokenEncoder, eventEmitter, null);
+
+        // THEN
+        Assertions.assertThatThrownBy(execution)
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    @DisplayName("When the login fails, no refresh token is created")
+    void testLogIn_InvalidCredentials() {
+        final TokenLoginStatus status;
+
+        // GIVEN
+        given(userAuthenticator.authenticate(Credentialses.valid())).willThrow(new InvalidCredentialsException());
+
+        // WHEN
+        status = service.login(Credentialses.valid());
+
+        // THEN
+        Assertions.assertThat(status.refreshToken())
+            .as("refresh token")
+            .isEmpty();
+        verify(refreshTokenStore, never()).createToken(ArgumentMatchers.anyString());
+    }
+
+    @Test
+    @DisplayName("When logging in, a refresh token is returned for the user")
+    void testLogIn_RefreshToken() {
+        final TokenLoginStatus status;
+
+        // GIVEN
+        given(userAuthenticator.authenticate(Credentialses.valid())).willReturn(LoginUsers.valid());
+        given(loginTokenEncoder.encode(LoginUsers.valid())).willReturn(Tokens.TOKEN);
+        given(refreshTokenStore.createToken(UserConstants.USERNAME)).willReturn(Tokens.ALTERNATIVE_TOKEN);
+
+        // WHEN
+        status = service.login(Credentialses.valid());
+
+        // THEN
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(status.logged())
+                .as("logged")
+                .isTrue();
+            softly.assertThat(status.token())
+                .as("token")
+                .isEqualTo(Tokens.TOKEN);
+            softly.assertThat(status.refreshToken())
+                .as("refresh token")
+                .isEqualTo(Tokens.ALTERNATIVE_TOKEN);
+        });
+    }
+
+}
@@ -16,7 +16,9 @@
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.bernardomg.event.emitter.EventEmitter;
 import com.bernardomg.security.domain.password.change.exception.InvalidPasswordChangeException;
+import com.bernardomg.security.domain.user.event.UserTokenEpochEvent;
 import com.bernardomg.security.domain.user.exception.DisabledUserException;
 import com.bernardomg.security.domain.user.exception.ExpiredUserException;
 import com.bernardomg.security.domain.user.exception.LockedUserException;
@@ -34,6 +36,9 @@
 @DisplayName("SpringSecurityPasswordChangeService - change password")
 class TestSpringSecurityPasswordChangeService {
 
+    @Mock
+    private EventEmitter                 eventEmitter;
+
     @Mock
     private PasswordEncrypter            passwordEncrypter;
 
@@ -247,4 +252,22 @@ void testChangePasswordForUserInSession_Resets() {
             .resetPassword(UserConstants.USERNAME, UserConstants.ENCODED_NEW_PASSWORD);
     }
 
+    @Test
+    @DisplayName("When changing a password the token epoch event is emitted")
+    void testChangePasswordForUserInSession_TokenEpochEvent() {
+
+        // GIVEN
+        given(passwordEncrypter.encrypt(UserConstants.NEW_PASSWORD)).willReturn(UserConstants.ENCODED_NEW_PASSWORD);
+        given(passwordEncrypter.matches(UserConstants.PASSWORD, UserConstants.PASSWORD)).willReturn(true);
+        given(repository.findOne(UserConstants.USERNAME)).willReturn(Optional.of(Users.enabled()));
+        given(repository.findPassword(UserConstants.USERNAME)).willReturn(Optional.of(UserConstants.PASSWORD));
+
+        // WHEN
+        service.changePasswordForUserInSession(UserConstants.PASSWORD, UserConstants.NEW_PASSWORD);
+
+        // THEN
+        Mockito.verify(eventEmitter)
+            .emit(new UserTokenEpochEvent(null, UserConstants.USERNAME));
+    }
+
 }
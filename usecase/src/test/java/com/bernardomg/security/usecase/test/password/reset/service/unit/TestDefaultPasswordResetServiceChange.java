@@ -2,6 +2,7 @@
 package com.bernardomg.security.usecase.test.password.reset.service.unit;
 
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import java.util.Optional;
@@ -11,11 +12,13 @@
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.bernardomg.event.emitter.EventEmitter;
+import com.bernardomg.security.domain.user.event.UserTokenEpochEvent;
 import com.bernardomg.security.domain.user.exception.DisabledUserException;
 import com.bernardomg.security.domain.user.exception.ExpiredUserException;
 import com.bernardomg.security.domain.user.exception.LockedUserException;
@@ -56,7 +59,7 @@ void testChangePassword_Disabled() {
         final Exception        exception;
 
         // GIVEN
-        given(tokenStore.getUsername(Tokens.TOKEN)).willReturn(UserConstants.USERNAME);
+        given(tokenStore.consumeToken(Tokens.TOKEN)).willReturn(UserConstants.USERNAME);
         given(userRepository.findOne(UserConstants.USERNAME)).willReturn(Optional.of(Users.disabled()));
 
         // WHEN
@@ -77,7 +80,7 @@ void testChangePassword_Expired() {
         final Exception        exception;
 
         // GIVEN
-        given(tokenStore.getUsername(Tokens.TOKEN)).willReturn(UserConstants.USERNAME);
+        given(tokenStore.consumeToken(Tokens.TOKEN)).willReturn(UserConstants.USERNAME);
         given(userRepository.findOne(UserConstants.USERNAME)).willReturn(Optional.of(Users.expired()));
 
         // WHEN
@@ -106,6 +109,19 @@ void testChangePassword_InvalidPassword() {
         ValidationAssertions.assertThatFieldFails(execution, failure);
     }
 
+    @Test
+    @DisplayName("Changing password with an invalid password doesn't consume the token")
+    void testChangePassword_InvalidPassword_TokenNotConsumed() {
+        final ThrowingCallable execution;
+
+        // WHEN
+        execution = () -> service.changePassword(Tokens.TOKEN, "abc");
+        Assertions.catchThrowable(execution);
+
+        // THEN
+        verify(tokenStore, never()).consumeToken(ArgumentMatchers.anyString());
+    }
+
     @Test
     @DisplayName("Changing password with a locked user throws an exception")
     void testChangePassword_Locked() {
@@ -113,7 +129,7 @@ void testChangePassword_Locked() {
         final Exception        exception;
 
         // GIVEN
-        given(tokenStore.getUsername(Tokens.TOKEN)).willReturn(UserConstants.USERNAME);
+        given(tokenStore.consumeToken(Tokens.TOKEN)).willReturn(UserConstants.USERNAME);
         given(userRepository.findOne(UserConstants.USERNAME)).willReturn(Optional.of(Users.locked()));
 
         // WHEN
@@ -134,7 +150,7 @@ void testChangePassword_NotExistingUser() {
         final Exception        exception;
 
         // GIVEN
-        given(tokenStore.getUsername(Tokens.TOKEN)).willReturn(UserConstants.USERNAME);
+        given(tokenStore.consumeToken(Tokens.TOKEN)).willReturn(UserConstants.USERNAME);
 
         // WHEN
         execution = () -> service.changePassword(Tokens.TOKEN, UserConstants.NEW_PASSWORD);
@@ -152,7 +168,7 @@ void testChangePassword_NotExistingUser() {
     void testChangePassword_PasswordExpired_ResetsPassword() {
         // GIVEN
         given(passwordEncrypter.encrypt(UserConstants.NEW_PASSWORD)).willReturn(UserConstants.ENCODED_NEW_PASSWORD);
-        given(tokenStore.getUsername(Tokens.TOKEN)).willReturn(UserConstants.USERNAME);
+        given(tokenStore.consumeToken(Tokens.TOKEN)).willReturn(UserConstants.USERNAME);
         given(userRepository.findOne(UserConstants.USERNAME)).willReturn(Optional.of(Users.passwordExpired()));
 
         // WHEN
@@ -167,7 +183,7 @@ void testChangePassword_PasswordExpired_ResetsPassword() {
     void testChangePassword_ResetsPassword() {
         // GIVEN
         given(passwordEncrypter.encrypt(UserConstants.NEW_PASSWORD)).willReturn(UserConstants.ENCODED_NEW_PASSWORD);
-        given(tokenStore.getUsername(Tokens.TOKEN)).willReturn(UserConstants.USERNAME);
+        given(tokenStore.consumeToken(Tokens.TOKEN)).willReturn(UserConstants.USERNAME);
         given(userRepository.findOne(UserConstants.USERNAME)).willReturn(Optional.of(Users.enabled()));
 
         // WHEN
@@ -181,7 +197,7 @@ void testChangePassword_ResetsPassword() {
     @DisplayName("Changing password consumes the token")
     void testChangePassword_TokenConsumed() {
         // GIVEN
-        given(tokenStore.getUsername(Tokens.TOKEN)).willReturn(UserConstants.USERNAME);
+        given(tokenStore.consumeToken(Tokens.TOKEN)).willReturn(UserConstants.USERNAME);
         given(userRepository.findOne(UserConstants.USERNAME)).willReturn(Optional.of(Users.enabled()));
 
         // WHEN
@@ -191,4 +207,19 @@ void testChangePassword_TokenConsumed() {
         verify(tokenStore).consumeToken(Tokens.TOKEN);
     }
 
+    @Test
+    @DisplayName("Changing password emits the token epoch event")
+    void testChangePassword_TokenEpochEvent() {
+        // GIVEN
+        given(passwordEncrypter.encrypt(UserConstants.NEW_PASSWORD)).willReturn(UserConstants.ENCODED_NEW_PASSWORD);
+        given(tokenStore.consumeToken(Tokens.TOKEN)).willReturn(UserConstants.USERNAME);
+        given(userRepository.findOne(UserConstants.USERNAME)).willReturn(Optional.of(Users.enabled()));
+
+        // WHEN
+        service.changePassword(Tokens.TOKEN, UserConstants.NEW_PASSWORD);
+
+        // THEN
+        verify(eventEmitter).emit(new UserTokenEpochEvent(null, UserConstants.USERNAME));
+    }
+
 }
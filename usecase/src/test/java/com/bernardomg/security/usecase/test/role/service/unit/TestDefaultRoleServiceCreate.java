@@ -4,6 +4,8 @@
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
+import java.util.List;
+
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.junit.jupiter.api.DisplayName;
@@ -14,12 +16,14 @@
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.bernardomg.event.emitter.EventEmitter;
 import com.bernardomg.security.domain.permission.exception.MissingResourcePermissionException;
 import com.bernardomg.security.domain.permission.repository.ResourcePermissionRepository;
 import com.bernardomg.security.domain.role.model.Role;
 import com.bernardomg.security.domain.role.repository.RoleRepository;
+import com.bernardomg.security.domain.user.repository.UserRepository;
 import com.bernardomg.security.usecase.role.service.DefaultRoleService;
-import com.bernardomg.security.usecase.test.role.config.factory.PermissionConstants;
+import com.bernardomg.security.usecase.test.role.config.factory.ResourcePermissions;
 import com.bernardomg.security.usecase.test.role.config.factory.RoleConstants;
 import com.bernardomg.security.usecase.test.role.config.factory.Roles;
 import com.bernardomg.validation.domain.model.FieldFailure;
@@ -29,6 +33,9 @@
 @DisplayName("DefaultRoleService - create")
 class TestDefaultRoleServiceCreate {
 
+    @Mock
+    private EventEmitter                 eventEmitter;
+
     @Mock
     private ResourcePermissionRepository resourcePermissionRepository;
 
@@ -38,6 +45,9 @@ class TestDefaultRoleServiceCreate {
     @InjectMocks
     private DefaultRoleService           service;
 
+    @Mock
+    private UserRepository               userRepository;
+
     public TestDefaultRoleServiceCreate() {
         super();
     }
@@ -124,8 +134,8 @@ void testCreate_Permissions_PersistedData() {
         final Role toCreate;
 
         // GIVEN
-        given(resourcePermissionRepository.exists(PermissionConstants.DATA, PermissionConstants.CREATE))
-            .willReturn(true);
+        given(resourcePermissionRepository.findExisting(List.of(ResourcePermissions.create())))
+            .willReturn(List.of(ResourcePermissions.create()));
         toCreate = Roles.withSinglePermission();
 
         // WHEN
@@ -142,8 +152,8 @@ void testCreate_Permissions_ReturnedData() {
         final Role toCreate;
 
         // GIVEN
-        given(resourcePermissionRepository.exists(PermissionConstants.DATA, PermissionConstants.CREATE))
-            .willReturn(true);
+        given(resourcePermissionRepository.findExisting(List.of(ResourcePermissions.create())))
+            .willReturn(List.of(ResourcePermissions.create()));
         toCreate = Roles.withSinglePermission();
 
         // GIVEN
@@ -158,7 +168,7 @@ void testCreate_Permissions_ReturnedData() {
     }
 
     @Test
-    @DisplayName("When the permission doesn't exists an exception is thrown")
+    @DisplayName("When the permission doesn't exists an exception is thrown with all the missing permissions")
     void testUpdate_NotExistingPermission() {
         final ThrowingCallable execution;
         final Role             data;
@@ -166,15 +176,15 @@ void testUpdate_NotExistingPermission() {
         // GIVEN
         data = Roles.withSinglePermission();
 
-        given(resourcePermissionRepository.exists(PermissionConstants.DATA, PermissionConstants.CREATE))
-            .willReturn(false);
+        given(resourcePermissionRepository.findExisting(List.of(ResourcePermissions.create()))).willReturn(List.of());
 
         // WHEN
         execution = () -> service.create(data);
 
         // THEN
         Assertions.assertThatThrownBy(execution)
-            .isInstanceOf(MissingResourcePermissionException.class);
+            .isInstanceOf(MissingResourcePermissionException.class)
+            .hasFieldOrPropertyWithValue("permissions", List.of(ResourcePermissions.create()));
     }
 
 }
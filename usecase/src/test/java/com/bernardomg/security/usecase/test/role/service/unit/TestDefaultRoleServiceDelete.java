@@ -38,9 +38,11 @@
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.bernardomg.event.emitter.EventEmitter;
 import com.bernardomg.security.domain.permission.repository.ResourcePermissionRepository;
 import com.bernardomg.security.domain.role.exception.MissingRoleException;
 import com.bernardomg.security.domain.role.repository.RoleRepository;
+import com.bernardomg.security.domain.user.repository.UserRepository;
 import com.bernardomg.security.usecase.role.service.DefaultRoleService;
 import com.bernardomg.security.usecase.test.role.config.factory.RoleConstants;
 import com.bernardomg.security.usecase.test.role.config.factory.Roles;
@@ -49,6 +51,9 @@
 @DisplayName("DefaultRoleService - delete")
 class TestDefaultRoleServiceDelete {
 
+    @Mock
+    private EventEmitter                 eventEmitter;
+
     @Mock
     private ResourcePermissionRepository resourcePermissionRepository;
 
@@ -58,6 +63,9 @@ class TestDefaultRoleServiceDelete {
     @InjectMocks
     private DefaultRoleService           service;
 
+    @Mock
+    private UserRepository               userRepository;
+
     public TestDefaultRoleServiceDelete() {
         super();
     }
@@ -14,6 +14,7 @@
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.bernardomg.event.emitter.EventEmitter;
 import com.bernardomg.pagination.domain.Page;
 import com.bernardomg.pagination.domain.Pagination;
 import com.bernardomg.pagination.domain.Sorting;
@@ -21,6 +22,7 @@
 import com.bernardomg.security.domain.role.filter.RoleFilter;
 import com.bernardomg.security.domain.role.model.Role;
 import com.bernardomg.security.domain.role.repository.RoleRepository;
+import com.bernardomg.security.domain.user.repository.UserRepository;
 import com.bernardomg.security.usecase.role.service.DefaultRoleService;
 import com.bernardomg.security.usecase.test.role.config.factory.RoleFilters;
 import com.bernardomg.security.usecase.test.role.config.factory.Roles;
@@ -29,6 +31,9 @@
 @DisplayName("DefaultRoleService - get all")
 class TestDefaultRoleServiceGetAll {
 
+    @Mock
+    private EventEmitter                 eventEmitter;
+
     @Mock
     private ResourcePermissionRepository resourcePermissionRepository;
 
@@ -38,6 +43,9 @@ class TestDefaultRoleServiceGetAll {
     @InjectMocks
     private DefaultRoleService           service;
 
+    @Mock
+    private UserRepository               userRepository;
+
     @Test
     @DisplayName("When there are roles they are returned")
     void testGetAll() {
@@ -14,10 +14,12 @@
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.bernardomg.event.emitter.EventEmitter;
 import com.bernardomg.security.domain.permission.repository.ResourcePermissionRepository;
 import com.bernardomg.security.domain.role.exception.MissingRoleException;
 import com.bernardomg.security.domain.role.model.Role;
 import com.bernardomg.security.domain.role.repository.RoleRepository;
+import com.bernardomg.security.domain.user.repository.UserRepository;
 import com.bernardomg.security.usecase.role.service.DefaultRoleService;
 import com.bernardomg.security.usecase.test.role.config.factory.RoleConstants;
 import com.bernardomg.security.usecase.test.role.config.factory.Roles;
@@ -26,6 +28,9 @@
 @DisplayName("DefaultRoleService - get one")
 class TestDefaultRoleServiceGetOne {
 
+    @Mock
+    private EventEmitter                 eventEmitter;
+
     @Mock
     private ResourcePermissionRepository resourcePermissionRepository;
 
@@ -35,6 +40,9 @@ class TestDefaultRoleServiceGetOne {
     @InjectMocks
     private DefaultRoleService           service;
 
+    @Mock
+    private UserRepository               userRepository;
+
     public TestDefaultRoleServiceGetOne() {
         super();
     }
@@ -27,6 +27,8 @@
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
+import java.util.List;
+
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.junit.jupiter.api.DisplayName;
@@ -37,13 +39,16 @@
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.bernardomg.event.emitter.EventEmitter;
 import com.bernardomg.security.domain.permission.exception.MissingResourcePermissionException;
 import com.bernardomg.security.domain.permission.repository.ResourcePermissionRepository;
+import com.bernardomg.security.domain.role.event.RoleTokenEpochEvent;
 import com.bernardomg.security.domain.role.exception.MissingRoleException;
 import com.bernardomg.security.domain.role.model.Role;
 import com.bernardomg.security.domain.role.repository.RoleRepository;
+import com.bernardomg.security.domain.user.repository.UserRepository;
 import com.bernardomg.security.usecase.role.service.DefaultRoleService;
-import com.bernardomg.security.usecase.test.role.config.factory.PermissionConstants;
+import com.bernardomg.security.usecase.test.role.config.factory.ResourcePermissions;
 import com.bernardomg.security.usecase.test.role.config.factory.RoleConstants;
 import com.bernardomg.security.usecase.test.role.config.factory.Roles;
 import com.bernardomg.validation.domain.model.FieldFailure;
@@ -53,6 +58,9 @@
 @DisplayName("DefaultRoleService - update")
 class TestDefaultRoleServiceUpdate {
 
+    @Mock
+    private EventEmitter                 eventEmitter;
+
     @Mock
     private ResourcePermissionRepository resourcePermissionRepository;
 
@@ -62,6 +70,9 @@ class TestDefaultRoleServiceUpdate {
     @InjectMocks
     private DefaultRoleService           service;
 
+    @Mock
+    private UserRepository               userRepository;
+
     public TestDefaultRoleServiceUpdate() {
         super();
     }
@@ -77,8 +88,8 @@ void testUpdate_DuplicatedPermission() {
         data = Roles.duplicatedPermission();
 
         given(roleRepository.exists(RoleConstants.NAME)).willReturn(true);
-        given(resourcePermissionRepository.exists(PermissionConstants.DATA, PermissionConstants.CREATE))
-            .willReturn(true);
+        given(resourcePermissionRepository.findExisting(List.of(ResourcePermissions.create())))
+            .willReturn(List.of(ResourcePermissions.create()));
 
         // WHEN
         executable = () -> service.update(data);
@@ -98,13 +109,9 @@ void testUpdate_MultiplePermissions_PersistedData() {
         data = Roles.withPermissions();
 
         given(roleRepository.exists(RoleConstants.NAME)).willReturn(true);
-        given(resourcePermissionRepository.exists(PermissionConstants.DATA, PermissionConstants.CREATE))
-            .willReturn(true);
-        given(resourcePermissionRepository.exists(PermissionConstants.DATA, PermissionConstants.DELETE))
-            .willReturn(true);
-        given(resourcePermissionRepository.exists(PermissionConstants.DATA, PermissionConstants.READ)).willReturn(true);
-        given(resourcePermissionRepository.exists(PermissionConstants.DATA, PermissionConstants.UPDATE))
-            .willReturn(true);
+        given(resourcePermissionRepository.findExisting(Roles.withPermissions()
+            .permissions())).willReturn(Roles.withPermissions()
+                .permissions());
 
         // WHEN
         service.update(data);
@@ -124,13 +131,9 @@ void testUpdate_MultiplePermissions_ReturnedData() {
 
         given(roleRepository.exists(RoleConstants.NAME)).willReturn(true);
         given(roleRepository.save(ArgumentMatchers.any())).willReturn(Roles.withPermissions());
-        given(resourcePermissionRepository.exists(PermissionConstants.DATA, PermissionConstants.CREATE))
-            .willReturn(true);
-        given(resourcePermissionRepository.exists(PermissionConstants.DATA, PermissionConstants.DELETE))
-            .willReturn(true);
-        given(resourcePermissionRepository.exists(PermissionConstants.DATA, PermissionConstants.READ)).willReturn(true);
-        given(resourcePermissionRepository.exists(PermissionConstants.DATA, PermissionConstants.UPDATE))
-            .willReturn(true);
+        given(resourcePermissionRepository.findExisting(Roles.withPermissions()
+            .permissions())).willReturn(Roles.withPermissions()
+                .permissions());
 
         // WHEN
         role = service.update(data);
@@ -178,7 +181,7 @@ void testUpdate_NoPermissions_ReturnedData() {
     }
 
     @Test
-    @DisplayName("When the permission doesn't exists an exception is thrown")
+    @DisplayName("When the permission doesn't exists an exception is thrown with all the missing permissions")
     void testUpdate_NotExistingPermission() {
         final ThrowingCallable execution;
         final Role             data;
@@ -187,15 +190,15 @@ void testUpdate_NotExistingPermission() {
         data = Roles.withSinglePermission();
 
         given(roleRepository.exists(RoleConstants.NAME)).willReturn(true);
-        given(resourcePermissionRepository.exists(PermissionConstants.DATA, PermissionConstants.CREATE))
-            .willReturn(false);
+        given(resourcePermissionRepository.findExisting(List.of(ResourcePermissions.create()))).willReturn(List.of());
 
         // WHEN
         execution = () -> service.update(data);
 
         // THEN
         Assertions.assertThatThrownBy(execution)
-            .isInstanceOf(MissingResourcePermissionException.class);
+            .isInstanceOf(MissingResourcePermissionException.class)
+            .hasFieldOrPropertyWithValue("permissions", List.of(ResourcePermissions.create()));
     }
 
     @Test
@@ -217,4 +220,38 @@ void testUpdate_NotExistingRole() {
             .isInstanceOf(MissingRoleException.class);
     }
 
+    @Test
+    @DisplayName("When updating a role, the token epoch event is emitted")
+    void testUpdate_TokenEpochEvent() {
+        final Role data;
+
+        // GIVEN
+        data = Roles.withoutPermissions();
+
+        given(roleRepository.exists(RoleConstants.NAME)).willReturn(true);
+
+        // WHEN
+        service.update(data);
+
+        // THEN
+        verify(eventEmitter).emit(new RoleTokenEpochEvent(null, RoleConstants.NAME));
+    }
+
+    @Test
+    @DisplayName("When updating a role, the token epoch of its users is increased")
+    void testUpdate_TokenEpochIncreased() {
+        final Role data;
+
+        // GIVEN
+        data = Roles.withoutPermissions();
+
+        given(roleRepository.exists(RoleConstants.NAME)).willReturn(true);
+
+        // WHEN
+        service.update(data);
+
+        // THEN
+        verify(userRepository).increaseTokenEpochByRole(RoleConstants.NAME);
+    }
+
 }
@@ -0,0 +1,25 @@
+package com.bernardomg.security.usecase.test.user.config.factory;
+
+import java.util.List;
+
+import com.bernardomg.security.domain.user.model.UserAuthenticationDetails;
+
+public final class UsersAuthenticationDetails {
+
+    public static final UserAuthenticationDetails enabled() {
+        return new UserAuthenticationDetails(UserConstants.ID, UserConstants.EMAIL, UserConstants.USERNAME,
+            UserConstants.NAME, UserConstants.ENCODED_PASSWORD, true, true, true, true,
+            List.of(ResourcePermissions.create()));
+    }
+
+    public static final UserAuthenticationDetails locked() {
+        return new UserAuthenticationDetails(UserConstants.ID, UserConstants.EMAIL, UserConstants.USERNAME,
+            UserConstants.NAME, UserConstants.ENCODED_PASSWORD, true, true, false, true,
+            List.of(ResourcePermissions.create()));
+    }
+
+    private UsersAuthenticationDetails() {
+        super();
+    }
+
+}
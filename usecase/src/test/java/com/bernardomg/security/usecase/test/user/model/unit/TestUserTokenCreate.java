@@ -0,0 +1,83 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.security.usecase.test.user.model.unit;
+
+import java.time.Duration;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.bernardomg.security.domain.user.model.UserToken;
+import com.bernardomg.security.usecase.test.user.config.factory.UserConstants;
+
+@DisplayName("UserToken - create")
+class TestUserTokenCreate {
+
+    @Test
+    @DisplayName("The created token code is URL safe base64")
+    void testCreate_Alphabet() {
+        final UserToken token;
+
+        // WHEN
+        token = UserToken.create(UserConstants.USERNAME, "scope", Duration.ofDays(1));
+
+        // THEN
+        Assertions.assertThat(token.token())
+            .as("token code")
+            .matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    @DisplayName("The created token codes are different")
+    void testCreate_Different() {
+        final UserToken token;
+        final UserToken other;
+
+        // WHEN
+        token = UserToken.create(UserConstants.USERNAME, "scope", Duration.ofDays(1));
+        other = UserToken.create(UserConstants.USERNAME, "scope", Duration.ofDays(1));
+
+        // THEN
+        Assertions.assertThat(token.token())
+            .as("token code")
+            .isNotEqualTo(other.token());
+    }
+
+    @Test
+    @DisplayName("The created token code encodes 256 bits without padding")
+    void testCreate_Length() {
+        final UserToken token;
+
+        // WHEN
+        token = UserToken.create(UserConstants.USERNAME, "scope", Duration.ofDays(1));
+
+        // THEN
+        Assertions.assertThat(token.token())
+            .as("token code")
+            .hasSize(43);
+    }
+
+}
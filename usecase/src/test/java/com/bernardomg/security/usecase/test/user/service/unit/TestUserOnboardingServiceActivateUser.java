@@ -2,6 +2,7 @@
 package com.bernardomg.security.usecase.test.user.service.unit;
 
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import java.util.Optional;
@@ -11,6 +12,7 @@
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -61,9 +63,8 @@ public TestUserOnboardingServiceActivateUser() {
     @DisplayName("Activating a new user consumes the token")
     void testActivateUser_ConsumesToken() {
         // GIVEN
-        given(tokenStore.getUsername(Tokens.TOKEN)).willReturn(UserConstants.USERNAME);
+        given(tokenStore.consumeToken(Tokens.TOKEN)).willReturn(UserConstants.USERNAME);
         given(repository.findOne(UserConstants.USERNAME)).willReturn(Optional.of(Users.newlyCreated()));
-        given(tokenStore.getUsername(Tokens.TOKEN)).willReturn(UserConstants.USERNAME);
 
         // WHEN
         service.activateUser(Tokens.TOKEN, UserConstants.NEW_PASSWORD);
@@ -77,7 +78,7 @@ void testActivateUser_ConsumesToken() {
     void testActivateUser_Disabled() {
         // GIVEN
         given(passwordEncrypt.encrypt(UserConstants.NEW_PASSWORD)).willReturn(UserConstants.ENCODED_PASSWORD);
-        given(tokenStore.getUsername(Tokens.TOKEN)).willReturn(UserConstants.USERNAME);
+        given(tokenStore.consumeToken(Tokens.TOKEN)).willReturn(UserConstants.USERNAME);
         given(repository.findOne(UserConstants.USERNAME)).willReturn(Optional.of(Users.disabled()));
 
         // WHEN
@@ -94,7 +95,7 @@ void testActivateUser_Enabled_Exception() {
         final Exception        exception;
 
         // GIVEN
-        given(tokenStore.getUsername(Tokens.TOKEN)).willReturn(UserConstants.USERNAME);
+        given(tokenStore.consumeToken(Tokens.TOKEN)).willReturn(UserConstants.USERNAME);
         given(repository.findOne(UserConstants.USERNAME)).willReturn(Optional.of(Users.enabled()));
 
         // WHEN
@@ -114,7 +115,7 @@ void testActivateUser_Expired_Exception() {
         final Exception        exception;
 
         // GIVEN
-        given(tokenStore.getUsername(Tokens.TOKEN)).willReturn(UserConstants.USERNAME);
+        given(tokenStore.consumeToken(Tokens.TOKEN)).willReturn(UserConstants.USERNAME);
         given(repository.findOne(UserConstants.USERNAME)).willReturn(Optional.of(Users.expired()));
 
         // WHEN
@@ -142,12 +143,25 @@ void testActivateUser_InvalidPassword() {
         ValidationAssertions.assertThatFieldFails(execution, failure);
     }
 
+    @Test
+    @DisplayName("Activating a user with an invalid password doesn't consume the token")
+    void testActivateUser_InvalidPassword_TokenNotConsumed() {
+        final ThrowingCallable execution;
+
+        // WHEN
+        execution = () -> service.activateUser(Tokens.TOKEN, "abc");
+        Assertions.catchThrowable(execution);
+
+        // THEN
+        verify(tokenStore, never()).consumeToken(ArgumentMatchers.anyString());
+    }
+
     @Test
     @DisplayName("Activating a new user keeps its roles")
     void testActivateUser_KeepsRoles() {
         // GIVEN
         given(passwordEncrypt.encrypt(UserConstants.NEW_PASSWORD)).willReturn(UserConstants.ENCODED_PASSWORD);
-        given(tokenStore.getUsername(Tokens.TOKEN)).willReturn(UserConstants.USERNAME);
+        given(tokenStore.consumeToken(Tokens.TOKEN)).willReturn(UserConstants.USERNAME);
         given(repository.findOne(UserConstants.USERNAME)).willReturn(Optional.of(Users.newlyCreatedWithRole()));
 
         // WHEN
@@ -164,7 +178,7 @@ void testActivateUser_Locked_Exception() {
         final Exception        exception;
 
         // GIVEN
-        given(tokenStore.getUsername(Tokens.TOKEN)).willReturn(UserConstants.USERNAME);
+        given(tokenStore.consumeToken(Tokens.TOKEN)).willReturn(UserConstants.USERNAME);
         given(repository.findOne(UserConstants.USERNAME)).willReturn(Optional.of(Users.locked()));
 
         // WHEN
@@ -182,7 +196,7 @@ void testActivateUser_Locked_Exception() {
     void testActivateUser_NewlyCreated() {
         // GIVEN
         given(passwordEncrypt.encrypt(UserConstants.NEW_PASSWORD)).willReturn(UserConstants.ENCODED_PASSWORD);
-        given(tokenStore.getUsername(Tokens.TOKEN)).willReturn(UserConstants.USERNAME);
+        given(tokenStore.consumeToken(Tokens.TOKEN)).willReturn(UserConstants.USERNAME);
         given(repository.findOne(UserConstants.USERNAME)).willReturn(Optional.of(Users.newlyCreated()));
 
         // WHEN
@@ -199,7 +213,7 @@ void testActivateUser_NotExistingUser_Exception() {
         final Exception        exception;
 
         // GIVEN
-        given(tokenStore.getUsername(Tokens.TOKEN)).willReturn(UserConstants.USERNAME);
+        given(tokenStore.consumeToken(Tokens.TOKEN)).willReturn(UserConstants.USERNAME);
         given(repository.findOne(UserConstants.USERNAME)).willReturn(Optional.empty());
 
         // WHEN
@@ -217,7 +231,7 @@ void testActivateUser_NotExistingUser_Exception() {
     void testActivateUser_PaddedPassword() {
         // GIVEN
         given(passwordEncrypt.encrypt(UserConstants.NEW_PASSWORD)).willReturn(UserConstants.ENCODED_PASSWORD);
-        given(tokenStore.getUsername(Tokens.TOKEN)).willReturn(UserConstants.USERNAME);
+        given(tokenStore.consumeToken(Tokens.TOKEN)).willReturn(UserConstants.USERNAME);
         given(repository.findOne(UserConstants.USERNAME)).willReturn(Optional.of(Users.newlyCreated()));
 
         // WHEN
@@ -232,7 +246,7 @@ void testActivateUser_PaddedPassword() {
     void testActivateUser_PasswordExpired() {
         // GIVEN
         given(passwordEncrypt.encrypt(UserConstants.NEW_PASSWORD)).willReturn(UserConstants.ENCODED_PASSWORD);
-        given(tokenStore.getUsername(Tokens.TOKEN)).willReturn(UserConstants.USERNAME);
+        given(tokenStore.consumeToken(Tokens.TOKEN)).willReturn(UserConstants.USERNAME);
         given(repository.findOne(UserConstants.USERNAME)).willReturn(Optional.of(Users.passwordExpiredAndDisabled()));
 
         // WHEN
@@ -27,6 +27,8 @@
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
+import java.util.List;
+
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.junit.jupiter.api.DisplayName;
@@ -116,7 +118,7 @@ void testInviteUser_DuplicatedRole() {
         final FieldFailure     failure;
 
         // GIVEN
-        given(roleRepository.exists(RoleConstants.NAME)).willReturn(true);
+        given(roleRepository.findExistingNames(List.of(RoleConstants.NAME))).willReturn(List.of(RoleConstants.NAME));
 
         // WHEN
         executable = () -> service.inviteUser(Users.duplicatedRole());
@@ -184,7 +186,7 @@ void testInviteUser_NotExistingRole() {
         final ThrowingCallable execution;
 
         // GIVEN
-        given(roleRepository.exists(RoleConstants.NAME)).willReturn(false);
+        given(roleRepository.findExistingNames(List.of(RoleConstants.NAME))).willReturn(List.of());
 
         // WHEN
         execution = () -> service.inviteUser(Users.enabled());
@@ -255,7 +257,7 @@ void testInviteUser_Role_PersistedData() {
         // GIVEN
         given(passwordEncrypt.encrypt("")).willReturn(UserConstants.ENCODED_PASSWORD);
         given(tokenStore.createToken(UserConstants.USERNAME)).willReturn(Tokens.TOKEN);
-        given(roleRepository.exists(RoleConstants.NAME)).willReturn(true);
+        given(roleRepository.findExistingNames(List.of(RoleConstants.NAME))).willReturn(List.of(RoleConstants.NAME));
         given(userRepository.save(Users.newlyCreatedWithRole(), UserConstants.ENCODED_PASSWORD))
             .willReturn(Users.newlyCreatedWithRole());
 
@@ -274,7 +276,7 @@ void testInviteUser_Role_ReturnedData() {
         // GIVEN
         given(passwordEncrypt.encrypt("")).willReturn(UserConstants.ENCODED_PASSWORD);
         given(tokenStore.createToken(UserConstants.USERNAME)).willReturn(Tokens.TOKEN);
-        given(roleRepository.exists(RoleConstants.NAME)).willReturn(true);
+        given(roleRepository.findExistingNames(List.of(RoleConstants.NAME))).willReturn(List.of(RoleConstants.NAME));
         given(userRepository.save(Users.newlyCreatedWithRole(), UserConstants.ENCODED_PASSWORD))
             .willReturn(Users.newlyCreatedWithRole());
 
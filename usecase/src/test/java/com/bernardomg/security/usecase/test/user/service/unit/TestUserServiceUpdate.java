@@ -25,6 +25,7 @@
 package com.bernardomg.security.usecase.test.user.service.unit;
 
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import java.util.Optional;
@@ -42,6 +43,7 @@
 import com.bernardomg.event.emitter.EventEmitter;
 import com.bernardomg.security.domain.role.exception.MissingRoleException;
 import com.bernardomg.security.domain.role.repository.RoleRepository;
+import com.bernardomg.security.domain.user.event.UserTokenEpochEvent;
 import com.bernardomg.security.domain.user.exception.MissingUsernameException;
 import com.bernardomg.security.domain.user.model.User;
 import com.bernardomg.security.domain.user.repository.UserRepository;
@@ -80,6 +82,37 @@ public TestUserServiceUpdate() {
         super();
     }
 
+    @Test
+    @DisplayName("When adding a role, the token epoch event is emitted")
+    void testUpdate_AddRole_TokenEpochEvent() {
+
+        // GIVEN
+        given(userRepository.findOne(UserConstants.USERNAME)).willReturn(Optional.of(Users.enabled()));
+        given(roleRepository.exists(RoleConstants.NAME)).willReturn(true);
+        given(roleRepository.exists(RoleConstants.ALTERNATIVE_NAME)).willReturn(true);
+
+        // WHEN
+        service.update(Users.additionalRole());
+
+        // THEN
+        verify(eventEmitter).emit(new UserTokenEpochEvent(null, UserConstants.USERNAME));
+    }
+
+    @Test
+    @DisplayName("When disabling the user, the token epoch event is emitted")
+    void testUpdate_Disable_TokenEpochEvent() {
+
+        // GIVEN
+        given(userRepository.findOne(UserConstants.USERNAME)).willReturn(Optional.of(Users.enabled()));
+        given(roleRepository.exists(RoleConstants.NAME)).willReturn(true);
+
+        // WHEN
+        service.update(Users.disabled());
+
+        // THEN
+        verify(eventEmitter).emit(new UserTokenEpochEvent(null, UserConstants.USERNAME));
+    }
+
     @Test
     @DisplayName("Throws an exception when the role is duplicated")
     void testUpdate_DuplicatedRole() {
@@ -171,6 +204,21 @@ void testUpdate_NotExistingUser() {
             .isInstanceOf(MissingUsernameException.class);
     }
 
+    @Test
+    @DisplayName("When neither the roles nor the status change, no token epoch event is emitted")
+    void testUpdate_UpdateEmail_NoTokenEpochEvent() {
+
+        // GIVEN
+        given(userRepository.findOne(UserConstants.USERNAME)).willReturn(Optional.of(Users.enabled()));
+        given(roleRepository.exists(RoleConstants.NAME)).willReturn(true);
+
+        // WHEN
+        service.update(Users.emailChange());
+
+        // THEN
+        verify(eventEmitter, never()).emit(ArgumentMatchers.any());
+    }
+
     @Test
     @DisplayName("Sends the user with an updated email to the repository")
     void testUpdate_UpdateEmail_PersistedData() {
@@ -235,4 +283,18 @@ void testUpdate_withoutRoles_ReturnedData() {
             .isEqualTo(Users.withoutRoles());
     }
 
+    @Test
+    @DisplayName("When removing the roles, the token epoch event is emitted")
+    void testUpdate_withoutRoles_TokenEpochEvent() {
+
+        // GIVEN
+        given(userRepository.findOne(UserConstants.USERNAME)).willReturn(Optional.of(Users.enabled()));
+
+        // WHEN
+        service.update(Users.withoutRoles());
+
+        // THEN
+        verify(eventEmitter).emit(new UserTokenEpochEvent(null, UserConstants.USERNAME));
+    }
+
 }